@@ -0,0 +1,70 @@
+package benchmarks;
+
+import collections.ChunkedCustomArrayList;
+import collections.CustomArrayList;
+import collections.interfaces.CustomList;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Замер задержки добавления в конец {@link ChunkedCustomArrayList} и {@link CustomArrayList}.
+ * <p>
+ * Время каждого вызова {@code add} измеряется отдельно, после чего выводятся перцентили (p50, p99, p99.99),
+ * максимальная задержка и общее время заполнения. У {@link CustomArrayList} редкие добавления копируют
+ * весь массив, что видно по p99.99 и максимуму; у {@link ChunkedCustomArrayList} расширение выделяет один блок.
+ * Добавляется один и тот же объект, чтобы создание элементов не влияло на замер.
+ * </p>
+ * <p>
+ * Аргументы запуска (необязательные): количество элементов и количество прогонов.
+ * Для больших размеров нужна куча примерно в 12 байт на элемент (сам список и массив замеров);
+ * для сравнения с крупными выделениями в G1 запускать с {@code -XX:+UseG1GC}.
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see ChunkedCustomArrayList
+ * @see CustomArrayList
+ */
+public class AppendLatencyBenchmark {
+
+    private static final int DEFAULT_SIZE = 10_000_000;
+    private static final int DEFAULT_RUNS = 3;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+        long[] latencies = new long[size];
+
+        System.out.println(String.format("Элементов: %s, прогонов: %s", size, runs));
+        System.out.println(String.format("%-24s %10s %10s %10s %12s %12s",
+                "список", "p50, нс", "p99, нс", "p99.99, нс", "max, мкс", "всего, мс"));
+        for (int run = 0; run < runs; run++) {
+            measure("CustomArrayList", CustomArrayList::new, latencies);
+            measure("ChunkedCustomArrayList", ChunkedCustomArrayList::new, latencies);
+        }
+    }
+
+    private static void measure(String name, Supplier<CustomList<Integer>> factory, long[] latencies) {
+        Integer element = 42;
+        CustomList<Integer> list = factory.get();
+
+        long total = System.nanoTime();
+        for (int i = 0; i < latencies.length; i++) {
+            long start = System.nanoTime();
+            list.add(element);
+            latencies[i] = System.nanoTime() - start;
+        }
+        total = System.nanoTime() - total;
+
+        Arrays.sort(latencies);
+        System.out.println(String.format("%-24s %10d %10d %10d %12.1f %12.1f", name,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.9999),
+                latencies[latencies.length - 1] / 1e3, total / 1e6));
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * fraction))];
+    }
+}
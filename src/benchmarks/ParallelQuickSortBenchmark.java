@@ -0,0 +1,79 @@
+package benchmarks;
+
+import collections.CustomArrayList;
+import collections.sorts.CancellationToken;
+import collections.sorts.IntroSort;
+import collections.sorts.ParallelQuickSort;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Замер ускорения {@link ParallelQuickSort} относительно последовательной {@link IntroSort}.
+ * <p>
+ * Для каждого количества потоков от 1 до {@link Runtime#availableProcessors()} создаётся отдельный
+ * {@link ForkJoinPool} соответствующего размера, и сортируется одна и та же случайная последовательность.
+ * В таблицу выводится лучшее время из нескольких прогонов и ускорение относительно {@link IntroSort}.
+ * </p>
+ * <p>
+ * Аргументы запуска (необязательные): количество элементов и количество прогонов.
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see ParallelQuickSort
+ * @see IntroSort
+ */
+public class ParallelQuickSortBenchmark {
+
+    private static final int DEFAULT_SIZE = 2_000_000;
+    private static final int DEFAULT_RUNS = 5;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+        Integer[] data = randomData(size);
+        Comparator<Integer> comparator = Comparator.naturalOrder();
+
+        long baseline = Long.MAX_VALUE;
+        for (int run = 0; run < runs; run++) {
+            CustomArrayList<Integer> list = new CustomArrayList<>(data);
+            long start = System.nanoTime();
+            IntroSort.sort(list, comparator);
+            baseline = Math.min(baseline, System.nanoTime() - start);
+        }
+
+        System.out.println(String.format("Элементов: %s, прогонов: %s", size, runs));
+        System.out.println(String.format("%-10s %12s %10s", "потоки", "время, мс", "ускорение"));
+        System.out.println(String.format("%-10s %12.1f %10.2f", "IntroSort", baseline / 1e6, 1.0));
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= processors; threads++) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                long best = Long.MAX_VALUE;
+                for (int run = 0; run < runs; run++) {
+                    Integer[] array = data.clone();
+                    long start = System.nanoTime();
+                    ParallelQuickSort.sort(array, 0, array.length, comparator, ParallelQuickSort.DEFAULT_THRESHOLD, pool, CancellationToken.NONE);
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+                System.out.println(String.format("%-10s %12.1f %10.2f", threads, best / 1e6, (double) baseline / best));
+            }
+            finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static Integer[] randomData(int size) {
+        Random random = new Random(42);
+        Integer[] data = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = random.nextInt();
+        }
+        return data;
+    }
+}
@@ -0,0 +1,501 @@
+package collections;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+
+import collections.interfaces.ArrayOperation;
+import collections.interfaces.CustomList;
+
+/**
+ * Реализация упорядоченной коллекции на основе массива блоков (chunks) одинакового размера.
+ * <p>
+ * В отличие от {@link CustomArrayList}, который при расширении копирует весь массив в новый
+ * (в 1.5 раза больше), ChunkedCustomArrayList хранит элементы в блоках фиксированного размера
+ * (степень двойки) и каталоге ссылок на эти блоки. При заполнении добавляется один новый блок,
+ * уже записанные элементы никогда не копируются.
+ * </p>
+ * <p>
+ * Основные характеристики:
+ * - Добавление в конец {@link #add(Object)} за O(1) без копирования данных: при расширении выделяется
+ *   только новый блок, а каталог (в {@code chunkSize} раз меньше списка) удваивается
+ * - Доступ по индексу {@link #get(int)}/{@link #set(int, Object)} за O(1): номер блока {@code index >>> shift},
+ *   позиция в блоке {@code index & mask}
+ * - Емкость растёт на один блок; при размере блока по умолчанию ({@value #DEFAULT_CHUNK_SIZE} ссылок)
+ *   каждое выделение памяти небольшое, поэтому у больших списков нет крупных (humongous) выделений
+ *   и пауз на копирование всего массива
+ * - Вставка и удаление по индексу сдвигают хвост списка поблочно за O(n - index)
+ * - Сортировки копируют элементы в общий массив и записывают результат обратно поблочно,
+ *   так как для них нужен непрерывный массив
+ * - При сериализации записываются только {@code size} элементов, без пустых ячеек блоков
+ * - Позволяет хранить дубликаты элементов, {@code null} не допускается
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип хранимых элементов
+ * @see CustomList
+ * @see CustomArrayList
+ */
+public class ChunkedCustomArrayList<T> implements CustomList<T>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Размер блока по умолчанию (степень двойки)
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 12;
+
+    /**
+     * Начальный размер каталога блоков
+     */
+    private static final int INITIAL_DIRECTORY_LENGTH = 4;
+
+    /**
+     * Сдвиг для вычисления номера блока: {@code chunkSize == 1 << shift}
+     */
+    private final int shift;
+
+    /**
+     * Маска для вычисления позиции в блоке: {@code chunkSize - 1}
+     */
+    private final int mask;
+
+    /**
+     * Каталог блоков; заполнены первые {@code chunkCount} ячеек
+     */
+    transient private T[][] chunks;
+
+    /**
+     * Количество выделенных блоков
+     */
+    transient private int chunkCount = 0;
+
+    /**
+     * Текущий размер списка (количество элементов)
+     */
+    transient private int size = 0;
+
+    /**
+     * Создает новый пустой список с размером блока по умолчанию
+     */
+    public ChunkedCustomArrayList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Создает новый пустой список с указанным размером блока.
+     *
+     * @param chunkSize количество элементов в блоке; должно быть степенью двойки
+     * @throws IllegalArgumentException если {@code chunkSize} не положительная степень двойки
+     */
+    public ChunkedCustomArrayList(int chunkSize) {
+        if (chunkSize <= 0 || (chunkSize & (chunkSize - 1)) != 0) {
+            throw new IllegalArgumentException("Chunk size must be a positive power of two: " + chunkSize);
+        }
+        this.shift = Integer.numberOfTrailingZeros(chunkSize);
+        this.mask = chunkSize - 1;
+        this.chunks = (T[][]) new Object[INITIAL_DIRECTORY_LENGTH][];
+    }
+
+    /**
+     * Создает список с размером блока по умолчанию, содержащий элементы указанного массива.
+     *
+     * @param array массив, чьи элементы должны быть помещены в этот список
+     * @throws NullPointerException если массив содержит {@code null}
+     */
+    public ChunkedCustomArrayList(T[] array) {
+        this(DEFAULT_CHUNK_SIZE);
+        if (array != null) {
+            for (T element : array) {
+                add(element);
+            }
+        }
+    }
+
+    /**
+     * Возвращает размер блока.
+     *
+     * @return количество элементов в одном блоке
+     */
+    public int getChunkSize() {
+        return mask + 1;
+    }
+
+    /**
+     * Возвращает текущую емкость списка.
+     *
+     * @return количество элементов, которое помещается в выделенные блоки
+     */
+    public long getCapacity() {
+        return (long) chunkCount << shift;
+    }
+
+    /**
+     * Выделяет блоки, пока в них не поместится {@code minCapacity} элементов.
+     * Каталог при необходимости удваивается; копируются только ссылки на блоки.
+     */
+    private void ensureCapacity(int minCapacity) {
+        while (((long) chunkCount << shift) < minCapacity) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunks.length << 1);
+            }
+            chunks[chunkCount++] = (T[]) new Object[mask + 1];
+        }
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает true, если список не содержит элементов.
+     *
+     * @return true, если этот список не содержит элементов
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Добавляет указанный элемент в конец списка.
+     * Если блоки заполнены, выделяется новый блок; существующие элементы не копируются.
+     *
+     * @param element элемент, который нужно добавить в конец списка
+     * @return true (согласно спецификации {@link Collection#add})
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    @Override
+    public boolean add(T element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        if (size == Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("List is too large");
+        }
+        ensureCapacity(size + 1);
+        chunks[size >>> shift][size & mask] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Вставляет указанный элемент на заданную позицию в списке.
+     * Элементы после позиции сдвигаются вправо поблочно: последний элемент каждого блока
+     * переносится в начало следующего.
+     *
+     * @param index индекс, по которому должен быть вставлен указанный элемент
+     * @param element элемент для вставки
+     * @throws IndexOutOfBoundsException если {@code index} выходит за пределы
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        Objects.requireNonNull(element, "Element cannot be null");
+        if (size == Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("List is too large");
+        }
+        ensureCapacity(size + 1);
+
+        int lastChunk = size >>> shift;
+        int targetChunk = index >>> shift;
+        for (int chunk = lastChunk; chunk > targetChunk; chunk--) {
+            T[] current = chunks[chunk];
+            int end = chunk == lastChunk ? size & mask : mask;
+            System.arraycopy(current, 0, current, 1, end);
+            current[0] = chunks[chunk - 1][mask];
+        }
+
+        T[] current = chunks[targetChunk];
+        int offset = index & mask;
+        int end = targetChunk == lastChunk ? size & mask : mask;
+        System.arraycopy(current, offset, current, offset + 1, end - offset);
+        current[offset] = element;
+        size++;
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции в списке.
+     *
+     * @param index позиция возвращаемого элемента
+     * @return элемент в указанной позиции
+     * @throws IndexOutOfBoundsException если {@code index} выходит за границы допустимого диапазона
+     */
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return chunks[index >>> shift][index & mask];
+    }
+
+    /**
+     * Заменяет элемент, который находится в указанной позиции на {@code element}, переданный в качестве параметра.
+     *
+     * @param index позиция заменяемого элемента
+     * @param element Новый элемент, который будет установлен на указанную позицию
+     * @return объект, который ранее находился на указанной позиции
+     * @throws IndexOutOfBoundsException если {@code index} выходит за границы диапазона
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    @Override
+    public T set(int index, T element) {
+        Objects.checkIndex(index, size);
+        Objects.requireNonNull(element, "Element cannot be null");
+        T[] chunk = chunks[index >>> shift];
+        T oldValue = chunk[index & mask];
+        chunk[index & mask] = element;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из этого списка, если оно присутствует.
+     *
+     * @param element элемент, который нужно удалить из этого списка, если он присутствует
+     * @return true, если этот список содержал указанный элемент
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    @Override
+    public boolean remove(Object element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Удаляет элемент, находящийся на указанной позиции в коллекции.
+     * Элементы после позиции сдвигаются влево поблочно. Освободившиеся блоки не удаляются.
+     *
+     * @param index позиция элемента, который нужно удалить
+     * @return элемент, который был удален из списка
+     * @throws IndexOutOfBoundsException если {@code index} выходит за пределы допустимого диапазона
+     */
+    @Override
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+
+        int last = size - 1;
+        int lastChunk = last >>> shift;
+        int targetChunk = index >>> shift;
+
+        T[] current = chunks[targetChunk];
+        int offset = index & mask;
+        T removedElement = current[offset];
+        int end = targetChunk == lastChunk ? last & mask : mask;
+        System.arraycopy(current, offset + 1, current, offset, end - offset);
+
+        for (int chunk = targetChunk + 1; chunk <= lastChunk; chunk++) {
+            current = chunks[chunk];
+            chunks[chunk - 1][mask] = current[0];
+            System.arraycopy(current, 1, current, 0, chunk == lastChunk ? last & mask : mask);
+        }
+
+        chunks[lastChunk][last & mask] = null; // Помогаем GC
+        size = last;
+        return removedElement;
+    }
+
+    /**
+     * Удаляет все элементы и освобождает все блоки
+     */
+    @Override
+    public void clear() {
+        chunks = (T[][]) new Object[INITIAL_DIRECTORY_LENGTH][];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Передаёт операции копию элементов в виде одного массива и поблочно записывает результат обратно.
+     *
+     * @param operation операция над диапазоном массива
+     * @throws NullPointerException если {@code operation} равна {@code null}
+     */
+    @Override
+    public void applyToArray(ArrayOperation operation) {
+        Objects.requireNonNull(operation , "operation cannot be null");
+
+        Object[] array = toArray();
+        operation.apply(array, 0, size);
+        for (int from = 0; from < size; from += mask + 1) {
+            System.arraycopy(array, from, chunks[from >>> shift], 0, Math.min(mask + 1, size - from));
+        }
+    }
+
+    /**
+     * Вставляет указанный элемент в начало списка.
+     * Все элементы сдвигаются на одну позицию вправо.
+     *
+     * @param element элемент для добавления
+     * @throws NullPointerException если добавляемый {@code element} равен {@code null}
+     */
+    @Override
+    public void addFirst(T element) {
+        add(0, element);
+    }
+
+    /**
+     * Вставляет указанный элемент в конец списка.
+     *
+     * @param element элемент для добавления
+     * @throws NullPointerException если добавляемый {@code element} равен {@code null}
+     */
+    @Override
+    public void addLast(T element) {
+        add(element);
+    }
+
+    /**
+     * Возвращает итератор по элементам этого списка, который обходит блоки по порядку.
+     *
+     * @return итератор по элементам этого списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int index = currentIndex++;
+                return chunks[index >>> shift][index & mask];
+            }
+        };
+    }
+
+    /**
+     * Возвращает номер позиции первого вхождения указанного элемента в этом списке,
+     * или -1, если этот список не содержит элемента.
+     *
+     * @param element элемент для поиска
+     * @return индекс первого вхождения указанного элемента, или -1
+     * @throws NullPointerException если искомый {@code element} равен {@code null}
+     */
+    @Override
+    public int indexOf(Object element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        for (int from = 0; from < size; from += mask + 1) {
+            T[] chunk = chunks[from >>> shift];
+            int length = Math.min(mask + 1, size - from);
+            for (int i = 0; i < length; i++) {
+                if (element.equals(chunk[i])) {
+                    return from + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает true, если этот список содержит указанный элемент.
+     *
+     * @param element элемент, наличие которого в этом списке нужно проверить
+     * @return true, если этот список содержит указанный элемент
+     * @throws NullPointerException если указанный {@code element} равен {@code null}
+     */
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Удаляет первый элемент из списка и возвращает его.
+     * Все последующие элементы сдвигаются на одну позицию влево.
+     *
+     * @return удалённый элемент, который находился в начале списка
+     * @throws NoSuchElementException если список пуст
+     */
+    @Override
+    public T removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("Cannot remove from empty list");
+        }
+        return remove(0);
+    }
+
+    /**
+     * Удаляет последний элемент из списка за O(1) и возвращает его.
+     *
+     * @return удалённый элемент, который находился в конце списка
+     * @throws NoSuchElementException если список пуст
+     */
+    @Override
+    public T removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return remove(size - 1);
+    }
+
+    /**
+     * Преобразует список в массив объектов
+     *
+     * @return массив, содержащий все элементы списка
+     */
+    @Override
+    public T[] toArray() {
+        T[] result = (T[]) new Object[size];
+        for (int from = 0; from < size; from += mask + 1) {
+            System.arraycopy(chunks[from >>> shift], 0, result, from, Math.min(mask + 1, size - from));
+        }
+        return result;
+    }
+
+    /**
+     * Стандартная сериализация: кроме размера блока записывает размер и {@code size} элементов,
+     * без пустых ячеек последнего блока.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeObject(chunks[i >>> shift][i & mask]);
+        }
+    }
+
+    /**
+     * Восстанавливает список: каталог и блоки выделяются сразу под прочитанный размер.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (shift < 0 || shift > 30 || mask != (1 << shift) - 1) {
+            throw new InvalidObjectException("Invalid chunk size");
+        }
+
+        int length = in.readInt();
+        if (length < 0) {
+            throw new InvalidObjectException("Negative list size: " + length);
+        }
+        int requiredChunks = (int) (((long) length + mask) >>> shift);
+        chunks = (T[][]) new Object[Math.max(INITIAL_DIRECTORY_LENGTH, requiredChunks)][];
+        chunkCount = 0;
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            Object element = in.readObject();
+            if (element == null) {
+                throw new InvalidObjectException("Element cannot be null");
+            }
+            chunks[i >>> shift][i & mask] = (T) element;
+        }
+        size = length;
+    }
+}
@@ -0,0 +1,484 @@
+package collections;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+
+import collections.interfaces.ArrayOperation;
+import collections.interfaces.CustomList;
+
+/**
+ * Реализация упорядоченной коллекции на основе кольцевого буфера.
+ * <p>
+ * CustomArrayDeque хранит элементы в массиве, начало которого может находиться в любой ячейке:
+ * при добавлении в начало сдвигается индекс головы, а не элементы. Поэтому список подходит
+ * для очередей задач, где элементы добавляются и удаляются с обоих концов.
+ * </p>
+ * <p>
+ * Основные характеристики:
+ * - {@link #addFirst(Object)}, {@link #addLast(Object)}, {@link #removeFirst()} и {@link #removeLast()} работают
+ *   за амортизированное O(1), в отличие от O(n) у {@link CustomArrayList#addFirst(Object)} и {@link CustomArrayList#removeFirst()}
+ * - Доступ по индексу {@link #get(int)}/{@link #set(int, Object)} за O(1): физическая позиция равна
+ *   {@code (head + index) & (capacity - 1)}, так как емкость всегда степень двойки
+ * - Вставка и удаление по индексу сдвигают более короткую из двух частей: O(min(index, size - index))
+ * - Сортировки получают непрерывный диапазон массива через {@link #applyToArray(ArrayOperation)};
+ *   если элементы переходят через конец массива, они предварительно переупорядочиваются с головой в нуле
+ * - При сериализации записываются только элементы от головы к хвосту, без свободных ячеек буфера
+ * - Позволяет хранить дубликаты элементов, {@code null} не допускается
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип хранимых элементов
+ * @see CustomList
+ * @see CustomArrayList
+ */
+public class CustomArrayDeque<T> implements CustomList<T>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Начальная емкость массива по умолчанию (степень двойки)
+     */
+    transient static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * Кольцевой буфер; длина всегда степень двойки
+     */
+    transient private T[] array;
+
+    /**
+     * Физический индекс первого элемента
+     */
+    transient private int head = 0;
+
+    /**
+     * Текущий размер списка (количество элементов)
+     */
+    transient private int size = 0;
+
+    /**
+     * Создает новый пустой список с начальной емкостью по умолчанию
+     */
+    public CustomArrayDeque() {
+        this.array = (T[]) new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Создает пустой список с емкостью не меньше указанной.
+     *
+     * @param initialCapacity начальная емкость списка, округляется вверх до степени двойки;
+     * если она меньше или равна нулю, будет использована начальная емкость по умолчанию.
+     */
+    public CustomArrayDeque(int initialCapacity) {
+        this.array = (T[]) new Object[capacityFor(initialCapacity)];
+    }
+
+    /**
+     * Создает список, содержащий элементы указанного массива.
+     *
+     * @param array массив, чьи элементы должны быть помещены в этот список
+     * @throws NullPointerException если массив содержит {@code null}
+     */
+    public CustomArrayDeque(T[] array) {
+        int length = array == null ? 0 : array.length;
+        this.array = (T[]) new Object[capacityFor(length)];
+        for (int i = 0; i < length; i++) {
+            this.array[i] = Objects.requireNonNull(array[i], "Element cannot be null");
+        }
+        this.size = length;
+    }
+
+    private static int capacityFor(int minCapacity) {
+        if (minCapacity <= DEFAULT_CAPACITY) {
+            return DEFAULT_CAPACITY;
+        }
+        int capacity = Integer.highestOneBit(minCapacity - 1) << 1;
+        if (capacity <= 0) {
+            throw new OutOfMemoryError("Required capacity is too large: " + minCapacity);
+        }
+        return capacity;
+    }
+
+    /**
+     * Физическая позиция элемента с логическим индексом {@code index}
+     */
+    private int position(int index) {
+        return (head + index) & (array.length - 1);
+    }
+
+    /**
+     * Удваивает емкость и раскладывает элементы с головой в нуле.
+     */
+    private void growArray() {
+        int capacity = array.length << 1;
+        if (capacity <= 0) {
+            throw new OutOfMemoryError("Deque is too large");
+        }
+        array = unwrap(capacity);
+        head = 0;
+    }
+
+    /**
+     * Копирует элементы в новый массив указанной емкости, начиная с нулевой позиции.
+     */
+    private T[] unwrap(int capacity) {
+        T[] result = (T[]) new Object[capacity];
+        int firstPart = Math.min(size, array.length - head);
+        System.arraycopy(array, head, result, 0, firstPart);
+        System.arraycopy(array, 0, result, firstPart, size - firstPart);
+        return result;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает true, если список не содержит элементов.
+     *
+     * @return true, если этот список не содержит элементов
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Добавляет указанный элемент в конец списка за амортизированное O(1).
+     *
+     * @param element элемент, который нужно добавить в конец списка
+     * @return true (согласно спецификации {@link Collection#add})
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    @Override
+    public boolean add(T element) {
+        addLast(element);
+        return true;
+    }
+
+    /**
+     * Вставляет указанный элемент на заданную позицию в списке.
+     * Сдвигается более короткая часть: элементы до позиции - влево или элементы после неё - вправо.
+     *
+     * @param index индекс, по которому должен быть вставлен указанный элемент
+     * @param element элемент для вставки
+     * @throws IndexOutOfBoundsException если {@code index} выходит за пределы
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        Objects.requireNonNull(element, "Element cannot be null");
+
+        if (size == array.length) {
+            growArray();
+        }
+
+        int mask = array.length - 1;
+        if (index < size - index) {
+            head = (head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                array[(head + i) & mask] = array[(head + i + 1) & mask];
+            }
+        }
+        else {
+            for (int i = size; i > index; i--) {
+                array[(head + i) & mask] = array[(head + i - 1) & mask];
+            }
+        }
+        array[(head + index) & mask] = element;
+        size++;
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции в списке.
+     *
+     * @param index позиция возвращаемого элемента
+     * @return элемент в указанной позиции
+     * @throws IndexOutOfBoundsException если {@code index} выходит за границы допустимого диапазона
+     */
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return array[position(index)];
+    }
+
+    /**
+     * Заменяет элемент, который находится в указанной позиции на {@code element}, переданный в качестве параметра.
+     *
+     * @param index позиция заменяемого элемента
+     * @param element Новый элемент, который будет установлен на указанную позицию
+     * @return объект, который ранее находился на указанной позиции
+     * @throws IndexOutOfBoundsException если {@code index} выходит за границы диапазона
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    @Override
+    public T set(int index, T element) {
+        Objects.checkIndex(index, size);
+        Objects.requireNonNull(element, "Element cannot be null");
+        int position = position(index);
+        T oldValue = array[position];
+        array[position] = element;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из этого списка, если оно присутствует.
+     *
+     * @param element элемент, который нужно удалить из этого списка, если он присутствует
+     * @return true, если этот список содержал указанный элемент
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    @Override
+    public boolean remove(Object element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Удаляет элемент, находящийся на указанной позиции в коллекции.
+     * Сдвигается более короткая часть списка.
+     *
+     * @param index позиция элемента, который нужно удалить
+     * @return элемент, который был удален из списка
+     * @throws IndexOutOfBoundsException если {@code index} выходит за пределы допустимого диапазона
+     */
+    @Override
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+
+        int mask = array.length - 1;
+        T removedElement = array[(head + index) & mask];
+        if (index < size - 1 - index) {
+            for (int i = index; i > 0; i--) {
+                array[(head + i) & mask] = array[(head + i - 1) & mask];
+            }
+            array[head] = null;
+            head = (head + 1) & mask;
+        }
+        else {
+            for (int i = index; i < size - 1; i++) {
+                array[(head + i) & mask] = array[(head + i + 1) & mask];
+            }
+            array[(head + size - 1) & mask] = null;
+        }
+        size--;
+        return removedElement;
+    }
+
+    /**
+     * Удаляет все элементы. Массив сохраняется, чтобы очередь не выделяла его заново.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            array[position(i)] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Передаёт операции внутренний массив списка.
+     * <p>
+     * Если элементы занимают непрерывный участок массива, операция получает его без копирования.
+     * Иначе элементы один раз переупорядочиваются с головой в нуле.
+     * </p>
+     *
+     * @param operation операция над диапазоном массива
+     * @throws NullPointerException если {@code operation} равна {@code null}
+     */
+    @Override
+    public void applyToArray(ArrayOperation operation) {
+        Objects.requireNonNull(operation , "operation cannot be null");
+        if (head + size > array.length) {
+            array = unwrap(array.length);
+            head = 0;
+        }
+        operation.apply(array, head, head + size);
+    }
+
+    /**
+     * Вставляет указанный элемент в начало списка за амортизированное O(1).
+     *
+     * @param element элемент для добавления
+     * @throws NullPointerException если добавляемый {@code element} равен {@code null}
+     */
+    @Override
+    public void addFirst(T element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        if (size == array.length) {
+            growArray();
+        }
+        head = (head - 1) & (array.length - 1);
+        array[head] = element;
+        size++;
+    }
+
+    /**
+     * Вставляет указанный элемент в конец списка за амортизированное O(1).
+     *
+     * @param element элемент для добавления
+     * @throws NullPointerException если добавляемый {@code element} равен {@code null}
+     */
+    @Override
+    public void addLast(T element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        if (size == array.length) {
+            growArray();
+        }
+        array[position(size)] = element;
+        size++;
+    }
+
+    /**
+     * Возвращает итератор по элементам этого списка от головы к хвосту.
+     *
+     * @return итератор по элементам этого списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return array[position(currentIndex++)];
+            }
+        };
+    }
+
+    /**
+     * Возвращает номер позиции первого вхождения указанного элемента в этом списке,
+     * или -1, если этот список не содержит элемента.
+     *
+     * @param element элемент для поиска
+     * @return индекс первого вхождения указанного элемента, или -1
+     * @throws NullPointerException если искомый {@code element} равен {@code null}
+     */
+    @Override
+    public int indexOf(Object element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        for (int i = 0; i < size; i++) {
+            if (element.equals(array[position(i)])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает true, если этот список содержит указанный элемент.
+     *
+     * @param element элемент, наличие которого в этом списке нужно проверить
+     * @return true, если этот список содержит указанный элемент
+     * @throws NullPointerException если указанный {@code element} равен {@code null}
+     */
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Удаляет первый элемент из списка за O(1) и возвращает его.
+     *
+     * @return удалённый элемент, который находился в начале списка
+     * @throws NoSuchElementException если список пуст
+     */
+    @Override
+    public T removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("Cannot remove from empty list");
+        }
+        T removedElement = array[head];
+        array[head] = null;
+        head = (head + 1) & (array.length - 1);
+        size--;
+        return removedElement;
+    }
+
+    /**
+     * Удаляет последний элемент из списка за O(1) и возвращает его.
+     *
+     * @return удалённый элемент, который находился в конце списка
+     * @throws NoSuchElementException если список пуст
+     */
+    @Override
+    public T removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        int position = position(size - 1);
+        T removedElement = array[position];
+        array[position] = null;
+        size--;
+        return removedElement;
+    }
+
+    /**
+     * Преобразует список в массив объектов
+     *
+     * @return массив, содержащий все элементы списка от головы к хвосту
+     */
+    @Override
+    public T[] toArray() {
+        T[] result = unwrap(size);
+        return result;
+    }
+
+    /**
+     * Стандартная сериализация: записывает размер и элементы от головы к хвосту, без свободных ячеек буфера.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeObject(array[position(i)]);
+        }
+    }
+
+    /**
+     * Восстанавливает список с головой в нуле; буфер выделяется сразу под прочитанный размер.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        int length = in.readInt();
+        if (length < 0) {
+            throw new InvalidObjectException("Negative list size: " + length);
+        }
+        array = (T[]) new Object[capacityFor(length)];
+        for (int i = 0; i < length; i++) {
+            Object element = in.readObject();
+            if (element == null) {
+                throw new InvalidObjectException("Element cannot be null");
+            }
+            array[i] = (T) element;
+        }
+        head = 0;
+        size = length;
+    }
+}
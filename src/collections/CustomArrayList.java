@@ -1,9 +1,19 @@
 package collections;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.*;
+import java.util.function.Predicate;
 
+import collections.interfaces.ArrayOperation;
 import collections.interfaces.CustomList;
+import collections.interfaces.GrowthPolicy;
+import collections.io.ElementSerializer;
 
 /**
  * Реализация упорядоченной коллекции на основе динамического массива.
@@ -15,7 +25,10 @@ import collections.interfaces.CustomList;
  * Основные характеристики:
  * - Позволяет хранить дубликаты элементов
  * - Обеспечивает произвольный доступ O(1) по индексу
- * - Автоматически расширяет внутренний массив при необходимости
+ * - Автоматически расширяет внутренний массив при необходимости по политике {@link GrowthPolicy};
+ *   емкостью можно управлять явно: {@link #ensureCapacity(int)}, {@link #trimToSize()}, {@link #clear(boolean)}
+ * - При сериализации записываются только {@code size} элементов; компактный двоичный формат -
+ *   {@link #writeTo(DataOutput, ElementSerializer)} / {@link #readFrom(DataInput, ElementSerializer)}
  * </p>
  *
  * @version 1.0
@@ -27,11 +40,19 @@ import collections.interfaces.CustomList;
  */
 public class CustomArrayList<T> implements CustomList<T>, Serializable {
 
+    private static final long serialVersionUID = 1L;
+
     /**
      * Начальная емкость массива по умолчанию
      */
     transient static final int DEFAULT_CAPACITY = 5;
 
+    /**
+     * Количество элементов, на которое массив увеличивается при чтении из потока:
+     * размер из заголовка потока не выделяется заранее целиком
+     */
+    private static final int IO_BATCH_SIZE = 1 << 10;
+
     /**
      * Массив для хранения элементов списка элементов типа Т
      */
@@ -42,6 +63,27 @@ public class CustomArrayList<T> implements CustomList<T>, Serializable {
      */
     transient private int size = 0;
 
+    /**
+     * Счетчик структурных изменений (изменений размера) для fail-fast поведения и подклассов,
+     * которые поддерживают производные данные, например {@link IndexedCustomArrayList}
+     */
+    protected transient int modCount = 0;
+
+    /**
+     * Политика роста массива; при сериализации не сохраняется
+     */
+    transient private GrowthPolicy growthPolicy = GrowthPolicy.DEFAULT;
+
+    /**
+     * Количество перевыделений массива
+     */
+    transient private long resizeCount = 0;
+
+    /**
+     * Количество элементов, скопированных при перевыделениях массива
+     */
+    transient private long copiedElements = 0;
+
     /**
      * Создает новый пустой список с начальной емкостью по умолчанию
      */
@@ -67,6 +109,19 @@ public class CustomArrayList<T> implements CustomList<T>, Serializable {
         this.size = 0;
     }
 
+    /**
+     * Создает пустой список с указанной начальной емкостью и политикой роста.
+     *
+     * @param initialCapacity начальная емкость списка; если она меньше или равна нулю,
+     * будет использована начальная емкость по умолчанию
+     * @param growthPolicy политика роста массива
+     * @throws NullPointerException если {@code growthPolicy} равна {@code null}
+     */
+    public CustomArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        this(initialCapacity);
+        setGrowthPolicy(growthPolicy);
+    }
+
     /**
      * Создает список, содержащий элементы указанной коллекции,
      * в том порядке, в котором они возвращаются итератором коллекции.
@@ -82,7 +137,7 @@ public class CustomArrayList<T> implements CustomList<T>, Serializable {
         }
         else  {
             Object[] elements = collection.toArray();
-            array = (T[]) Arrays.copyOf(elements, size, Object[].class);
+            array = (T[]) Arrays.copyOf(elements, elements.length, Object[].class);
             size = elements.length;
         }
     }
@@ -141,36 +196,106 @@ public class CustomArrayList<T> implements CustomList<T>, Serializable {
     public boolean add(T element) {
         Objects.requireNonNull(element, "Element cannot be null");
         if(size == array.length) {
-            growArray();
+            grow(size + 1);
         }
         array[size++] = element;
+        modCount++;
         return true;
     }
 
-    private void growArray() {
-
-        int newLength = array.length == 0 ? DEFAULT_CAPACITY : (array.length * 3) / 2 + 1;
-        array = Arrays.copyOf(array, newLength);
+    /**
+     * Увеличивает массив по политике роста так, чтобы в нём поместилось {@code minCapacity} элементов.
+     */
+    private void grow(int minCapacity) {
+        resize(Math.max(growthPolicy.newCapacity(array.length, minCapacity), minCapacity));
     }
 
-    private void growArray(int minRequiredSize) {
-
-        int newLength = (minRequiredSize * 3) / 2 + 1;
+    private void resize(int newLength) {
+        resizeCount++;
+        copiedElements += size;
         array = Arrays.copyOf(array, newLength);
     }
 
-    private void ensureCapacity(int minCapacity) {
+    /**
+     * Увеличивает емкость списка, если это необходимо, чтобы в нём поместилось не менее
+     * {@code minCapacity} элементов без перевыделения массива.
+     * <p>
+     * Перед добавлением большого количества элементов по одному позволяет выделить массив один раз.
+     * Новая длина вычисляется политикой роста, поэтому может быть больше {@code minCapacity}.
+     * </p>
+     *
+     * @param minCapacity требуемая минимальная емкость
+     * @throws OutOfMemoryError если {@code minCapacity} больше {@link GrowthPolicy#MAX_CAPACITY}
+     */
+    public void ensureCapacity(int minCapacity) {
         if (minCapacity - array.length > 0) {
-            growArray(minCapacity);
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Уменьшает емкость списка до его текущего размера, освобождая неиспользуемую часть массива.
+     */
+    public void trimToSize() {
+        if (size < array.length) {
+            resize(size);
         }
     }
 
+    /**
+     * Возвращает емкость списка - длину внутреннего массива.
+     *
+     * @return количество элементов, которое помещается в список без перевыделения массива
+     */
+    public int getCapacity() {
+        return array.length;
+    }
+
+    /**
+     * Возвращает политику роста массива.
+     *
+     * @return текущая политика роста
+     */
+    public GrowthPolicy getGrowthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Устанавливает политику роста массива для следующих расширений.
+     * После десериализации используется {@link GrowthPolicy#DEFAULT}.
+     *
+     * @param growthPolicy политика роста
+     * @throws NullPointerException если {@code growthPolicy} равна {@code null}
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy , "growthPolicy cannot be null");
+    }
+
+    /**
+     * Возвращает количество перевыделений массива (расширений и {@link #trimToSize()}) с момента создания списка.
+     *
+     * @return количество перевыделений массива
+     */
+    public long getResizeCount() {
+        return resizeCount;
+    }
+
+    /**
+     * Возвращает количество элементов, скопированных при перевыделениях массива с момента создания списка.
+     * Объём скопированной памяти равен этому значению, умноженному на размер ссылки (4 или 8 байт).
+     *
+     * @return количество скопированных при перевыделениях элементов
+     */
+    public long getCopiedElements() {
+        return copiedElements;
+    }
+
     /**
      * Вставляет указанный элемент на заданную позицию в списке.
      * Сдвигает элементы, начиная с указанной позиции, вправо, чтобы создать
      * место для вставляемого элемента.
      * <p>
-     * При необходимости увеличивает емкость списка (вызвав метод {@link #growArray()})
+     * При необходимости увеличивает емкость списка по политике роста {@link GrowthPolicy}
      * </p>
      *
      * @param index индекс, по которому должен быть вставлен указанный элемент
@@ -184,12 +309,13 @@ public class CustomArrayList<T> implements CustomList<T>, Serializable {
         Objects.requireNonNull(element, "Element cannot be null");
 
         if (size == array.length) {
-            growArray();
+            grow(size + 1);
         }
 
         System.arraycopy(array, index, array, index + 1, size - index);
         array[index] = element;
         size++;
+        modCount++;
     }
 
     /**
@@ -221,7 +347,7 @@ public class CustomArrayList<T> implements CustomList<T>, Serializable {
     public T set(int index, T element) {
         Objects.checkIndex(index, size);
         Objects.requireNonNull(element, "Element cannot be null");
-        T oldValue = (T) array[index];
+        T oldValue = array[index];
         array[index] = element;
         return oldValue;
     }
@@ -268,16 +394,210 @@ public class CustomArrayList<T> implements CustomList<T>, Serializable {
             System.arraycopy(array, shiftIndex, array, index, size - shiftIndex);
         }
         array[--size] = null;
+        modCount++;
         return removedElement;
     }
 
     /**
      * обнуляет размер списка и создаёт пустой массив дефолтного размера.
+     *
+     * @see #clear(boolean)
      */
     @Override
     public void clear() {
+        clear(false);
+    }
+
+    /**
+     * Удаляет все элементы списка.
+     * <p>
+     * Если {@code retainCapacity} равен {@code true}, массив сохраняется (ссылки на элементы обнуляются),
+     * и список, который очищают и заполняют заново, не расширяется с начальной емкости каждый раз.
+     * Иначе создаётся массив емкости по умолчанию, а старый освобождается сборщиком мусора.
+     * </p>
+     *
+     * @param retainCapacity сохранить ли текущий массив
+     */
+    public void clear(boolean retainCapacity) {
+        if (retainCapacity) {
+            Arrays.fill(array, 0, size, null);
+        }
+        else {
+            array = (T[]) new Object[DEFAULT_CAPACITY];
+        }
         size = 0;
-        array = (T[]) new Object[DEFAULT_CAPACITY];
+        modCount++;
+    }
+
+    /**
+     * Добавляет все элементы коллекции в конец списка.
+     * Массив расширяется не более одного раза, элементы копируются одним блоком.
+     *
+     * @param collection добавляемые элементы
+     * @return true, если список изменился
+     * @throws NullPointerException если {@code collection} или любой из её элементов равен {@code null}
+     * @throws ArithmeticException если итоговый размер списка больше {@link Integer#MAX_VALUE}
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        Objects.requireNonNull(collection , "collection cannot be null");
+
+        Object[] elements = requireNonNullElements(collection.toArray());
+        ensureCapacity(Math.addExact(size, elements.length));
+        System.arraycopy(elements, 0, array, size, elements.length);
+        if (elements.length == 0) {
+            return false;
+        }
+        size += elements.length;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Вставляет все элементы списка {@code list} начиная с позиции {@code index}.
+     * Массив расширяется не более одного раза, хвост сдвигается одним копированием.
+     *
+     * @param index позиция, на которую вставляется первый элемент
+     * @param list вставляемые элементы
+     * @return true, если список изменился
+     * @throws IndexOutOfBoundsException если {@code index} выходит за пределы допустимого диапазона
+     * @throws NullPointerException если {@code list} или любой из его элементов равен {@code null}
+     * @throws ArithmeticException если итоговый размер списка больше {@link Integer#MAX_VALUE}
+     */
+    @Override
+    public boolean addAll(int index, CustomList<? extends T> list) {
+        Objects.requireNonNull(list , "list cannot be null");
+        Objects.checkIndex(index, size + 1);
+
+        Object[] elements = requireNonNullElements(list.toArray());
+        ensureCapacity(Math.addExact(size, elements.length));
+        System.arraycopy(array, index, array, index + elements.length, size - index);
+        System.arraycopy(elements, 0, array, index, elements.length);
+        if (elements.length == 0) {
+            return false;
+        }
+        size += elements.length;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Удаляет элементы на позициях {@code [fromIndex, toIndex)}, сдвигая хвост одним копированием.
+     *
+     * @param fromIndex позиция первого удаляемого элемента (включительно)
+     * @param toIndex позиция последнего удаляемого элемента (исключительно)
+     * @throws IndexOutOfBoundsException если {@code fromIndex < 0}, {@code toIndex > size}
+     * или {@code fromIndex > toIndex}
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(array, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Заменяет элементы на позициях {@code [index, index + list.size())} одним копированием.
+     *
+     * @param index позиция первого заменяемого элемента
+     * @param list новые элементы
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы списка
+     * @throws NullPointerException если {@code list} или любой из его элементов равен {@code null}
+     */
+    @Override
+    public void setAll(int index, CustomList<? extends T> list) {
+        Objects.requireNonNull(list , "list cannot be null");
+
+        Object[] elements = list.toArray();
+        Objects.checkFromIndexSize(index, elements.length, size);
+        System.arraycopy(requireNonNullElements(elements), 0, array, index, elements.length);
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию {@code filter}, за один проход слева направо:
+     * оставшиеся элементы сдвигаются к началу массива, освободившийся хвост обнуляется один раз.
+     * <p>
+     * Если условие выбрасывает исключение, уже удалённые элементы остаются удалёнными,
+     * а непроверенные сохраняются в исходном порядке.
+     * </p>
+     *
+     * @param filter условие удаления элемента
+     * @return true, если хотя бы один элемент был удалён
+     * @throws NullPointerException если {@code filter} равен {@code null}
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter , "filter cannot be null");
+
+        int oldSize = size;
+        int kept = 0;
+        int i = 0;
+        try {
+            for (; i < oldSize; i++) {
+                T element = array[i];
+                if (!filter.test(element)) {
+                    array[kept++] = element;
+                }
+            }
+        }
+        finally {
+            if (i < oldSize) {
+                System.arraycopy(array, i, array, kept, oldSize - i);
+                kept += oldSize - i;
+            }
+            Arrays.fill(array, kept, oldSize, null);
+            size = kept;
+            if (kept < oldSize) {
+                modCount++;
+            }
+        }
+        return kept < oldSize;
+    }
+
+    private static Object[] requireNonNullElements(Object[] elements) {
+        for (Object element : elements) {
+            Objects.requireNonNull(element, "Element cannot be null");
+        }
+        return elements;
+    }
+
+    /**
+     * Передаёт операции внутренний массив списка.
+     * <p>
+     * Элементы не копируются: сортировки и выбор элементов работают непосредственно
+     * с диапазоном {@code [0, size)} внутреннего массива.
+     * </p>
+     *
+     * @param operation операция над диапазоном массива
+     * @throws NullPointerException если {@code operation} равна {@code null}
+     */
+    @Override
+    public void applyToArray(ArrayOperation operation) {
+        Objects.requireNonNull(operation , "operation cannot be null");
+        operation.apply(array, 0, size);
+    }
+
+    /**
+     * Возвращает представление диапазона {@code [fromIndex, toIndex)} за O(1): смещение и длину во внутреннем массиве.
+     * <p>
+     * Сортировки и выбор элементов представления работают непосредственно с частью внутреннего массива.
+     * Изменение размера списка в обход представления обнаруживается по {@code modCount}.
+     * </p>
+     *
+     * @param fromIndex позиция начала диапазона (включительно)
+     * @param toIndex позиция конца диапазона (исключительно)
+     * @return представление диапазона списка
+     * @throws IndexOutOfBoundsException если {@code fromIndex < 0}, {@code toIndex > size}
+     * или {@code fromIndex > toIndex}
+     */
+    @Override
+    public CustomList<T> subList(int fromIndex, int toIndex) {
+
+        return new CustomSubList<>(this, fromIndex, toIndex, () -> modCount);
     }
 
     //------------------------------------------------------------------------
@@ -304,7 +624,7 @@ public class CustomArrayList<T> implements CustomList<T>, Serializable {
         Objects.requireNonNull(element, "Element cannot be null");
 
         if (size == array.length) {
-            growArray();
+            grow(size + 1);
         }
 
         if (size > 0) {
@@ -313,6 +633,7 @@ public class CustomArrayList<T> implements CustomList<T>, Serializable {
 
         array[0] = element;
         size++;
+        modCount++;
     }
 
     /**
@@ -409,6 +730,7 @@ public class CustomArrayList<T> implements CustomList<T>, Serializable {
         T removedElement = array[0];
         System.arraycopy(array, 1, array, 0, size - 1);
         array[--size] = null; // Помогаем GC
+        modCount++;
         return removedElement;
     }
 
@@ -444,4 +766,109 @@ public class CustomArrayList<T> implements CustomList<T>, Serializable {
     public T[] toArray() {
         return Arrays.copyOf(array, size);
     }
+
+    /**
+     * Записывает список в двоичном виде: размер и элементы через {@code serializer}.
+     * В отличие от стандартной сериализации не пишет заголовки классов и дескрипторы объектов;
+     * сериализаторы чисел ({@link ElementSerializer#ofInteger()} и др.) пишут элементы блоками.
+     *
+     * @param out поток для записи
+     * @param serializer сериализатор элементов
+     * @throws IOException при ошибке записи
+     * @throws NullPointerException если {@code out} или {@code serializer} равны {@code null}
+     * @see #readFrom(DataInput, ElementSerializer)
+     */
+    public void writeTo(DataOutput out, ElementSerializer<? super T> serializer) throws IOException {
+        Objects.requireNonNull(out , "out cannot be null");
+        Objects.requireNonNull(serializer , "serializer cannot be null");
+
+        out.writeInt(size);
+        serializer.writeAll(array, 0, size, out);
+    }
+
+    /**
+     * Читает список, записанный {@link #writeTo(DataOutput, ElementSerializer)}.
+     * Элементы читаются блоками, массив растёт по мере чтения, поэтому повреждённый размер
+     * в заголовке приводит к {@link IOException} при окончании потока, а не к выделению огромного массива.
+     *
+     * @param <T> тип элементов
+     * @param in поток для чтения
+     * @param serializer сериализатор элементов
+     * @return прочитанный список
+     * @throws IOException при ошибке чтения, отрицательном размере или {@code null} среди прочитанных элементов
+     * @throws NullPointerException если {@code in} или {@code serializer} равны {@code null}
+     */
+    public static <T> CustomArrayList<T> readFrom(DataInput in, ElementSerializer<? extends T> serializer) throws IOException {
+        Objects.requireNonNull(in , "in cannot be null");
+        Objects.requireNonNull(serializer , "serializer cannot be null");
+
+        int length = in.readInt();
+        if (length < 0) {
+            throw new InvalidObjectException("Negative list size: " + length);
+        }
+        CustomArrayList<T> list = new CustomArrayList<>(Math.min(length, IO_BATCH_SIZE));
+        for (int read = 0; read < length; ) {
+            int count = Math.min(IO_BATCH_SIZE, length - read);
+            list.array = growForRead(list.array, read + count, length);
+            serializer.readAll(list.array, read, read + count, in);
+            read += count;
+        }
+        requireNoNulls(list.array, length);
+        list.size = length;
+        return list;
+    }
+
+    /**
+     * Стандартная сериализация: записывает размер и только {@code size} элементов, без свободной емкости.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeObject(array[i]);
+        }
+    }
+
+    /**
+     * Восстанавливает список; массив растёт блоками по мере чтения элементов, не больше чем до записанного размера.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        int length = in.readInt();
+        if (length < 0) {
+            throw new InvalidObjectException("Negative list size: " + length);
+        }
+        T[] elements = (T[]) new Object[Math.max(Math.min(length, IO_BATCH_SIZE), DEFAULT_CAPACITY)];
+        for (int i = 0; i < length; i++) {
+            if (i == elements.length) {
+                elements = growForRead(elements, i + IO_BATCH_SIZE, length);
+            }
+            elements[i] = (T) in.readObject();
+        }
+        requireNoNulls(elements, length);
+        array = elements;
+        size = length;
+        growthPolicy = GrowthPolicy.DEFAULT;
+    }
+
+    /**
+     * Увеличивает массив для чтения следующего блока: не меньше {@code required}
+     * (по политике {@link GrowthPolicy#DEFAULT}), но не больше записанного размера {@code length}.
+     */
+    private static <E> E[] growForRead(E[] elements, int required, int length) {
+        if (required <= elements.length) {
+            return elements;
+        }
+        int newLength = Math.max(required, GrowthPolicy.DEFAULT.newCapacity(elements.length, required));
+        return Arrays.copyOf(elements, Math.min(newLength, length));
+    }
+
+    private static void requireNoNulls(Object[] elements, int length) throws InvalidObjectException {
+        for (int i = 0; i < length; i++) {
+            if (elements[i] == null) {
+                throw new InvalidObjectException("Element cannot be null");
+            }
+        }
+    }
 }
@@ -1,9 +1,19 @@
 package collections;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.*;
+import java.util.function.Predicate;
 
+import collections.interfaces.ArrayOperation;
 import collections.interfaces.CustomList;
+import collections.io.ElementSerializer;
+import collections.sorts.LinkedListMergeSort;
 
 /**
  * Реализация упорядоченной коллекции на основе двусвязного списка.
@@ -20,6 +30,8 @@ import collections.interfaces.CustomList;
  * - Имеет O(n) сложность для произвольного доступа
  * - Не требует предварительного выделения памяти
  * - Эффективно использует память при частых вставках/удалениях
+ * - При сериализации записываются только значения элементов, без объектов узлов; компактный двоичный формат -
+ *   {@link #writeTo(DataOutput, ElementSerializer)} / {@link #readFrom(DataInput, ElementSerializer)}
  * </p>
  *
  * @version 1.0
@@ -31,8 +43,17 @@ import collections.interfaces.CustomList;
  */
 public class CustomLinkedList<T> implements CustomList<T>, Serializable {
 
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Количество элементов, которое {@link #writeTo(DataOutput, ElementSerializer)} и
+     * {@link #readFrom(DataInput, ElementSerializer)} передают сериализатору за один вызов
+     */
+    private static final int IO_BATCH_SIZE = 1 << 10;
+
     /**
-     * Счетчик изменений для fail-fast поведения
+     * Счетчик структурных изменений для fail-fast поведения: меняется при изменении размера
+     * и перестановке узлов, но не при замене значений ({@code set}, {@code setAll}, запись результата сортировки массива)
      */
     transient int modCount = 0;
     /**
@@ -210,11 +231,7 @@ public class CustomLinkedList<T> implements CustomList<T>, Serializable {
         LinkedListNode<T> current = getNode(index);
         T oldValue = current.getNode();
 
-        if (!Objects.equals(oldValue, element)) {
-            current.setNode(element);
-            modCount++;
-        }
-
+        current.setNode(element);
         return oldValue;
     }
 
@@ -303,6 +320,444 @@ public class CustomLinkedList<T> implements CustomList<T>, Serializable {
         tail = null;
     }
 
+    /**
+     * Добавляет все элементы коллекции в конец списка: цепочка узлов строится заранее
+     * и присоединяется к хвосту.
+     *
+     * @param collection добавляемые элементы
+     * @return true, если список изменился
+     * @throws NullPointerException если {@code collection} или любой из её элементов равен {@code null}
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        Objects.requireNonNull(collection , "collection cannot be null");
+
+        return linkAfter(tail, collection.toArray());
+    }
+
+    /**
+     * Вставляет все элементы списка {@code list} начиная с позиции {@code index}.
+     * Место вставки находится за один проход, цепочка узлов вставляется целиком.
+     *
+     * @param index позиция, на которую вставляется первый элемент
+     * @param list вставляемые элементы
+     * @return true, если список изменился
+     * @throws IndexOutOfBoundsException если {@code index} выходит за пределы допустимого диапазона
+     * @throws NullPointerException если {@code list} или любой из его элементов равен {@code null}
+     */
+    @Override
+    public boolean addAll(int index, CustomList<? extends T> list) {
+        Objects.requireNonNull(list , "list cannot be null");
+        Objects.checkIndex(index, size + 1);
+
+        Object[] elements = list.toArray();
+        return linkAfter(index == 0 ? null : getNode(index - 1), elements);
+    }
+
+    /**
+     * Вставляет цепочку узлов из {@code elements} после узла {@code previous}
+     * ({@code null} - в начало списка).
+     */
+    private boolean linkAfter(LinkedListNode<T> previous, Object[] elements) {
+        if (elements.length == 0) {
+            return false;
+        }
+        LinkedListNode<T> first = new LinkedListNode<>((T) Objects.requireNonNull(elements[0], "Element cannot be null"));
+        LinkedListNode<T> last = first;
+        for (int i = 1; i < elements.length; i++) {
+            LinkedListNode<T> node = new LinkedListNode<>((T) Objects.requireNonNull(elements[i], "Element cannot be null"));
+            last.setNext(node);
+            last = node;
+        }
+
+        LinkedListNode<T> next = previous == null ? head : previous.getNext();
+        last.setNext(next);
+        if (previous == null) {
+            head = first;
+        }
+        else {
+            previous.setNext(first);
+        }
+        if (next == null) {
+            tail = last;
+        }
+        size += elements.length;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Удаляет элементы на позициях {@code [fromIndex, toIndex)}: цепочка узлов вырезается за один проход.
+     *
+     * @param fromIndex позиция первого удаляемого элемента (включительно)
+     * @param toIndex позиция последнего удаляемого элемента (исключительно)
+     * @throws IndexOutOfBoundsException если {@code fromIndex < 0}, {@code toIndex > size}
+     * или {@code fromIndex > toIndex}
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        LinkedListNode<T> previous = fromIndex == 0 ? null : getNode(fromIndex - 1);
+        LinkedListNode<T> next = previous == null ? head : previous.getNext();
+        for (int i = fromIndex; i < toIndex; i++) {
+            next = next.getNext();
+        }
+
+        if (previous == null) {
+            head = next;
+        }
+        else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            tail = previous;
+        }
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию {@code filter}, отцепляя узлы за один проход.
+     * Если условие выбрасывает исключение, уже отцепленные узлы остаются удалёнными.
+     *
+     * @param filter условие удаления элемента
+     * @return true, если хотя бы один элемент был удалён
+     * @throws NullPointerException если {@code filter} равен {@code null}
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter , "filter cannot be null");
+
+        int oldSize = size;
+        LinkedListNode<T> previous = null;
+        LinkedListNode<T> current = head;
+        try {
+            while (current != null) {
+                LinkedListNode<T> next = current.getNext();
+                if (filter.test(current.getNode())) {
+                    if (previous == null) {
+                        head = next;
+                    }
+                    else {
+                        previous.setNext(next);
+                    }
+                    size--;
+                }
+                else {
+                    previous = current;
+                }
+                current = next;
+            }
+        }
+        finally {
+            if (current == null) {
+                tail = previous;
+            }
+            if (size != oldSize) {
+                modCount++;
+            }
+        }
+        return size != oldSize;
+    }
+
+    /**
+     * Заменяет элементы на позициях {@code [index, index + list.size())} за один проход по узлам.
+     *
+     * @param index позиция первого заменяемого элемента
+     * @param list новые элементы
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы списка
+     * @throws NullPointerException если {@code list} или любой из его элементов равен {@code null}
+     */
+    @Override
+    public void setAll(int index, CustomList<? extends T> list) {
+        Objects.requireNonNull(list , "list cannot be null");
+
+        Object[] elements = list.toArray();
+        Objects.checkFromIndexSize(index, elements.length, size);
+        if (elements.length == 0) {
+            return;
+        }
+        for (Object element : elements) {
+            Objects.requireNonNull(element, "Element cannot be null");
+        }
+
+        LinkedListNode<T> current = getNode(index);
+        for (Object element : elements) {
+            current.setNode((T) element);
+            current = current.getNext();
+        }
+    }
+
+    /**
+     * Сортирует список в естественном порядке элементов.
+     * <p>
+     * Для связного списка используется сортировка слиянием с перецеплением узлов {@link LinkedListMergeSort}:
+     * быстрая сортировка по индексам потребовала бы поиска узла для каждого обращения к элементу.
+     * </p>
+     *
+     * @return этот список, отсортированный
+     * @see LinkedListMergeSort
+     */
+    @Override
+    public CustomList<T> sort() {
+        return sortNodes((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Сортирует список с использованием указанного компаратора.
+     * <p>
+     * Для связного списка используется сортировка слиянием с перецеплением узлов {@link LinkedListMergeSort}.
+     * </p>
+     *
+     * @param comparator компаратор для сравнения элементов
+     * @return этот список, отсортированный
+     * @throws NullPointerException если {@code comparator} равен {@code null}
+     * @see LinkedListMergeSort
+     */
+    @Override
+    public CustomList<T> sort(Comparator<? super T> comparator) {
+        return sortNodes(comparator);
+    }
+
+    /**
+     * Сортирует список слиянием в естественном порядке элементов, перецепляя узлы.
+     *
+     * @return этот список, отсортированный
+     * @see LinkedListMergeSort
+     */
+    @Override
+    public CustomList<T> mergeSort() {
+        return sortNodes((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Сортирует список слиянием с использованием указанного компаратора, перецепляя узлы.
+     *
+     * @param comparator компаратор для сравнения элементов
+     * @return этот список, отсортированный
+     * @throws NullPointerException если {@code comparator} равен {@code null}
+     * @see LinkedListMergeSort
+     */
+    @Override
+    public CustomList<T> mergeSort(Comparator<? super T> comparator) {
+        return sortNodes(comparator);
+    }
+
+    /**
+     * Сортирует узлы списка за O(n log n) без создания новых узлов
+     * и восстанавливает указатели на головной и хвостовой узлы.
+     * <p>
+     * Дополнительная память не выделяется. Если компаратор выбрасывает исключение,
+     * {@link LinkedListMergeSort} оставляет корректную цепочку из всех узлов, возможно отсортированную частично:
+     * указатели на головной и хвостовой узлы восстанавливаются и в этом случае, так что список остаётся корректным.
+     * </p>
+     *
+     * @param comparator компаратор для сравнения элементов
+     * @return этот список, отсортированный
+     * @throws NullPointerException если {@code comparator} равен {@code null}
+     */
+    private CustomList<T> sortNodes(Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+
+        if (size <= 1) {
+            return this;
+        }
+
+        LinkedListNode<T> first = head;
+        try {
+            first = LinkedListMergeSort.sort(head, comparator);
+        }
+        finally {
+            while (first.getPrev() != null) {
+                first = first.getPrev();
+            }
+            LinkedListNode<T> last = first;
+            while (last.getNext() != null) {
+                last = last.getNext();
+            }
+            head = first;
+            tail = last;
+            modCount++;
+        }
+        return this;
+    }
+
+    /**
+     * Копирует значения узлов в массив, передаёт его операции и записывает результат обратно.
+     * <p>
+     * Копирование в массив и обратная запись выполняются за один проход по узлам каждое,
+     * поэтому сортировки и выбор элементов не ищут узел по индексу для каждого элемента.
+     * </p>
+     *
+     * @param operation операция над диапазоном массива
+     * @throws NullPointerException если {@code operation} равна {@code null}
+     */
+    @Override
+    public void applyToArray(ArrayOperation operation) {
+        Objects.requireNonNull(operation , "operation cannot be null");
+
+        T[] array = toArray();
+        operation.apply(array, 0, array.length);
+        writeBack(head, array);
+    }
+
+    /**
+     * Записывает значения массива в узлы списка по порядку, начиная с узла {@code first}.
+     *
+     * @param first узел, в который записывается первый элемент массива
+     * @param array массив значений, длина которого не больше количества узлов от {@code first} до конца списка
+     */
+    private void writeBack(LinkedListNode<T> first, T[] array) {
+        LinkedListNode<T> current = first;
+        for (T item : array) {
+            current.setNode(item);
+            current = current.getNext();
+        }
+    }
+
+    /**
+     * Возвращает представление диапазона {@code [fromIndex, toIndex)}.
+     * <p>
+     * Создание представления выполняется за O(1); при первом обращении представление находит узел {@code fromIndex}
+     * за O(fromIndex) и дальше обходит диапазон курсором по узлам: итерация, {@code indexOf} и сортировка
+     * представления стоят O(toIndex - fromIndex) без повторного поиска узла от головы списка.
+     * </p>
+     *
+     * @param fromIndex позиция начала диапазона (включительно)
+     * @param toIndex позиция конца диапазона (исключительно)
+     * @return представление диапазона списка
+     * @throws IndexOutOfBoundsException если {@code fromIndex < 0}, {@code toIndex > size}
+     * или {@code fromIndex > toIndex}
+     */
+    @Override
+    public CustomList<T> subList(int fromIndex, int toIndex) {
+
+        return new LinkedSubList(fromIndex, toIndex);
+    }
+
+    /**
+     * Представление диапазона списка, которое запоминает первый узел диапазона.
+     * Узел ищется заново только после структурного изменения через представление.
+     */
+    private final class LinkedSubList extends CustomSubList<T> {
+        private LinkedListNode<T> first;
+        private int firstModCount;
+
+        private LinkedSubList(int fromIndex, int toIndex) {
+            super(CustomLinkedList.this, fromIndex, toIndex, () -> CustomLinkedList.this.modCount);
+        }
+
+        /**
+         * Возвращает узел на позиции {@code index} диапазона; индекс должен быть проверен.
+         */
+        private LinkedListNode<T> node(int index) {
+            if (first == null || firstModCount != modCount) {
+                first = getNode(offset);
+                firstModCount = modCount;
+            }
+            LinkedListNode<T> current = first;
+            for (int i = 0; i < index; i++) {
+                current = current.getNext();
+            }
+            return current;
+        }
+
+        @Override
+        public T get(int index) {
+            checkForComodification();
+            Objects.checkIndex(index, size);
+
+            return node(index).getNode();
+        }
+
+        @Override
+        public T set(int index, T element) {
+            checkForComodification();
+            Objects.checkIndex(index, size);
+            Objects.requireNonNull(element, "Element cannot be null");
+
+            LinkedListNode<T> current = node(index);
+            T oldValue = current.getNode();
+            current.setNode(element);
+            return oldValue;
+        }
+
+        @Override
+        public void applyToArray(ArrayOperation operation) {
+            Objects.requireNonNull(operation , "operation cannot be null");
+
+            T[] array = toArray();
+            operation.apply(array, 0, array.length);
+            if (array.length > 0) {
+                writeBack(node(0), array);
+            }
+        }
+
+        @Override
+        public int indexOf(Object element) {
+            Objects.requireNonNull(element, "Element cannot be null");
+            checkForComodification();
+
+            LinkedListNode<T> current = size == 0 ? null : node(0);
+            for (int i = 0; i < size; i++) {
+                if (element.equals(current.getNode())) {
+                    return i;
+                }
+                current = current.getNext();
+            }
+            return -1;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T[] toArray() {
+            checkForComodification();
+
+            Object[] array = new Object[size];
+            LinkedListNode<T> current = size == 0 ? null : node(0);
+            for (int i = 0; i < size; i++) {
+                array[i] = current.getNode();
+                current = current.getNext();
+            }
+            return (T[]) array;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            checkForComodification();
+
+            return new Iterator<T>() {
+                private LinkedListNode<T> current = size == 0 ? null : node(0);
+                private int remaining = size;
+                private final int expectedModCount = modCount;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0;
+                }
+
+                @Override
+                public T next() {
+                    checkForComodification();
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    T value = current.getNode();
+                    current = current.getNext();
+                    remaining--;
+                    return value;
+                }
+            };
+        }
+    }
+
     //------------------------------------------------------------------------
     // Изначально я начал расширял CustomList интерфейсом Collection,
     // по этому начал реализовывать остальные его методы.
@@ -523,4 +978,107 @@ public class CustomLinkedList<T> implements CustomList<T>, Serializable {
         return (T[]) array;
     }
 
+    /**
+     * Записывает список в двоичном виде: размер и элементы через {@code serializer}.
+     * Элементы передаются сериализатору порциями, поэтому сериализаторы чисел
+     * ({@link ElementSerializer#ofInteger()} и др.) пишут их блоками.
+     *
+     * @param out поток для записи
+     * @param serializer сериализатор элементов
+     * @throws IOException при ошибке записи
+     * @throws NullPointerException если {@code out} или {@code serializer} равны {@code null}
+     * @see #readFrom(DataInput, ElementSerializer)
+     */
+    public void writeTo(DataOutput out, ElementSerializer<? super T> serializer) throws IOException {
+        Objects.requireNonNull(out , "out cannot be null");
+        Objects.requireNonNull(serializer , "serializer cannot be null");
+
+        out.writeInt(size);
+        Object[] batch = new Object[Math.min(size, IO_BATCH_SIZE)];
+        LinkedListNode<T> current = head;
+        for (int written = 0; written < size; ) {
+            int count = Math.min(batch.length, size - written);
+            for (int i = 0; i < count; i++) {
+                batch[i] = current.getNode();
+                current = current.getNext();
+            }
+            serializer.writeAll(batch, 0, count, out);
+            written += count;
+        }
+    }
+
+    /**
+     * Читает список, записанный {@link #writeTo(DataOutput, ElementSerializer)}.
+     *
+     * @param <T> тип элементов
+     * @param in поток для чтения
+     * @param serializer сериализатор элементов
+     * @return прочитанный список
+     * @throws IOException при ошибке чтения, отрицательном размере или {@code null} среди прочитанных элементов
+     * @throws NullPointerException если {@code in} или {@code serializer} равны {@code null}
+     */
+    public static <T> CustomLinkedList<T> readFrom(DataInput in, ElementSerializer<? extends T> serializer) throws IOException {
+        Objects.requireNonNull(in , "in cannot be null");
+        Objects.requireNonNull(serializer , "serializer cannot be null");
+
+        int length = in.readInt();
+        if (length < 0) {
+            throw new InvalidObjectException("Negative list size: " + length);
+        }
+        CustomLinkedList<T> list = new CustomLinkedList<>();
+        Object[] batch = new Object[Math.min(length, IO_BATCH_SIZE)];
+        for (int read = 0; read < length; ) {
+            int count = Math.min(batch.length, length - read);
+            serializer.readAll(batch, 0, count, in);
+            for (int i = 0; i < count; i++) {
+                list.linkLast((T) batch[i]);
+            }
+            read += count;
+        }
+        return list;
+    }
+
+    /**
+     * Присоединяет узел в конец списка при восстановлении, без увеличения {@code modCount}.
+     */
+    private void linkLast(T element) throws InvalidObjectException {
+        if (element == null) {
+            throw new InvalidObjectException("Element cannot be null");
+        }
+        LinkedListNode<T> node = new LinkedListNode<>(element);
+        if (tail == null) {
+            head = node;
+        }
+        else {
+            tail.setNext(node);
+        }
+        tail = node;
+        size++;
+    }
+
+    /**
+     * Стандартная сериализация: записывает размер и значения элементов, без объектов узлов.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (LinkedListNode<T> current = head; current != null; current = current.getNext()) {
+            out.writeObject(current.getNode());
+        }
+    }
+
+    /**
+     * Восстанавливает узлы по значениям элементов.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        int length = in.readInt();
+        if (length < 0) {
+            throw new InvalidObjectException("Negative list size: " + length);
+        }
+        for (int i = 0; i < length; i++) {
+            linkLast((T) in.readObject());
+        }
+    }
 }
@@ -0,0 +1,382 @@
+package collections;
+
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntSupplier;
+
+import collections.interfaces.ArrayOperation;
+import collections.interfaces.CustomList;
+
+/**
+ * Представление диапазона {@code [fromIndex, toIndex)} другого списка без копирования элементов.
+ * <p>
+ * Представление хранит только ссылку на родительский список, смещение и длину диапазона, поэтому создаётся за O(1).
+ * Чтение и замена элементов выполняются методами родителя со сдвигом индекса, а
+ * {@link #applyToArray(ArrayOperation)} передаёт операции массив родителя, ограниченный диапазоном:
+ * сортировка представления {@link CustomArrayList} сортирует часть внутреннего массива на месте.
+ * </p>
+ * <p>
+ * Основные характеристики:
+ * - Все индексы и результаты {@link #indexOf(Object)} отсчитываются от начала диапазона
+ * - Изменения через представление (замена, вставка, удаление, {@link #clear()}) выполняются в родительском списке,
+ *   размер представления обновляется
+ * - Структурное изменение родителя в обход представления обнаруживается по счётчику изменений родителя:
+ *   следующее обращение к представлению выбрасывает {@link ConcurrentModificationException}.
+ *   Для списков без счётчика изменений (реализация {@link CustomList#subList(int, int)} по умолчанию)
+ *   обнаруживается только изменение размера
+ * - Представление представления ссылается на исходное представление и проверяет его счётчик изменений
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип хранимых элементов
+ * @see CustomList#subList(int, int)
+ */
+public class CustomSubList<T> implements CustomList<T> {
+
+    /**
+     * Родительский список
+     */
+    protected final CustomList<T> parent;
+
+    /**
+     * Позиция начала диапазона в родительском списке
+     */
+    protected final int offset;
+
+    /**
+     * Количество элементов в диапазоне
+     */
+    protected int size;
+
+    /**
+     * Счетчик структурных изменений, выполненных через представление; проверяется вложенными представлениями и итераторами
+     */
+    protected int modCount = 0;
+
+    /**
+     * Источник счетчика изменений родительского списка
+     */
+    private final IntSupplier parentModCount;
+
+    /**
+     * Значение счетчика изменений родителя после последнего изменения через представление
+     */
+    private int expectedModCount;
+
+    /**
+     * Создает представление диапазона списка, которое обнаруживает изменение размера родителя.
+     *
+     * @param parent родительский список
+     * @param fromIndex позиция начала диапазона (включительно)
+     * @param toIndex позиция конца диапазона (исключительно)
+     * @throws NullPointerException если {@code parent} равен {@code null}
+     * @throws IndexOutOfBoundsException если {@code fromIndex < 0}, {@code toIndex > parent.size()}
+     * или {@code fromIndex > toIndex}
+     */
+    public CustomSubList(CustomList<T> parent, int fromIndex, int toIndex) {
+        this(parent, fromIndex, toIndex, Objects.requireNonNull(parent , "list cannot be null")::size);
+    }
+
+    /**
+     * Создает представление диапазона списка с явным источником счетчика изменений родителя.
+     *
+     * @param parent родительский список
+     * @param fromIndex позиция начала диапазона (включительно)
+     * @param toIndex позиция конца диапазона (исключительно)
+     * @param parentModCount источник счетчика структурных изменений родителя
+     */
+    protected CustomSubList(CustomList<T> parent, int fromIndex, int toIndex, IntSupplier parentModCount) {
+        Objects.requireNonNull(parent , "list cannot be null");
+        Objects.checkFromToIndex(fromIndex, toIndex, parent.size());
+
+        this.parent = parent;
+        this.offset = fromIndex;
+        this.size = toIndex - fromIndex;
+        this.parentModCount = parentModCount;
+        this.expectedModCount = parentModCount.getAsInt();
+    }
+
+    /**
+     * Проверяет, что родитель не изменялся в обход представления.
+     *
+     * @throws ConcurrentModificationException если родительский список был структурно изменен
+     */
+    protected final void checkForComodification() {
+        if (parentModCount.getAsInt() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Запоминает счетчик изменений родителя после изменения, выполненного через представление.
+     */
+    protected final void syncModCount() {
+        expectedModCount = parentModCount.getAsInt();
+    }
+
+    /**
+     * Учитывает структурное изменение через представление: размер меняется на {@code delta}.
+     */
+    private void structuralChange(int delta) {
+        size += delta;
+        modCount++;
+        syncModCount();
+    }
+
+    @Override
+    public int size() {
+        checkForComodification();
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean add(T element) {
+        add(size(), element);
+        return true;
+    }
+
+    /**
+     * Вставляет элемент в позицию {@code index} диапазона; допускается {@code index == size()}.
+     *
+     * @param index позиция в диапазоне
+     * @param element элемент для вставки
+     * @throws IndexOutOfBoundsException если {@code index < 0 || index > size()}
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    @Override
+    public void add(int index, T element) {
+        checkForComodification();
+        Objects.checkIndex(index, size + 1);
+        Objects.requireNonNull(element, "Element cannot be null");
+
+        int position = offset + index;
+        if (position == parent.size()) {
+            parent.add(element);
+        }
+        else {
+            parent.add(position, element);
+        }
+        structuralChange(1);
+    }
+
+    @Override
+    public T get(int index) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+
+        return parent.get(offset + index);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+
+        T oldValue = parent.set(offset + index, element);
+        syncModCount();
+        return oldValue;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public T remove(int index) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+
+        T removedElement = parent.remove(offset + index);
+        structuralChange(-1);
+        return removedElement;
+    }
+
+    /**
+     * Удаляет все элементы диапазона из родительского списка одной операцией {@link CustomList#removeRange(int, int)}.
+     */
+    @Override
+    public void clear() {
+        removeRange(0, size());
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkForComodification();
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+
+        if (fromIndex < toIndex) {
+            parent.removeRange(offset + fromIndex, offset + toIndex);
+            structuralChange(fromIndex - toIndex);
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        Objects.requireNonNull(collection , "collection cannot be null");
+
+        return addAll(size(), new CustomArrayList<>(collection));
+    }
+
+    @Override
+    public boolean addAll(int index, CustomList<? extends T> list) {
+        Objects.requireNonNull(list , "list cannot be null");
+        checkForComodification();
+        Objects.checkIndex(index, size + 1);
+
+        int count = list.size();
+        boolean modified = parent.addAll(offset + index, list);
+        if (modified) {
+            structuralChange(count);
+        }
+        else {
+            syncModCount();
+        }
+        return modified;
+    }
+
+    @Override
+    public void setAll(int index, CustomList<? extends T> list) {
+        Objects.requireNonNull(list , "list cannot be null");
+        checkForComodification();
+        Objects.checkFromIndexSize(index, list.size(), size);
+
+        parent.setAll(offset + index, list);
+        syncModCount();
+    }
+
+    /**
+     * Передаёт операции массив родительского списка, ограниченный диапазоном представления.
+     * Для {@link CustomArrayList} это внутренний массив списка, копирование не выполняется.
+     *
+     * @param operation операция над диапазоном массива
+     * @throws NullPointerException если {@code operation} равна {@code null}
+     */
+    @Override
+    public void applyToArray(ArrayOperation operation) {
+        Objects.requireNonNull(operation , "operation cannot be null");
+        checkForComodification();
+
+        int length = size;
+        parent.applyToArray((array, from, to) -> operation.apply(array, from + offset, from + offset + length));
+        syncModCount();
+    }
+
+    @Override
+    public void addFirst(T element) {
+        add(0, element);
+    }
+
+    @Override
+    public void addLast(T element) {
+        add(element);
+    }
+
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Cannot remove from empty list");
+        }
+        return remove(0);
+    }
+
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return remove(size - 1);
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        checkForComodification();
+
+        for (int i = 0; i < size; i++) {
+            if (element.equals(parent.get(offset + i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T[] toArray() {
+        checkForComodification();
+
+        Object[] array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = parent.get(offset + i);
+        }
+        return (T[]) array;
+    }
+
+    /**
+     * Возвращает представление части этого представления; оно проверяет счетчик изменений этого представления.
+     *
+     * @param fromIndex позиция начала диапазона (включительно)
+     * @param toIndex позиция конца диапазона (исключительно)
+     * @return представление диапазона
+     */
+    @Override
+    public CustomList<T> subList(int fromIndex, int toIndex) {
+        checkForComodification();
+
+        return new CustomSubList<>(this, fromIndex, toIndex, () -> modCount);
+    }
+
+    /**
+     * Возвращает итератор по элементам диапазона.
+     *
+     * @return итератор по элементам диапазона
+     * @throws ConcurrentModificationException при обходе, если родитель или представление были структурно изменены
+     */
+    @Override
+    public Iterator<T> iterator() {
+        checkForComodification();
+
+        return new Iterator<T>() {
+            private int currentIndex = 0;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            public T next() {
+                checkForComodification();
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return parent.get(offset + currentIndex++);
+            }
+        };
+    }
+}
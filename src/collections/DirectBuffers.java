@@ -0,0 +1,72 @@
+package collections;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Выделение и явное освобождение памяти прямых (direct) буферов {@link ByteBuffer}.
+ * <p>
+ * Память прямого буфера по умолчанию освобождается только после сборки мусора объекта буфера.
+ * Чтобы списки вне кучи освобождали память сразу в {@code close()}, вызывается
+ * {@code sun.misc.Unsafe.invokeCleaner} (модуль {@code jdk.unsupported}). Метод ищется через рефлексию;
+ * если он недоступен, освобождение остаётся на сборщик мусора.
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ */
+final class DirectBuffers {
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Выделяет прямой буфер с родным для платформы порядком байт.
+     */
+    static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Освобождает память прямого или отображённого в память буфера.
+     * После вызова к буферу и всем его представлениям обращаться нельзя.
+     *
+     * @param buffer буфер, полученный из {@link ByteBuffer#allocateDirect(int)} или {@code FileChannel.map};
+     *               {@code null} и буферы в куче игнорируются
+     */
+    static void free(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        }
+        catch (IllegalAccessException | InvocationTargetException e) {
+            // Память освободит сборщик мусора
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package collections;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Objects;
+
+import collections.interfaces.ArrayOperation;
+import collections.interfaces.CustomList;
+
+/**
+ * {@link CustomArrayList} с хеш-индексом значений для поиска за ожидаемое O(1).
+ * <p>
+ * Рядом с массивом хранится {@link HashMap} из значения в позицию его первого вхождения и количество вхождений.
+ * {@link #indexOf(Object)} и {@link #contains(Object)} обращаются к индексу вместо линейного перебора с {@code equals}.
+ * </p>
+ * <p>
+ * Основные характеристики:
+ * - Добавление в конец, удаление последнего элемента и {@link #set(int, Object)} обновляют индекс за O(1)
+ * - Операции, сдвигающие позиции (вставка и удаление в середине, массовые операции, сортировка), не пересчитывают
+ *   индекс сразу: он помечается устаревшим и перестраивается за O(n) при следующем поиске,
+ *   поэтому серия таких операций стоит одного перестроения
+ * - Структурные изменения, выполненные методами {@link CustomArrayList} без переопределения,
+ *   обнаруживаются по счётчику {@code modCount}
+ * - Элементы должны корректно реализовывать {@link Object#hashCode()}, согласованный с {@link Object#equals(Object)};
+ *   изменение элемента, влияющее на его хеш, после добавления в список делает поиск некорректным
+ * - Индекс занимает дополнительную память: запись {@link HashMap} на каждое различное значение
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип хранимых элементов
+ * @see CustomArrayList
+ */
+public class IndexedCustomArrayList<T> extends CustomArrayList<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Вхождения одного значения: позиция первого вхождения и количество вхождений
+     */
+    private static final class Occurrences {
+        private int first;
+        private int count;
+
+        private Occurrences(int first) {
+            this.first = first;
+            this.count = 1;
+        }
+    }
+
+    /**
+     * Индекс значений; {@code null}, если индекс устарел и должен быть перестроен
+     */
+    transient private HashMap<Object, Occurrences> positions;
+
+    /**
+     * Значение {@code modCount}, которому соответствует индекс
+     */
+    transient private int indexedModCount;
+
+    /**
+     * Количество перестроений индекса
+     */
+    transient private long rebuildCount = 0;
+
+    /**
+     * Создает новый пустой список с начальной емкостью по умолчанию
+     */
+    public IndexedCustomArrayList() {
+        super();
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью.
+     *
+     * @param initialCapacity начальная емкость списка; если она меньше или равна нулю,
+     * будет использована начальная емкость по умолчанию
+     */
+    public IndexedCustomArrayList(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /**
+     * Создает список, содержащий элементы указанной коллекции.
+     *
+     * @param collection коллекция, чьи элементы должны быть помещены в этот список
+     */
+    public IndexedCustomArrayList(Collection<? extends T> collection) {
+        super(collection);
+    }
+
+    /**
+     * Создает список, содержащий элементы указанного массива.
+     *
+     * @param array массив, чьи элементы должны быть помещены в этот список
+     */
+    public IndexedCustomArrayList(T[] array) {
+        super(array);
+    }
+
+    /**
+     * Возвращает количество перестроений индекса с момента создания списка.
+     *
+     * @return количество перестроений индекса
+     */
+    public long getRebuildCount() {
+        return rebuildCount;
+    }
+
+    /**
+     * Возвращает индекс, перестраивая его, если список изменялся в обход инкрементального обновления.
+     */
+    private HashMap<Object, Occurrences> positions() {
+        if (positions == null || indexedModCount != modCount) {
+            int size = size();
+            HashMap<Object, Occurrences> rebuilt = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+            for (int i = 0; i < size; i++) {
+                Occurrences occurrences = rebuilt.putIfAbsent(get(i), new Occurrences(i));
+                if (occurrences != null) {
+                    occurrences.count++;
+                }
+            }
+            positions = rebuilt;
+            indexedModCount = modCount;
+            rebuildCount++;
+        }
+        return positions;
+    }
+
+    /**
+     * Возвращает true, если индекс соответствует текущему содержимому списка и его можно обновлять инкрементально.
+     */
+    private boolean isIndexCurrent() {
+        return positions != null && indexedModCount == modCount;
+    }
+
+    private void recordOccurrence(T element, int position) {
+        Occurrences occurrences = positions.get(element);
+        if (occurrences == null) {
+            positions.put(element, new Occurrences(position));
+        }
+        else {
+            occurrences.count++;
+            occurrences.first = Math.min(occurrences.first, position);
+        }
+    }
+
+    /**
+     * Удаляет вхождение на позиции {@code position}.
+     * Если удалено первое из нескольких вхождений, следующее ищется просмотром вперёд от {@code position};
+     * записи остальных значений не затрагиваются.
+     */
+    private void forgetOccurrence(T element, int position) {
+        Occurrences occurrences = positions.get(element);
+        if (--occurrences.count == 0) {
+            positions.remove(element);
+        }
+        else if (occurrences.first == position) {
+            int next = position + 1;
+            while (!element.equals(get(next))) {
+                next++;
+            }
+            occurrences.first = next;
+        }
+    }
+
+    /**
+     * Добавляет элемент в конец списка и записывает его позицию в индекс за O(1).
+     *
+     * @param element элемент, который нужно добавить в конец списка
+     * @return true (согласно спецификации {@link Collection#add})
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    @Override
+    public boolean add(T element) {
+        boolean indexed = isIndexCurrent();
+        super.add(element);
+        if (indexed) {
+            recordOccurrence(element, size() - 1);
+            indexedModCount = modCount;
+        }
+        return true;
+    }
+
+    /**
+     * Добавляет все элементы коллекции в конец списка и записывает их позиции в индекс.
+     *
+     * @param collection добавляемые элементы
+     * @return true, если список изменился
+     * @throws NullPointerException если {@code collection} или любой из её элементов равен {@code null}
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        boolean indexed = isIndexCurrent();
+        int from = size();
+        boolean modified = super.addAll(collection);
+        if (indexed) {
+            for (int i = from; i < size(); i++) {
+                recordOccurrence(get(i), i);
+            }
+            indexedModCount = modCount;
+        }
+        return modified;
+    }
+
+    /**
+     * Заменяет элемент на указанной позиции и обновляет индекс за O(1).
+     * Если заменяется первое из нескольких вхождений значения, позиция следующего
+     * находится просмотром вперёд, без перестроения всего индекса.
+     *
+     * @param index позиция заменяемого элемента
+     * @param element новый элемент
+     * @return элемент, который ранее находился на указанной позиции
+     * @throws IndexOutOfBoundsException если {@code index} выходит за границы диапазона
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    @Override
+    public T set(int index, T element) {
+        boolean indexed = isIndexCurrent();
+        T oldValue = super.set(index, element);
+        if (indexed) {
+            forgetOccurrence(oldValue, index);
+            recordOccurrence(element, index);
+        }
+        return oldValue;
+    }
+
+    /**
+     * Удаляет элемент на указанной позиции. Удаление последнего элемента обновляет индекс за O(1),
+     * удаление из середины сдвигает позиции и помечает индекс устаревшим.
+     *
+     * @param index позиция элемента, который нужно удалить
+     * @return удалённый элемент
+     * @throws IndexOutOfBoundsException если {@code index} выходит за пределы допустимого диапазона
+     */
+    @Override
+    public T remove(int index) {
+        boolean indexed = isIndexCurrent() && index == size() - 1;
+        T removedElement = super.remove(index);
+        if (indexed) {
+            forgetOccurrence(removedElement, index);
+            indexedModCount = modCount;
+        }
+        return removedElement;
+    }
+
+    /**
+     * Удаляет первое вхождение элемента; позиция находится через индекс.
+     *
+     * @param element элемент, который нужно удалить
+     * @return true, если список содержал указанный элемент
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    @Override
+    public boolean remove(Object element) {
+        int position = indexOf(element);
+        if (position < 0) {
+            return false;
+        }
+        remove(position);
+        return true;
+    }
+
+    /**
+     * Удаляет все элементы списка; индекс очищается без перестроения.
+     *
+     * @param retainCapacity сохранить ли текущий массив
+     */
+    @Override
+    public void clear(boolean retainCapacity) {
+        super.clear(retainCapacity);
+        if (positions != null) {
+            positions.clear();
+        }
+        else {
+            positions = new HashMap<>();
+        }
+        indexedModCount = modCount;
+    }
+
+    /**
+     * Заменяет диапазон элементов; индекс помечается устаревшим.
+     *
+     * @param index позиция первого заменяемого элемента
+     * @param list новые элементы
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы списка
+     * @throws NullPointerException если {@code list} или любой из его элементов равен {@code null}
+     */
+    @Override
+    public void setAll(int index, CustomList<? extends T> list) {
+        super.setAll(index, list);
+        positions = null;
+    }
+
+    /**
+     * Передаёт операции внутренний массив списка (сортировки, выбор элементов); индекс помечается устаревшим.
+     *
+     * @param operation операция над диапазоном массива
+     * @throws NullPointerException если {@code operation} равна {@code null}
+     */
+    @Override
+    public void applyToArray(ArrayOperation operation) {
+        try {
+            super.applyToArray(operation);
+        }
+        finally {
+            positions = null;
+        }
+    }
+
+    /**
+     * Возвращает позицию первого вхождения элемента за ожидаемое O(1) или -1, если элемент не найден.
+     *
+     * @param element элемент для поиска
+     * @return индекс первого вхождения элемента или -1
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    @Override
+    public int indexOf(Object element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+
+        Occurrences occurrences = positions().get(element);
+        return occurrences == null ? -1 : occurrences.first;
+    }
+
+    /**
+     * Возвращает true, если список содержит элемент; проверка выполняется по индексу за ожидаемое O(1).
+     *
+     * @param element элемент, наличие которого нужно проверить
+     * @return true, если список содержит указанный элемент
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element) >= 0;
+    }
+}
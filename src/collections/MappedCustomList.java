@@ -0,0 +1,678 @@
+package collections;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.ObjIntConsumer;
+
+import collections.interfaces.ArrayOperation;
+import collections.interfaces.CustomList;
+import collections.io.ElementCodec;
+
+/**
+ * Реализация упорядоченной коллекции, хранящая элементы в файле, отображённом в память ({@link FileChannel#map}).
+ * <p>
+ * Элементы хранятся как записи фиксированной ширины ({@link ElementCodec#fixedSize()}), поэтому
+ * после перезапуска список открывается без чтения файла: отображаются только области (extents),
+ * а страницы загружаются операционной системой при первом обращении.
+ * </p>
+ * <p>
+ * Основные характеристики:
+ * - Файл состоит из заголовка ({@value #HEADER_BYTES} байт: сигнатура, ширина записи, размер области, размер списка)
+ *   и областей одинакового размера (по умолчанию 64 МБ), каждая из которых отображается отдельно,
+ *   поэтому размер файла не ограничен 2 ГБ. Записи не пересекают границы областей
+ * - Добавление в конец за O(1); при заполнении отображается следующая область, файл растёт на её размер
+ * - {@link #get(int)}/{@link #set(int, Object)} за O(1) плюс время кодирования
+ * - {@link #forEachRecord(ObjIntConsumer)} обходит записи без копирования и декодирования
+ * - Изменения попадают в файл через страничный кеш; {@link #force()} записывает изменённые области на диск
+ * - {@link #close()} отключает отображение и обрезает файл до занятого размера
+ * - Не является потокобезопасным, {@code null} не допускается
+ * </p>
+ *
+ * <p>Пример использования:
+ * <pre>{@code
+ * try (MappedCustomList<Long> ids = MappedCustomList.open(Path.of("ids.bin"), ElementCodec.ofLong())) {
+ *     ids.add(42L);
+ *     ids.force();
+ * }
+ * }</pre>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип хранимых элементов
+ * @see ElementCodec
+ * @see OffHeapCustomList
+ */
+public class MappedCustomList<T> implements CustomList<T>, AutoCloseable {
+
+    /**
+     * Размер области по умолчанию
+     */
+    public static final int DEFAULT_EXTENT_BYTES = 1 << 26;
+
+    /**
+     * Размер заголовка файла
+     */
+    static final int HEADER_BYTES = 32;
+
+    private static final int MAGIC = 0x4D434C31;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int WIDTH_OFFSET = 4;
+    private static final int EXTENT_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+
+    private static final int MOVE_BUFFER_BYTES = 1 << 16;
+
+    /**
+     * Порядок байт в файле не зависит от платформы
+     */
+    private static final ByteOrder FILE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private final ElementCodec<T> codec;
+    private final int width;
+    private final int extentBytes;
+
+    /**
+     * Количество записей в одной области
+     */
+    private final int recordsPerExtent;
+
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    private MappedByteBuffer[] extents;
+    private int extentCount = 0;
+
+    /**
+     * Диапазон областей, изменённых после последнего {@link #force()}
+     */
+    private int dirtyFrom = Integer.MAX_VALUE;
+    private int dirtyTo = -1;
+
+    private byte[] moveBuffer;
+    private int size;
+
+    private MappedCustomList(FileChannel channel, ElementCodec<T> codec, int extentBytes) throws IOException {
+        this.channel = channel;
+        this.codec = codec;
+        this.width = codec.fixedSize();
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        this.header.order(FILE_ORDER);
+
+        if (header.getInt(MAGIC_OFFSET) == 0) {
+            header.putInt(MAGIC_OFFSET, MAGIC);
+            header.putInt(WIDTH_OFFSET, width);
+            header.putInt(EXTENT_OFFSET, extentBytes);
+            header.putLong(SIZE_OFFSET, 0);
+        }
+        else if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IOException("File is not a MappedCustomList");
+        }
+        else if (header.getInt(WIDTH_OFFSET) != width) {
+            throw new IOException("File stores " + header.getInt(WIDTH_OFFSET) + "-byte records, codec writes " + width);
+        }
+
+        this.extentBytes = header.getInt(EXTENT_OFFSET);
+        this.recordsPerExtent = this.extentBytes / width;
+        long storedSize = header.getLong(SIZE_OFFSET);
+        if (recordsPerExtent <= 0 || storedSize < 0 || storedSize > Integer.MAX_VALUE) {
+            throw new IOException("Corrupted MappedCustomList header");
+        }
+        this.size = (int) storedSize;
+        this.extents = new MappedByteBuffer[Math.max(4, (int) ((storedSize + recordsPerExtent - 1) / recordsPerExtent))];
+        ensureCapacity(size);
+    }
+
+    /**
+     * Открывает список в файле с размером области по умолчанию.
+     * Если файл не существует или пуст, создаётся новый список.
+     *
+     * @param <T> тип элементов
+     * @param file путь к файлу
+     * @param codec кодек фиксированной ширины
+     * @return открытый список
+     * @throws IOException если файл не удаётся открыть или он не является файлом списка с записями той же ширины
+     * @throws IllegalArgumentException если ширина кодека не положительна
+     * @throws NullPointerException если {@code file} или {@code codec} равны {@code null}
+     */
+    public static <T> MappedCustomList<T> open(Path file, ElementCodec<T> codec) throws IOException {
+        return open(file, codec, DEFAULT_EXTENT_BYTES);
+    }
+
+    /**
+     * Открывает список в файле. Размер области используется только при создании файла;
+     * у существующего файла он читается из заголовка.
+     *
+     * @param <T> тип элементов
+     * @param file путь к файлу
+     * @param codec кодек фиксированной ширины
+     * @param extentBytes размер области отображения в байтах, не меньше ширины записи
+     * @return открытый список
+     * @throws IOException если файл не удаётся открыть или он не является файлом списка с записями той же ширины
+     * @throws IllegalArgumentException если ширина кодека не положительна или область меньше записи
+     * @throws NullPointerException если {@code file} или {@code codec} равны {@code null}
+     */
+    public static <T> MappedCustomList<T> open(Path file, ElementCodec<T> codec, int extentBytes) throws IOException {
+        Objects.requireNonNull(file , "file cannot be null");
+        Objects.requireNonNull(codec , "codec cannot be null");
+        if (codec.fixedSize() <= 0) {
+            throw new IllegalArgumentException("Codec must have a positive fixed size: " + codec.fixedSize());
+        }
+        if (extentBytes < codec.fixedSize()) {
+            throw new IllegalArgumentException("Extent cannot be smaller than a record: " + extentBytes);
+        }
+
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new MappedCustomList<>(channel, codec, extentBytes);
+        }
+        catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Записывает на диск заголовок и области, изменённые после предыдущего вызова.
+     *
+     * @throws IllegalStateException если список закрыт
+     */
+    public void force() {
+        ensureOpen();
+        for (int extent = dirtyFrom; extent <= dirtyTo; extent++) {
+            extents[extent].force();
+        }
+        header.force();
+        dirtyFrom = Integer.MAX_VALUE;
+        dirtyTo = -1;
+    }
+
+    /**
+     * Передаёт каждую запись получателю без копирования и декодирования.
+     * <p>
+     * Получатель получает буфер только для чтения, позиция и предел которого ограничивают одну запись,
+     * и её индекс. Буфер переиспользуется для следующих записей и отображает файл напрямую,
+     * поэтому его нельзя сохранять после возврата из получателя.
+     * </p>
+     *
+     * @param visitor получатель записи и её индекса
+     * @throws NullPointerException если {@code visitor} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    public void forEachRecord(ObjIntConsumer<ByteBuffer> visitor) {
+        Objects.requireNonNull(visitor , "visitor cannot be null");
+        ensureOpen();
+
+        for (int from = 0; from < size; from += recordsPerExtent) {
+            ByteBuffer view = extents[from / recordsPerExtent].asReadOnlyBuffer().order(FILE_ORDER);
+            int count = Math.min(recordsPerExtent, size - from);
+            for (int i = 0; i < count; i++) {
+                int offset = i * width;
+                view.limit(offset + width);
+                view.position(offset);
+                visitor.accept(view, from + i);
+                view.clear();
+            }
+        }
+    }
+
+    /**
+     * Сохраняет размер, отключает отображение файла, обрезает файл до занятого размера и закрывает его.
+     * Повторный вызов ничего не делает. Для записи на диск до закрытия используйте {@link #force()}.
+     *
+     * @throws UncheckedIOException при ошибке обрезки или закрытия файла
+     */
+    @Override
+    public void close() {
+        if (channel == null) {
+            return;
+        }
+        header.putLong(SIZE_OFFSET, size);
+        long usedBytes = HEADER_BYTES + (long) (size / recordsPerExtent) * extentBytes + (long) (size % recordsPerExtent) * width;
+
+        DirectBuffers.free(header);
+        for (int extent = 0; extent < extentCount; extent++) {
+            DirectBuffers.free(extents[extent]);
+        }
+        header = null;
+        extents = null;
+        moveBuffer = null;
+
+        FileChannel closing = channel;
+        channel = null;
+        try (closing) {
+            closing.truncate(usedBytes);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (channel == null) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    /**
+     * Отображает области, пока в них не поместится {@code minCapacity} записей.
+     * Отображение за концом файла увеличивает файл.
+     */
+    private void ensureCapacity(int minCapacity) {
+        while ((long) extentCount * recordsPerExtent < minCapacity) {
+            if (extentCount == extents.length) {
+                extents = Arrays.copyOf(extents, extents.length << 1);
+            }
+            try {
+                MappedByteBuffer extent = channel.map(FileChannel.MapMode.READ_WRITE,
+                        HEADER_BYTES + (long) extentCount * extentBytes, extentBytes);
+                extent.order(FILE_ORDER);
+                extents[extentCount++] = extent;
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void markDirty(int extent) {
+        dirtyFrom = Math.min(dirtyFrom, extent);
+        dirtyTo = Math.max(dirtyTo, extent);
+    }
+
+    private void updateSize(int newSize) {
+        size = newSize;
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+    private void encodeAt(int index, T element) {
+        int extent = index / recordsPerExtent;
+        int offset = (index % recordsPerExtent) * width;
+        MappedByteBuffer buffer = extents[extent];
+        buffer.limit(offset + width);
+        buffer.position(offset);
+        try {
+            codec.encode(element, buffer);
+            if (buffer.position() != offset + width) {
+                throw new IllegalStateException("Codec wrote " + (buffer.position() - offset) + " bytes instead of " + width);
+            }
+        }
+        finally {
+            buffer.clear();
+        }
+        markDirty(extent);
+    }
+
+    private T decodeAt(int index) {
+        int offset = (index % recordsPerExtent) * width;
+        MappedByteBuffer buffer = extents[index / recordsPerExtent];
+        buffer.limit(offset + width);
+        buffer.position(offset);
+        try {
+            return codec.decode(buffer);
+        }
+        finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Копирует {@code count} записей с индекса {@code from} на индекс {@code to}.
+     * Записи копируются порциями, которые не пересекают границы областей, в направлении,
+     * при котором перекрывающиеся диапазоны не портятся.
+     */
+    private void copyRecords(int from, int to, int count) {
+        if (count == 0 || from == to) {
+            return;
+        }
+        if (moveBuffer == null) {
+            moveBuffer = new byte[Math.max(1, MOVE_BUFFER_BYTES / width) * width];
+        }
+        int maxRecords = moveBuffer.length / width;
+
+        if (to > from) {
+            while (count > 0) {
+                int sourceEnd = from + count;
+                int targetEnd = to + count;
+                int n = Math.min(maxRecords, Math.min(count,
+                        Math.min(recordsBefore(sourceEnd), recordsBefore(targetEnd))));
+                copyRecordsWithinExtents(sourceEnd - n, targetEnd - n, n);
+                count -= n;
+            }
+        }
+        else {
+            while (count > 0) {
+                int n = Math.min(maxRecords, Math.min(count,
+                        Math.min(recordsAfter(from), recordsAfter(to))));
+                copyRecordsWithinExtents(from, to, n);
+                from += n;
+                to += n;
+                count -= n;
+            }
+        }
+    }
+
+    /**
+     * Количество записей от начала области до записи {@code end - 1} включительно
+     */
+    private int recordsBefore(int end) {
+        return (end - 1) % recordsPerExtent + 1;
+    }
+
+    /**
+     * Количество записей от записи {@code start} до конца её области
+     */
+    private int recordsAfter(int start) {
+        return recordsPerExtent - start % recordsPerExtent;
+    }
+
+    private void copyRecordsWithinExtents(int from, int to, int count) {
+        int bytes = count * width;
+        extents[from / recordsPerExtent].get((from % recordsPerExtent) * width, moveBuffer, 0, bytes);
+        extents[to / recordsPerExtent].put((to % recordsPerExtent) * width, moveBuffer, 0, bytes);
+        markDirty(to / recordsPerExtent);
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает true, если список не содержит элементов.
+     *
+     * @return true, если этот список не содержит элементов
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Добавляет указанный элемент в конец списка.
+     *
+     * @param element элемент, который нужно добавить в конец списка
+     * @return true (согласно спецификации {@link Collection#add})
+     * @throws NullPointerException если {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     * @throws UncheckedIOException если не удаётся отобразить новую область
+     */
+    @Override
+    public boolean add(T element) {
+        add(size, element);
+        return true;
+    }
+
+    /**
+     * Вставляет указанный элемент на заданную позицию в списке.
+     * Записи после позиции сдвигаются на одну позицию вправо.
+     *
+     * @param index индекс, по которому должен быть вставлен указанный элемент
+     * @param element элемент для вставки
+     * @throws IndexOutOfBoundsException если {@code index} выходит за пределы
+     * @throws NullPointerException если {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     * @throws UncheckedIOException если не удаётся отобразить новую область
+     */
+    @Override
+    public void add(int index, T element) {
+        ensureOpen();
+        Objects.checkIndex(index, size + 1);
+        Objects.requireNonNull(element, "Element cannot be null");
+        if (size == Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("List is too large");
+        }
+
+        ensureCapacity(size + 1);
+        copyRecords(index, index + 1, size - index);
+        try {
+            encodeAt(index, element);
+        }
+        catch (RuntimeException e) {
+            copyRecords(index + 1, index, size - index);
+            throw e;
+        }
+        updateSize(size + 1);
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции в списке. Элемент декодируется при каждом вызове.
+     *
+     * @param index позиция возвращаемого элемента
+     * @return элемент в указанной позиции
+     * @throws IndexOutOfBoundsException если {@code index} выходит за границы допустимого диапазона
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public T get(int index) {
+        ensureOpen();
+        Objects.checkIndex(index, size);
+        return decodeAt(index);
+    }
+
+    /**
+     * Заменяет элемент, который находится в указанной позиции на {@code element}, переданный в качестве параметра.
+     *
+     * @param index позиция заменяемого элемента
+     * @param element Новый элемент, который будет установлен на указанную позицию
+     * @return объект, который ранее находился на указанной позиции
+     * @throws IndexOutOfBoundsException если {@code index} выходит за границы диапазона
+     * @throws NullPointerException если {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public T set(int index, T element) {
+        T oldValue = get(index);
+        Objects.requireNonNull(element, "Element cannot be null");
+        encodeAt(index, element);
+        return oldValue;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из этого списка, если оно присутствует.
+     *
+     * @param element элемент, который нужно удалить из этого списка, если он присутствует
+     * @return true, если этот список содержал указанный элемент
+     * @throws NullPointerException если {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public boolean remove(Object element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Удаляет элемент, находящийся на указанной позиции в коллекции.
+     * Записи после позиции сдвигаются на одну позицию влево.
+     *
+     * @param index позиция элемента, который нужно удалить
+     * @return элемент, который был удален из списка
+     * @throws IndexOutOfBoundsException если {@code index} выходит за пределы допустимого диапазона
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public T remove(int index) {
+        T removedElement = get(index);
+        copyRecords(index + 1, index, size - index - 1);
+        updateSize(size - 1);
+        return removedElement;
+    }
+
+    /**
+     * Удаляет все элементы. Отображённые области сохраняются до {@link #close()}.
+     *
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        updateSize(0);
+    }
+
+    /**
+     * Передаёт операции декодированные элементы в виде массива и записывает результат обратно на те же места.
+     *
+     * @param operation операция над диапазоном массива
+     * @throws NullPointerException если {@code operation} равна {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public void applyToArray(ArrayOperation operation) {
+        Objects.requireNonNull(operation , "operation cannot be null");
+
+        Object[] array = toArray();
+        operation.apply(array, 0, array.length);
+        for (int i = 0; i < array.length; i++) {
+            encodeAt(i, (T) Objects.requireNonNull(array[i], "Element cannot be null"));
+        }
+    }
+
+    /**
+     * Вставляет указанный элемент в начало списка.
+     *
+     * @param element элемент для добавления
+     * @throws NullPointerException если добавляемый {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public void addFirst(T element) {
+        add(0, element);
+    }
+
+    /**
+     * Вставляет указанный элемент в конец списка.
+     *
+     * @param element элемент для добавления
+     * @throws NullPointerException если добавляемый {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public void addLast(T element) {
+        add(size, element);
+    }
+
+    /**
+     * Возвращает итератор, декодирующий элементы по одному.
+     * Для обхода без декодирования используйте {@link #forEachRecord(ObjIntConsumer)}.
+     *
+     * @return итератор по элементам этого списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(currentIndex++);
+            }
+        };
+    }
+
+    /**
+     * Возвращает номер позиции первого вхождения указанного элемента в этом списке,
+     * или -1, если этот список не содержит элемента.
+     *
+     * @param element элемент для поиска
+     * @return индекс первого вхождения указанного элемента, или -1
+     * @throws NullPointerException если искомый {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public int indexOf(Object element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        ensureOpen();
+        for (int i = 0; i < size; i++) {
+            if (element.equals(decodeAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает true, если этот список содержит указанный элемент.
+     *
+     * @param element элемент, наличие которого в этом списке нужно проверить
+     * @return true, если этот список содержит указанный элемент
+     * @throws NullPointerException если указанный {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Удаляет первый элемент из списка и возвращает его.
+     *
+     * @return удалённый элемент, который находился в начале списка
+     * @throws NoSuchElementException если список пуст
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public T removeFirst() {
+        ensureOpen();
+        if (size == 0) {
+            throw new NoSuchElementException("Cannot remove from empty list");
+        }
+        return remove(0);
+    }
+
+    /**
+     * Удаляет последний элемент из списка и возвращает его.
+     *
+     * @return удалённый элемент, который находился в конце списка
+     * @throws NoSuchElementException если список пуст
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public T removeLast() {
+        ensureOpen();
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return remove(size - 1);
+    }
+
+    /**
+     * Декодирует все элементы в массив.
+     *
+     * @return массив, содержащий все элементы списка
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public T[] toArray() {
+        ensureOpen();
+        T[] result = (T[]) new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = decodeAt(i);
+        }
+        return result;
+    }
+}
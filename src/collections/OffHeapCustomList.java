@@ -0,0 +1,644 @@
+package collections;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import collections.interfaces.ArrayOperation;
+import collections.interfaces.CustomList;
+import collections.io.ElementCodec;
+
+/**
+ * Реализация упорядоченной коллекции, хранящая элементы вне кучи в прямых (direct) буферах {@link ByteBuffer}.
+ * <p>
+ * Элементы хранятся в закодированном виде ({@link ElementCodec}), поэтому большой список не создаёт
+ * в куче ни массива ссылок, ни объектов элементов, и сборщику мусора нечего обходить.
+ * Объект элемента создаётся заново при каждом чтении ({@link #get(int)}, итератор).
+ * </p>
+ * <p>
+ * Основные характеристики:
+ * - Кодек фиксированной ширины: элемент с индексом {@code i} лежит по смещению {@code i * fixedSize()},
+ *   вставка и удаление сдвигают байты хвоста
+ * - Кодек переменной ширины: байты элементов дописываются в конец буфера данных, а отдельный индекс
+ *   хранит смещение и длину каждого элемента (8 байт); вставка и удаление сдвигают только индекс.
+ *   Замена на более длинный элемент дописывает его в конец, освободившиеся байты собираются
+ *   при следующем расширении буфера
+ * - {@link #get(int)}/{@link #set(int, Object)} за O(1) плюс время кодирования
+ * - Буферы растут вдвое и ограничены 2 ГБ каждый
+ * - Память освобождается сразу при {@link #close()}; незакрытый список освобождается сборщиком мусора
+ * - Не сериализуется и не является потокобезопасным: даже чтение меняет позицию буфера
+ * - {@code null} не допускается
+ * </p>
+ *
+ * <p>Пример использования:
+ * <pre>{@code
+ * try (OffHeapCustomList<String> names = new OffHeapCustomList<>(ElementCodec.ofString())) {
+ *     names.add("Alice");
+ *     names.sort();
+ * }
+ * }</pre>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип хранимых элементов
+ * @see ElementCodec
+ * @see CustomList
+ */
+public class OffHeapCustomList<T> implements CustomList<T>, AutoCloseable {
+
+    /**
+     * Начальная емкость по умолчанию (в элементах)
+     */
+    static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Оценка размера элемента переменной ширины для начального буфера
+     */
+    private static final int VARIABLE_ELEMENT_ESTIMATE = 16;
+
+    /**
+     * Запись индекса: смещение и длина элемента
+     */
+    private static final int INDEX_ENTRY_BYTES = 8;
+
+    private static final int MOVE_BUFFER_BYTES = 1 << 13;
+    private static final int MAX_BUFFER_BYTES = Integer.MAX_VALUE - 8;
+
+    private final ElementCodec<T> codec;
+
+    /**
+     * Ширина элемента или {@link ElementCodec#VARIABLE_SIZE}
+     */
+    private final int width;
+
+    /**
+     * Закодированные элементы; {@code null} после закрытия
+     */
+    private ByteBuffer data;
+
+    /**
+     * Смещения и длины элементов; только для кодеков переменной ширины
+     */
+    private ByteBuffer index;
+
+    /**
+     * Буфер в куче для сдвига байтов внутри прямого буфера
+     */
+    private byte[] moveBuffer;
+
+    private int size = 0;
+
+    /**
+     * Количество занятых байт буфера данных
+     */
+    private int dataEnd = 0;
+
+    /**
+     * Количество байт буфера данных, не принадлежащих ни одному элементу
+     */
+    private int garbage = 0;
+
+    /**
+     * Создает новый пустой список с начальной емкостью по умолчанию.
+     *
+     * @param codec кодек элементов
+     * @throws NullPointerException если {@code codec} равен {@code null}
+     */
+    public OffHeapCustomList(ElementCodec<T> codec) {
+        this(codec, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает новый пустой список с указанной начальной емкостью.
+     *
+     * @param codec кодек элементов
+     * @param initialCapacity начальная емкость в элементах;
+     * если она меньше начальной емкости по умолчанию, будет использована емкость по умолчанию.
+     * @throws NullPointerException если {@code codec} равен {@code null}
+     */
+    public OffHeapCustomList(ElementCodec<T> codec, int initialCapacity) {
+        this.codec = Objects.requireNonNull(codec , "codec cannot be null");
+        this.width = codec.fixedSize();
+
+        long capacity = Math.max(initialCapacity, DEFAULT_CAPACITY);
+        long elementBytes = width == ElementCodec.VARIABLE_SIZE ? VARIABLE_ELEMENT_ESTIMATE : Math.max(width, 1);
+        this.data = DirectBuffers.allocate((int) Math.min(capacity * elementBytes, MAX_BUFFER_BYTES));
+        if (width == ElementCodec.VARIABLE_SIZE) {
+            this.index = DirectBuffers.allocate((int) Math.min(capacity * INDEX_ENTRY_BYTES, MAX_BUFFER_BYTES));
+        }
+    }
+
+    /**
+     * Возвращает объём выделенной памяти вне кучи.
+     *
+     * @return емкость буферов данных и индекса в байтах; 0 после закрытия
+     */
+    public long getNativeBytes() {
+        if (data == null) {
+            return 0;
+        }
+        return (long) data.capacity() + (index == null ? 0 : index.capacity());
+    }
+
+    /**
+     * Освобождает память списка. Повторный вызов ничего не делает;
+     * остальные методы, кроме {@link #size()} и {@link #isEmpty()}, после закрытия бросают {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        if (data == null) {
+            return;
+        }
+        DirectBuffers.free(data);
+        DirectBuffers.free(index);
+        data = null;
+        index = null;
+        moveBuffer = null;
+        size = 0;
+        dataEnd = 0;
+        garbage = 0;
+    }
+
+    private void ensureOpen() {
+        if (data == null) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    /**
+     * Гарантирует, что после занятых байт буфера данных есть {@code extra} свободных.
+     * При нехватке места выделяет новый буфер (вдвое больше или того же размера, если
+     * после сборки освободившихся байт места достаточно) и копирует в него только живые элементы.
+     */
+    private void ensureDataCapacity(int extra) {
+        if ((long) dataEnd + extra <= data.capacity()) {
+            return;
+        }
+
+        long required = (long) dataEnd - garbage + extra;
+        if (required > MAX_BUFFER_BYTES) {
+            throw new OutOfMemoryError("Off-heap list data cannot exceed " + MAX_BUFFER_BYTES + " bytes");
+        }
+        long capacity = data.capacity();
+        if (required > capacity - (capacity >>> 2)) {
+            capacity = Math.min(Math.max(capacity << 1, required), MAX_BUFFER_BYTES);
+        }
+
+        ByteBuffer target = DirectBuffers.allocate((int) capacity);
+        if (garbage == 0) {
+            target.put(0, data, 0, dataEnd);
+        }
+        else {
+            int offset = 0;
+            for (int i = 0; i < size; i++) {
+                int entry = i * INDEX_ENTRY_BYTES;
+                int length = index.getInt(entry + Integer.BYTES);
+                target.put(offset, data, index.getInt(entry), length);
+                index.putInt(entry, offset);
+                offset += length;
+            }
+            dataEnd = offset;
+            garbage = 0;
+        }
+        DirectBuffers.free(data);
+        data = target;
+    }
+
+    /**
+     * Гарантирует, что индекс вмещает {@code elements} записей.
+     */
+    private void ensureIndexCapacity(int elements) {
+        long required = (long) elements * INDEX_ENTRY_BYTES;
+        if (required <= index.capacity()) {
+            return;
+        }
+        if (required > MAX_BUFFER_BYTES) {
+            throw new OutOfMemoryError("Off-heap list index cannot exceed " + MAX_BUFFER_BYTES + " bytes");
+        }
+
+        long capacity = Math.min(Math.max((long) index.capacity() << 1, required), MAX_BUFFER_BYTES);
+        ByteBuffer target = DirectBuffers.allocate((int) capacity);
+        target.put(0, index, 0, size * INDEX_ENTRY_BYTES);
+        DirectBuffers.free(index);
+        index = target;
+    }
+
+    /**
+     * Сдвигает {@code length} байт буфера с позиции {@code from} на позицию {@code to}.
+     * Копирование идёт порциями через буфер в куче в направлении, при котором перекрывающиеся
+     * области не портятся.
+     */
+    private void moveBytes(ByteBuffer buffer, int from, int to, int length) {
+        if (length == 0 || from == to) {
+            return;
+        }
+        if (moveBuffer == null) {
+            moveBuffer = new byte[MOVE_BUFFER_BYTES];
+        }
+
+        if (to > from) {
+            for (int end = length; end > 0; ) {
+                int count = Math.min(moveBuffer.length, end);
+                end -= count;
+                buffer.get(from + end, moveBuffer, 0, count);
+                buffer.put(to + end, moveBuffer, 0, count);
+            }
+        }
+        else {
+            for (int start = 0; start < length; ) {
+                int count = Math.min(moveBuffer.length, length - start);
+                buffer.get(from + start, moveBuffer, 0, count);
+                buffer.put(to + start, moveBuffer, 0, count);
+                start += count;
+            }
+        }
+    }
+
+    /**
+     * Кодирует элемент в байты {@code [offset, offset + length)} буфера данных.
+     * Вне кодирования предел буфера равен его емкости: от предела зависят абсолютные операции.
+     *
+     * @throws IllegalStateException если кодек записал меньше байт, чем сообщил
+     */
+    private void encodeAt(int offset, int length, T element) {
+        data.limit(offset + length);
+        data.position(offset);
+        try {
+            codec.encode(element, data);
+            if (data.position() != offset + length) {
+                throw new IllegalStateException("Codec wrote " + (data.position() - offset) + " bytes instead of " + length);
+            }
+        }
+        finally {
+            data.clear();
+        }
+    }
+
+    private T decodeAt(int offset, int length) {
+        data.limit(offset + length);
+        data.position(offset);
+        try {
+            return codec.decode(data);
+        }
+        finally {
+            data.clear();
+        }
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает true, если список не содержит элементов.
+     *
+     * @return true, если этот список не содержит элементов
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Добавляет указанный элемент в конец списка.
+     *
+     * @param element элемент, который нужно добавить в конец списка
+     * @return true (согласно спецификации {@link Collection#add})
+     * @throws NullPointerException если {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public boolean add(T element) {
+        add(size, element);
+        return true;
+    }
+
+    /**
+     * Вставляет указанный элемент на заданную позицию в списке.
+     *
+     * @param index индекс, по которому должен быть вставлен указанный элемент
+     * @param element элемент для вставки
+     * @throws IndexOutOfBoundsException если {@code index} выходит за пределы
+     * @throws NullPointerException если {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public void add(int index, T element) {
+        ensureOpen();
+        Objects.checkIndex(index, size + 1);
+        Objects.requireNonNull(element, "Element cannot be null");
+        if (size == Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("List is too large");
+        }
+
+        if (width != ElementCodec.VARIABLE_SIZE) {
+            ensureDataCapacity(width);
+            int offset = index * width;
+            moveBytes(data, offset, offset + width, dataEnd - offset);
+            try {
+                encodeAt(offset, width, element);
+            }
+            catch (RuntimeException e) {
+                moveBytes(data, offset + width, offset, dataEnd - offset);
+                throw e;
+            }
+            dataEnd += width;
+        }
+        else {
+            int length = codec.size(element);
+            ensureDataCapacity(length);
+            ensureIndexCapacity(size + 1);
+            encodeAt(dataEnd, length, element);
+
+            int entry = index * INDEX_ENTRY_BYTES;
+            moveBytes(this.index, entry, entry + INDEX_ENTRY_BYTES, (size - index) * INDEX_ENTRY_BYTES);
+            this.index.putInt(entry, dataEnd);
+            this.index.putInt(entry + Integer.BYTES, length);
+            dataEnd += length;
+        }
+        size++;
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции в списке. Элемент декодируется при каждом вызове.
+     *
+     * @param index позиция возвращаемого элемента
+     * @return элемент в указанной позиции
+     * @throws IndexOutOfBoundsException если {@code index} выходит за границы допустимого диапазона
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public T get(int index) {
+        ensureOpen();
+        Objects.checkIndex(index, size);
+        if (width != ElementCodec.VARIABLE_SIZE) {
+            return decodeAt(index * width, width);
+        }
+        int entry = index * INDEX_ENTRY_BYTES;
+        return decodeAt(this.index.getInt(entry), this.index.getInt(entry + Integer.BYTES));
+    }
+
+    /**
+     * Заменяет элемент, который находится в указанной позиции на {@code element}, переданный в качестве параметра.
+     * Элемент переменной ширины, который не помещается на место прежнего, дописывается в конец буфера данных.
+     *
+     * @param index позиция заменяемого элемента
+     * @param element Новый элемент, который будет установлен на указанную позицию
+     * @return объект, который ранее находился на указанной позиции
+     * @throws IndexOutOfBoundsException если {@code index} выходит за границы диапазона
+     * @throws NullPointerException если {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public T set(int index, T element) {
+        T oldValue = get(index);
+        Objects.requireNonNull(element, "Element cannot be null");
+
+        if (width != ElementCodec.VARIABLE_SIZE) {
+            encodeAt(index * width, width, element);
+            return oldValue;
+        }
+
+        int entry = index * INDEX_ENTRY_BYTES;
+        int length = codec.size(element);
+        int oldLength = this.index.getInt(entry + Integer.BYTES);
+        if (length <= oldLength) {
+            encodeAt(this.index.getInt(entry), length, element);
+            garbage += oldLength - length;
+        }
+        else {
+            ensureDataCapacity(length);
+            encodeAt(dataEnd, length, element);
+            this.index.putInt(entry, dataEnd);
+            dataEnd += length;
+            garbage += oldLength;
+        }
+        this.index.putInt(entry + Integer.BYTES, length);
+        return oldValue;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из этого списка, если оно присутствует.
+     *
+     * @param element элемент, который нужно удалить из этого списка, если он присутствует
+     * @return true, если этот список содержал указанный элемент
+     * @throws NullPointerException если {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public boolean remove(Object element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Удаляет элемент, находящийся на указанной позиции в коллекции.
+     *
+     * @param index позиция элемента, который нужно удалить
+     * @return элемент, который был удален из списка
+     * @throws IndexOutOfBoundsException если {@code index} выходит за пределы допустимого диапазона
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public T remove(int index) {
+        T removedElement = get(index);
+
+        if (width != ElementCodec.VARIABLE_SIZE) {
+            int offset = index * width;
+            moveBytes(data, offset + width, offset, dataEnd - offset - width);
+            dataEnd -= width;
+        }
+        else {
+            int entry = index * INDEX_ENTRY_BYTES;
+            int offset = this.index.getInt(entry);
+            int length = this.index.getInt(entry + Integer.BYTES);
+            if (offset + length == dataEnd) {
+                dataEnd = offset;
+            }
+            else {
+                garbage += length;
+            }
+            moveBytes(this.index, entry + INDEX_ENTRY_BYTES, entry, (size - index - 1) * INDEX_ENTRY_BYTES);
+        }
+
+        if (--size == 0) {
+            dataEnd = 0;
+            garbage = 0;
+        }
+        return removedElement;
+    }
+
+    /**
+     * Удаляет все элементы. Выделенная память сохраняется до {@link #close()}.
+     *
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        size = 0;
+        dataEnd = 0;
+        garbage = 0;
+    }
+
+    /**
+     * Передаёт операции декодированные элементы в виде массива и записывает результат обратно
+     * подряд, без освободившихся байт.
+     *
+     * @param operation операция над диапазоном массива
+     * @throws NullPointerException если {@code operation} равна {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public void applyToArray(ArrayOperation operation) {
+        Objects.requireNonNull(operation , "operation cannot be null");
+
+        Object[] array = toArray();
+        operation.apply(array, 0, array.length);
+        clear();
+        for (Object element : array) {
+            add((T) element);
+        }
+    }
+
+    /**
+     * Вставляет указанный элемент в начало списка.
+     *
+     * @param element элемент для добавления
+     * @throws NullPointerException если добавляемый {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public void addFirst(T element) {
+        add(0, element);
+    }
+
+    /**
+     * Вставляет указанный элемент в конец списка.
+     *
+     * @param element элемент для добавления
+     * @throws NullPointerException если добавляемый {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public void addLast(T element) {
+        add(size, element);
+    }
+
+    /**
+     * Возвращает итератор, декодирующий элементы по одному.
+     *
+     * @return итератор по элементам этого списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(currentIndex++);
+            }
+        };
+    }
+
+    /**
+     * Возвращает номер позиции первого вхождения указанного элемента в этом списке,
+     * или -1, если этот список не содержит элемента.
+     *
+     * @param element элемент для поиска
+     * @return индекс первого вхождения указанного элемента, или -1
+     * @throws NullPointerException если искомый {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public int indexOf(Object element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        ensureOpen();
+        for (int i = 0; i < size; i++) {
+            if (element.equals(get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает true, если этот список содержит указанный элемент.
+     *
+     * @param element элемент, наличие которого в этом списке нужно проверить
+     * @return true, если этот список содержит указанный элемент
+     * @throws NullPointerException если указанный {@code element} равен {@code null}
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Удаляет первый элемент из списка и возвращает его.
+     *
+     * @return удалённый элемент, который находился в начале списка
+     * @throws NoSuchElementException если список пуст
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public T removeFirst() {
+        ensureOpen();
+        if (size == 0) {
+            throw new NoSuchElementException("Cannot remove from empty list");
+        }
+        return remove(0);
+    }
+
+    /**
+     * Удаляет последний элемент из списка и возвращает его.
+     *
+     * @return удалённый элемент, который находился в конце списка
+     * @throws NoSuchElementException если список пуст
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public T removeLast() {
+        ensureOpen();
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return remove(size - 1);
+    }
+
+    /**
+     * Декодирует все элементы в массив.
+     *
+     * @return массив, содержащий все элементы списка
+     * @throws IllegalStateException если список закрыт
+     */
+    @Override
+    public T[] toArray() {
+        ensureOpen();
+        T[] result = (T[]) new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,578 @@
+package collections;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import collections.interfaces.ArrayOperation;
+import collections.interfaces.CustomList;
+import collections.sorts.TimSort;
+
+/**
+ * Список, элементы которого всегда упорядочены заданным компаратором.
+ * <p>
+ * Элементы хранятся в {@link CustomArrayList}. Новый элемент вставляется на позицию, найденную бинарным поиском,
+ * поэтому после вставки сортировать список не нужно.
+ * </p>
+ * <p>
+ * Основные характеристики:
+ * - {@link #indexOf(Object)}, {@link #contains(Object)}, {@link #floor(Object)}, {@link #ceiling(Object)},
+ *   {@link #lowerBound(Object)}, {@link #upperBound(Object)} и поиск диапазона работают за O(log n)
+ * - Равные по компаратору элементы хранятся в порядке добавления
+ * - Пакетная вставка {@link #addAll(Iterable)} сортирует только новые элементы и сливает их со списком за один проход
+ * - Вставка на произвольную позицию ({@link #add(int, Object)}, {@link #addFirst(Object)}, {@link #addLast(Object)})
+ *   не поддерживается, так как нарушает порядок
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип хранимых элементов
+ * @see CustomList
+ * @see CustomArrayList
+ */
+public class SortedCustomList<T> implements CustomList<T>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Компаратор, задающий порядок элементов
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Список, в котором хранятся упорядоченные элементы
+     */
+    private final CustomArrayList<T> elements;
+
+    /**
+     * Создает пустой список, упорядоченный указанным компаратором.
+     *
+     * @param comparator компаратор, задающий порядок элементов
+     * @throws NullPointerException если {@code comparator} равен {@code null}
+     */
+    public SortedCustomList(Comparator<? super T> comparator) {
+        this(comparator, CustomArrayList.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью, упорядоченный указанным компаратором.
+     *
+     * @param comparator компаратор, задающий порядок элементов
+     * @param initialCapacity начальная емкость списка
+     * @throws NullPointerException если {@code comparator} равен {@code null}
+     */
+    public SortedCustomList(Comparator<? super T> comparator, int initialCapacity) {
+        this.comparator = Objects.requireNonNull(comparator , "comparator cannot be null");
+        this.elements = new CustomArrayList<>(initialCapacity);
+    }
+
+    /**
+     * Возвращает компаратор, задающий порядок элементов.
+     *
+     * @return компаратор списка
+     */
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Возвращает true, если список не содержит элементов.
+     *
+     * @return true, если этот список не содержит элементов
+     */
+    @Override
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    /**
+     * Вставляет элемент на его позицию по порядку: после всех элементов, не больших его.
+     *
+     * @param element добавляемый элемент
+     * @return true (согласно спецификации {@link java.util.Collection#add})
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    @Override
+    public boolean add(T element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        elements.add(upperBound(element), element);
+        return true;
+    }
+
+    /**
+     * Добавляет все элементы пакетом.
+     * <p>
+     * Элементы копируются в отдельный массив, проверяются на {@code null} и сортируются {@link TimSort} в нём же.
+     * Затем за один линейный проход по списку для каждого нового элемента вычисляется количество хранящихся элементов,
+     * не больших его. Только после этого, без обращений к компаратору, пакет дописывается в список и
+     * раскладывается по местам от конца к началу. Поэтому исключение при обходе пакета, при проверке на {@code null}
+     * или в компараторе (например, {@link ClassCastException}) оставляет список неизменным.
+     * </p>
+     * <p>
+     * Пакет из m элементов добавляется за O(n + m log m) вместо O(n·m) при поэлементной вставке.
+     * </p>
+     *
+     * @param batch добавляемые элементы
+     * @return true, если список изменился
+     * @throws NullPointerException если {@code batch} или любой из его элементов равен {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public boolean addAll(Iterable<? extends T> batch) {
+        Objects.requireNonNull(batch , "Batch cannot be null");
+
+        T[] sorted = (T[]) copyOf(batch);
+        for (T element : sorted) {
+            Objects.requireNonNull(element, "Element cannot be null");
+        }
+        if (sorted.length == 0) {
+            return false;
+        }
+        TimSort.sort(sorted, 0, sorted.length, comparator);
+
+        int oldSize = elements.size();
+        int[] positions = new int[sorted.length];
+        int preceding = 0;
+        for (int j = 0; j < sorted.length; j++) {
+            while (preceding < oldSize && comparator.compare(elements.get(preceding), sorted[j]) <= 0) {
+                preceding++;
+            }
+            positions[j] = preceding;
+        }
+
+        elements.addAll(Arrays.asList(sorted));
+        elements.applyToArray((array, from, to) -> placeBatch(array, from, oldSize, sorted, positions));
+        return true;
+    }
+
+    /**
+     * Копирует элементы пакета в новый массив ({@link CustomList#toArray()} возвращает новый массив),
+     * поэтому пакет, совпадающий с этим списком, копируется до изменения.
+     */
+    private Object[] copyOf(Iterable<? extends T> batch) {
+        if (batch instanceof Collection) {
+            return ((Collection<?>) batch).toArray();
+        }
+        if (batch instanceof CustomList) {
+            return ((CustomList<?>) batch).toArray();
+        }
+        ArrayList<Object> copy = new ArrayList<>();
+        for (T element : batch) {
+            copy.add(element);
+        }
+        return copy.toArray();
+    }
+
+    /**
+     * Раскладывает отсортированный пакет по местам, не вызывая компаратор.
+     * Массив содержит {@code oldSize} упорядоченных элементов, за которыми дописан пакет;
+     * {@code positions[j]} - количество хранящихся элементов, которые должны стоять перед {@code batch[j]}.
+     */
+    private static void placeBatch(Object[] array, int from, int oldSize, Object[] batch, int[] positions) {
+        int last = oldSize - 1;
+        for (int j = batch.length - 1; j >= 0; j--) {
+            int position = positions[j];
+            int moved = last - position + 1;
+            if (moved > 0) {
+                System.arraycopy(array, from + position, array, from + position + j + 1, moved);
+                last = position - 1;
+            }
+            array[from + position + j] = batch[j];
+        }
+    }
+
+    /**
+     * Добавляет все элементы коллекции пакетом, как {@link #addAll(Iterable)}.
+     *
+     * @param collection добавляемые элементы
+     * @return true, если список изменился
+     * @throws NullPointerException если {@code collection} или любой из её элементов равен {@code null}
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        return addAll((Iterable<? extends T>) collection);
+    }
+
+    /**
+     * Вставка на произвольную позицию нарушает порядок элементов и не поддерживается.
+     *
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public boolean addAll(int index, CustomList<? extends T> list) {
+        throw new UnsupportedOperationException("SortedCustomList does not support positional insertion");
+    }
+
+    /**
+     * Удаляет элементы на позициях {@code [fromIndex, toIndex)}. Порядок оставшихся элементов не нарушается.
+     *
+     * @param fromIndex позиция первого удаляемого элемента (включительно)
+     * @param toIndex позиция последнего удаляемого элемента (исключительно)
+     * @throws IndexOutOfBoundsException если {@code fromIndex < 0}, {@code toIndex > size}
+     * или {@code fromIndex > toIndex}
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        elements.removeRange(fromIndex, toIndex);
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию {@code filter}, за один проход по внутреннему массиву.
+     * Порядок оставшихся элементов не нарушается.
+     *
+     * @param filter условие удаления элемента
+     * @return true, если хотя бы один элемент был удалён
+     * @throws NullPointerException если {@code filter} равен {@code null}
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        return elements.removeIf(filter);
+    }
+
+    /**
+     * Замена диапазона элементов может нарушить порядок и не поддерживается;
+     * для замены одного элемента используйте {@link #set(int, Object)}.
+     *
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public void setAll(int index, CustomList<? extends T> list) {
+        throw new UnsupportedOperationException("SortedCustomList does not support range replacement");
+    }
+
+    /**
+     * Вставка на произвольную позицию нарушает порядок элементов и не поддерживается.
+     *
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException("SortedCustomList does not support positional insertion");
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции списка.
+     *
+     * @param index позиция возвращаемого элемента
+     * @return элемент в указанной позиции
+     * @throws IndexOutOfBoundsException если {@code index} выходит за границы допустимого диапазона
+     */
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Заменяет элемент на указанной позиции, если новый элемент сохраняет порядок списка.
+     *
+     * @param index позиция заменяемого элемента
+     * @param element новый элемент
+     * @return элемент, который ранее находился на указанной позиции
+     * @throws IndexOutOfBoundsException если {@code index} выходит за границы диапазона
+     * @throws NullPointerException если {@code element} равен {@code null}
+     * @throws IllegalArgumentException если новый элемент меньше предыдущего или больше следующего
+     */
+    @Override
+    public T set(int index, T element) {
+        Objects.checkIndex(index, elements.size());
+        Objects.requireNonNull(element, "Element cannot be null");
+        if ((index > 0 && comparator.compare(elements.get(index - 1), element) > 0)
+                || (index < elements.size() - 1 && comparator.compare(element, elements.get(index + 1)) > 0)) {
+            throw new IllegalArgumentException("Element does not fit the sorted position " + index);
+        }
+        return elements.set(index, element);
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента, найденное бинарным поиском.
+     *
+     * @param element удаляемый элемент
+     * @return true, если список содержал указанный элемент
+     * @throws NullPointerException если {@code element} равен {@code null}
+     * @throws ClassCastException если {@code element} нельзя сравнить компаратором списка
+     */
+    @Override
+    public boolean remove(Object element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        elements.remove(index);
+        return true;
+    }
+
+    /**
+     * Удаляет элемент, находящийся на указанной позиции. Порядок оставшихся элементов не нарушается.
+     *
+     * @param index позиция удаляемого элемента
+     * @return удалённый элемент
+     * @throws IndexOutOfBoundsException если {@code index} выходит за пределы допустимого диапазона
+     */
+    @Override
+    public T remove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Удаляет все элементы списка.
+     */
+    @Override
+    public void clear() {
+        elements.clear();
+    }
+
+    /**
+     * Передаёт операции внутренний массив списка и восстанавливает порядок после неё.
+     * <p>
+     * Операции, переставляющие элементы (например, сортировка другим компаратором), не нарушают порядок списка:
+     * после операции элементы снова упорядочиваются {@link TimSort}, который проверяет уже упорядоченный массив за O(n).
+     * </p>
+     *
+     * @param operation операция над диапазоном массива
+     * @throws NullPointerException если {@code operation} равна {@code null}
+     */
+    @Override
+    public void applyToArray(ArrayOperation operation) {
+        Objects.requireNonNull(operation , "operation cannot be null");
+        elements.applyToArray((array, from, to) -> {
+            operation.apply(array, from, to);
+            TimSort.sort((T[]) array, from, to, comparator);
+        });
+    }
+
+    /**
+     * Вставка в начало нарушает порядок элементов и не поддерживается.
+     *
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public void addFirst(T element) {
+        throw new UnsupportedOperationException("SortedCustomList does not support positional insertion");
+    }
+
+    /**
+     * Вставка в конец нарушает порядок элементов и не поддерживается.
+     *
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public void addLast(T element) {
+        throw new UnsupportedOperationException("SortedCustomList does not support positional insertion");
+    }
+
+    /**
+     * Возвращает итератор по элементам списка в порядке компаратора.
+     *
+     * @return итератор по элементам списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return elements.iterator();
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента за O(log n + k), где k - число элементов,
+     * равных искомому по компаратору.
+     * <p>
+     * Бинарным поиском находится диапазон элементов, равных искомому по компаратору,
+     * и в нём ищется элемент, равный искомому по {@link Object#equals(Object)}.
+     * </p>
+     *
+     * @param element элемент для поиска
+     * @return индекс первого вхождения элемента, или -1, если элемент не найден
+     * @throws NullPointerException если {@code element} равен {@code null}
+     * @throws ClassCastException если {@code element} нельзя сравнить компаратором списка
+     */
+    @Override
+    public int indexOf(Object element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        T key = (T) element;
+
+        int size = elements.size();
+        for (int i = lowerBound(key); i < size; i++) {
+            T candidate = elements.get(i);
+            if (comparator.compare(candidate, key) != 0) {
+                break;
+            }
+            if (candidate.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает true, если список содержит указанный элемент. Поиск выполняется бинарным поиском.
+     *
+     * @param element элемент для поиска
+     * @return true, если список содержит указанный элемент
+     * @throws NullPointerException если {@code element} равен {@code null}
+     * @throws ClassCastException если {@code element} нельзя сравнить компаратором списка
+     */
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Возвращает индекс первого элемента, не меньшего указанного (позиция вставки перед равными).
+     *
+     * @param element граница поиска
+     * @return индекс от 0 до {@link #size()} включительно
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    public int lowerBound(T element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(elements.get(mid), element) < 0) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Возвращает индекс первого элемента, большего указанного (позиция вставки после равных).
+     *
+     * @param element граница поиска
+     * @return индекс от 0 до {@link #size()} включительно
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    public int upperBound(T element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(element, elements.get(mid)) < 0) {
+                high = mid;
+            }
+            else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Возвращает наибольший элемент, не больший указанного.
+     *
+     * @param element граница поиска
+     * @return найденный элемент, или {@code null}, если все элементы больше указанного
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    public T floor(T element) {
+        int index = upperBound(element) - 1;
+        return index >= 0 ? elements.get(index) : null;
+    }
+
+    /**
+     * Возвращает наименьший элемент, не меньший указанного.
+     *
+     * @param element граница поиска
+     * @return найденный элемент, или {@code null}, если все элементы меньше указанного
+     * @throws NullPointerException если {@code element} равен {@code null}
+     */
+    public T ceiling(T element) {
+        int index = lowerBound(element);
+        return index < elements.size() ? elements.get(index) : null;
+    }
+
+    /**
+     * Возвращает количество элементов в диапазоне {@code [fromElement, toElement)} за O(log n).
+     *
+     * @param fromElement нижняя граница (включительно)
+     * @param toElement верхняя граница (не включительно)
+     * @return количество элементов в диапазоне
+     * @throws NullPointerException если любая из границ равна {@code null}
+     * @throws IllegalArgumentException если {@code fromElement} больше {@code toElement}
+     */
+    public int countInRange(T fromElement, T toElement) {
+        checkRange(fromElement, toElement);
+        return lowerBound(toElement) - lowerBound(fromElement);
+    }
+
+    /**
+     * Возвращает элементы диапазона {@code [fromElement, toElement)} в новом списке.
+     * Границы находятся за O(log n), элементы копируются за O(k).
+     *
+     * @param fromElement нижняя граница (включительно)
+     * @param toElement верхняя граница (не включительно)
+     * @return новый список с элементами диапазона в порядке списка
+     * @throws NullPointerException если любая из границ равна {@code null}
+     * @throws IllegalArgumentException если {@code fromElement} больше {@code toElement}
+     */
+    public CustomList<T> range(T fromElement, T toElement) {
+        checkRange(fromElement, toElement);
+        int from = lowerBound(fromElement);
+        int to = lowerBound(toElement);
+
+        CustomArrayList<T> result = new CustomArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(elements.get(i));
+        }
+        return result;
+    }
+
+    private void checkRange(T fromElement, T toElement) {
+        Objects.requireNonNull(fromElement , "fromElement cannot be null");
+        Objects.requireNonNull(toElement , "toElement cannot be null");
+        if (comparator.compare(fromElement, toElement) > 0) {
+            throw new IllegalArgumentException("fromElement is greater than toElement");
+        }
+    }
+
+    /**
+     * Удаляет наименьший элемент списка.
+     *
+     * @return удалённый элемент
+     * @throws NoSuchElementException если список пуст
+     */
+    @Override
+    public T removeFirst() {
+        return elements.removeFirst();
+    }
+
+    /**
+     * Удаляет наибольший элемент списка.
+     *
+     * @return удалённый элемент
+     * @throws NoSuchElementException если список пуст
+     */
+    @Override
+    public T removeLast() {
+        return elements.removeLast();
+    }
+
+    /**
+     * Преобразует список в массив объектов.
+     *
+     * @return массив, содержащий все элементы списка в порядке компаратора
+     */
+    @Override
+    public T[] toArray() {
+        return elements.toArray();
+    }
+}
@@ -0,0 +1,39 @@
+package collections.interfaces;
+
+/**
+ * Операция над непрерывным диапазоном массива элементов коллекции.
+ * <p>
+ * Используется контрактом массового доступа {@link CustomList#applyToArray(ArrayOperation)}:
+ * коллекция передаёт операции массив со своими элементами, а алгоритмы сортировки и выбора
+ * работают с обычным массивом, без вызовов {@link CustomList#get(int)}/{@link CustomList#set(int, Object)}
+ * и без проверки индекса на каждый элемент.
+ * </p>
+ * <p>
+ * Тип массива во время выполнения не гарантирован: как правило, это {@code Object[]}, так как внутренний
+ * массив обобщённой коллекции создаётся как {@code (T[]) new Object[n]}. Поэтому параметр объявлен как {@code Object[]}:
+ * обобщённые алгоритмы приводят его к {@code T[]} (после стирания типов это тот же {@code Object[]}),
+ * а приведение к конкретному типу массива, например {@code String[]}, может завершиться {@link ClassCastException}.
+ * </p>
+ * <p>
+ * Операция может только переставлять и заменять элементы диапазона {@code [from, to)}.
+ * Массив может быть внутренним массивом коллекции, поэтому операция не должна сохранять ссылку на него,
+ * обращаться к элементам за пределами диапазона или изменять коллекцию во время выполнения.
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see CustomList#applyToArray(ArrayOperation)
+ */
+@FunctionalInterface
+public interface ArrayOperation {
+
+    /**
+     * Выполняет операцию над диапазоном массива.
+     *
+     * @param array массив с элементами коллекции
+     * @param from индекс первого элемента коллекции в массиве (включительно)
+     * @param to индекс последнего элемента коллекции в массиве (не включительно)
+     */
+    void apply(Object[] array, int from, int to);
+}
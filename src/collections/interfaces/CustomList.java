@@ -1,9 +1,18 @@
 package collections.interfaces;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 
 /**
@@ -121,22 +130,455 @@ public interface CustomList<T> extends Iterable<T>, RandomAccess {
      */
     void clear();
 
+    /**
+     * Добавляет все элементы коллекции в конец списка в порядке {@link Collection#toArray()}.
+     * <p>
+     * Элементы проверяются до изменения списка: если среди них есть {@code null}, список не изменяется.
+     * Реализация по умолчанию добавляет элементы по одному через {@link #add(Object)};
+     * {@link collections.CustomArrayList} расширяет массив один раз и копирует элементы одним блоком,
+     * {@link collections.CustomLinkedList} присоединяет готовую цепочку узлов.
+     * </p>
+     *
+     * @param collection добавляемые элементы
+     * @return true, если список изменился
+     * @throws NullPointerException если {@code collection} или любой из её элементов равен {@code null}
+     */
+    default boolean addAll(Collection<? extends T> collection) {
+        Objects.requireNonNull(collection , "collection cannot be null");
+
+        Object[] elements = collection.toArray();
+        for (Object element : elements) {
+            Objects.requireNonNull(element, "Element cannot be null");
+        }
+        for (Object element : elements) {
+            add((T) element);
+        }
+        return elements.length > 0;
+    }
+
+    /**
+     * Вставляет все элементы списка {@code list} начиная с позиции {@code index}.
+     * Элементы, находившиеся на этой позиции и правее, сдвигаются вправо на {@code list.size()}.
+     * <p>
+     * Элементы копируются до изменения списка, поэтому можно вставить список в самого себя.
+     * Реализация по умолчанию вставляет элементы по одному через {@link #add(int, Object)};
+     * {@link collections.CustomArrayList} сдвигает хвост один раз, {@link collections.CustomLinkedList}
+     * находит место вставки за один проход и вставляет цепочку узлов целиком.
+     * </p>
+     *
+     * @param index позиция, на которую вставляется первый элемент
+     * @param list вставляемые элементы
+     * @return true, если список изменился
+     * @throws IndexOutOfBoundsException если {@code index} выходит за пределы допустимого диапазона
+     * <p>
+     *         (index < 0 || index > size)
+     * </p>
+     * @throws NullPointerException если {@code list} или любой из его элементов равен {@code null}
+     */
+    default boolean addAll(int index, CustomList<? extends T> list) {
+        Objects.requireNonNull(list , "list cannot be null");
+        Objects.checkIndex(index, size() + 1);
+
+        Object[] elements = list.toArray();
+        for (Object element : elements) {
+            Objects.requireNonNull(element, "Element cannot be null");
+        }
+        for (int i = 0; i < elements.length; i++) {
+            if (index + i == size()) {
+                add((T) elements[i]);
+            }
+            else {
+                add(index + i, (T) elements[i]);
+            }
+        }
+        return elements.length > 0;
+    }
+
+    /**
+     * Удаляет элементы на позициях {@code [fromIndex, toIndex)}.
+     * Элементы правее диапазона сдвигаются влево на {@code toIndex - fromIndex}.
+     * <p>
+     * Реализация по умолчанию удаляет элементы по одному с конца диапазона;
+     * {@link collections.CustomArrayList} сдвигает хвост одним копированием,
+     * {@link collections.CustomLinkedList} вырезает цепочку узлов за один проход.
+     * </p>
+     *
+     * @param fromIndex позиция первого удаляемого элемента (включительно)
+     * @param toIndex позиция последнего удаляемого элемента (исключительно)
+     * @throws IndexOutOfBoundsException если {@code fromIndex < 0}, {@code toIndex > size}
+     * или {@code fromIndex > toIndex}
+     */
+    default void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            remove(i);
+        }
+    }
+
+    /**
+     * Заменяет элементы на позициях {@code [index, index + list.size())} элементами списка {@code list}.
+     * <p>
+     * Элементы проверяются до изменения списка: если среди них есть {@code null}, список не изменяется.
+     * Реализация по умолчанию заменяет элементы по одному через {@link #set(int, Object)};
+     * {@link collections.CustomArrayList} копирует элементы одним блоком,
+     * {@link collections.CustomLinkedList} заменяет значения за один проход по узлам.
+     * </p>
+     *
+     * @param index позиция первого заменяемого элемента
+     * @param list новые элементы
+     * @throws IndexOutOfBoundsException если диапазон {@code [index, index + list.size())} выходит за границы списка
+     * @throws NullPointerException если {@code list} или любой из его элементов равен {@code null}
+     */
+    default void setAll(int index, CustomList<? extends T> list) {
+        Objects.requireNonNull(list , "list cannot be null");
+
+        Object[] elements = list.toArray();
+        Objects.checkFromIndexSize(index, elements.length, size());
+        for (Object element : elements) {
+            Objects.requireNonNull(element, "Element cannot be null");
+        }
+        for (int i = 0; i < elements.length; i++) {
+            set(index + i, (T) elements[i]);
+        }
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию {@code filter}. Порядок оставшихся элементов сохраняется.
+     * <p>
+     * Реализация по умолчанию отбирает оставшиеся элементы в копии {@link #toArray()} за один проход,
+     * записывает их через {@link #set(int, Object)} начиная с первого удалённого и отрезает хвост
+     * {@link #removeRange(int, int)}; если условие выбрасывает исключение, список не изменяется.
+     * {@link collections.CustomArrayList} уплотняет внутренний массив на месте,
+     * {@link collections.CustomLinkedList} отцепляет узлы за один проход.
+     * </p>
+     *
+     * @param filter условие удаления элемента
+     * @return true, если хотя бы один элемент был удалён
+     * @throws NullPointerException если {@code filter} равен {@code null}
+     */
+    default boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter , "filter cannot be null");
+
+        T[] elements = toArray();
+        int kept = 0;
+        int firstRemoved = -1;
+        for (int i = 0; i < elements.length; i++) {
+            if (!filter.test(elements[i])) {
+                elements[kept++] = elements[i];
+            }
+            else if (firstRemoved < 0) {
+                firstRemoved = i;
+            }
+        }
+        if (firstRemoved < 0) {
+            return false;
+        }
+        for (int i = firstRemoved; i < kept; i++) {
+            set(i, elements[i]);
+        }
+        removeRange(kept, elements.length);
+        return true;
+    }
+
+    /**
+     * Удаляет все элементы, которые содержатся в списке {@code list}.
+     * <p>
+     * Элементы аргумента копируются один раз: до 16 элементов ищутся линейным поиском,
+     * для больших списков - в {@link HashSet}, поэтому удаление выполняется за O(n + m), а не O(n·m).
+     * Удаление выполняется через {@link #removeIf(Predicate)}.
+     * </p>
+     *
+     * @param list удаляемые элементы
+     * @return true, если список изменился
+     * @throws NullPointerException если {@code list} равен {@code null}
+     */
+    default boolean removeAll(CustomList<?> list) {
+        return removeIf(membership(list));
+    }
+
+    /**
+     * Оставляет только элементы, которые содержатся в списке {@code list}.
+     * Поиск элементов выполняется так же, как в {@link #removeAll(CustomList)}.
+     *
+     * @param list сохраняемые элементы
+     * @return true, если список изменился
+     * @throws NullPointerException если {@code list} равен {@code null}
+     */
+    default boolean retainAll(CustomList<?> list) {
+        return removeIf(membership(list).negate());
+    }
+
+    /**
+     * Возвращает проверку вхождения в снимок элементов {@code list}: линейный поиск для небольших списков,
+     * {@link HashSet} для больших. Снимок не зависит от изменений {@code list}, в том числе когда это тот же список.
+     */
+    private static Predicate<Object> membership(CustomList<?> list) {
+        Objects.requireNonNull(list , "list cannot be null");
+
+        final int hashLookupThreshold = 16;
+        Object[] elements = list.toArray();
+        if (elements.length <= hashLookupThreshold) {
+            return element -> {
+                for (Object candidate : elements) {
+                    if (candidate.equals(element)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+        Set<Object> lookup = new HashSet<>(Arrays.asList(elements));
+        return lookup::contains;
+    }
+
+    /**
+     * Возвращает представление диапазона {@code [fromIndex, toIndex)} списка без копирования элементов.
+     * <p>
+     * Изменения через представление отражаются в списке, размер представления обновляется.
+     * Структурное изменение списка в обход представления делает представление недействительным:
+     * следующее обращение к нему выбрасывает {@link java.util.ConcurrentModificationException}.
+     * Реализация по умолчанию обращается к элементам через методы списка и обнаруживает только изменение размера;
+     * {@link collections.CustomArrayList} передаёт сортировкам часть внутреннего массива,
+     * {@link collections.CustomLinkedList} обходит диапазон курсором по узлам, начиная с узла {@code fromIndex}.
+     * </p>
+     *
+     * @param fromIndex позиция начала диапазона (включительно)
+     * @param toIndex позиция конца диапазона (исключительно)
+     * @return представление диапазона списка
+     * @throws IndexOutOfBoundsException если {@code fromIndex < 0}, {@code toIndex > size}
+     * или {@code fromIndex > toIndex}
+     * @see collections.CustomSubList
+     */
+    default CustomList<T> subList(int fromIndex, int toIndex) {
+
+        return new collections.CustomSubList<>(this, fromIndex, toIndex);
+    }
+
+    /**
+     * Контракт массового доступа: передаёт операции все элементы коллекции в виде массива
+     * и сохраняет в коллекции результат (перестановки и замены элементов).
+     * <p>
+     * Реализация по умолчанию копирует элементы через {@link #toArray()} и записывает их обратно
+     * через {@link #set(int, Object)}. {@link collections.CustomArrayList} передаёт операции свой внутренний массив,
+     * {@link collections.CustomLinkedList} копирует значения в массив и обратно за один проход по узлам.
+     * На этом методе построены сортировки и выбор элементов из пакета {@link collections.sorts}.
+     * </p>
+     *
+     * @param operation операция над диапазоном массива
+     * @throws NullPointerException если {@code operation} равна {@code null}
+     * @see ArrayOperation
+     */
+    default void applyToArray(ArrayOperation operation) {
+        Objects.requireNonNull(operation , "operation cannot be null");
+
+        Object[] array = toArray();
+        operation.apply(array, 0, array.length);
+        for (int i = 0; i < array.length; i++) {
+            set(i, (T) array[i]);
+        }
+    }
+
     default CustomList<T> sort() {
 
-        return collections.sorts.QuickSort.sort(this, (Comparator<? super T>) Comparator.naturalOrder());
+        return collections.sorts.IntroSort.sort(this, (Comparator<? super T>) Comparator.naturalOrder());
     }
 
     default CustomList<T> sort(Comparator<? super T> comparator) {
 
-        return collections.sorts.QuickSort.sort(this, comparator);
+        return collections.sorts.IntroSort.sort(this, comparator);
     }
 
+    /**
+     * Устойчиво сортирует коллекцию в естественном порядке элементов.
+     *
+     * @return отсортированная коллекция
+     * @see #mergeSort(Comparator)
+     */
     default CustomList<T> mergeSort() {
-        return collections.sorts.MergeSort.sort(this, (Comparator<? super T>) Comparator.naturalOrder());
+        return mergeSort((Comparator<? super T>) Comparator.naturalOrder());
     }
 
+    /**
+     * Устойчиво сортирует коллекцию (равные элементы сохраняют взаимный порядок).
+     * <p>
+     * По умолчанию используется адаптивная сортировка {@link collections.sorts.TimSort}:
+     * уже упорядоченная коллекция сортируется за O(n).
+     * </p>
+     *
+     * @param comparator компаратор для сравнения элементов
+     * @return отсортированная коллекция
+     * @throws NullPointerException если {@code comparator} равен {@code null}
+     * @see collections.sorts.TimSort
+     */
     default CustomList<T> mergeSort(Comparator<? super T> comparator) {
-        return collections.sorts.MergeSort.sort(this, comparator);
+        return collections.sorts.TimSort.sort(this, comparator);
+    }
+
+    /**
+     * Сортирует коллекцию параллельной сортировкой слиянием в естественном порядке элементов.
+     *
+     * @return отсортированная коллекция
+     * @see collections.sorts.ParallelMergeSort
+     */
+    default CustomList<T> parallelMergeSort() {
+        return parallelMergeSort((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Сортирует коллекцию параллельной сортировкой слиянием в общем пуле {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param comparator компаратор для сравнения элементов
+     * @return отсортированная коллекция
+     * @throws NullPointerException если {@code comparator} равен {@code null}
+     * @see collections.sorts.ParallelMergeSort
+     */
+    default CustomList<T> parallelMergeSort(Comparator<? super T> comparator) {
+        return collections.sorts.ParallelMergeSort.sort(this, comparator);
+    }
+
+    /**
+     * Сортирует коллекцию параллельной быстрой сортировкой в естественном порядке элементов.
+     *
+     * @return отсортированная коллекция
+     * @see collections.sorts.ParallelQuickSort
+     */
+    default CustomList<T> parallelSort() {
+        return parallelSort((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Сортирует коллекцию параллельной быстрой сортировкой в общем пуле {@link java.util.concurrent.ForkJoinPool}.
+     * Сортировка неустойчивая; пул и отмена настраиваются через {@link collections.sorts.ParallelQuickSort}.
+     *
+     * @param comparator компаратор для сравнения элементов
+     * @return отсортированная коллекция
+     * @throws NullPointerException если {@code comparator} равен {@code null}
+     * @see collections.sorts.ParallelQuickSort
+     */
+    default CustomList<T> parallelSort(Comparator<? super T> comparator) {
+        return collections.sorts.ParallelQuickSort.sort(this, comparator);
+    }
+
+    /**
+     * Устойчиво сортирует коллекцию по ключу в естественном порядке ключей.
+     * <p>
+     * Ключ каждого элемента вычисляется один раз, поэтому метод выгоднее
+     * {@code mergeSort(Comparator.comparing(keyExtractor))}, когда получение ключа дорогое
+     * (разбор строки, вычисление хеша).
+     * </p>
+     *
+     * @param <K> тип ключа
+     * @param keyExtractor функция, извлекающая ключ сортировки
+     * @return отсортированная коллекция
+     * @throws NullPointerException если {@code keyExtractor} равна {@code null}
+     * @see collections.sorts.KeySort
+     */
+    default <K extends Comparable<? super K>> CustomList<T> sortBy(Function<? super T, ? extends K> keyExtractor) {
+        return sortBy(keyExtractor, Comparator.naturalOrder());
+    }
+
+    /**
+     * Устойчиво сортирует коллекцию по ключу, вычисляя ключ каждого элемента один раз.
+     *
+     * @param <K> тип ключа
+     * @param keyExtractor функция, извлекающая ключ сортировки
+     * @param keyComparator компаратор для сравнения ключей
+     * @return отсортированная коллекция
+     * @throws NullPointerException если {@code keyExtractor} или {@code keyComparator} равны {@code null}
+     * @see collections.sorts.KeySort
+     */
+    default <K> CustomList<T> sortBy(Function<? super T, ? extends K> keyExtractor, Comparator<? super K> keyComparator) {
+        return collections.sorts.KeySort.sort(this, keyExtractor, keyComparator);
+    }
+
+    /**
+     * Устойчиво сортирует коллекцию по ключу {@code int}, вычисляя ключ каждого элемента один раз.
+     *
+     * @param keyExtractor функция, извлекающая ключ сортировки
+     * @return отсортированная коллекция
+     * @throws NullPointerException если {@code keyExtractor} равна {@code null}
+     * @see collections.sorts.RadixSort
+     */
+    default CustomList<T> sortByInt(ToIntFunction<? super T> keyExtractor) {
+        return collections.sorts.RadixSort.sortByIntKey(this, keyExtractor);
+    }
+
+    /**
+     * Устойчиво сортирует коллекцию по ключу {@code long}, вычисляя ключ каждого элемента один раз.
+     *
+     * @param keyExtractor функция, извлекающая ключ сортировки
+     * @return отсортированная коллекция
+     * @throws NullPointerException если {@code keyExtractor} равна {@code null}
+     * @see collections.sorts.RadixSort
+     */
+    default CustomList<T> sortByLong(ToLongFunction<? super T> keyExtractor) {
+        return collections.sorts.RadixSort.sortByLongKey(this, keyExtractor);
+    }
+
+    /**
+     * Устойчиво сортирует коллекцию по ключу {@code double} в порядке {@link Double#compare(double, double)},
+     * вычисляя ключ каждого элемента один раз.
+     *
+     * @param keyExtractor функция, извлекающая ключ сортировки
+     * @return отсортированная коллекция
+     * @throws NullPointerException если {@code keyExtractor} равна {@code null}
+     * @see collections.sorts.RadixSort
+     */
+    default CustomList<T> sortByDouble(ToDoubleFunction<? super T> keyExtractor) {
+        return collections.sorts.RadixSort.sortByDoubleKey(this, keyExtractor);
+    }
+
+    /**
+     * Переставляет элементы коллекции так, что на позиции {@code k} оказывается элемент,
+     * который стоял бы там после полной сортировки; элементы левее не больше его, правее - не меньше.
+     * <p>
+     * В среднем выполняется за O(n): упорядочивается только та часть, в которую попадает позиция {@code k}.
+     * Например, {@code select(size() / 2, comparator)} возвращает медиану.
+     * </p>
+     *
+     * @param k позиция выбираемого элемента (нумерация с нуля)
+     * @param comparator компаратор для сравнения элементов
+     * @return элемент, оказавшийся на позиции {@code k}
+     * @throws NullPointerException если {@code comparator} равен {@code null}
+     * @throws IndexOutOfBoundsException если {@code k} выходит за границы коллекции
+     * @see collections.sorts.IntroSelect
+     */
+    default T select(int k, Comparator<? super T> comparator) {
+        return collections.sorts.IntroSelect.select(this, k, comparator);
+    }
+
+    /**
+     * Переставляет элементы коллекции так, что первые {@code k} позиций занимают
+     * {@code k} наименьших элементов в отсортированном порядке. Порядок остальных элементов не определён.
+     *
+     * @param k количество упорядочиваемых наименьших элементов
+     * @param comparator компаратор для сравнения элементов
+     * @return эта коллекция
+     * @throws NullPointerException если {@code comparator} равен {@code null}
+     * @throws IndexOutOfBoundsException если {@code k} меньше нуля или больше размера коллекции
+     * @see collections.sorts.IntroSelect
+     */
+    default CustomList<T> partialSort(int k, Comparator<? super T> comparator) {
+        return collections.sorts.IntroSelect.partialSort(this, k, comparator);
+    }
+
+    /**
+     * Возвращает новый список из {@code k} наименьших элементов коллекции в отсортированном порядке,
+     * не изменяя саму коллекцию. Для отбора наибольших элементов передайте обратный компаратор.
+     * <p>
+     * Выполняется за O(n log k) одним проходом итератора с ограниченной кучей размера {@code k}.
+     * </p>
+     *
+     * @param k максимальное количество отбираемых элементов
+     * @param comparator компаратор для сравнения элементов
+     * @return новый список из не более чем {@code k} элементов
+     * @throws NullPointerException если {@code comparator} равен {@code null}
+     * @throws IllegalArgumentException если {@code k} меньше нуля
+     * @see collections.sorts.IntroSelect
+     */
+    default CustomList<T> topK(int k, Comparator<? super T> comparator) {
+        return collections.sorts.IntroSelect.topK(this, k, comparator);
     }
 
     //------------------------------------------------------------------------
@@ -0,0 +1,116 @@
+package collections.interfaces;
+
+import java.util.Objects;
+
+/**
+ * Политика роста внутреннего массива коллекции.
+ * <p>
+ * Коллекция вызывает {@link #newCapacity(int, int)}, когда элементы не помещаются в текущий массив,
+ * и копирует элементы в массив новой длины. Политика определяет компромисс между памятью и количеством копирований:
+ * геометрический рост даёт амортизированное O(1) на добавление, рост на фиксированную величину экономит память,
+ * но при n добавлениях копирует O(n²) элементов.
+ * </p>
+ * <p>
+ * Все готовые политики ограничивают результат значением {@link #MAX_CAPACITY}; длина, которая не помещается
+ * в это значение, приводит к {@link OutOfMemoryError}.
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see collections.CustomArrayList#setGrowthPolicy(GrowthPolicy)
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Максимальная длина массива: часть виртуальных машин резервирует несколько слов под заголовок массива
+     */
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Политика по умолчанию: рост в 1,5 раза плюс один элемент, как в {@link collections.CustomArrayList}
+     */
+    GrowthPolicy DEFAULT = geometric(1.5);
+
+    /**
+     * Возвращает новую длину массива.
+     *
+     * @param currentCapacity текущая длина массива
+     * @param minCapacity минимальная требуемая длина; больше {@code currentCapacity}
+     * @return новая длина массива, не меньше {@code minCapacity}
+     */
+    int newCapacity(int currentCapacity, int minCapacity);
+
+    /**
+     * Рост в {@code factor} раз плюс один элемент (чтобы массив нулевой и единичной длины тоже рос).
+     *
+     * @param factor множитель роста
+     * @return политика геометрического роста
+     * @throws IllegalArgumentException если {@code factor} не больше 1
+     */
+    static GrowthPolicy geometric(double factor) {
+        if (!(factor > 1)) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1: " + factor);
+        }
+        return (currentCapacity, minCapacity) -> clamp((long) (currentCapacity * factor) + 1, minCapacity);
+    }
+
+    /**
+     * Рост на фиксированное количество элементов.
+     *
+     * @param increment количество добавляемых элементов
+     * @return политика роста на фиксированную величину
+     * @throws IllegalArgumentException если {@code increment} меньше или равен нулю
+     */
+    static GrowthPolicy fixedIncrement(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Increment must be positive: " + increment);
+        }
+        return (currentCapacity, minCapacity) -> clamp((long) currentCapacity + increment, minCapacity);
+    }
+
+    /**
+     * Рост по политике {@code policy}, но не более чем на {@code maxIncrement} элементов за раз.
+     * Подходит для больших массивов, у которых геометрический рост резервирует слишком много памяти.
+     *
+     * @param policy основная политика роста
+     * @param maxIncrement максимальное количество добавляемых за раз элементов
+     * @return ограниченная политика роста
+     * @throws NullPointerException если {@code policy} равна {@code null}
+     * @throws IllegalArgumentException если {@code maxIncrement} меньше или равен нулю
+     */
+    static GrowthPolicy capped(GrowthPolicy policy, int maxIncrement) {
+        Objects.requireNonNull(policy , "policy cannot be null");
+        if (maxIncrement <= 0) {
+            throw new IllegalArgumentException("Max increment must be positive: " + maxIncrement);
+        }
+        return (currentCapacity, minCapacity) -> clamp(
+                Math.min(policy.newCapacity(currentCapacity, minCapacity), (long) currentCapacity + maxIncrement),
+                minCapacity);
+    }
+
+    /**
+     * Рост до ближайшей степени двойки, не меньшей требуемой длины.
+     *
+     * @return политика роста до степени двойки
+     */
+    static GrowthPolicy powerOfTwo() {
+        return (currentCapacity, minCapacity) -> {
+            long target = Math.max((long) currentCapacity + 1, minCapacity);
+            return clamp(target <= 1 ? 1 : Long.highestOneBit(target - 1) << 1, minCapacity);
+        };
+    }
+
+    /**
+     * Ограничивает длину значением {@link #MAX_CAPACITY} и поднимает её до {@code minCapacity}.
+     *
+     * @throws OutOfMemoryError если {@code minCapacity} отрицательна (переполнение) или больше {@link #MAX_CAPACITY}
+     */
+    private static int clamp(long capacity, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length too large");
+        }
+        return (int) Math.max(minCapacity, Math.min(capacity, MAX_CAPACITY));
+    }
+}
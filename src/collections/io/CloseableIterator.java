@@ -0,0 +1,28 @@
+package collections.io;
+
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+
+/**
+ * Итератор, удерживающий внешние ресурсы (открытые файлы, временные файлы на диске).
+ * <p>
+ * Ресурсы освобождаются методом {@link #close()}, поэтому итератор следует использовать
+ * в блоке try-with-resources. Ошибки ввода-вывода при переборе и закрытии
+ * передаются как {@link UncheckedIOException}, так как {@link Iterator#next()} не может бросать проверяемые исключения.
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип элементов
+ */
+public interface CloseableIterator<T> extends Iterator<T>, AutoCloseable {
+
+    /**
+     * Освобождает ресурсы итератора. Повторный вызов ничего не делает.
+     *
+     * @throws UncheckedIOException при ошибке освобождения ресурсов
+     */
+    @Override
+    void close();
+}
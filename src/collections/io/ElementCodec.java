@@ -0,0 +1,253 @@
+package collections.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Преобразование элементов в байты {@link ByteBuffer} и обратно для хранения вне кучи.
+ * <p>
+ * В отличие от {@link ElementSerializer}, который пишет элементы подряд в поток, кодек пишет элемент
+ * в заранее выделенное место буфера, поэтому список должен знать размер элемента до записи:
+ * <ul>
+ *   <li>кодек фиксированной ширины ({@link #fixedSize()} {@code >= 0}) всегда пишет одинаковое число байт,
+ *       и позиция элемента вычисляется как {@code index * fixedSize()}</li>
+ *   <li>кодек переменной ширины ({@link #fixedSize()} равен {@link #VARIABLE_SIZE}) сообщает размер
+ *       каждого элемента через {@link #size(Object)}</li>
+ * </ul>
+ * Готовые кодеки: примитивные типы ({@link #ofInteger()}, {@link #ofLong()}, {@link #ofDouble()} и др.),
+ * строки ({@link #ofString()}) и записи ({@link #ofRecord(Class)}).
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип кодируемых элементов
+ * @see collections.OffHeapCustomList
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Значение {@link #fixedSize()} для кодеков переменной ширины
+     */
+    int VARIABLE_SIZE = -1;
+
+    /**
+     * Возвращает размер любого элемента в байтах или {@link #VARIABLE_SIZE}, если размер зависит от элемента.
+     *
+     * @return размер элемента в байтах или {@link #VARIABLE_SIZE}
+     */
+    int fixedSize();
+
+    /**
+     * Возвращает количество байт, которое {@link #encode(Object, ByteBuffer)} запишет для элемента.
+     *
+     * @param element элемент
+     * @return размер закодированного элемента в байтах
+     */
+    default int size(T element) {
+        return fixedSize();
+    }
+
+    /**
+     * Записывает элемент с текущей позиции буфера, сдвигая позицию на {@link #size(Object)} байт.
+     *
+     * @param element записываемый элемент
+     * @param target буфер для записи
+     */
+    void encode(T element, ByteBuffer target);
+
+    /**
+     * Читает элемент, занимающий байты буфера от текущей позиции до предела ({@link ByteBuffer#remaining()}).
+     *
+     * @param source буфер с закодированным элементом
+     * @return прочитанный элемент
+     */
+    T decode(ByteBuffer source);
+
+    /**
+     * Создаёт кодек фиксированной ширины из функций записи и чтения.
+     *
+     * @param <T> тип элементов
+     * @param size размер элемента в байтах
+     * @param encoder запись элемента в буфер
+     * @param decoder чтение элемента из буфера
+     * @return кодек фиксированной ширины
+     * @throws IllegalArgumentException если {@code size} отрицательный
+     * @throws NullPointerException если {@code encoder} или {@code decoder} равны {@code null}
+     */
+    static <T> ElementCodec<T> fixed(int size, BiConsumer<? super T, ByteBuffer> encoder, Function<ByteBuffer, ? extends T> decoder) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative: " + size);
+        }
+        Objects.requireNonNull(encoder , "encoder cannot be null");
+        Objects.requireNonNull(decoder , "decoder cannot be null");
+
+        return new ElementCodec<>() {
+            @Override
+            public int fixedSize() {
+                return size;
+            }
+
+            @Override
+            public void encode(T element, ByteBuffer target) {
+                encoder.accept(element, target);
+            }
+
+            @Override
+            public T decode(ByteBuffer source) {
+                return decoder.apply(source);
+            }
+        };
+    }
+
+    /**
+     * Кодек {@link Byte}: 1 байт на элемент.
+     *
+     * @return кодек байтов
+     */
+    static ElementCodec<Byte> ofByte() {
+        return fixed(Byte.BYTES, (element, target) -> target.put(element), ByteBuffer::get);
+    }
+
+    /**
+     * Кодек {@link Short}: 2 байта на элемент.
+     *
+     * @return кодек коротких целых чисел
+     */
+    static ElementCodec<Short> ofShort() {
+        return fixed(Short.BYTES, (element, target) -> target.putShort(element), ByteBuffer::getShort);
+    }
+
+    /**
+     * Кодек {@link Character}: 2 байта на элемент.
+     *
+     * @return кодек символов
+     */
+    static ElementCodec<Character> ofCharacter() {
+        return fixed(Character.BYTES, (element, target) -> target.putChar(element), ByteBuffer::getChar);
+    }
+
+    /**
+     * Кодек {@link Integer}: 4 байта на элемент.
+     *
+     * @return кодек целых чисел
+     */
+    static ElementCodec<Integer> ofInteger() {
+        return fixed(Integer.BYTES, (element, target) -> target.putInt(element), ByteBuffer::getInt);
+    }
+
+    /**
+     * Кодек {@link Long}: 8 байт на элемент.
+     *
+     * @return кодек длинных целых чисел
+     */
+    static ElementCodec<Long> ofLong() {
+        return fixed(Long.BYTES, (element, target) -> target.putLong(element), ByteBuffer::getLong);
+    }
+
+    /**
+     * Кодек {@link Float}: 4 байта на элемент.
+     *
+     * @return кодек чисел с плавающей точкой одинарной точности
+     */
+    static ElementCodec<Float> ofFloat() {
+        return fixed(Float.BYTES, (element, target) -> target.putFloat(element), ByteBuffer::getFloat);
+    }
+
+    /**
+     * Кодек {@link Double}: 8 байт на элемент.
+     *
+     * @return кодек чисел с плавающей точкой
+     */
+    static ElementCodec<Double> ofDouble() {
+        return fixed(Double.BYTES, (element, target) -> target.putDouble(element), ByteBuffer::getDouble);
+    }
+
+    /**
+     * Кодек {@link Boolean}: 1 байт на элемент.
+     *
+     * @return кодек логических значений
+     */
+    static ElementCodec<Boolean> ofBoolean() {
+        return fixed(1, (element, target) -> target.put(element ? (byte) 1 : (byte) 0), source -> source.get() != 0);
+    }
+
+    /**
+     * Кодек {@link String} переменной ширины: байты строки в кодировке UTF-8 без длины
+     * (длину хранит список). Размер строки в байтах считается без кодирования.
+     *
+     * @return кодек строк
+     */
+    static ElementCodec<String> ofString() {
+        return new ElementCodec<>() {
+            @Override
+            public int fixedSize() {
+                return VARIABLE_SIZE;
+            }
+
+            @Override
+            public int size(String element) {
+                int bytes = 0;
+                int length = element.length();
+                for (int i = 0; i < length; i++) {
+                    char c = element.charAt(i);
+                    if (c < 0x80) {
+                        bytes += 1;
+                    }
+                    else if (c < 0x800) {
+                        bytes += 2;
+                    }
+                    else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(element.charAt(i + 1))) {
+                        bytes += 4;
+                        i++;
+                    }
+                    else if (Character.isSurrogate(c)) {
+                        bytes += 1; // Одиночный суррогат кодируется как '?'
+                    }
+                    else {
+                        bytes += 3;
+                    }
+                }
+                return bytes;
+            }
+
+            @Override
+            public void encode(String element, ByteBuffer target) {
+                target.put(element.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public String decode(ByteBuffer source) {
+                byte[] bytes = new byte[source.remaining()];
+                source.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * Кодек записи (record), компоненты которой кодируются по порядку объявления.
+     * <p>
+     * Поддерживаются компоненты примитивных типов и их обёрток, {@link String} и вложенные записи.
+     * Если все компоненты фиксированной ширины, кодек тоже фиксированной ширины;
+     * иначе перед каждым компонентом переменной ширины записывается его длина (4 байта).
+     * Компоненты не могут быть {@code null}.
+     * </p>
+     *
+     * @param <R> тип записи
+     * @param type класс записи
+     * @return кодек записи
+     * @throws IllegalArgumentException если {@code type} не запись или тип компонента не поддерживается
+     * @throws NullPointerException если {@code type} равен {@code null}
+     */
+    static <R extends Record> ElementCodec<R> ofRecord(Class<R> type) {
+        Objects.requireNonNull(type , "type cannot be null");
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException(type.getName() + " is not a record");
+        }
+        return new RecordCodec<>(type);
+    }
+}
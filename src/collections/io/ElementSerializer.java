@@ -0,0 +1,190 @@
+package collections.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Преобразование элементов в двоичный вид и обратно через {@link DataOutput}/{@link DataInput}.
+ * <p>
+ * Используется везде, где элементы коллекций записываются во внешнюю память,
+ * например при сбросе отсортированных участков на диск во {@link collections.sorts.ExternalSort}.
+ * Для распространённых типов есть готовые реализации: {@link #ofInteger()}, {@link #ofLong()},
+ * {@link #ofDouble()} и {@link #ofString()}.
+ * </p>
+ * <p>
+ * Метод {@link #read(DataInput)} должен прочитать ровно столько байт, сколько записал {@link #write(Object, DataOutput)}:
+ * элементы записываются подряд, без разделителей.
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип сериализуемых элементов
+ */
+public interface ElementSerializer<T> {
+
+    /**
+     * Записывает элемент в поток.
+     *
+     * @param element записываемый элемент
+     * @param out поток для записи
+     * @throws IOException при ошибке записи
+     */
+    void write(T element, DataOutput out) throws IOException;
+
+    /**
+     * Читает из потока элемент, записанный методом {@link #write(Object, DataOutput)}.
+     *
+     * @param in поток для чтения
+     * @return прочитанный элемент
+     * @throws IOException при ошибке чтения или неожиданном конце потока
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Записывает элементы {@code elements[from..to)} подряд.
+     * Результат совпадает с последовательными вызовами {@link #write(Object, DataOutput)};
+     * сериализаторы чисел ({@link #ofInteger()}, {@link #ofLong()}, {@link #ofDouble()})
+     * переопределяют метод и пишут элементы блоками.
+     *
+     * @param elements массив элементов типа {@code T}
+     * @param from индекс первого записываемого элемента (включительно)
+     * @param to индекс последнего записываемого элемента (исключительно)
+     * @param out поток для записи
+     * @throws IOException при ошибке записи
+     */
+    default void writeAll(Object[] elements, int from, int to, DataOutput out) throws IOException {
+        for (int i = from; i < to; i++) {
+            write((T) elements[i], out);
+        }
+    }
+
+    /**
+     * Читает элементы, записанные {@link #writeAll(Object[], int, int, DataOutput)}, в {@code target[from..to)}.
+     *
+     * @param target массив для прочитанных элементов
+     * @param from индекс первого читаемого элемента (включительно)
+     * @param to индекс последнего читаемого элемента (исключительно)
+     * @param in поток для чтения
+     * @throws IOException при ошибке чтения или неожиданном конце потока
+     */
+    default void readAll(Object[] target, int from, int to, DataInput in) throws IOException {
+        for (int i = from; i < to; i++) {
+            target[i] = read(in);
+        }
+    }
+
+    /**
+     * Сериализатор {@link Integer}: 4 байта на элемент.
+     *
+     * @return сериализатор целых чисел
+     */
+    static ElementSerializer<Integer> ofInteger() {
+        return new FixedWidthSerializer<>(Integer.BYTES) {
+            @Override
+            public void write(Integer element, DataOutput out) throws IOException {
+                out.writeInt(element);
+            }
+
+            @Override
+            public Integer read(DataInput in) throws IOException {
+                return in.readInt();
+            }
+
+            @Override
+            void put(Integer element, ByteBuffer block) {
+                block.putInt(element);
+            }
+
+            @Override
+            Integer get(ByteBuffer block) {
+                return block.getInt();
+            }
+        };
+    }
+
+    /**
+     * Сериализатор {@link Long}: 8 байт на элемент.
+     *
+     * @return сериализатор длинных целых чисел
+     */
+    static ElementSerializer<Long> ofLong() {
+        return new FixedWidthSerializer<>(Long.BYTES) {
+            @Override
+            public void write(Long element, DataOutput out) throws IOException {
+                out.writeLong(element);
+            }
+
+            @Override
+            public Long read(DataInput in) throws IOException {
+                return in.readLong();
+            }
+
+            @Override
+            void put(Long element, ByteBuffer block) {
+                block.putLong(element);
+            }
+
+            @Override
+            Long get(ByteBuffer block) {
+                return block.getLong();
+            }
+        };
+    }
+
+    /**
+     * Сериализатор {@link Double}: 8 байт на элемент.
+     *
+     * @return сериализатор чисел с плавающей точкой
+     */
+    static ElementSerializer<Double> ofDouble() {
+        return new FixedWidthSerializer<>(Double.BYTES) {
+            @Override
+            public void write(Double element, DataOutput out) throws IOException {
+                out.writeDouble(element);
+            }
+
+            @Override
+            public Double read(DataInput in) throws IOException {
+                return in.readDouble();
+            }
+
+            @Override
+            void put(Double element, ByteBuffer block) {
+                block.putDouble(element);
+            }
+
+            @Override
+            Double get(ByteBuffer block) {
+                return block.getDouble();
+            }
+        };
+    }
+
+    /**
+     * Сериализатор {@link String}: длина в байтах и байты строки в кодировке UTF-8.
+     * В отличие от {@link DataOutput#writeUTF(String)} не ограничивает длину строки 65535 байтами.
+     *
+     * @return сериализатор строк
+     */
+    static ElementSerializer<String> ofString() {
+        return new ElementSerializer<>() {
+            @Override
+            public void write(String element, DataOutput out) throws IOException {
+                byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            @Override
+            public String read(DataInput in) throws IOException {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package collections.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Сериализатор элементов фиксированной ширины, который при записи и чтении нескольких элементов
+ * кодирует их в блок байтов и передаёт его в поток одним вызовом.
+ * <p>
+ * {@link DataOutput#writeInt(int)} и аналогичные методы потоков обращаются к нижележащему потоку
+ * отдельно за каждый байт, поэтому поэлементная запись больших списков упирается в вызовы, а не в объём данных.
+ * Блок кодируется в порядке байт {@link DataOutput} (big-endian), поэтому формат совпадает с поэлементной записью.
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип сериализуемых элементов
+ */
+abstract class FixedWidthSerializer<T> implements ElementSerializer<T> {
+
+    private static final int BLOCK_BYTES = 1 << 13;
+
+    private final int width;
+
+    FixedWidthSerializer(int width) {
+        this.width = width;
+    }
+
+    /**
+     * Кодирует элемент в блок с текущей позиции.
+     */
+    abstract void put(T element, ByteBuffer block);
+
+    /**
+     * Декодирует элемент из блока с текущей позиции.
+     */
+    abstract T get(ByteBuffer block);
+
+    @Override
+    public void writeAll(Object[] elements, int from, int to, DataOutput out) throws IOException {
+        if (from >= to) {
+            return;
+        }
+        ByteBuffer block = newBlock(to - from);
+        int perBlock = block.capacity() / width;
+        for (int i = from; i < to; ) {
+            block.clear();
+            for (int end = Math.min(to, i + perBlock); i < end; i++) {
+                put((T) elements[i], block);
+            }
+            out.write(block.array(), 0, block.position());
+        }
+    }
+
+    @Override
+    public void readAll(Object[] target, int from, int to, DataInput in) throws IOException {
+        if (from >= to) {
+            return;
+        }
+        ByteBuffer block = newBlock(to - from);
+        int perBlock = block.capacity() / width;
+        for (int i = from; i < to; ) {
+            int count = Math.min(to - i, perBlock);
+            in.readFully(block.array(), 0, count * width);
+            block.clear();
+            for (int end = i + count; i < end; i++) {
+                target[i] = get(block);
+            }
+        }
+    }
+
+    private ByteBuffer newBlock(int count) {
+        return ByteBuffer.allocate((int) Math.min(BLOCK_BYTES, (long) count * width));
+    }
+}
@@ -0,0 +1,172 @@
+package collections.io;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Кодек записи, построенный по её компонентам через рефлексию.
+ * Создаётся через {@link ElementCodec#ofRecord(Class)}.
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <R> тип записи
+ */
+final class RecordCodec<R extends Record> implements ElementCodec<R> {
+
+    private final Method[] accessors;
+    private final ElementCodec<Object>[] codecs;
+    private final Constructor<R> constructor;
+    private final int fixedSize;
+
+    RecordCodec(Class<R> type) {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] types = new Class<?>[components.length];
+        this.accessors = new Method[components.length];
+        // Массив параметризованного типа создать нельзя; в него записываются только кодеки из asObjectCodec
+        @SuppressWarnings("unchecked")
+        ElementCodec<Object>[] codecs = (ElementCodec<Object>[]) new ElementCodec<?>[components.length];
+        this.codecs = codecs;
+
+        int size = 0;
+        for (int i = 0; i < components.length; i++) {
+            types[i] = components[i].getType();
+            accessors[i] = components[i].getAccessor();
+            accessors[i].setAccessible(true);
+            codecs[i] = asObjectCodec(forType(types[i]));
+            int componentSize = codecs[i].fixedSize();
+            size = size == VARIABLE_SIZE || componentSize == VARIABLE_SIZE ? VARIABLE_SIZE : size + componentSize;
+        }
+        this.fixedSize = size;
+
+        try {
+            this.constructor = type.getDeclaredConstructor(types);
+            this.constructor.setAccessible(true);
+        }
+        catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Record has no canonical constructor: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Возвращает готовый кодек для типа компонента записи.
+     */
+    private static ElementCodec<?> forType(Class<?> type) {
+        if (type == int.class || type == Integer.class) {
+            return ElementCodec.ofInteger();
+        }
+        if (type == long.class || type == Long.class) {
+            return ElementCodec.ofLong();
+        }
+        if (type == double.class || type == Double.class) {
+            return ElementCodec.ofDouble();
+        }
+        if (type == float.class || type == Float.class) {
+            return ElementCodec.ofFloat();
+        }
+        if (type == short.class || type == Short.class) {
+            return ElementCodec.ofShort();
+        }
+        if (type == byte.class || type == Byte.class) {
+            return ElementCodec.ofByte();
+        }
+        if (type == char.class || type == Character.class) {
+            return ElementCodec.ofCharacter();
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return ElementCodec.ofBoolean();
+        }
+        if (type == String.class) {
+            return ElementCodec.ofString();
+        }
+        if (type.isRecord()) {
+            return new RecordCodec<>(type.asSubclass(Record.class));
+        }
+        throw new IllegalArgumentException("Unsupported record component type: " + type.getName());
+    }
+
+    /**
+     * Кодек компонента получает только значения, прочитанные аксессором того же компонента,
+     * и отдаёт их каноническому конструктору, поэтому его тип значения можно ослабить до {@code Object}.
+     */
+    @SuppressWarnings("unchecked")
+    private static ElementCodec<Object> asObjectCodec(ElementCodec<?> codec) {
+        return (ElementCodec<Object>) codec;
+    }
+
+    @Override
+    public int fixedSize() {
+        return fixedSize;
+    }
+
+    @Override
+    public int size(R element) {
+        if (fixedSize != VARIABLE_SIZE) {
+            return fixedSize;
+        }
+        int size = 0;
+        for (int i = 0; i < codecs.length; i++) {
+            if (codecs[i].fixedSize() == VARIABLE_SIZE) {
+                size += Integer.BYTES + codecs[i].size(component(element, i));
+            }
+            else {
+                size += codecs[i].fixedSize();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Записывает компоненты по порядку; перед компонентом переменной ширины - его длину.
+     * Компоненты читаются до начала записи, чтобы {@code null} не оставил запись недописанной.
+     */
+    @Override
+    public void encode(R element, ByteBuffer target) {
+        Object[] values = new Object[codecs.length];
+        for (int i = 0; i < codecs.length; i++) {
+            values[i] = component(element, i);
+        }
+        for (int i = 0; i < codecs.length; i++) {
+            if (codecs[i].fixedSize() == VARIABLE_SIZE) {
+                target.putInt(codecs[i].size(values[i]));
+            }
+            codecs[i].encode(values[i], target);
+        }
+    }
+
+    /**
+     * Читает компоненты, ограничивая буфер границами каждого компонента, и вызывает канонический конструктор.
+     */
+    @Override
+    public R decode(ByteBuffer source) {
+        Object[] values = new Object[codecs.length];
+        int limit = source.limit();
+        for (int i = 0; i < codecs.length; i++) {
+            int length = codecs[i].fixedSize() == VARIABLE_SIZE ? source.getInt() : codecs[i].fixedSize();
+            int end = source.position() + length;
+            source.limit(end);
+            values[i] = codecs[i].decode(source);
+            source.limit(limit);
+            source.position(end);
+        }
+        try {
+            return constructor.newInstance(values);
+        }
+        catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot create record " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+
+    private Object component(R element, int i) {
+        try {
+            return Objects.requireNonNull(accessors[i].invoke(element), "Record component cannot be null");
+        }
+        catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot read record component " + accessors[i].getName(), e);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package collections.primitives;
+
+import collections.sorts.RadixSort;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+// Файл сгенерирован tools.PrimitiveListGenerator из шаблона
+// resources/templates/PrimitiveCustomArrayList.java.template - не редактируйте его вручную.
+
+/**
+ * Реализация упорядоченной коллекции значений {@code int} на основе динамического массива примитивов.
+ * <p>
+ * IntCustomArrayList повторяет операции {@link collections.interfaces.CustomList}
+ * с примитивными сигнатурами и хранит значения в массиве {@code int[]}, а не в массиве ссылок на {@link Integer}.
+ * Ни одна операция не упаковывает значения в объекты.
+ * </p>
+ * <p>
+ * Основные характеристики:
+ * - Позволяет хранить дубликаты элементов
+ * - Обеспечивает произвольный доступ O(1) по индексу без разыменования ссылок
+ * - Автоматически расширяет внутренний массив при необходимости
+ * - Удаление по значению вынесено в {@link #removeValue(int)}, так как {@link #remove(int)} удаляет по индексу
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see collections.CustomArrayList
+ * @see collections.interfaces.CustomList
+ */
+public class IntCustomArrayList {
+
+    /**
+     * Начальная емкость массива по умолчанию
+     */
+    static final int DEFAULT_CAPACITY = 5;
+
+    /**
+     * Массив для хранения значений списка
+     */
+    private int[] array;
+
+    /**
+     * Текущий размер списка (количество элементов)
+     */
+    private int size = 0;
+
+    /**
+     * Создает новый пустой список с начальной емкостью по умолчанию
+     */
+    public IntCustomArrayList() {
+        this.array = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью.
+     *
+     * @param initialCapacity начальная емкость списка
+     * если начальная емкость {@code initialCapacity} меньше или равна нулю,
+     * будет использована начальная емкость по умолчанию.
+     */
+    public IntCustomArrayList(int initialCapacity) {
+        this.array = new int[initialCapacity <= 0 ? DEFAULT_CAPACITY : initialCapacity];
+    }
+
+    /**
+     * Создает список, содержащий указанные значения.
+     * <p>
+     * Фабричный метод вместо конструктора с переменным числом аргументов:
+     * {@code new IntCustomArrayList(5)} всегда означает емкость, а {@code of(5)} - список из одного значения.
+     * </p>
+     *
+     * @param values значения, которые должны быть помещены в список
+     * @return новый список, содержащий копию {@code values}
+     * @throws NullPointerException если {@code values} равен {@code null}
+     */
+    public static IntCustomArrayList of(int... values) {
+        Objects.requireNonNull(values, "Input array cannot be null");
+
+        IntCustomArrayList list = new IntCustomArrayList(values.length);
+        System.arraycopy(values, 0, list.array, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает true, если список не содержит элементов.
+     *
+     * @return true, если этот список не содержит элементов
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Добавляет указанное значение в конец списка.
+     *
+     * @param value значение, которое нужно добавить в конец списка
+     * @return true (по аналогии с {@link collections.interfaces.CustomList#add(Object)})
+     */
+    public boolean add(int value) {
+        if (size == array.length) {
+            growArray();
+        }
+        array[size++] = value;
+        return true;
+    }
+
+    private void growArray() {
+        int newLength = array.length == 0 ? DEFAULT_CAPACITY : (array.length * 3) / 2 + 1;
+        array = Arrays.copyOf(array, newLength);
+    }
+
+    /**
+     * Вставляет указанное значение на заданную позицию в списке.
+     * Сдвигает значения, начиная с указанной позиции, вправо.
+     *
+     * @param index индекс, по которому должно быть вставлено значение
+     * @param value значение для вставки
+     * @throws IndexOutOfBoundsException если {@code index} выходит за пределы
+     */
+    public void add(int index, int value) {
+        Objects.checkIndex(index, size + 1);
+
+        if (size == array.length) {
+            growArray();
+        }
+
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        size++;
+    }
+
+    /**
+     * Возвращает значение в указанной позиции в списке.
+     *
+     * @param index позиция возвращаемого значения
+     * @return значение в указанной позиции
+     * @throws IndexOutOfBoundsException если {@code index} выходит за границы допустимого диапазона
+     */
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return array[index];
+    }
+
+    /**
+     * Заменяет значение в указанной позиции и возвращает прежнее значение.
+     *
+     * @param index позиция заменяемого значения
+     * @param value новое значение
+     * @return значение, которое ранее находилось на указанной позиции
+     * @throws IndexOutOfBoundsException если {@code index} выходит за границы диапазона
+     */
+    public int set(int index, int value) {
+        Objects.checkIndex(index, size);
+        int oldValue = array[index];
+        array[index] = value;
+        return oldValue;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного значения из списка, если оно присутствует.
+     *
+     * @param value значение, которое нужно удалить из списка
+     * @return true, если список содержал указанное значение
+     */
+    public boolean removeValue(int value) {
+        int index = indexOf(value);
+        if (index == -1) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Удаляет значение, находящееся на указанной позиции в списке.
+     * Сдвигает все последующие значения влево.
+     *
+     * @param index позиция значения, которое нужно удалить
+     * @return значение, которое было удалено из списка
+     * @throws IndexOutOfBoundsException если {@code index} выходит за пределы допустимого диапазона
+     */
+    public int remove(int index) {
+        Objects.checkIndex(index, size);
+
+        int removedValue = array[index];
+        int shiftIndex = index + 1;
+        if (shiftIndex < size) {
+            System.arraycopy(array, shiftIndex, array, index, size - shiftIndex);
+        }
+        size--;
+        return removedValue;
+    }
+
+    /**
+     * Обнуляет размер списка. Внутренний массив сохраняется: значения примитивов не удерживают объекты от сборки мусора.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Вставляет указанное значение в начало списка.
+     *
+     * @param value значение для добавления
+     */
+    public void addFirst(int value) {
+        add(0, value);
+    }
+
+    /**
+     * Вставляет указанное значение в конец списка.
+     *
+     * @param value значение для добавления
+     */
+    public void addLast(int value) {
+        add(value);
+    }
+
+    /**
+     * Удаляет первое значение списка и возвращает его.
+     *
+     * @return удалённое значение, которое находилось в начале списка
+     * @throws NoSuchElementException если список пуст
+     */
+    public int removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("Cannot remove from empty list");
+        }
+        return remove(0);
+    }
+
+    /**
+     * Удаляет последнее значение списка и возвращает его.
+     *
+     * @return удалённое значение, которое находилось в конце списка
+     * @throws NoSuchElementException если список пуст
+     */
+    public int removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return array[--size];
+    }
+
+    /**
+     * Возвращает номер позиции первого вхождения указанного значения в этом списке,
+     * или -1, если этот список не содержит значения.
+     * Значения сравниваются оператором {@code ==}.
+     *
+     * @param value значение для поиска
+     * @return индекс первого вхождения значения, или -1, если значение не найдено
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает true, если этот список содержит указанное значение.
+     *
+     * @param value значение, наличие которого в этом списке нужно проверить
+     * @return true, если этот список содержит указанное значение
+     */
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Сортирует список по возрастанию.
+     * Используется {@link RadixSort#sort(int[], int, int)} над внутренним массивом, без упаковки значений; короткие списки сортируются {@link Arrays#sort(int[], int, int)}.
+     *
+     * @return этот список, отсортированный
+     */
+    public IntCustomArrayList sort() {
+        RadixSort.sort(array, 0, size);
+        return this;
+    }
+
+    /**
+     * Возвращает итератор по значениям списка без упаковки в объекты.
+     *
+     * @return итератор по значениям этого списка в порядке добавления
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return array[currentIndex++];
+            }
+        };
+    }
+
+    /**
+     * Преобразует список в массив примитивов
+     *
+     * @return массив, содержащий все значения списка в правильном порядке
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+}
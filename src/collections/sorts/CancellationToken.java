@@ -0,0 +1,69 @@
+package collections.sorts;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Признак отмены длительной операции, например параллельной сортировки {@link ParallelQuickSort}.
+ * <p>
+ * Токен хранит одно {@code volatile} поле: {@link #cancel()} - единственная запись,
+ * а задачи сортировки только читают его перед каждым шагом разбиения.
+ * Блокировок и атомарных операций нет, поэтому проверка не создаёт конкуренции между потоками пула.
+ * </p>
+ * <p>
+ * Отменённую операцию нельзя возобновить: для нового запуска нужен новый токен.
+ * </p>
+ *
+ * <p>Пример использования:
+ * <pre>{@code
+ * CancellationToken token = new CancellationToken();
+ * executor.submit(() -> ParallelQuickSort.sort(list, comparator, ForkJoinPool.commonPool(), token));
+ * ...
+ * token.cancel();
+ * }</pre>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see ParallelQuickSort
+ */
+public final class CancellationToken {
+
+    /**
+     * Токен, который никогда не отменяется
+     */
+    public static final CancellationToken NONE = new CancellationToken();
+
+    private volatile boolean cancelled;
+
+    /**
+     * Запрашивает отмену операции. Повторный вызов ничего не делает.
+     *
+     * @throws UnsupportedOperationException если это токен {@link #NONE}
+     */
+    public void cancel() {
+        if (this == NONE) {
+            throw new UnsupportedOperationException("NONE token cannot be cancelled");
+        }
+        cancelled = true;
+    }
+
+    /**
+     * Возвращает true, если отмена запрошена.
+     *
+     * @return true, если был вызван {@link #cancel()}
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Бросает {@link CancellationException}, если отмена запрошена.
+     *
+     * @throws CancellationException если был вызван {@link #cancel()}
+     */
+    public void throwIfCancelled() {
+        if (cancelled) {
+            throw new CancellationException("Operation was cancelled");
+        }
+    }
+}
@@ -0,0 +1,474 @@
+package collections.sorts;
+
+import collections.CustomArrayList;
+import collections.interfaces.CustomList;
+import collections.io.CloseableIterator;
+import collections.io.ElementSerializer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Внешняя сортировка слиянием (External Merge Sort) для наборов данных, не помещающихся в память.
+ *
+ * <p>Элементы читаются из любого {@link Iterable} (например, {@link CustomList}), отсортированный результат
+ * выдаётся потоково через {@link CloseableIterator}.</p>
+ *
+ * <p>Особенности реализации:
+ * <ul>
+ *   <li>Элементы накапливаются участками не длиннее {@code maxElementsInMemory}; каждый участок сортируется
+ *       в памяти устойчивой сортировкой {@link TimSort} и сбрасывается во временный файл через {@link ElementSerializer}</li>
+ *   <li>Если все элементы поместились в один участок, диск не используется</li>
+ *   <li>Отсортированные участки сливаются k-путевым слиянием {@link KWayMerge};
+ *       из каждого файла в памяти находится только буфер чтения и один элемент</li>
+ *   <li>Если участков больше {@code maxFanIn}, они предварительно сливаются группами в более длинные участки,
+ *       поэтому число одновременно открытых файлов и буферов ограничено</li>
+ *   <li>Итоговый объём памяти: не больше {@code maxElementsInMemory} элементов на этапе разбиения
+ *       и {@code maxFanIn} буферов по {@value #IO_BUFFER_SIZE} байт на этапе слияния</li>
+ *   <li>Временные файлы создаются на локальном диске и удаляются при закрытии итератора,
+ *       после чтения последнего элемента или при ошибке</li>
+ *   <li>Алгоритм устойчивый (сохраняет порядок равных элементов)</li>
+ *   <li>При включённом сборе статистики ({@link SortStats#setListener(SortListener)}) сообщает число прочитанных элементов,
+ *       сравнения при сортировке участков и предварительных слияниях, буферы и время
+ *       до возврата итератора; итоговое слияние выполняется лениво при чтении и в статистику не входит</li>
+ * </ul>
+ *
+ * <p>Пример использования:
+ * <pre>{@code
+ * ExternalSort<String> sort = new ExternalSort<>(ElementSerializer.ofString(), Comparator.naturalOrder(), 1_000_000);
+ * try (CloseableIterator<String> sorted = sort.sort(lines)) {
+ *     while (sorted.hasNext()) {
+ *         process(sorted.next());
+ *     }
+ * }
+ * }</pre>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип сортируемых элементов
+ * @see ElementSerializer
+ * @see TimSort
+ * @see KWayMerge
+ */
+public class ExternalSort<T> {
+
+    /**
+     * Максимальное число участков, сливаемых за один проход, по умолчанию
+     */
+    public static final int DEFAULT_MAX_FAN_IN = 64;
+
+    /**
+     * Размер буфера чтения и записи одного временного файла в байтах
+     */
+    public static final int IO_BUFFER_SIZE = 1 << 16;
+
+    private static final int INITIAL_CHUNK_CAPACITY = 1 << 10;
+
+    private final ElementSerializer<T> serializer;
+    private final Comparator<? super T> comparator;
+    private final int maxElementsInMemory;
+    private final int maxFanIn;
+    private final Path tempDirectory;
+
+    /**
+     * Создаёт внешнюю сортировку с временными файлами в системном каталоге временных файлов.
+     *
+     * @param serializer сериализатор элементов для записи участков на диск
+     * @param comparator компаратор для сравнения элементов
+     * @param maxElementsInMemory максимальное число элементов, одновременно хранимых в памяти
+     * @throws NullPointerException если {@code serializer} или {@code comparator} равны {@code null}
+     * @throws IllegalArgumentException если {@code maxElementsInMemory} меньше или равно нулю
+     */
+    public ExternalSort(ElementSerializer<T> serializer, Comparator<? super T> comparator, int maxElementsInMemory) {
+        this(serializer, comparator, maxElementsInMemory, DEFAULT_MAX_FAN_IN, null);
+    }
+
+    /**
+     * Создаёт внешнюю сортировку.
+     *
+     * @param serializer сериализатор элементов для записи участков на диск
+     * @param comparator компаратор для сравнения элементов
+     * @param maxElementsInMemory максимальное число элементов, одновременно хранимых в памяти
+     * @param maxFanIn максимальное число участков, сливаемых за один проход
+     * @param tempDirectory каталог для временных файлов, или {@code null} для системного каталога временных файлов
+     * @throws NullPointerException если {@code serializer} или {@code comparator} равны {@code null}
+     * @throws IllegalArgumentException если {@code maxElementsInMemory} меньше или равно нулю
+     *         или {@code maxFanIn} меньше двух
+     */
+    public ExternalSort(ElementSerializer<T> serializer, Comparator<? super T> comparator,
+                        int maxElementsInMemory, int maxFanIn, Path tempDirectory) {
+        this.serializer = Objects.requireNonNull(serializer , "serializer cannot be null");
+        this.comparator = Objects.requireNonNull(comparator , "comparator cannot be null");
+        if (maxElementsInMemory <= 0) {
+            throw new IllegalArgumentException("maxElementsInMemory must be positive: " + maxElementsInMemory);
+        }
+        if (maxFanIn < 2) {
+            throw new IllegalArgumentException("maxFanIn must be at least 2: " + maxFanIn);
+        }
+        this.maxElementsInMemory = maxElementsInMemory;
+        this.maxFanIn = maxFanIn;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Сортирует элементы источника и возвращает итератор по ним в отсортированном порядке.
+     * <p>
+     * Источник читается полностью до возврата из метода. Итератор нужно закрыть,
+     * чтобы удалить временные файлы, если он не был дочитан до конца.
+     * </p>
+     *
+     * @param source источник элементов
+     * @return итератор по отсортированным элементам
+     * @throws NullPointerException если {@code source} равен {@code null}
+     * @throws IOException при ошибке записи временных файлов
+     */
+    public CloseableIterator<T> sort(Iterable<? extends T> source) throws IOException {
+        Objects.requireNonNull(source , "Source cannot be null");
+
+        SortStats stats = SortStats.start("ExternalSort", 0);
+        if (stats == null) {
+            return sort(source, comparator, null);
+        }
+        try {
+            CloseableIterator<T> sorted = sort(source, stats.countComparisons(comparator), stats);
+            stats.markCompleted();
+            return sorted;
+        }
+        finally {
+            stats.finish();
+        }
+    }
+
+    /**
+     * Разбивает источник на отсортированные участки и выполняет предварительные проходы слияния,
+     * учитывая работу в {@code stats}, если он не {@code null}. Итоговое слияние выполняется лениво
+     * при чтении итератора исходным компаратором и в статистику не входит.
+     */
+    private CloseableIterator<T> sort(Iterable<? extends T> source, Comparator<? super T> order, SortStats stats)
+            throws IOException {
+        CustomList<Run> runs = new CustomArrayList<>();
+        try {
+            T[] chunk = (T[]) new Object[Math.min(INITIAL_CHUNK_CAPACITY, maxElementsInMemory)];
+            if (stats != null) {
+                stats.addScratch(chunk.length);
+            }
+            int count = 0;
+            for (T element : source) {
+                if (count == chunk.length) {
+                    if (count == maxElementsInMemory) {
+                        runs.add(spill(chunk, count, order, stats));
+                        count = 0;
+                    }
+                    else {
+                        chunk = Arrays.copyOf(chunk, (int) Math.min((long) chunk.length * 2, maxElementsInMemory));
+                        if (stats != null) {
+                            stats.addScratch(chunk.length);
+                        }
+                    }
+                }
+                chunk[count++] = element;
+            }
+
+            if (runs.isEmpty()) {
+                sortChunk(chunk, count, order, stats);
+                return new ArrayIterator<>(chunk, count);
+            }
+            if (count > 0) {
+                runs.add(spill(chunk, count, order, stats));
+            }
+
+            while (runs.size() > maxFanIn) {
+                runs = mergePass(runs, order, stats);
+            }
+            return new MergeIterator(runs, comparator);
+        }
+        catch (IOException | RuntimeException e) {
+            deleteAll(runs, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Сортирует участок в памяти и учитывает его элементы в {@code stats}, если он не {@code null}.
+     */
+    private static <T> void sortChunk(T[] chunk, int count, Comparator<? super T> order, SortStats stats) {
+        if (stats == null) {
+            TimSort.sort(chunk, 0, count, order);
+            return;
+        }
+        stats.addElements(count);
+        if (count > 1) {
+            TimSort.sort(chunk, 0, count, order, stats);
+        }
+    }
+
+    /**
+     * Сортирует участок в памяти и записывает его во временный файл.
+     */
+    private Run spill(T[] chunk, int count, Comparator<? super T> order, SortStats stats) throws IOException {
+        sortChunk(chunk, count, order, stats);
+        if (stats != null) {
+            stats.addScratch(IO_BUFFER_SIZE, Byte.BYTES);
+        }
+
+        Path file = createTempFile();
+        try (DataOutputStream out = openOutput(file)) {
+            for (int i = 0; i < count; i++) {
+                serializer.write(chunk[i], out);
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        Arrays.fill(chunk, 0, count, null);
+        return new Run(file, count);
+    }
+
+    /**
+     * Сливает участки группами по {@code maxFanIn} в более длинные участки.
+     */
+    private CustomList<Run> mergePass(CustomList<Run> runs, Comparator<? super T> order, SortStats stats) throws IOException {
+        CustomList<Run> merged = new CustomArrayList<>();
+        try {
+            for (int from = 0; from < runs.size(); from += maxFanIn) {
+                int to = Math.min(from + maxFanIn, runs.size());
+                CustomList<Run> group = new CustomArrayList<>();
+                for (int i = from; i < to; i++) {
+                    group.add(runs.get(i));
+                }
+                merged.add(mergeToFile(group, order));
+                if (stats != null) {
+                    stats.addScratch((group.size() + 1) * IO_BUFFER_SIZE, Byte.BYTES);
+                }
+            }
+            return merged;
+        }
+        catch (IOException | RuntimeException e) {
+            deleteAll(merged, e);
+            throw e;
+        }
+    }
+
+    private Run mergeToFile(CustomList<Run> group, Comparator<? super T> order) throws IOException {
+        Path file = createTempFile();
+        long size = 0;
+        try (MergeIterator iterator = new MergeIterator(group, order);
+             DataOutputStream out = openOutput(file)) {
+            while (iterator.hasNext()) {
+                serializer.write(iterator.next(), out);
+                size++;
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new Run(file, size);
+    }
+
+    private Path createTempFile() throws IOException {
+        return tempDirectory == null
+                ? Files.createTempFile("external-sort-", ".run")
+                : Files.createTempFile(tempDirectory, "external-sort-", ".run");
+    }
+
+    private static DataOutputStream openOutput(Path file) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), IO_BUFFER_SIZE));
+    }
+
+    private static void deleteAll(CustomList<Run> runs, Exception cause) {
+        for (Run run : runs) {
+            try {
+                Files.deleteIfExists(run.file);
+            }
+            catch (IOException e) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Отсортированный участок во временном файле.
+     */
+    private static final class Run {
+        private final Path file;
+        private final long size;
+
+        private Run(Path file, long size) {
+            this.file = file;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Последовательное чтение участка. Ошибка чтения передаётся как {@link UncheckedIOException}.
+     */
+    private final class RunReader implements Iterator<T> {
+        private final Run run;
+        private final DataInputStream in;
+        private long remaining;
+
+        private RunReader(Run run) throws IOException {
+            this.run = run;
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.file), IO_BUFFER_SIZE));
+            this.remaining = run.size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            try {
+                T element = serializer.read(in);
+                remaining--;
+                return element;
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void close() throws IOException {
+            try {
+                in.close();
+            }
+            finally {
+                Files.deleteIfExists(run.file);
+            }
+        }
+    }
+
+    /**
+     * K-путевое слияние участков через {@link KWayMerge}. Равные элементы выдаются в порядке участков,
+     * что сохраняет устойчивость. Закрывает и удаляет файлы участков после последнего элемента или при ошибке.
+     */
+    private final class MergeIterator implements CloseableIterator<T> {
+        private final CustomList<RunReader> readers = new CustomArrayList<>();
+        private final KWayMerge<T> merge;
+        private boolean closed;
+
+        private MergeIterator(CustomList<Run> runs, Comparator<? super T> order) throws IOException {
+            try {
+                for (Run run : runs) {
+                    readers.add(new RunReader(run));
+                }
+                merge = KWayMerge.ofIterators(readers, order);
+            }
+            catch (IOException | RuntimeException e) {
+                closeQuietly(e);
+                deleteAll(runs, e);
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (closed || !merge.hasNext()) {
+                close();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            try {
+                return merge.next();
+            }
+            catch (RuntimeException e) {
+                closeQuietly(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            IOException failure = null;
+            for (RunReader reader : readers) {
+                try {
+                    reader.close();
+                }
+                catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                    else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            closed = true;
+            if (failure != null) {
+                throw new UncheckedIOException(failure);
+            }
+        }
+
+        private void closeQuietly(Exception cause) {
+            try {
+                close();
+            }
+            catch (UncheckedIOException e) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Итератор по участку, целиком поместившемуся в память.
+     */
+    private static final class ArrayIterator<T> implements CloseableIterator<T> {
+        private final T[] array;
+        private final int size;
+        private int index;
+
+        private ArrayIterator(T[] array, int size) {
+            this.array = array;
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return array[index++];
+        }
+
+        @Override
+        public void close() {
+            index = size;
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package collections.sorts;
+
+import collections.CustomArrayList;
+import collections.interfaces.CustomList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Выбор k-го по порядку элемента (IntroSelect), частичная сортировка и отбор k наименьших элементов.
+ * <p>В интерфейсе {@link CustomList} реализованы дефолтные методы {@link CustomList#select(int, Comparator)},
+ * {@link CustomList#partialSort(int, Comparator)} и {@link CustomList#topK(int, Comparator)},
+ * вызывающие методы данного класса.</p>
+ *
+ * <p>Особенности реализации:
+ * <ul>
+ *   <li>Выбор - быстрый выбор Хоара: опорный элемент - медиана трёх, разбиение трёхпутевое,
+ *       дальше обрабатывается только та часть, в которую попадает искомая позиция; в среднем O(n)</li>
+ *   <li>Если глубина разбиений превышает 2·log<sub>2</sub>n, оставшийся диапазон досортировывается {@link TimSort},
+ *       поэтому время работы в худшем случае O(n log n)</li>
+ *   <li>Частичная сортировка выбирает k-й элемент и сортирует только первые k позиций: O(n + k log k),
+ *       порядок остальных элементов не определён</li>
+ *   <li>Отбор k наименьших - один последовательный проход итератором с ограниченной кучей размера k:
+ *       O(n log k) времени и O(k) памяти, исходный список не изменяется</li>
+ *   <li>Алгоритмы не являются устойчивыми (не сохраняют порядок равных элементов)</li>
+ *   <li>При включённом сборе статистики ({@link SortStats#setListener(SortListener)}) выбор, частичная сортировка
+ *       и отбор сообщают сравнения и время под именами {@code IntroSelect}, {@code PartialSort} и {@code TopK};
+ *       отбор - ещё число прочитанных элементов и память кучи</li>
+ * </ul>
+ *
+ * <p>Пример использования:
+ * <pre>{@code
+ * CustomList<Integer> list = ...;
+ * Integer median = list.select(list.size() / 2, Comparator.naturalOrder());
+ * CustomList<Integer> largest = list.topK(100, Comparator.reverseOrder());
+ * }</pre>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип элементов
+ * @see CustomList
+ * @see IntroSort
+ */
+public class IntroSelect<T> {
+
+    /**
+     * Диапазоны такой и меньшей длины упорядочиваются вставками
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Переставляет элементы диапазона {@code [from, to)} так, что на позиции {@code k} оказывается элемент,
+     * который стоял бы там после полной сортировки; элементы левее не больше его, правее - не меньше.
+     *
+     * @param <T> тип элементов массива
+     * @param array массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @param k позиция выбираемого элемента, {@code from <= k < to}
+     * @param comparator компаратор для сравнения элементов
+     * @return элемент на позиции {@code k}
+     * @throws NullPointerException если {@code array} или {@code comparator} равны {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива или {@code k} вне диапазона
+     */
+    public static <T> T select(T[] array, int from, int to, int k, Comparator<? super T> comparator) {
+        Objects.requireNonNull(array , "Array cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+        Objects.checkFromToIndex(from, to, array.length);
+        Objects.checkIndex(k - from, to - from);
+
+        SortStats stats = SortStats.start("IntroSelect", to - from);
+        if (stats == null) {
+            return select(array, from, to, k, comparator, null);
+        }
+        try {
+            T selected = select(array, from, to, k, stats.countComparisons(comparator), stats);
+            stats.markCompleted();
+            return selected;
+        }
+        finally {
+            stats.finish();
+        }
+    }
+
+    /**
+     * Выбирает элемент без проверки параметров, учитывая перестановки и глубину разбиений в {@code stats},
+     * если он не {@code null}.
+     */
+    private static <T> T select(T[] array, int from, int to, int k, Comparator<? super T> comparator, SortStats stats) {
+        int low = from;
+        int high = to;
+        int depth = 2 * (31 - Integer.numberOfLeadingZeros(to - from));
+        int level = 0;
+
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                TimSort.sort(array, low, high, comparator, stats);
+                return array[k];
+            }
+
+            T pivot = medianOfThree(array, low, low + ((high - low) >>> 1), high - 1, comparator);
+
+            // [low, lt) < pivot, [lt, i) == pivot, [gt, high) > pivot
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i < gt) {
+                int cmp = comparator.compare(array[i], pivot);
+                if (cmp < 0) {
+                    swap(array, lt++, i++);
+                }
+                else if (cmp > 0) {
+                    swap(array, i, --gt);
+                }
+                else {
+                    i++;
+                }
+            }
+            if (stats != null) {
+                stats.addSwaps((lt - low) + (high - gt));
+                stats.recordDepth(++level);
+            }
+
+            if (k < lt) {
+                high = lt;
+            }
+            else if (k >= gt) {
+                low = gt;
+            }
+            else {
+                return array[k];
+            }
+        }
+
+        int moves = insertionSort(array, low, high, comparator);
+        if (stats != null) {
+            stats.addMoves(moves);
+        }
+        return array[k];
+    }
+
+    /**
+     * Переставляет элементы диапазона {@code [from, to)} так, что первые {@code k} позиций занимают
+     * {@code k} наименьших элементов в отсортированном порядке. Порядок остальных элементов не определён.
+     *
+     * @param <T> тип элементов массива
+     * @param array массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @param k количество упорядочиваемых наименьших элементов, {@code 0 <= k <= to - from}
+     * @param comparator компаратор для сравнения элементов
+     * @throws NullPointerException если {@code array} или {@code comparator} равны {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива или {@code k} вне диапазона
+     */
+    public static <T> void partialSort(T[] array, int from, int to, int k, Comparator<? super T> comparator) {
+        Objects.requireNonNull(array , "Array cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+        Objects.checkFromToIndex(from, to, array.length);
+        Objects.checkIndex(k, to - from + 1);
+
+        if (k == 0) {
+            return;
+        }
+
+        SortStats stats = SortStats.start("PartialSort", to - from);
+        if (stats == null) {
+            partialSort(array, from, to, k, comparator, null);
+            return;
+        }
+        try {
+            partialSort(array, from, to, k, stats.countComparisons(comparator), stats);
+            stats.markCompleted();
+        }
+        finally {
+            stats.finish();
+        }
+    }
+
+    private static <T> void partialSort(T[] array, int from, int to, int k, Comparator<? super T> comparator, SortStats stats) {
+        // k-й элемент - наибольший из первых k, поэтому после выбора сортируется только [from, from + k - 1)
+        select(array, from, to, from + k - 1, comparator, stats);
+        if (k > 2) {
+            TimSort.sort(array, from, from + k - 1, comparator, stats);
+        }
+    }
+
+    /**
+     * Переставляет элементы списка так, что на позиции {@code k} оказывается элемент,
+     * который стоял бы там после полной сортировки.
+     * <p>
+     * Выбор выполняется над массивом, полученным через {@link CustomList#applyToArray(collections.interfaces.ArrayOperation)}.
+     * </p>
+     *
+     * @param <T> тип элементов списка
+     * @param list список
+     * @param k позиция выбираемого элемента
+     * @param comparator компаратор для сравнения элементов
+     * @return элемент на позиции {@code k}
+     * @throws NullPointerException если {@code list} или {@code comparator} равны {@code null}
+     * @throws IndexOutOfBoundsException если {@code k} выходит за границы списка
+     */
+    public static <T> T select(CustomList<T> list, int k, Comparator<? super T> comparator) {
+        Objects.requireNonNull(list , "List cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+        Objects.checkIndex(k, list.size());
+
+        Object[] result = new Object[1];
+        list.applyToArray((array, from, to) -> result[0] = select((T[]) array, from, to, from + k, comparator));
+        return (T) result[0];
+    }
+
+    /**
+     * Переставляет элементы списка так, что первые {@code k} позиций занимают
+     * {@code k} наименьших элементов в отсортированном порядке.
+     *
+     * @param <T> тип элементов списка
+     * @param list список
+     * @param k количество упорядочиваемых наименьших элементов
+     * @param comparator компаратор для сравнения элементов
+     * @return этот же список
+     * @throws NullPointerException если {@code list} или {@code comparator} равны {@code null}
+     * @throws IndexOutOfBoundsException если {@code k} меньше нуля или больше размера списка
+     */
+    public static <T> CustomList<T> partialSort(CustomList<T> list, int k, Comparator<? super T> comparator) {
+        Objects.requireNonNull(list , "List cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+        Objects.checkIndex(k, list.size() + 1);
+
+        list.applyToArray((array, from, to) -> partialSort((T[]) array, from, to, k, comparator));
+        return list;
+    }
+
+    /**
+     * Возвращает новый список из {@code k} наименьших элементов в отсортированном порядке.
+     * Для отбора наибольших элементов передайте обратный компаратор.
+     * <p>
+     * Элементы читаются одним проходом итератора, поэтому связный список не обходится по индексам.
+     * В ограниченной куче хранится не больше {@code k} элементов; исходная коллекция не изменяется.
+     * </p>
+     *
+     * @param <T> тип элементов
+     * @param source исходные элементы
+     * @param k максимальное количество отбираемых элементов; если элементов меньше, возвращаются все
+     * @param comparator компаратор для сравнения элементов
+     * @return новый список из не более чем {@code k} наименьших элементов
+     * @throws NullPointerException если {@code source} или {@code comparator} равны {@code null}
+     * @throws IllegalArgumentException если {@code k} меньше нуля
+     */
+    public static <T> CustomList<T> topK(Iterable<T> source, int k, Comparator<? super T> comparator) {
+        Objects.requireNonNull(source , "Source cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+        if (k < 0) {
+            throw new IllegalArgumentException("k cannot be negative: " + k);
+        }
+
+        SortStats stats = SortStats.start("TopK", 0);
+        if (stats == null) {
+            return topK(source, k, comparator, null);
+        }
+        try {
+            CustomList<T> result = topK(source, k, stats.countComparisons(comparator), stats);
+            stats.markCompleted();
+            return result;
+        }
+        finally {
+            stats.finish();
+        }
+    }
+
+    /**
+     * Отбирает элементы, учитывая прочитанные элементы и выделения кучи в {@code stats}, если он не {@code null}.
+     */
+    private static <T> CustomList<T> topK(Iterable<T> source, int k, Comparator<? super T> comparator, SortStats stats) {
+        // Куча с наибольшим элементом в корне: новый элемент вытесняет корень, только если он меньше
+        T[] heap = (T[]) new Object[Math.min(k, INSERTION_SORT_THRESHOLD)];
+        int heapSize = 0;
+        if (stats != null) {
+            stats.addScratch(heap.length);
+        }
+        if (k > 0) {
+            for (T element : source) {
+                if (stats != null) {
+                    stats.addElements(1);
+                }
+                if (heapSize < k) {
+                    if (heapSize == heap.length) {
+                        heap = Arrays.copyOf(heap, (int) Math.min((long) heap.length * 2, k));
+                        if (stats != null) {
+                            stats.addScratch(heap.length);
+                        }
+                    }
+                    heap[heapSize] = element;
+                    siftUp(heap, heapSize++, comparator);
+                }
+                else if (comparator.compare(element, heap[0]) < 0) {
+                    heap[0] = element;
+                    siftDown(heap, 0, heapSize, comparator);
+                }
+            }
+        }
+
+        // Извлечение корня в конец кучи упорядочивает её по возрастанию
+        for (int last = heapSize - 1; last > 0; last--) {
+            swap(heap, 0, last);
+            siftDown(heap, 0, last, comparator);
+        }
+
+        CustomList<T> result = new CustomArrayList<>(heapSize);
+        for (int i = 0; i < heapSize; i++) {
+            result.add(heap[i]);
+        }
+        return result;
+    }
+
+    private static <T> T medianOfThree(T[] array, int a, int b, int c, Comparator<? super T> comparator) {
+        T x = array[a];
+        T y = array[b];
+        T z = array[c];
+
+        if (comparator.compare(x, y) < 0) {
+            if (comparator.compare(y, z) < 0) return y;
+            return comparator.compare(x, z) < 0 ? z : x;
+        }
+        if (comparator.compare(x, z) < 0) return x;
+        return comparator.compare(y, z) < 0 ? z : y;
+    }
+
+    /**
+     * @return число сдвигов элементов
+     */
+    private static <T> int insertionSort(T[] array, int low, int high, Comparator<? super T> comparator) {
+        int moves = 0;
+        for (int i = low + 1; i < high; i++) {
+            T current = array[i];
+            int j = i - 1;
+            while (j >= low && comparator.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+            moves += i - 1 - j;
+        }
+        return moves;
+    }
+
+    private static <T> void siftUp(T[] heap, int index, Comparator<? super T> comparator) {
+        T element = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (comparator.compare(element, heap[parent]) <= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = element;
+    }
+
+    private static <T> void siftDown(T[] heap, int index, int length, Comparator<? super T> comparator) {
+        T element = heap[index];
+        int half = length >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < length && comparator.compare(heap[right], heap[child]) > 0) {
+                child = right;
+            }
+            if (comparator.compare(element, heap[child]) >= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = element;
+    }
+
+    private static <T> void swap(T[] array, int i, int j) {
+        T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
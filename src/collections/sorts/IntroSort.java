@@ -0,0 +1,269 @@
+package collections.sorts;
+
+import collections.interfaces.CustomList;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Реализация интроспективной сортировки (IntroSort) для пользовательских списков.
+ * <p>В интерфейсе {@link CustomList} реализованы дефолтные методы: {@link CustomList#sort()} и {@link CustomList#sort(Comparator comparator)}, вызывающие метод сортировки данного класса</p>
+ * <p>По этому нет необходимости вызывать этот класс, а сразу вызывать метод сортировки из класса, реализующего интерфейс {@link CustomList}</p>
+ *
+ * <p>Особенности реализации:
+ * <ul>
+ *   <li>Опорный элемент (pivot) выбирается как медиана первого, среднего и последнего элементов подмассива</li>
+ *   <li>Разбиение трёхпутевое: элементы, равные опорному, собираются в середине и больше не сортируются</li>
+ *   <li>Подмассивы длиной не более 16 элементов сортируются вставками</li>
+ *   <li>Когда глубина рекурсии превышает 2·log<sub>2</sub>n, подмассив досортировывается пирамидальной сортировкой (HeapSort),
+ *       поэтому время работы в худшем случае O(n log n)</li>
+ *   <li>Рекурсивно обрабатывается меньшая часть разбиения, большая - в цикле, поэтому глубина стека не превышает O(log n)</li>
+ *   <li>Сортировка выполняется над массивом, полученным через {@link CustomList#applyToArray(collections.interfaces.ArrayOperation)},
+ *       без вызовов {@code get}/{@code set} и проверки индекса на каждое обращение к элементу</li>
+ *   <li>Алгоритм не является устойчивым (не сохраняет порядок равных элементов)</li>
+ *   <li>При включённом сборе статистики ({@link SortStats#setListener(SortListener)}) сообщает число сравнений,
+ *       обменов, сдвигов при вставке и глубину разбиений</li>
+ * </ul>
+ *
+ * <p>Пример использования:
+ * <pre>{@code
+ * CustomList<String> list = new CustomArrayList<>();
+ * list.add("banana");
+ * list.add("apple");
+ * list.add("orange");
+ *
+ * CustomList<String> sorted = list.sort(String::compareTo);
+ * }</pre>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип элементов в сортируемом списке
+ * @see CustomList
+ * @see Comparator
+ * @see RandomAccess
+ */
+public class IntroSort<T> {
+
+    /**
+     * Подмассивы такой и меньшей длины сортируются вставками
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Сортирует список с использованием интроспективной сортировки.
+     *
+     * @param <T> тип элементов списка
+     * @param list сортируемый список
+     * @param comparator компаратор для сравнения элементов
+     * @return отсортированный список
+     * @throws NullPointerException если {@code list} или {@code comparator} равны {@code null}
+     */
+    public static <T> CustomList<T> sort(CustomList<T> list, Comparator<? super T> comparator) {
+        Objects.requireNonNull(list , "List cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+
+        if (list.size() <= 1) {
+            return list;
+        }
+
+        list.applyToArray((array, from, to) -> sort((T[]) array, from, to, comparator));
+        return list;
+    }
+
+    /**
+     * Сортирует диапазон массива {@code [from, to)} с использованием интроспективной сортировки.
+     *
+     * @param <T> тип элементов массива
+     * @param array сортируемый массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @param comparator компаратор для сравнения элементов
+     * @throws NullPointerException если {@code array} или {@code comparator} равны {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    public static <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator) {
+        Objects.requireNonNull(array , "Array cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+        Objects.checkFromToIndex(from, to, array.length);
+
+        if (to - from <= 1) {
+            return;
+        }
+
+        SortStats stats = SortStats.start("IntroSort", to - from);
+        if (stats == null) {
+            sort(array, from, to, comparator, null);
+            return;
+        }
+        try {
+            sort(array, from, to, stats.countComparisons(comparator), stats);
+            stats.markCompleted();
+        }
+        finally {
+            stats.finish();
+        }
+    }
+
+    /**
+     * Сортирует диапазон без проверки параметров, учитывая перестановки в {@code stats}, если он не {@code null}.
+     * Используется параллельными сортировками для досортировки частей без отдельной статистики.
+     */
+    static <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator, SortStats stats) {
+        introSort(array, from, to, depthLimit(to - from), 0, comparator, stats);
+    }
+
+    /**
+     * Допустимая глубина рекурсии: 2·floor(log<sub>2</sub> size)
+     */
+    private static int depthLimit(int size) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(size));
+    }
+
+    private static <T> void introSort(T[] array, int low, int high, int depth, int level,
+                                      Comparator<? super T> comparator, SortStats stats) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (depth == 0) {
+                heapSort(array, low, high, comparator, stats);
+                return;
+            }
+            depth--;
+
+            T pivot = medianOfThree(array, low, low + ((high - low) >>> 1), high - 1, comparator, stats);
+
+            // Трёхпутевое разбиение (Dutch national flag):
+            // [low, lt) < pivot, [lt, i) == pivot, [gt, high) > pivot
+            int lt = low;
+            int i = low;
+            int gt = high;
+            while (i < gt) {
+                int cmp = comparator.compare(array[i], pivot);
+                if (cmp < 0) {
+                    swap(array, lt++, i++);
+                }
+                else if (cmp > 0) {
+                    swap(array, i, --gt);
+                }
+                else {
+                    i++;
+                }
+            }
+
+            // Каждый элемент меньше или больше опорного переставлялся ровно один раз
+            level++;
+            if (stats != null) {
+                stats.addSwaps((lt - low) + (high - gt));
+                stats.recordDepth(level);
+            }
+
+            if (lt - low < high - gt) {
+                introSort(array, low, lt, depth, level, comparator, stats);
+                low = gt;
+            }
+            else {
+                introSort(array, gt, high, depth, level, comparator, stats);
+                high = lt;
+            }
+        }
+
+        int moves = insertionSort(array, low, high, comparator);
+        if (stats != null) {
+            stats.addMoves(moves);
+        }
+    }
+
+    /**
+     * Упорядочивает элементы на позициях {@code a}, {@code b}, {@code c}
+     * и возвращает средний из них.
+     */
+    private static <T> T medianOfThree(T[] array, int a, int b, int c, Comparator<? super T> comparator, SortStats stats) {
+        int swaps = 0;
+        if (comparator.compare(array[b], array[a]) < 0) {
+            swap(array, a, b);
+            swaps++;
+        }
+        if (comparator.compare(array[c], array[b]) < 0) {
+            swap(array, b, c);
+            swaps++;
+            if (comparator.compare(array[b], array[a]) < 0) {
+                swap(array, a, b);
+                swaps++;
+            }
+        }
+        if (stats != null) {
+            stats.addSwaps(swaps);
+        }
+        return array[b];
+    }
+
+    /**
+     * Сортирует диапазон вставками.
+     *
+     * @return число записей элементов в массив
+     */
+    private static <T> int insertionSort(T[] array, int low, int high, Comparator<? super T> comparator) {
+        int moves = 0;
+        for (int i = low + 1; i < high; i++) {
+            T current = array[i];
+            int j = i - 1;
+            while (j >= low && comparator.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+            moves += i - j;
+        }
+        return moves;
+    }
+
+    private static <T> void heapSort(T[] array, int low, int high, Comparator<? super T> comparator, SortStats stats) {
+        int length = high - low;
+        long moves = 0;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            moves += siftDown(array, low, i, length, comparator);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, low, low + end);
+            moves += siftDown(array, low, 0, end, comparator);
+        }
+        if (stats != null) {
+            stats.addSwaps(Math.max(length - 1, 0));
+            stats.addMoves(moves);
+        }
+    }
+
+    /**
+     * Просеивает элемент вниз по max-куче, занимающей позиции {@code [offset, offset + length)}.
+     *
+     * @return число записей элементов в массив
+     */
+    private static <T> int siftDown(T[] array, int offset, int index, int length, Comparator<? super T> comparator) {
+        T value = array[offset + index];
+        int half = length >>> 1;
+        int moves = 0;
+        while (index < half) {
+            int child = 2 * index + 1;
+            T childValue = array[offset + child];
+            int right = child + 1;
+            if (right < length && comparator.compare(array[offset + right], childValue) > 0) {
+                child = right;
+                childValue = array[offset + child];
+            }
+            if (comparator.compare(value, childValue) >= 0) {
+                break;
+            }
+            array[offset + index] = childValue;
+            index = child;
+            moves++;
+        }
+        array[offset + index] = value;
+        return moves + 1;
+    }
+
+    private static <T> void swap(T[] array, int i, int j) {
+        T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
@@ -0,0 +1,257 @@
+package collections.sorts;
+
+import collections.CustomArrayList;
+import collections.interfaces.CustomList;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Потоковое k-путевое слияние упорядоченных последовательностей.
+ *
+ * <p>Объединяет N уже отсортированных списков или итераторов в одну упорядоченную последовательность,
+ * не копируя и не пересортировывая элементы. Результат выдаётся лениво (сам объект является итератором)
+ * или дописывается в целевой список ({@link #mergeInto(Iterable, Comparator, CustomList)}).</p>
+ *
+ * <p>Особенности реализации:
+ * <ul>
+ *   <li>Источники соревнуются в дереве проигравших (tournament tree): в корне хранится источник с наименьшим
+ *       текущим элементом, во внутренних узлах - проигравшие в соответствующих матчах</li>
+ *   <li>После выдачи элемента переигрывается только путь от листа выигравшего источника до корня:
+ *       не больше ⌈log<sub>2</sub>N⌉ сравнений на элемент, примерно вдвое меньше, чем у двоичной кучи
+ *       (сравнение с двумя потомками на каждом уровне)</li>
+ *   <li>Время O(total · log N), дополнительная память - O(N): текущий элемент и итератор каждого источника</li>
+ *   <li>Каждый источник читается последовательно и ровно один раз, поэтому источником может быть
+ *       {@link collections.CustomLinkedList} или итератор по файлу</li>
+ *   <li>Слияние устойчивое: равные элементы выдаются в порядке источников, а внутри источника - в исходном порядке</li>
+ *   <li>Источники должны быть упорядочены тем же компаратором; это не проверяется</li>
+ * </ul>
+ *
+ * <p>Пример использования:
+ * <pre>{@code
+ * CustomList<CustomList<Order>> shards = ...;
+ * Iterator<Order> merged = KWayMerge.of(shards, Order::compareTo);
+ * while (merged.hasNext()) {
+ *     process(merged.next());
+ * }
+ * }</pre>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип сливаемых элементов
+ * @see ExternalSort
+ */
+public final class KWayMerge<T> implements Iterator<T> {
+
+    private final Comparator<? super T> comparator;
+    private final CustomList<Iterator<? extends T>> sources;
+
+    /**
+     * Текущий (ещё не выданный) элемент каждого источника
+     */
+    private final T[] heads;
+
+    /**
+     * Источники, в которых закончились элементы
+     */
+    private final boolean[] exhausted;
+
+    /**
+     * Дерево проигравших: {@code tree[0]} - номер выигравшего источника,
+     * {@code tree[1..k-1]} - номера проигравших во внутренних узлах. Листья (узлы {@code k..2k-1}) не хранятся.
+     */
+    private final int[] tree;
+
+    private KWayMerge(CustomList<Iterator<? extends T>> iterators, Comparator<? super T> comparator) {
+        this.comparator = comparator;
+
+        this.sources = iterators;
+
+        int k = iterators.size();
+        // Массив обобщённого типа создать нельзя; в него записываются только элементы типа T,
+        // прочитанные из источников, наружу массив не выдаётся
+        @SuppressWarnings("unchecked")
+        T[] heads = (T[]) new Object[k];
+        this.heads = heads;
+        this.exhausted = new boolean[k];
+        this.tree = new int[Math.max(k, 1)];
+
+        for (int i = 0; i < k; i++) {
+            Objects.requireNonNull(iterators.get(i) , "Source cannot be null");
+            advance(i);
+        }
+        if (k > 0) {
+            tree[0] = build(1);
+        }
+    }
+
+    /**
+     * Создаёт ленивое слияние упорядоченных последовательностей (например, {@link CustomList}).
+     *
+     * @param <T> тип элементов
+     * @param sources упорядоченные последовательности
+     * @param comparator компаратор, которым упорядочены последовательности
+     * @return итератор по всем элементам источников в порядке компаратора
+     * @throws NullPointerException если {@code sources}, {@code comparator} или любой из источников равны {@code null}
+     */
+    public static <T> KWayMerge<T> of(Iterable<? extends Iterable<? extends T>> sources, Comparator<? super T> comparator) {
+        Objects.requireNonNull(sources , "sources cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+
+        CustomList<Iterator<? extends T>> iterators = new CustomArrayList<>();
+        for (Iterable<? extends T> source : sources) {
+            iterators.add(Objects.requireNonNull(source , "Source cannot be null").iterator());
+        }
+        return new KWayMerge<>(iterators, comparator);
+    }
+
+    /**
+     * Создаёт ленивое слияние упорядоченных итераторов.
+     * Итераторы читаются по мере выдачи элементов; первый элемент каждого читается сразу.
+     *
+     * @param <T> тип элементов
+     * @param iterators итераторы по упорядоченным последовательностям
+     * @param comparator компаратор, которым упорядочены последовательности
+     * @return итератор по всем элементам источников в порядке компаратора
+     * @throws NullPointerException если {@code iterators}, {@code comparator} или любой из итераторов равны {@code null}
+     */
+    public static <T> KWayMerge<T> ofIterators(Iterable<? extends Iterator<? extends T>> iterators,
+                                               Comparator<? super T> comparator) {
+        Objects.requireNonNull(iterators , "iterators cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+
+        CustomList<Iterator<? extends T>> list = new CustomArrayList<>();
+        for (Iterator<? extends T> iterator : iterators) {
+            list.add(Objects.requireNonNull(iterator , "Source cannot be null"));
+        }
+        return new KWayMerge<>(list, comparator);
+    }
+
+    /**
+     * Сливает упорядоченные списки в новый {@link CustomArrayList}, ёмкость которого
+     * заранее равна суммарному размеру списков, поэтому массив не перевыделяется.
+     *
+     * @param <T> тип элементов
+     * @param lists упорядоченные списки
+     * @param comparator компаратор, которым упорядочены списки
+     * @return новый упорядоченный список со всеми элементами
+     * @throws NullPointerException если {@code lists}, {@code comparator} или любой из списков равны {@code null}
+     * @throws ArithmeticException если суммарный размер списков больше {@link Integer#MAX_VALUE}
+     */
+    public static <T> CustomList<T> merge(CustomList<? extends CustomList<? extends T>> lists,
+                                          Comparator<? super T> comparator) {
+        Objects.requireNonNull(lists , "List cannot be null");
+
+        int total = 0;
+        for (CustomList<? extends T> list : lists) {
+            total = Math.addExact(total, Objects.requireNonNull(list , "Source cannot be null").size());
+        }
+        return mergeInto(lists, comparator, new CustomArrayList<>(total));
+    }
+
+    /**
+     * Сливает упорядоченные последовательности, дописывая элементы в конец целевого списка.
+     *
+     * @param <T> тип элементов
+     * @param sources упорядоченные последовательности
+     * @param comparator компаратор, которым упорядочены последовательности
+     * @param target список, в конец которого добавляются элементы
+     * @return целевой список
+     * @throws NullPointerException если любой из параметров или источников равен {@code null}
+     */
+    public static <T> CustomList<T> mergeInto(Iterable<? extends Iterable<? extends T>> sources,
+                                              Comparator<? super T> comparator, CustomList<T> target) {
+        Objects.requireNonNull(target , "target cannot be null");
+
+        KWayMerge<T> merge = of(sources, comparator);
+        while (merge.hasNext()) {
+            target.add(merge.next());
+        }
+        return target;
+    }
+
+    /**
+     * Возвращает true, если в источниках остались элементы.
+     *
+     * @return true, если следующий вызов {@link #next()} вернёт элемент
+     */
+    @Override
+    public boolean hasNext() {
+        return !sources.isEmpty() && !exhausted[tree[0]];
+    }
+
+    /**
+     * Возвращает наименьший из текущих элементов источников и переигрывает путь его источника в дереве.
+     *
+     * @return следующий элемент в порядке компаратора
+     * @throws NoSuchElementException если элементы закончились
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        int winner = tree[0];
+        T result = heads[winner];
+        advance(winner);
+
+        for (int node = (winner + sources.size()) >>> 1; node > 0; node >>>= 1) {
+            int opponent = tree[node];
+            if (beats(opponent, winner)) {
+                tree[node] = winner;
+                winner = opponent;
+            }
+        }
+        tree[0] = winner;
+        return result;
+    }
+
+    /**
+     * Проводит матчи в поддереве с корнем {@code node}, записывает проигравших и возвращает выигравшего.
+     */
+    private int build(int node) {
+        int k = sources.size();
+        if (node >= k) {
+            return node - k;
+        }
+
+        int left = build(2 * node);
+        int right = build(2 * node + 1);
+        if (beats(left, right)) {
+            tree[node] = right;
+            return left;
+        }
+        tree[node] = left;
+        return right;
+    }
+
+    /**
+     * Источник {@code a} выигрывает у {@code b}, если его текущий элемент меньше,
+     * или элементы равны и {@code a} идёт раньше. Закончившийся источник всегда проигрывает.
+     */
+    private boolean beats(int a, int b) {
+        if (exhausted[a]) {
+            return false;
+        }
+        if (exhausted[b]) {
+            return true;
+        }
+        int cmp = comparator.compare(heads[a], heads[b]);
+        return cmp < 0 || (cmp == 0 && a < b);
+    }
+
+    private void advance(int source) {
+        Iterator<? extends T> iterator = sources.get(source);
+        if (iterator.hasNext()) {
+            heads[source] = iterator.next();
+        }
+        else {
+            heads[source] = null;
+            exhausted[source] = true;
+        }
+    }
+}
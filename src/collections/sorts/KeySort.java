@@ -0,0 +1,205 @@
+package collections.sorts;
+
+import collections.interfaces.CustomList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Сортировка по ключу с предварительным вычислением ключей (decorate-sort-undecorate).
+ * <p>В интерфейсе {@link CustomList} реализованы дефолтные методы {@link CustomList#sortBy(Function)}
+ * и {@link CustomList#sortBy(Function, Comparator)}, вызывающие метод сортировки данного класса.
+ * Ключи {@code int}, {@code long} и {@code double} сортируются поразрядно в {@link RadixSort}.</p>
+ *
+ * <p>Особенности реализации:
+ * <ul>
+ *   <li>Ключ каждого элемента вычисляется ровно один раз и сохраняется в массиве, параллельном элементам;
+ *       при сортировке через {@link Comparator#comparing(Function)} ключ вычислялся бы при каждом сравнении,
+ *       то есть около 2·n·log<sub>2</sub>n раз</li>
+ *   <li>Сортируется массив индексов {@code int[]}: элементы и ключи не перемещаются, пары (ключ, элемент)
+ *       не создаются</li>
+ *   <li>Индексы сортируются восходящим слиянием с упорядочиванием вставками коротких участков;
+ *       слияние пропускается, если участки уже упорядочены</li>
+ *   <li>Элементы переставляются в порядке индексов за один проход</li>
+ *   <li>Алгоритм устойчивый (сохраняет порядок элементов с равными ключами)</li>
+ *   <li>При включённом сборе статистики ({@link SortStats#setListener(SortListener)}) сообщает сравнения ключей,
+ *       перестановку элементов, временные массивы ключей и индексов и время</li>
+ * </ul>
+ *
+ * <p>Пример использования:
+ * <pre>{@code
+ * CustomList<String> dates = ...;
+ * dates.sortBy(LocalDate::parse);
+ * }</pre>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип элементов в сортируемом списке
+ * @see RadixSort
+ * @see CustomList
+ */
+public class KeySort<T> {
+
+    /**
+     * Участки такой длины упорядочиваются вставками перед слиянием
+     */
+    private static final int INSERTION_SORT_RUN = 32;
+
+    /**
+     * Устойчиво сортирует список по ключу, вычисляя ключ каждого элемента один раз.
+     *
+     * @param <T> тип элементов списка
+     * @param <K> тип ключа
+     * @param list сортируемый список
+     * @param keyExtractor функция, извлекающая ключ сортировки
+     * @param keyComparator компаратор для сравнения ключей
+     * @return отсортированный список
+     * @throws NullPointerException если {@code list}, {@code keyExtractor} или {@code keyComparator} равны {@code null}
+     */
+    public static <T, K> CustomList<T> sort(CustomList<T> list, Function<? super T, ? extends K> keyExtractor,
+                                            Comparator<? super K> keyComparator) {
+        Objects.requireNonNull(list , "List cannot be null");
+        Objects.requireNonNull(keyExtractor , "keyExtractor cannot be null");
+        Objects.requireNonNull(keyComparator , "comparator cannot be null");
+
+        if (list.size() <= 1) {
+            return list;
+        }
+
+        list.applyToArray((array, from, to) -> sort((T[]) array, from, to, keyExtractor, keyComparator));
+        return list;
+    }
+
+    /**
+     * Устойчиво сортирует диапазон массива {@code [from, to)} по ключу, вычисляя ключ каждого элемента один раз.
+     *
+     * @param <T> тип элементов массива
+     * @param <K> тип ключа
+     * @param array сортируемый массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @param keyExtractor функция, извлекающая ключ сортировки
+     * @param keyComparator компаратор для сравнения ключей
+     * @throws NullPointerException если {@code array}, {@code keyExtractor} или {@code keyComparator} равны {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    public static <T, K> void sort(T[] array, int from, int to, Function<? super T, ? extends K> keyExtractor,
+                                   Comparator<? super K> keyComparator) {
+        Objects.requireNonNull(array , "Array cannot be null");
+        Objects.requireNonNull(keyExtractor , "keyExtractor cannot be null");
+        Objects.requireNonNull(keyComparator , "comparator cannot be null");
+        Objects.checkFromToIndex(from, to, array.length);
+
+        int length = to - from;
+        if (length <= 1) {
+            return;
+        }
+
+        SortStats stats = SortStats.start("KeySort", length);
+        if (stats == null) {
+            sort(array, from, length, keyExtractor, keyComparator, null);
+            return;
+        }
+        try {
+            sort(array, from, length, keyExtractor, stats.countComparisons(keyComparator), stats);
+            stats.markCompleted();
+        }
+        finally {
+            stats.finish();
+        }
+    }
+
+    /**
+     * Вычисляет ключи, сортирует индексы и переставляет элементы,
+     * учитывая буферы и перемещения в {@code stats}, если он не {@code null}.
+     */
+    private static <T, K> void sort(T[] array, int from, int length, Function<? super T, ? extends K> keyExtractor,
+                                    Comparator<? super K> keyComparator, SortStats stats) {
+        K[] keys = (K[]) new Object[length];
+        int[] order = new int[length];
+        for (int i = 0; i < length; i++) {
+            keys[i] = keyExtractor.apply(array[from + i]);
+            order[i] = i;
+        }
+
+        order = sortIndices(order, keys, keyComparator, stats);
+
+        Object[] values = Arrays.copyOfRange(array, from, from + length, Object[].class);
+        for (int i = 0; i < length; i++) {
+            array[from + i] = (T) values[order[i]];
+        }
+        if (stats != null) {
+            stats.addScratch(length);
+            stats.addScratch(length, Integer.BYTES);
+            stats.addScratch(length);
+            stats.addMoves(length);
+        }
+    }
+
+    /**
+     * Устойчиво сортирует индексы по ключам восходящим слиянием.
+     *
+     * @return массив с отсортированными индексами (исходный или временный буфер)
+     */
+    private static <K> int[] sortIndices(int[] order, K[] keys, Comparator<? super K> keyComparator, SortStats stats) {
+        int length = order.length;
+        for (int low = 0; low < length; low += INSERTION_SORT_RUN) {
+            insertionSort(order, low, Math.min(low + INSERTION_SORT_RUN, length), keys, keyComparator);
+        }
+        if (length <= INSERTION_SORT_RUN) {
+            return order;
+        }
+
+        int[] buffer = new int[length];
+        if (stats != null) {
+            stats.addScratch(length, Integer.BYTES);
+        }
+        for (int width = INSERTION_SORT_RUN; width < length; width <<= 1) {
+            for (int low = 0; low < length; low += width << 1) {
+                int mid = Math.min(low + width, length);
+                int high = Math.min(low + (width << 1), length);
+                merge(order, buffer, low, mid, high, keys, keyComparator);
+            }
+            int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
+    }
+
+    private static <K> void insertionSort(int[] order, int low, int high, K[] keys, Comparator<? super K> keyComparator) {
+        for (int i = low + 1; i < high; i++) {
+            int current = order[i];
+            K key = keys[current];
+            int j = i - 1;
+            while (j >= low && keyComparator.compare(keys[order[j]], key) > 0) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = current;
+        }
+    }
+
+    /**
+     * Сливает участки {@code source[low, mid)} и {@code source[mid, high)} в {@code target[low, high)}.
+     */
+    private static <K> void merge(int[] source, int[] target, int low, int mid, int high,
+                                  K[] keys, Comparator<? super K> keyComparator) {
+        if (mid >= high || keyComparator.compare(keys[source[mid - 1]], keys[source[mid]]) <= 0) {
+            System.arraycopy(source, low, target, low, high - low);
+            return;
+        }
+
+        int i = low;
+        int j = mid;
+        int k = low;
+        while (i < mid && j < high) {
+            target[k++] = keyComparator.compare(keys[source[j]], keys[source[i]]) < 0 ? source[j++] : source[i++];
+        }
+        System.arraycopy(source, i, target, k, mid - i);
+        System.arraycopy(source, j, target, k + (mid - i), high - j);
+    }
+}
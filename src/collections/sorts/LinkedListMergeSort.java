@@ -0,0 +1,194 @@
+package collections.sorts;
+
+import collections.LinkedListNode;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Восходящая сортировка слиянием (bottom-up Merge Sort) для цепочки узлов {@link LinkedListNode}.
+ *
+ * <p>{@link collections.CustomLinkedList} переопределяет методы сортировки интерфейса {@link collections.interfaces.CustomList}
+ * и вызывает метод данного класса, по этому нет необходимости вызывать этот класс напрямую.</p>
+ *
+ * <p>Особенности реализации:
+ * <ul>
+ *   <li>Узлы не копируются и не создаются: меняются только ссылки {@code next}/{@code prev}</li>
+ *   <li>Нет доступа по индексу: каждый проход читает цепочку последовательно, поэтому время работы O(n log n)</li>
+ *   <li>На каждом проходе сливаются соседние отсортированные участки длиной 1, 2, 4, ... узлов,
+ *       дополнительная память - O(1), рекурсии нет</li>
+ *   <li>Алгоритм устойчивый (сохраняет порядок равных элементов)</li>
+ *   <li>При включённом сборе статистики ({@link SortStats#setListener(SortListener)}) сообщает сравнения,
+ *       присоединения узлов и число проходов слияния</li>
+ * </ul>
+ *
+ * <p>Пример использования:
+ * <pre>{@code
+ * CustomList<String> list = new CustomLinkedList<>();
+ * list.add("banana");
+ * list.add("apple");
+ * list.add("orange");
+ *
+ * CustomList<String> sorted = list.mergeSort(String::compareTo);
+ * }</pre>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип элементов в сортируемой цепочке
+ * @see LinkedListNode
+ * @see collections.CustomLinkedList
+ */
+public class LinkedListMergeSort<T> {
+
+    /**
+     * Сортирует цепочку узлов, начинающуюся с {@code head}, перецепляя узлы.
+     * <p>
+     * После сортировки ссылка {@code next} последнего узла равна {@code null},
+     * а ссылки {@code prev} указывают на предыдущие узлы в новом порядке.
+     * Если компаратор выбрасывает исключение, необработанные узлы текущего прохода присоединяются
+     * к уже слитой части: цепочка остаётся корректной и содержит все узлы, но может быть отсортирована частично.
+     * Её первый узел находится по ссылкам {@code prev} от любого узла.
+     * </p>
+     *
+     * @param <T> тип элементов цепочки
+     * @param head первый узел цепочки, может быть {@code null}
+     * @param comparator компаратор для сравнения элементов
+     * @return первый узел отсортированной цепочки
+     * @throws NullPointerException если {@code comparator} равен {@code null}
+     */
+    public static <T> LinkedListNode<T> sort(LinkedListNode<T> head, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+
+        if (head == null || head.getNext() == null) {
+            return head;
+        }
+
+        SortStats stats = SortStats.getListener() == null ? null : SortStats.start("LinkedListMergeSort", length(head));
+        if (stats == null) {
+            return sort(head, comparator, null);
+        }
+        try {
+            LinkedListNode<T> sorted = sort(head, stats.countComparisons(comparator), stats);
+            stats.markCompleted();
+            return sorted;
+        }
+        finally {
+            stats.finish();
+        }
+    }
+
+    private static int length(LinkedListNode<?> head) {
+        int length = 0;
+        for (LinkedListNode<?> current = head; current != null; current = current.getNext()) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Выполняет проходы слияния, учитывая перецепления узлов и число проходов в {@code stats}, если он не {@code null}.
+     */
+    private static <T> LinkedListNode<T> sort(LinkedListNode<T> head, Comparator<? super T> comparator, SortStats stats) {
+        int passes = 0;
+        int runLength = 1;
+        while (true) {
+            LinkedListNode<T> remaining = head;
+            LinkedListNode<T> tail = null;
+            LinkedListNode<T> left = null;
+            LinkedListNode<T> right = null;
+            int leftSize = 0;
+            int merges = 0;
+            long placed = 0;
+            head = null;
+
+            try {
+                while (remaining != null) {
+                    merges++;
+
+                    left = remaining;
+                    right = left;
+                    leftSize = 0;
+                    while (leftSize < runLength && right != null) {
+                        leftSize++;
+                        right = right.getNext();
+                    }
+                    int rightSize = runLength;
+
+                    while (leftSize > 0 || (rightSize > 0 && right != null)) {
+                        LinkedListNode<T> next;
+                        if (leftSize == 0) {
+                            next = right;
+                            right = right.getNext();
+                            rightSize--;
+                        }
+                        else if (rightSize == 0 || right == null
+                                || comparator.compare(left.getNode(), right.getNode()) <= 0) {
+                            next = left;
+                            left = left.getNext();
+                            leftSize--;
+                        }
+                        else {
+                            next = right;
+                            right = right.getNext();
+                            rightSize--;
+                        }
+
+                        link(tail, next);
+                        if (tail == null) {
+                            head = next;
+                        }
+                        tail = next;
+                        placed++;
+                    }
+
+                    remaining = right;
+                }
+            }
+            catch (RuntimeException | Error e) {
+                appendUnmerged(tail, left, leftSize, right);
+                throw e;
+            }
+
+            tail.setNext(null);
+
+            if (stats != null) {
+                stats.addMoves(placed);
+                stats.recordDepth(++passes);
+            }
+            if (merges <= 1) {
+                return head;
+            }
+            runLength <<= 1;
+        }
+    }
+
+    /**
+     * Присоединяет к {@code tail} необработанные узлы прерванного слияния: {@code leftSize} узлов левого участка,
+     * начиная с {@code left}, и цепочку от {@code right} до конца прохода. Ссылки {@code next} этих узлов
+     * ещё не менялись, поэтому они обходятся без дополнительной памяти.
+     */
+    private static <T> void appendUnmerged(LinkedListNode<T> tail, LinkedListNode<T> left, int leftSize, LinkedListNode<T> right) {
+        for (; leftSize > 0; leftSize--) {
+            LinkedListNode<T> next = left.getNext();
+            link(tail, left);
+            tail = left;
+            left = next;
+        }
+        for (; right != null; right = right.getNext()) {
+            link(tail, right);
+            tail = right;
+        }
+        tail.setNext(null);
+    }
+
+    /**
+     * Присоединяет узел {@code node} после {@code tail}; {@code tail} равен {@code null} для первого узла цепочки.
+     */
+    private static <T> void link(LinkedListNode<T> tail, LinkedListNode<T> node) {
+        if (tail != null) {
+            tail.setNext(node);
+        }
+        node.setPrev(tail);
+    }
+}
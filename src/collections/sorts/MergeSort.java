@@ -11,6 +11,8 @@ import java.util.RandomAccess;
  *
  * <p>В интерфейсе {@link CustomList} реализованы дефолтные методы: {@link CustomList#mergeSort()} ()} и {@link CustomList#mergeSort(Comparator comparator)}, вызывающие  метод сортировки данного класса</T></p>
  * <p>По этому нет необходимости вызывать этот класс, а сразу вызывать метод сортировки из класса, реализующего интерфейс {@link CustomList}</p>
+ * <p>Сортировку выполняет {@link MergeSorter} текущего потока: буфер слияния переиспользуется между вызовами,
+ * поэтому повторные сортировки не выделяют временный массив размером со список.</p>
  *
  * <p>Пример использования:
  * <pre>{@code
@@ -28,6 +30,7 @@ import java.util.RandomAccess;
  * @param <T> тип элементов в сортируемом списке
  * @see Comparator
  * @see RandomAccess
+ * @see MergeSorter
  */
 public class MergeSort<T> {
 
@@ -35,7 +38,7 @@ public class MergeSort<T> {
      * Сортирует список с использованием алгоритма сортировки слиянием.
      *
      * @param <T> тип элементов списка
-     * @param list сортируемый список (должен реализовывать RandomAccess)
+     * @param list сортируемый список
      * @param comparator компаратор для сравнения элементов
      * @return отсортированный список
      * @throws NullPointerException если {@code list} или {@code comparator} равны {@code null}
@@ -48,41 +51,31 @@ public class MergeSort<T> {
             return list;
         }
 
-        T[] temp = (T[]) new Object[list.size()];
-        mergeSort(list, 0, list.size() - 1, temp, comparator);
+        list.applyToArray((array, from, to) -> sort((T[]) array, from, to, comparator));
         return list;
     }
 
-    private static <T> void mergeSort(CustomList<T> list, int left, int right, T[] temp, Comparator<? super T> comparator) {
-        if (left < right) {
-            int mid = left + (right - left) / 2;
-
-            mergeSort(list, left, mid, temp, comparator);
-            mergeSort(list, mid + 1, right, temp, comparator);
-
-            merge(list, left, mid, right, temp, comparator);
-        }
-    }
-
-    private static <T> void merge(CustomList<T> list, int left, int mid, int right, T[] temp, Comparator<? super T> comparator) {
-        for (int i = left; i <= right; i++) {
-            temp[i] = list.get(i);
-        }
-
-        int i = left;
-        int j = mid + 1;
-        int k = left;
+    /**
+     * Сортирует диапазон массива {@code [from, to)} с использованием алгоритма сортировки слиянием.
+     * Используется буфер сортировщика текущего потока {@link MergeSorter#forCurrentThread()}.
+     *
+     * @param <T> тип элементов массива
+     * @param array сортируемый массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @param comparator компаратор для сравнения элементов
+     * @throws NullPointerException если {@code array} или {@code comparator} равны {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    public static <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator) {
+        Objects.requireNonNull(array , "Array cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+        Objects.checkFromToIndex(from, to, array.length);
 
-        while (i <= mid && j <= right) {
-            if (comparator.compare(temp[i], temp[j]) <= 0) {
-                list.set(k++, temp[i++]);
-            } else {
-                list.set(k++, temp[j++]);
-            }
+        if (to - from <= 1) {
+            return;
         }
 
-        while (i <= mid) {
-            list.set(k++, temp[i++]);
-        }
+        MergeSorter.forCurrentThread().sort(array, from, to, comparator);
     }
 }
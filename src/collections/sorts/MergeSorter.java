@@ -0,0 +1,429 @@
+package collections.sorts;
+
+import collections.interfaces.CustomList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Сортировка слиянием с повторно используемым буфером.
+ *
+ * <p>Один экземпляр сортирует сколько угодно массивов и списков: буфер слияния создаётся при первой сортировке,
+ * растёт только когда сортируемый диапазон длиннее всех предыдущих, и сохраняется между вызовами.
+ * В установившемся режиме сортировка {@link collections.CustomArrayList} не выделяет память.
+ * {@link MergeSort} использует экземпляр текущего потока {@link #forCurrentThread()}.</p>
+ *
+ * <p>Особенности реализации:
+ * <ul>
+ *   <li>Участки длиной не более 32 элементов сортируются вставками, затем сливаются попарно;
+ *       слияние пропускается, если участки уже упорядочены</li>
+ *   <li>В буфер копируется только меньшая из сливаемых частей, поэтому буфер не превышает n/2 элементов</li>
+ *   <li>Размер буфера можно ограничить ({@link #MergeSorter(int)}). Если меньшая часть не помещается в буфер,
+ *       части делятся бинарным поиском и переставляются поворотом (rotation) до тех пор, пока не поместятся.
+ *       С нулевым буфером ({@link #inPlace()}) слияние полностью выполняется поворотами без дополнительной памяти
+ *       за O(n log<sup>2</sup> n)</li>
+ *   <li>После каждой сортировки использованная часть буфера очищается, чтобы буфер не удерживал элементы от сборки мусора</li>
+ *   <li>Алгоритм устойчивый (сохраняет порядок равных элементов)</li>
+ *   <li>Экземпляр не потокобезопасен: каждому потоку нужен свой сортировщик</li>
+ *   <li>При включённом сборе статистики ({@link SortStats#setListener(SortListener)}) выделенной памятью
+ *       считается только новый буфер: сортировка с переиспользованным буфером сообщает 0 байт</li>
+ * </ul>
+ *
+ * <p>Пример использования:
+ * <pre>{@code
+ * MergeSorter sorter = new MergeSorter();
+ * for (CustomList<Order> batch : batches) {
+ *     sorter.sort(batch, Order::compareTo);
+ * }
+ * }</pre>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see MergeSort
+ */
+public final class MergeSorter {
+
+    /**
+     * Максимальный размер буфера, который сохраняет сортировщик текущего потока между вызовами.
+     * Буфер большего размера освобождается после сортировки.
+     */
+    public static final int MAX_RETAINED_THREAD_SCRATCH = 1 << 16;
+
+    /**
+     * Участки такой и меньшей длины сортируются вставками
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private static final Object[] EMPTY_SCRATCH = {};
+
+    private static final ThreadLocal<MergeSorter> THREAD_SORTER =
+            ThreadLocal.withInitial(() -> new MergeSorter(Integer.MAX_VALUE, MAX_RETAINED_THREAD_SCRATCH));
+
+    private final int maxScratchLength;
+    private final int retainedScratchLength;
+    private Object[] scratch = EMPTY_SCRATCH;
+    private int scratchUsed;
+    private boolean sorting;
+
+    /**
+     * Статистика текущей сортировки или {@code null}, если сбор статистики выключен
+     */
+    private SortStats stats;
+
+    /**
+     * Создаёт сортировщик, буфер которого растёт до n/2 элементов сортируемого диапазона.
+     */
+    public MergeSorter() {
+        this(Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Создаёт сортировщик с ограниченным буфером.
+     *
+     * @param maxScratchLength максимальный размер буфера в элементах; 0 - слияние только поворотами
+     * @throws IllegalArgumentException если {@code maxScratchLength} меньше нуля
+     */
+    public MergeSorter(int maxScratchLength) {
+        this(maxScratchLength, Integer.MAX_VALUE);
+    }
+
+    private MergeSorter(int maxScratchLength, int retainedScratchLength) {
+        if (maxScratchLength < 0) {
+            throw new IllegalArgumentException("maxScratchLength cannot be negative: " + maxScratchLength);
+        }
+        this.maxScratchLength = maxScratchLength;
+        this.retainedScratchLength = retainedScratchLength;
+    }
+
+    /**
+     * Создаёт сортировщик, который сливает участки поворотами без дополнительной памяти.
+     *
+     * @return сортировщик с нулевым буфером
+     */
+    public static MergeSorter inPlace() {
+        return new MergeSorter(0);
+    }
+
+    /**
+     * Возвращает сортировщик текущего потока.
+     * <p>
+     * Буфер сохраняется между вызовами, если не превышает {@link #MAX_RETAINED_THREAD_SCRATCH} элементов.
+     * Если сортировщик потока уже занят (компаратор сам вызывает сортировку), возвращается новый экземпляр.
+     * </p>
+     *
+     * @return сортировщик, который можно использовать в текущем потоке
+     */
+    public static MergeSorter forCurrentThread() {
+        MergeSorter sorter = THREAD_SORTER.get();
+        return sorter.sorting ? new MergeSorter() : sorter;
+    }
+
+    /**
+     * Возвращает текущий размер буфера в элементах.
+     *
+     * @return размер буфера, сохранённого между вызовами
+     */
+    public int scratchCapacity() {
+        return scratch.length;
+    }
+
+    /**
+     * Устойчиво сортирует список.
+     *
+     * @param <T> тип элементов списка
+     * @param list сортируемый список
+     * @param comparator компаратор для сравнения элементов
+     * @return отсортированный список
+     * @throws NullPointerException если {@code list} или {@code comparator} равны {@code null}
+     * @throws IllegalStateException если сортировщик уже выполняет сортировку
+     */
+    public <T> CustomList<T> sort(CustomList<T> list, Comparator<? super T> comparator) {
+        Objects.requireNonNull(list , "List cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+
+        if (list.size() <= 1) {
+            return list;
+        }
+
+        list.applyToArray((array, from, to) -> sort((T[]) array, from, to, comparator));
+        return list;
+    }
+
+    /**
+     * Устойчиво сортирует диапазон массива {@code [from, to)}.
+     *
+     * @param <T> тип элементов массива
+     * @param array сортируемый массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @param comparator компаратор для сравнения элементов
+     * @throws NullPointerException если {@code array} или {@code comparator} равны {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     * @throws IllegalStateException если сортировщик уже выполняет сортировку
+     */
+    public <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator) {
+        Objects.requireNonNull(array , "Array cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+        Objects.checkFromToIndex(from, to, array.length);
+        if (sorting) {
+            throw new IllegalStateException("MergeSorter is already sorting");
+        }
+
+        if (to - from <= 1) {
+            return;
+        }
+
+        SortStats sortStats = SortStats.start("MergeSorter", to - from);
+        Comparator<? super T> sortComparator = sortStats == null ? comparator : sortStats.countComparisons(comparator);
+
+        sorting = true;
+        stats = sortStats;
+        try {
+            ensureScratch(Math.min((to - from) >>> 1, maxScratchLength));
+            mergeSort(array, from, to, 0, sortComparator);
+            if (sortStats != null) {
+                sortStats.markCompleted();
+            }
+        }
+        finally {
+            Arrays.fill(scratch, 0, scratchUsed, null);
+            scratchUsed = 0;
+            if (scratch.length > retainedScratchLength) {
+                scratch = EMPTY_SCRATCH;
+            }
+            stats = null;
+            sorting = false;
+            if (sortStats != null) {
+                sortStats.finish();
+            }
+        }
+    }
+
+    private <T> void mergeSort(T[] array, int low, int high, int level, Comparator<? super T> comparator) {
+        if (high - low <= INSERTION_SORT_THRESHOLD) {
+            int moves = insertionSort(array, low, high, comparator);
+            if (stats != null) {
+                stats.addMoves(moves);
+                stats.recordDepth(level);
+            }
+            return;
+        }
+
+        int mid = (low + high) >>> 1;
+        mergeSort(array, low, mid, level + 1, comparator);
+        mergeSort(array, mid, high, level + 1, comparator);
+
+        if (comparator.compare(array[mid - 1], array[mid]) > 0) {
+            merge(array, low, mid, high, comparator);
+        }
+    }
+
+    /**
+     * Сливает упорядоченные части {@code [low, mid)} и {@code [mid, high)}.
+     * Меньшая часть копируется в буфер; если она не помещается, части делятся поворотом.
+     */
+    private <T> void merge(T[] array, int low, int mid, int high, Comparator<? super T> comparator) {
+        while (low < mid && mid < high) {
+            int leftLength = mid - low;
+            int rightLength = high - mid;
+
+            if (Math.min(leftLength, rightLength) <= maxScratchLength) {
+                int moves = leftLength <= rightLength
+                        ? mergeLow(array, low, mid, high, comparator)
+                        : mergeHigh(array, low, mid, high, comparator);
+                if (stats != null) {
+                    stats.addMoves(moves);
+                }
+                return;
+            }
+
+            if (leftLength + rightLength == 2) {
+                if (comparator.compare(array[mid], array[low]) < 0) {
+                    swap(array, low, mid);
+                    if (stats != null) {
+                        stats.addSwaps(1);
+                    }
+                }
+                return;
+            }
+
+            // Делим большую часть пополам и находим место её середины в другой части
+            int leftCut;
+            int rightCut;
+            if (leftLength >= rightLength) {
+                leftCut = low + (leftLength >>> 1);
+                rightCut = lowerBound(array, mid, high, array[leftCut], comparator);
+            }
+            else {
+                rightCut = mid + (rightLength >>> 1);
+                leftCut = upperBound(array, low, mid, array[rightCut], comparator);
+            }
+
+            rotate(array, leftCut, mid, rightCut);
+            if (stats != null) {
+                stats.addSwaps(((mid - leftCut) >>> 1) + ((rightCut - mid) >>> 1) + ((rightCut - leftCut) >>> 1));
+            }
+            int newMid = leftCut + (rightCut - mid);
+
+            // Рекурсия по меньшей паре участков, цикл - по большей
+            if ((newMid - low) < (high - newMid)) {
+                merge(array, low, leftCut, newMid, comparator);
+                low = newMid;
+                mid = rightCut;
+            }
+            else {
+                merge(array, newMid, rightCut, high, comparator);
+                high = newMid;
+                mid = leftCut;
+            }
+        }
+    }
+
+    /**
+     * Слияние с копированием левой части в буфер, заполнение слева направо.
+     *
+     * @return число записей элементов в массив
+     */
+    private <T> int mergeLow(T[] array, int low, int mid, int high, Comparator<? super T> comparator) {
+        int leftLength = mid - low;
+        Object[] buffer = scratch;
+        System.arraycopy(array, low, buffer, 0, leftLength);
+
+        int i = 0;
+        int j = mid;
+        int k = low;
+        while (i < leftLength && j < high) {
+            T left = (T) buffer[i];
+            if (comparator.compare(array[j], left) < 0) {
+                array[k++] = array[j++];
+            }
+            else {
+                array[k++] = left;
+                i++;
+            }
+        }
+        System.arraycopy(buffer, i, array, k, leftLength - i);
+        return k - low + leftLength - i;
+    }
+
+    /**
+     * Слияние с копированием правой части в буфер, заполнение справа налево.
+     *
+     * @return число записей элементов в массив
+     */
+    private <T> int mergeHigh(T[] array, int low, int mid, int high, Comparator<? super T> comparator) {
+        int rightLength = high - mid;
+        Object[] buffer = scratch;
+        System.arraycopy(array, mid, buffer, 0, rightLength);
+
+        int i = mid - 1;
+        int j = rightLength - 1;
+        int k = high - 1;
+        while (i >= low && j >= 0) {
+            T right = (T) buffer[j];
+            if (comparator.compare(right, array[i]) < 0) {
+                array[k--] = array[i--];
+            }
+            else {
+                array[k--] = right;
+                j--;
+            }
+        }
+        System.arraycopy(buffer, 0, array, low, j + 1);
+        return high - 1 - k + j + 1;
+    }
+
+    /**
+     * Готовит буфер для сортировки: меньшая часть любого слияния не длиннее половины диапазона,
+     * поэтому буфер выделяется не более одного раза за сортировку и только если текущего не хватает.
+     */
+    private void ensureScratch(int length) {
+        if (scratch.length < length) {
+            scratch = new Object[length];
+            if (stats != null) {
+                stats.addScratch(length);
+            }
+        }
+        scratchUsed = length;
+    }
+
+    /**
+     * Первая позиция в {@code [low, high)}, элемент на которой не меньше {@code key}.
+     */
+    private static <T> int lowerBound(T[] array, int low, int high, T key, Comparator<? super T> comparator) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(array[mid], key) < 0) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Первая позиция в {@code [low, high)}, элемент на которой больше {@code key}.
+     */
+    private static <T> int upperBound(T[] array, int low, int high, T key, Comparator<? super T> comparator) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(key, array[mid]) < 0) {
+                high = mid;
+            }
+            else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Меняет местами соседние участки {@code [low, mid)} и {@code [mid, high)} тремя разворотами.
+     */
+    private static void rotate(Object[] array, int low, int mid, int high) {
+        if (low == mid || mid == high) {
+            return;
+        }
+        reverse(array, low, mid);
+        reverse(array, mid, high);
+        reverse(array, low, high);
+    }
+
+    private static void reverse(Object[] array, int low, int high) {
+        for (high--; low < high; low++, high--) {
+            Object temp = array[low];
+            array[low] = array[high];
+            array[high] = temp;
+        }
+    }
+
+    /**
+     * Сортирует участок вставками.
+     *
+     * @return число записей элементов в массив
+     */
+    private static <T> int insertionSort(T[] array, int low, int high, Comparator<? super T> comparator) {
+        int moves = 0;
+        for (int i = low + 1; i < high; i++) {
+            T current = array[i];
+            int j = i - 1;
+            while (j >= low && comparator.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+            moves += i - j;
+        }
+        return moves;
+    }
+
+    private static void swap(Object[] array, int i, int j) {
+        Object temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
@@ -0,0 +1,243 @@
+package collections.sorts;
+
+import collections.interfaces.CustomList;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Параллельная сортировка слиянием (Merge Sort) на основе {@link ForkJoinPool}.
+ *
+ * <p>В интерфейсе {@link CustomList} реализованы дефолтные методы: {@link CustomList#parallelMergeSort()} и {@link CustomList#parallelMergeSort(Comparator comparator)}, вызывающие метод сортировки данного класса</p>
+ * <p>{@link collections.CustomArrayList} передаёт сортировке свой внутренний массив через
+ * {@link CustomList#applyToArray(collections.interfaces.ArrayOperation)},
+ * без копирования элементов и без вызовов {@code get}/{@code set} через интерфейс.</p>
+ *
+ * <p>Особенности реализации:
+ * <ul>
+ *   <li>Диапазон рекурсивно делится пополам, половины сортируются как отдельные задачи {@link ForkJoinPool}</li>
+ *   <li>Диапазоны короче порога ({@link #DEFAULT_THRESHOLD} по умолчанию) сортируются последовательно</li>
+ *   <li>Используется один общий буфер размером с сортируемый диапазон, задачи работают с непересекающимися его участками</li>
+ *   <li>Алгоритм устойчивый (сохраняет порядок равных элементов)</li>
+ * </ul>
+ *
+ * <p>Пример использования:
+ * <pre>{@code
+ * CustomList<String> list = new CustomArrayList<>();
+ * list.add("banana");
+ * list.add("apple");
+ * list.add("orange");
+ *
+ * CustomList<String> sorted = list.parallelMergeSort(String::compareTo);
+ * }</pre>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип элементов в сортируемом списке
+ * @see MergeSort
+ * @see ForkJoinPool
+ */
+public class ParallelMergeSort<T> {
+
+    /**
+     * Порог по умолчанию: диапазоны меньшей длины сортируются в текущем потоке
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    /**
+     * Диапазоны меньшей длины сортируются вставками
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * Сортирует список с использованием параллельной сортировки слиянием в общем пуле {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * Сортируется массив, полученный через {@link CustomList#applyToArray(collections.interfaces.ArrayOperation)}.
+     * </p>
+     *
+     * @param <T> тип элементов списка
+     * @param list сортируемый список
+     * @param comparator компаратор для сравнения элементов
+     * @return отсортированный список
+     * @throws NullPointerException если {@code list} или {@code comparator} равны {@code null}
+     */
+    public static <T> CustomList<T> sort(CustomList<T> list, Comparator<? super T> comparator) {
+        Objects.requireNonNull(list , "List cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+
+        if (list.size() <= 1) {
+            return list;
+        }
+
+        list.applyToArray((array, from, to) -> sort((T[]) array, from, to, comparator));
+        return list;
+    }
+
+    /**
+     * Сортирует диапазон массива {@code [from, to)} в общем пуле {@link ForkJoinPool#commonPool()}
+     * с порогом {@link #DEFAULT_THRESHOLD}.
+     *
+     * @param <T> тип элементов массива
+     * @param array сортируемый массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @param comparator компаратор для сравнения элементов
+     * @throws NullPointerException если {@code array} или {@code comparator} равны {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    public static <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator) {
+        sort(array, from, to, comparator, DEFAULT_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Сортирует диапазон массива {@code [from, to)} в указанном пуле.
+     *
+     * @param <T> тип элементов массива
+     * @param array сортируемый массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @param comparator компаратор для сравнения элементов
+     * @param threshold длина диапазона, ниже которой сортировка выполняется последовательно
+     * @param pool пул, в котором выполняются задачи сортировки
+     * @throws NullPointerException если {@code array}, {@code comparator} или {@code pool} равны {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     * @throws IllegalArgumentException если {@code threshold} меньше или равен нулю
+     */
+    public static <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator, int threshold, ForkJoinPool pool) {
+        Objects.requireNonNull(array , "Array cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+        Objects.requireNonNull(pool , "pool cannot be null");
+        Objects.checkFromToIndex(from, to, array.length);
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+
+        if (to - from <= 1) {
+            return;
+        }
+
+        SortStats stats = SortStats.start("ParallelMergeSort", to - from);
+        Comparator<? super T> sortComparator = stats == null ? comparator : stats.countComparisonsConcurrently(comparator);
+        T[] temp = (T[]) new Object[to - from];
+        if (stats != null) {
+            stats.addScratch(temp.length);
+        }
+        SortTask<T> task = new SortTask<>(array, temp, from, from, to, sortComparator, threshold);
+
+        try {
+            if (to - from <= threshold) {
+                task.compute();
+            }
+            else {
+                pool.invoke(task);
+            }
+            if (stats != null) {
+                stats.markCompleted();
+            }
+        }
+        finally {
+            if (stats != null) {
+                stats.finish();
+            }
+        }
+    }
+
+    /**
+     * Задача сортировки диапазона {@code [from, to)}.
+     * Делит диапазон пополам, пока он длиннее порога, затем сливает отсортированные половины.
+     */
+    private static final class SortTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] array;
+        private final T[] temp;
+        private final int offset;
+        private final int from;
+        private final int to;
+        private final Comparator<? super T> comparator;
+        private final int threshold;
+
+        SortTask(T[] array, T[] temp, int offset, int from, int to, Comparator<? super T> comparator, int threshold) {
+            this.array = array;
+            this.temp = temp;
+            this.offset = offset;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                sequentialSort(array, temp, offset, from, to, comparator);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new SortTask<>(array, temp, offset, from, mid, comparator, threshold),
+                    new SortTask<>(array, temp, offset, mid, to, comparator, threshold));
+
+            merge(array, temp, offset, from, mid, to, comparator);
+        }
+    }
+
+    private static <T> void sequentialSort(T[] array, T[] temp, int offset, int from, int to, Comparator<? super T> comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(array, from, to, comparator);
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        sequentialSort(array, temp, offset, from, mid, comparator);
+        sequentialSort(array, temp, offset, mid, to, comparator);
+        merge(array, temp, offset, from, mid, to, comparator);
+    }
+
+    private static <T> void insertionSort(T[] array, int from, int to, Comparator<? super T> comparator) {
+        for (int i = from + 1; i < to; i++) {
+            T current = array[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    /**
+     * Сливает отсортированные диапазоны {@code [from, mid)} и {@code [mid, to)}.
+     * Во временный буфер копируется только левая половина.
+     * Элемент {@code array[i]} хранится в буфере по индексу {@code i - offset}.
+     */
+    private static <T> void merge(T[] array, T[] temp, int offset, int from, int mid, int to, Comparator<? super T> comparator) {
+        if (comparator.compare(array[mid - 1], array[mid]) <= 0) {
+            return;
+        }
+
+        System.arraycopy(array, from, temp, from - offset, mid - from);
+
+        int i = from - offset;
+        int leftEnd = mid - offset;
+        int j = mid;
+        int k = from;
+
+        while (i < leftEnd && j < to) {
+            if (comparator.compare(temp[i], array[j]) <= 0) {
+                array[k++] = temp[i++];
+            } else {
+                array[k++] = array[j++];
+            }
+        }
+
+        while (i < leftEnd) {
+            array[k++] = temp[i++];
+        }
+    }
+}
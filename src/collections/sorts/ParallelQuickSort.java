@@ -0,0 +1,298 @@
+package collections.sorts;
+
+import collections.interfaces.CustomList;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Параллельная быстрая сортировка (QuickSort) на основе {@link ForkJoinPool}.
+ *
+ * <p>В интерфейсе {@link CustomList} реализованы дефолтные методы: {@link CustomList#parallelSort()} и {@link CustomList#parallelSort(Comparator comparator)}, вызывающие метод сортировки данного класса</p>
+ *
+ * <p>Особенности реализации:
+ * <ul>
+ *   <li>Диапазон разбивается трёхпутевым разбиением, после чего части меньше и больше опорного элемента
+ *       сортируются как отдельные задачи {@link ForkJoinPool}; элементы, равные опорному, больше не затрагиваются</li>
+ *   <li>Опорный элемент - медиана трёх, для длинных диапазонов - медиана трёх медиан (ninther)</li>
+ *   <li>Диапазоны короче порога ({@link #DEFAULT_THRESHOLD} по умолчанию) сортируются последовательно {@link IntroSort}</li>
+ *   <li>Если глубина разбиений превышает 2·log<sub>2</sub>n, диапазон досортировывается {@link IntroSort},
+ *       поэтому время работы в худшем случае O(n log n)</li>
+ *   <li>Пул задаётся параметром, по умолчанию используется {@link ForkJoinPool#commonPool()}</li>
+ *   <li>Сортировку можно отменить через {@link CancellationToken}: задачи проверяют токен перед каждым разбиением,
+ *       а внутри разбиения и последовательной досортировки - каждые {@link #CANCELLATION_CHECK_INTERVAL} шагов,
+ *       и завершаются {@link CancellationException}; после отмены массив содержит те же элементы в частично упорядоченном виде</li>
+ *   <li>Дополнительная память - только стек задач, буферов нет</li>
+ *   <li>Алгоритм не является устойчивым (не сохраняет порядок равных элементов)</li>
+ * </ul>
+ *
+ * <p>Пример использования:
+ * <pre>{@code
+ * CustomList<String> list = new CustomArrayList<>();
+ * list.add("banana");
+ * list.add("apple");
+ * list.add("orange");
+ *
+ * CustomList<String> sorted = list.parallelSort(String::compareTo);
+ * }</pre>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип элементов в сортируемом списке
+ * @see IntroSort
+ * @see ParallelMergeSort
+ * @see CancellationToken
+ */
+public class ParallelQuickSort<T> {
+
+    /**
+     * Порог по умолчанию: диапазоны меньшей длины сортируются в текущем потоке
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    /**
+     * Диапазоны не короче этого значения выбирают опорный элемент как медиану трёх медиан
+     */
+    private static final int NINTHER_THRESHOLD = 128;
+
+    /**
+     * Количество шагов разбиения или сравнений последовательной досортировки между проверками токена отмены
+     */
+    public static final int CANCELLATION_CHECK_INTERVAL = 1 << 12;
+
+    /**
+     * Сортирует список параллельной быстрой сортировкой в общем пуле {@link ForkJoinPool#commonPool()}.
+     *
+     * @param <T> тип элементов списка
+     * @param list сортируемый список
+     * @param comparator компаратор для сравнения элементов
+     * @return отсортированный список
+     * @throws NullPointerException если {@code list} или {@code comparator} равны {@code null}
+     */
+    public static <T> CustomList<T> sort(CustomList<T> list, Comparator<? super T> comparator) {
+        return sort(list, comparator, ForkJoinPool.commonPool(), CancellationToken.NONE);
+    }
+
+    /**
+     * Сортирует список параллельной быстрой сортировкой в указанном пуле с возможностью отмены.
+     * <p>
+     * Сортируется массив, полученный через {@link CustomList#applyToArray(collections.interfaces.ArrayOperation)}.
+     * При отмене в список записываются все его элементы в частично упорядоченном виде.
+     * </p>
+     *
+     * @param <T> тип элементов списка
+     * @param list сортируемый список
+     * @param comparator компаратор для сравнения элементов
+     * @param pool пул, в котором выполняются задачи сортировки
+     * @param token токен отмены
+     * @return отсортированный список
+     * @throws NullPointerException если любой из параметров равен {@code null}
+     * @throws CancellationException если сортировка была отменена через {@code token}
+     */
+    public static <T> CustomList<T> sort(CustomList<T> list, Comparator<? super T> comparator,
+                                         ForkJoinPool pool, CancellationToken token) {
+        Objects.requireNonNull(list , "List cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+        Objects.requireNonNull(pool , "pool cannot be null");
+        Objects.requireNonNull(token , "token cannot be null");
+
+        if (list.size() <= 1) {
+            return list;
+        }
+
+        list.applyToArray((array, from, to) -> sort((T[]) array, from, to, comparator, DEFAULT_THRESHOLD, pool, token));
+        return list;
+    }
+
+    /**
+     * Сортирует диапазон массива {@code [from, to)} в общем пуле {@link ForkJoinPool#commonPool()}
+     * с порогом {@link #DEFAULT_THRESHOLD}.
+     *
+     * @param <T> тип элементов массива
+     * @param array сортируемый массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @param comparator компаратор для сравнения элементов
+     * @throws NullPointerException если {@code array} или {@code comparator} равны {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    public static <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator) {
+        sort(array, from, to, comparator, DEFAULT_THRESHOLD, ForkJoinPool.commonPool(), CancellationToken.NONE);
+    }
+
+    /**
+     * Сортирует диапазон массива {@code [from, to)} в указанном пуле с возможностью отмены.
+     *
+     * @param <T> тип элементов массива
+     * @param array сортируемый массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @param comparator компаратор для сравнения элементов
+     * @param threshold длина диапазона, ниже которой сортировка выполняется последовательно
+     * @param pool пул, в котором выполняются задачи сортировки
+     * @param token токен отмены
+     * @throws NullPointerException если {@code array}, {@code comparator}, {@code pool} или {@code token} равны {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     * @throws IllegalArgumentException если {@code threshold} меньше или равен нулю
+     * @throws CancellationException если сортировка была отменена через {@code token}
+     */
+    public static <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator,
+                                int threshold, ForkJoinPool pool, CancellationToken token) {
+        Objects.requireNonNull(array , "Array cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+        Objects.requireNonNull(pool , "pool cannot be null");
+        Objects.requireNonNull(token , "token cannot be null");
+        Objects.checkFromToIndex(from, to, array.length);
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+
+        token.throwIfCancelled();
+        if (to - from <= 1) {
+            return;
+        }
+
+        SortStats stats = SortStats.start("ParallelQuickSort", to - from);
+        Comparator<? super T> sortComparator = stats == null ? comparator : stats.countComparisonsConcurrently(comparator);
+        int depth = 2 * (31 - Integer.numberOfLeadingZeros(to - from));
+        SortTask<T> task = new SortTask<>(array, from, to, depth, sortComparator, threshold, token);
+
+        try {
+            if (to - from <= threshold) {
+                task.compute();
+            }
+            else {
+                pool.invoke(task);
+            }
+            if (stats != null) {
+                stats.markCompleted();
+            }
+        }
+        finally {
+            if (stats != null) {
+                stats.finish();
+            }
+        }
+    }
+
+    /**
+     * Задача сортировки диапазона {@code [low, high)}.
+     * Разбивает диапазон и сортирует обе части как отдельные задачи, пока он длиннее порога.
+     */
+    private static final class SortTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] array;
+        private final int low;
+        private final int high;
+        private final int depth;
+        private final Comparator<? super T> comparator;
+        private final int threshold;
+        private final CancellationToken token;
+
+        SortTask(T[] array, int low, int high, int depth, Comparator<? super T> comparator,
+                 int threshold, CancellationToken token) {
+            this.array = array;
+            this.low = low;
+            this.high = high;
+            this.depth = depth;
+            this.comparator = comparator;
+            this.threshold = threshold;
+            this.token = token;
+        }
+
+        @Override
+        protected void compute() {
+            token.throwIfCancelled();
+
+            if (high - low <= threshold || depth == 0) {
+                IntroSort.sort(array, low, high, cancellable(comparator, token), null);
+                return;
+            }
+
+            T pivot = choosePivot(array, low, high, comparator);
+
+            // Трёхпутевое разбиение: [low, lt) < pivot, [lt, gt) == pivot, [gt, high) > pivot
+            int lt = low;
+            int i = low;
+            int gt = high;
+            int steps = 0;
+            while (i < gt) {
+                if (++steps == CANCELLATION_CHECK_INTERVAL) {
+                    token.throwIfCancelled();
+                    steps = 0;
+                }
+                int cmp = comparator.compare(array[i], pivot);
+                if (cmp < 0) {
+                    swap(array, lt++, i++);
+                }
+                else if (cmp > 0) {
+                    swap(array, i, --gt);
+                }
+                else {
+                    i++;
+                }
+            }
+
+            invokeAll(
+                    new SortTask<>(array, low, lt, depth - 1, comparator, threshold, token),
+                    new SortTask<>(array, gt, high, depth - 1, comparator, threshold, token));
+        }
+    }
+
+    /**
+     * Возвращает компаратор, который проверяет токен отмены каждые {@link #CANCELLATION_CHECK_INTERVAL} сравнений.
+     * Экземпляр используется одной задачей, поэтому счётчик не синхронизируется.
+     */
+    private static <T> Comparator<? super T> cancellable(Comparator<? super T> comparator, CancellationToken token) {
+        if (token == CancellationToken.NONE) {
+            return comparator;
+        }
+        int[] comparisons = {0};
+        return (left, right) -> {
+            if (++comparisons[0] == CANCELLATION_CHECK_INTERVAL) {
+                token.throwIfCancelled();
+                comparisons[0] = 0;
+            }
+            return comparator.compare(left, right);
+        };
+    }
+
+    private static <T> T choosePivot(T[] array, int low, int high, Comparator<? super T> comparator) {
+        int last = high - 1;
+        int mid = low + ((high - low) >>> 1);
+        if (high - low < NINTHER_THRESHOLD) {
+            return medianOfThree(array, low, mid, last, comparator);
+        }
+
+        int step = (high - low) >>> 3;
+        T first = medianOfThree(array, low, low + step, low + 2 * step, comparator);
+        T middle = medianOfThree(array, mid - step, mid, mid + step, comparator);
+        T third = medianOfThree(array, last - 2 * step, last - step, last, comparator);
+        return median(first, middle, third, comparator);
+    }
+
+    private static <T> T medianOfThree(T[] array, int a, int b, int c, Comparator<? super T> comparator) {
+        return median(array[a], array[b], array[c], comparator);
+    }
+
+    private static <T> T median(T x, T y, T z, Comparator<? super T> comparator) {
+        if (comparator.compare(x, y) < 0) {
+            if (comparator.compare(y, z) < 0) return y;
+            return comparator.compare(x, z) < 0 ? z : x;
+        }
+        if (comparator.compare(x, z) < 0) return x;
+        return comparator.compare(y, z) < 0 ? z : y;
+    }
+
+    private static <T> void swap(T[] array, int i, int j) {
+        T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
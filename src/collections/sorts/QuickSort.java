@@ -14,7 +14,10 @@ import java.util.RandomAccess;
  *
  * <p>Особенности реализации:
  * <ul>
- *   <li>Опорный элемент (pivot) выбирается как последний элемент подмассива</li>
+ *   <li>Сортировка выполняется интроспективной сортировкой {@link IntroSort}: опорный элемент - медиана трёх,
+ *       разбиение трёхпутевое, при превышении глубины рекурсии подмассив досортировывается пирамидальной сортировкой</li>
+ *   <li>Прежний вариант с опорным элементом в конце подмассива деградировал до O(n<sup>2</sup>)
+ *       на упорядоченных данных и мог переполнить стек</li>
  *   <li>Алгоритм не является устойчивым (не сохраняет порядок равных элементов)</li>
  * </ul>
  *
@@ -32,6 +35,7 @@ import java.util.RandomAccess;
  * @author 4ndr33w
  *
  * @param <T> тип элементов в сортируемом списке
+ * @see IntroSort
  * @see CustomList
  * @see Comparator
  * @see RandomAccess
@@ -51,37 +55,6 @@ public class QuickSort<T> {
         Objects.requireNonNull(list , "List cannot be null");
         Objects.requireNonNull(comparator , "comparator cannot be null");
 
-        quickSort(list, 0, list.size() - 1, comparator);
-        return list;
+        return IntroSort.sort(list, comparator);
     }
-
-    private static <T> void quickSort(CustomList<T> list, int low, int high, Comparator<? super T> comparator) {
-        if (low < high) {
-            int partitionIndex = partition(list, low, high, comparator);
-            quickSort(list, low, partitionIndex - 1, comparator);
-            quickSort(list, partitionIndex + 1, high, comparator);
-        }
-    }
-
-    private static <T> int partition(CustomList<T> list, int low, int high, Comparator<? super T> comparator) {
-        T pivot = list.get(high);
-        int i = low - 1;
-
-        for (int j = low; j < high; j++) {
-            if (comparator.compare(list.get(j), pivot) <= 0) {
-                i++;
-                swap(list, i, j);
-            }
-        }
-
-        swap(list, i + 1, high);
-        return i + 1;
-    }
-
-    private static <T> void swap(CustomList<T> list, int i, int j) {
-        T temp = list.get(i);
-        list.set(i, list.get(j));
-        list.set(j, temp);
-    }
-
 }
@@ -0,0 +1,648 @@
+package collections.sorts;
+
+import collections.interfaces.CustomList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Поразрядная сортировка (LSD Radix Sort) по целочисленному ключу.
+ *
+ * <p>Сортирует элементы по ключу {@code int}, {@code long} или {@code double}, извлекаемому функцией
+ * ({@link ToIntFunction}/{@link ToLongFunction}/{@link ToDoubleFunction}), а также массивы примитивов и примитивные списки
+ * {@link collections.primitives.IntCustomArrayList}, {@link collections.primitives.LongCustomArrayList},
+ * {@link collections.primitives.DoubleCustomArrayList}.</p>
+ *
+ * <p>Особенности реализации:
+ * <ul>
+ *   <li>Ключ каждого элемента вычисляется один раз и хранится в массиве параллельно с элементами</li>
+ *   <li>Ключ разбирается на байты, начиная с младшего: 4 прохода для {@code int}, 8 для {@code long};
+ *       время работы O(n·k) без единого вызова {@link Comparator}</li>
+ *   <li>Гистограммы всех разрядов считаются за один предварительный проход в одном массиве;
+ *       проход по разряду, в котором у всех ключей одинаковый байт, пропускается
+ *       (например, старшие байты близких меток времени)</li>
+ *   <li>Два временных буфера (ключи и элементы) выделяются один раз и используются всеми проходами поочерёдно</li>
+ *   <li>Знаковые ключи упорядочиваются инверсией знакового бита, {@code double} - преобразованием битов
+ *       в порядок {@link Double#compare(double, double)}</li>
+ *   <li>Диапазоны короче {@link #RADIX_THRESHOLD} сортируются вставками по уже вычисленным ключам (элементы)
+ *       или {@link Arrays#sort(int[], int, int)} (примитивы)</li>
+ *   <li>Алгоритм устойчивый (сохраняет порядок элементов с равными ключами), поэтому его можно
+ *       комбинировать с другими устойчивыми сортировками</li>
+ *   <li>При включённом сборе статистики ({@link SortStats#setListener(SortListener)}) сообщает перемещения элементов,
+ *       число выполненных проходов, временные буферы и время; компаратор не вызывается, поэтому сравнений нет</li>
+ * </ul>
+ *
+ * <p>Пример использования:
+ * <pre>{@code
+ * CustomList<Order> orders = ...;
+ * RadixSort.sortByLongKey(orders, Order::getTimestamp);
+ * }</pre>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип элементов в сортируемом списке
+ * @see KeySort
+ */
+public class RadixSort<T> {
+
+    /**
+     * Диапазоны короче этого значения сортируются сравнениями
+     */
+    public static final int RADIX_THRESHOLD = 256;
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+
+    /**
+     * Устойчиво сортирует список по ключу {@code int}.
+     *
+     * @param <T> тип элементов списка
+     * @param list сортируемый список
+     * @param keyExtractor функция, извлекающая ключ сортировки
+     * @return отсортированный список
+     * @throws NullPointerException если {@code list} или {@code keyExtractor} равны {@code null}
+     */
+    public static <T> CustomList<T> sortByIntKey(CustomList<T> list, ToIntFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(list , "List cannot be null");
+        Objects.requireNonNull(keyExtractor , "keyExtractor cannot be null");
+
+        if (list.size() <= 1) {
+            return list;
+        }
+
+        list.applyToArray((array, from, to) -> sortByIntKey((T[]) array, from, to, keyExtractor));
+        return list;
+    }
+
+    /**
+     * Устойчиво сортирует список по ключу {@code long}.
+     *
+     * @param <T> тип элементов списка
+     * @param list сортируемый список
+     * @param keyExtractor функция, извлекающая ключ сортировки
+     * @return отсортированный список
+     * @throws NullPointerException если {@code list} или {@code keyExtractor} равны {@code null}
+     */
+    public static <T> CustomList<T> sortByLongKey(CustomList<T> list, ToLongFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(list , "List cannot be null");
+        Objects.requireNonNull(keyExtractor , "keyExtractor cannot be null");
+
+        if (list.size() <= 1) {
+            return list;
+        }
+
+        list.applyToArray((array, from, to) -> sortByLongKey((T[]) array, from, to, keyExtractor));
+        return list;
+    }
+
+    /**
+     * Устойчиво сортирует диапазон массива {@code [from, to)} по ключу {@code int}.
+     *
+     * @param <T> тип элементов массива
+     * @param array сортируемый массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @param keyExtractor функция, извлекающая ключ сортировки
+     * @throws NullPointerException если {@code array} или {@code keyExtractor} равны {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    public static <T> void sortByIntKey(T[] array, int from, int to, ToIntFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array , "Array cannot be null");
+        Objects.requireNonNull(keyExtractor , "keyExtractor cannot be null");
+        Objects.checkFromToIndex(from, to, array.length);
+
+        int length = to - from;
+        SortStats stats = SortStats.start("RadixSort", length);
+        try {
+            int[] keys = new int[length];
+            for (int i = 0; i < length; i++) {
+                keys[i] = keyExtractor.applyAsInt(array[from + i]) ^ Integer.MIN_VALUE;
+            }
+            Object[] values = Arrays.copyOfRange(array, from, to, Object[].class);
+            if (stats != null) {
+                stats.addScratch(length, Integer.BYTES);
+                stats.addScratch(length);
+            }
+
+            Object[] sorted = length < RADIX_THRESHOLD
+                    ? insertionSort(keys, values, length, stats)
+                    : radixSort(keys, values, length, stats);
+            System.arraycopy(sorted, 0, array, from, length);
+            if (stats != null) {
+                stats.addMoves(length);
+                stats.markCompleted();
+            }
+        }
+        finally {
+            if (stats != null) {
+                stats.finish();
+            }
+        }
+    }
+
+    /**
+     * Устойчиво сортирует диапазон массива {@code [from, to)} по ключу {@code long}.
+     *
+     * @param <T> тип элементов массива
+     * @param array сортируемый массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @param keyExtractor функция, извлекающая ключ сортировки
+     * @throws NullPointerException если {@code array} или {@code keyExtractor} равны {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    public static <T> void sortByLongKey(T[] array, int from, int to, ToLongFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array , "Array cannot be null");
+        Objects.requireNonNull(keyExtractor , "keyExtractor cannot be null");
+        Objects.checkFromToIndex(from, to, array.length);
+
+        SortStats stats = SortStats.start("RadixSort", to - from);
+        try {
+            long[] keys = new long[to - from];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = keyExtractor.applyAsLong(array[from + i]) ^ Long.MIN_VALUE;
+            }
+            sortByKeys(array, from, to, keys, stats);
+        }
+        finally {
+            if (stats != null) {
+                stats.finish();
+            }
+        }
+    }
+
+    /**
+     * Устойчиво сортирует список по ключу {@code double} в порядке {@link Double#compare(double, double)}.
+     *
+     * @param <T> тип элементов списка
+     * @param list сортируемый список
+     * @param keyExtractor функция, извлекающая ключ сортировки
+     * @return отсортированный список
+     * @throws NullPointerException если {@code list} или {@code keyExtractor} равны {@code null}
+     */
+    public static <T> CustomList<T> sortByDoubleKey(CustomList<T> list, ToDoubleFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(list , "List cannot be null");
+        Objects.requireNonNull(keyExtractor , "keyExtractor cannot be null");
+
+        if (list.size() <= 1) {
+            return list;
+        }
+
+        list.applyToArray((array, from, to) -> sortByDoubleKey((T[]) array, from, to, keyExtractor));
+        return list;
+    }
+
+    /**
+     * Устойчиво сортирует диапазон массива {@code [from, to)} по ключу {@code double}
+     * в порядке {@link Double#compare(double, double)}: {@code -0.0} перед {@code 0.0}, {@code NaN} в конце.
+     *
+     * @param <T> тип элементов массива
+     * @param array сортируемый массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @param keyExtractor функция, извлекающая ключ сортировки
+     * @throws NullPointerException если {@code array} или {@code keyExtractor} равны {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    public static <T> void sortByDoubleKey(T[] array, int from, int to, ToDoubleFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array , "Array cannot be null");
+        Objects.requireNonNull(keyExtractor , "keyExtractor cannot be null");
+        Objects.checkFromToIndex(from, to, array.length);
+
+        SortStats stats = SortStats.start("RadixSort", to - from);
+        try {
+            long[] keys = new long[to - from];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = sortableBits(keyExtractor.applyAsDouble(array[from + i]));
+            }
+            sortByKeys(array, from, to, keys, stats);
+        }
+        finally {
+            if (stats != null) {
+                stats.finish();
+            }
+        }
+    }
+
+    /**
+     * Переставляет элементы диапазона в порядке беззнаковых ключей, вычисленных заранее,
+     * и отмечает успешное завершение в {@code stats}, если он не {@code null}.
+     */
+    private static <T> void sortByKeys(T[] array, int from, int to, long[] keys, SortStats stats) {
+        int length = to - from;
+        Object[] values = Arrays.copyOfRange(array, from, to, Object[].class);
+        if (stats != null) {
+            stats.addScratch(length, Long.BYTES);
+            stats.addScratch(length);
+        }
+
+        Object[] sorted = length < RADIX_THRESHOLD
+                ? insertionSort(keys, values, length, stats)
+                : radixSort(keys, values, length, stats);
+        System.arraycopy(sorted, 0, array, from, length);
+        if (stats != null) {
+            stats.addMoves(length);
+            stats.markCompleted();
+        }
+    }
+
+    /**
+     * Сортирует диапазон массива {@code int} по возрастанию.
+     *
+     * @param array сортируемый массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @throws NullPointerException если {@code array} равен {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    public static void sort(int[] array, int from, int to) {
+        Objects.requireNonNull(array , "Array cannot be null");
+        Objects.checkFromToIndex(from, to, array.length);
+
+        int length = to - from;
+        SortStats stats = SortStats.start("RadixSort", length);
+        try {
+            if (length < RADIX_THRESHOLD) {
+                Arrays.sort(array, from, to);
+            }
+            else {
+                int[] keys = new int[length];
+                for (int i = 0; i < length; i++) {
+                    keys[i] = array[from + i] ^ Integer.MIN_VALUE;
+                }
+                if (stats != null) {
+                    stats.addScratch(length, Integer.BYTES);
+                }
+
+                keys = radixSortKeys(keys, length, stats);
+                for (int i = 0; i < length; i++) {
+                    array[from + i] = keys[i] ^ Integer.MIN_VALUE;
+                }
+            }
+            if (stats != null) {
+                stats.markCompleted();
+            }
+        }
+        finally {
+            if (stats != null) {
+                stats.finish();
+            }
+        }
+    }
+
+    /**
+     * Сортирует диапазон массива {@code long} по возрастанию.
+     *
+     * @param array сортируемый массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @throws NullPointerException если {@code array} равен {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    public static void sort(long[] array, int from, int to) {
+        Objects.requireNonNull(array , "Array cannot be null");
+        Objects.checkFromToIndex(from, to, array.length);
+
+        int length = to - from;
+        SortStats stats = SortStats.start("RadixSort", length);
+        try {
+            if (length < RADIX_THRESHOLD) {
+                Arrays.sort(array, from, to);
+            }
+            else {
+                long[] keys = new long[length];
+                for (int i = 0; i < length; i++) {
+                    keys[i] = array[from + i] ^ Long.MIN_VALUE;
+                }
+                if (stats != null) {
+                    stats.addScratch(length, Long.BYTES);
+                }
+
+                keys = radixSortKeys(keys, length, stats);
+                for (int i = 0; i < length; i++) {
+                    array[from + i] = keys[i] ^ Long.MIN_VALUE;
+                }
+            }
+            if (stats != null) {
+                stats.markCompleted();
+            }
+        }
+        finally {
+            if (stats != null) {
+                stats.finish();
+            }
+        }
+    }
+
+    /**
+     * Сортирует диапазон массива {@code double} по возрастанию в порядке {@link Double#compare(double, double)}:
+     * {@code -0.0} перед {@code 0.0}, {@code NaN} в конце.
+     *
+     * @param array сортируемый массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @throws NullPointerException если {@code array} равен {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    public static void sort(double[] array, int from, int to) {
+        Objects.requireNonNull(array , "Array cannot be null");
+        Objects.checkFromToIndex(from, to, array.length);
+
+        int length = to - from;
+        SortStats stats = SortStats.start("RadixSort", length);
+        try {
+            if (length < RADIX_THRESHOLD) {
+                Arrays.sort(array, from, to);
+            }
+            else {
+                long[] keys = new long[length];
+                for (int i = 0; i < length; i++) {
+                    keys[i] = sortableBits(array[from + i]);
+                }
+                if (stats != null) {
+                    stats.addScratch(length, Long.BYTES);
+                }
+
+                keys = radixSortKeys(keys, length, stats);
+                for (int i = 0; i < length; i++) {
+                    array[from + i] = fromSortableBits(keys[i]);
+                }
+            }
+            if (stats != null) {
+                stats.markCompleted();
+            }
+        }
+        finally {
+            if (stats != null) {
+                stats.finish();
+            }
+        }
+    }
+
+    /**
+     * Преобразует {@code double} в {@code long}, беззнаковый порядок которого совпадает
+     * с порядком {@link Double#compare(double, double)}: у отрицательных чисел инвертируются все биты,
+     * у положительных - только знаковый. Все {@code NaN} приводятся к одному каноническому значению.
+     */
+    private static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    private static double fromSortableBits(long key) {
+        long bits = key ^ ((~key >> 63) | Long.MIN_VALUE);
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Сортирует ключи (беззнаковый порядок) вместе с элементами.
+     *
+     * @return массив элементов в отсортированном порядке (исходный или временный буфер)
+     */
+    private static Object[] radixSort(int[] keys, Object[] values, int length, SortStats stats) {
+        int passes = Integer.SIZE / RADIX_BITS;
+        int[] histogram = histogram(keys, length, passes);
+
+        int[] keyScratch = new int[length];
+        Object[] valueScratch = new Object[length];
+        int executed = 0;
+
+        for (int pass = 0; pass < passes; pass++) {
+            int offset = pass * RADIX;
+            if (!prefixSums(histogram, offset, length)) {
+                continue;
+            }
+            executed++;
+
+            int shift = pass * RADIX_BITS;
+            for (int i = 0; i < length; i++) {
+                int key = keys[i];
+                int position = histogram[offset + ((key >>> shift) & DIGIT_MASK)]++;
+                keyScratch[position] = key;
+                valueScratch[position] = values[i];
+            }
+
+            int[] swapKeys = keys;
+            keys = keyScratch;
+            keyScratch = swapKeys;
+
+            Object[] swapValues = values;
+            values = valueScratch;
+            valueScratch = swapValues;
+        }
+        if (stats != null) {
+            recordPasses(stats, passes, executed, length);
+            stats.addScratch(length);
+        }
+        return values;
+    }
+
+    private static Object[] radixSort(long[] keys, Object[] values, int length, SortStats stats) {
+        int passes = Long.SIZE / RADIX_BITS;
+        int[] histogram = histogram(keys, length, passes);
+
+        long[] keyScratch = new long[length];
+        Object[] valueScratch = new Object[length];
+        int executed = 0;
+
+        for (int pass = 0; pass < passes; pass++) {
+            int offset = pass * RADIX;
+            if (!prefixSums(histogram, offset, length)) {
+                continue;
+            }
+            executed++;
+
+            int shift = pass * RADIX_BITS;
+            for (int i = 0; i < length; i++) {
+                long key = keys[i];
+                int position = histogram[offset + (int) ((key >>> shift) & DIGIT_MASK)]++;
+                keyScratch[position] = key;
+                valueScratch[position] = values[i];
+            }
+
+            long[] swapKeys = keys;
+            keys = keyScratch;
+            keyScratch = swapKeys;
+
+            Object[] swapValues = values;
+            values = valueScratch;
+            valueScratch = swapValues;
+        }
+        if (stats != null) {
+            recordPasses(stats, passes, executed, length);
+            stats.addScratch(length);
+        }
+        return values;
+    }
+
+    /**
+     * Сортирует ключи без сопутствующих элементов.
+     *
+     * @return массив с отсортированными ключами (исходный или временный буфер)
+     */
+    private static int[] radixSortKeys(int[] keys, int length, SortStats stats) {
+        int passes = Integer.SIZE / RADIX_BITS;
+        int[] histogram = histogram(keys, length, passes);
+        int[] scratch = new int[length];
+        int executed = 0;
+
+        for (int pass = 0; pass < passes; pass++) {
+            int offset = pass * RADIX;
+            if (!prefixSums(histogram, offset, length)) {
+                continue;
+            }
+            executed++;
+
+            int shift = pass * RADIX_BITS;
+            for (int i = 0; i < length; i++) {
+                int key = keys[i];
+                scratch[histogram[offset + ((key >>> shift) & DIGIT_MASK)]++] = key;
+            }
+
+            int[] swap = keys;
+            keys = scratch;
+            scratch = swap;
+        }
+        if (stats != null) {
+            recordPasses(stats, passes, executed, length);
+        }
+        return keys;
+    }
+
+    private static long[] radixSortKeys(long[] keys, int length, SortStats stats) {
+        int passes = Long.SIZE / RADIX_BITS;
+        int[] histogram = histogram(keys, length, passes);
+        long[] scratch = new long[length];
+        int executed = 0;
+
+        for (int pass = 0; pass < passes; pass++) {
+            int offset = pass * RADIX;
+            if (!prefixSums(histogram, offset, length)) {
+                continue;
+            }
+            executed++;
+
+            int shift = pass * RADIX_BITS;
+            for (int i = 0; i < length; i++) {
+                long key = keys[i];
+                scratch[histogram[offset + (int) ((key >>> shift) & DIGIT_MASK)]++] = key;
+            }
+
+            long[] swap = keys;
+            keys = scratch;
+            scratch = swap;
+        }
+        if (stats != null) {
+            recordPasses(stats, passes, executed, length);
+        }
+        return keys;
+    }
+
+    /**
+     * Устойчиво сортирует короткий диапазон вставками, сравнивая ключи как беззнаковые числа.
+     *
+     * @return массив элементов в отсортированном порядке
+     */
+    private static Object[] insertionSort(int[] keys, Object[] values, int length, SortStats stats) {
+        long shifts = 0;
+        for (int i = 1; i < length; i++) {
+            int key = keys[i];
+            Object value = values[i];
+            int j = i - 1;
+            while (j >= 0 && Integer.compareUnsigned(keys[j], key) > 0) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            values[j + 1] = value;
+            shifts += i - 1 - j;
+        }
+        if (stats != null) {
+            stats.addMoves(shifts);
+        }
+        return values;
+    }
+
+    private static Object[] insertionSort(long[] keys, Object[] values, int length, SortStats stats) {
+        long shifts = 0;
+        for (int i = 1; i < length; i++) {
+            long key = keys[i];
+            Object value = values[i];
+            int j = i - 1;
+            while (j >= 0 && Long.compareUnsigned(keys[j], key) > 0) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            values[j + 1] = value;
+            shifts += i - 1 - j;
+        }
+        if (stats != null) {
+            stats.addMoves(shifts);
+        }
+        return values;
+    }
+
+    /**
+     * Учитывает выполненные проходы (каждый переставляет {@code length} элементов),
+     * временный буфер ключей и гистограмму. Ширина ключа в байтах равна {@code passes}, так как разряд - один байт.
+     */
+    private static void recordPasses(SortStats stats, int passes, int executed, int length) {
+        stats.addMoves((long) executed * length);
+        stats.recordDepth(executed);
+        stats.addScratch(length, passes * RADIX_BITS / Byte.SIZE);
+        stats.addScratch(passes * RADIX, Integer.BYTES);
+    }
+
+    /**
+     * Считает гистограммы всех разрядов за один проход.
+     * Гистограмма разряда {@code pass} занимает ячейки {@code [pass * RADIX, (pass + 1) * RADIX)}.
+     */
+    private static int[] histogram(int[] keys, int length, int passes) {
+        int[] histogram = new int[passes * RADIX];
+        for (int i = 0; i < length; i++) {
+            int key = keys[i];
+            for (int pass = 0; pass < passes; pass++) {
+                histogram[pass * RADIX + ((key >>> (pass * RADIX_BITS)) & DIGIT_MASK)]++;
+            }
+        }
+        return histogram;
+    }
+
+    private static int[] histogram(long[] keys, int length, int passes) {
+        int[] histogram = new int[passes * RADIX];
+        for (int i = 0; i < length; i++) {
+            long key = keys[i];
+            for (int pass = 0; pass < passes; pass++) {
+                histogram[pass * RADIX + (int) ((key >>> (pass * RADIX_BITS)) & DIGIT_MASK)]++;
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Превращает гистограмму разряда в начальные позиции корзин.
+     *
+     * @return false, если все ключи попадают в одну корзину и проход можно пропустить
+     */
+    private static boolean prefixSums(int[] histogram, int offset, int length) {
+        int sum = 0;
+        for (int digit = 0; digit < RADIX; digit++) {
+            int count = histogram[offset + digit];
+            if (count == length) {
+                return false;
+            }
+            histogram[offset + digit] = sum;
+            sum += count;
+        }
+        return true;
+    }
+}
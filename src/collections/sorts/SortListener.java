@@ -0,0 +1,29 @@
+package collections.sorts;
+
+/**
+ * Получатель статистики завершённых сортировок.
+ * <p>
+ * Регистрируется через {@link SortStats#setListener(SortListener)}. Пока получатель не зарегистрирован,
+ * сортировки не собирают статистику и не тратят на это время.
+ * </p>
+ * <p>
+ * Метод вызывается в потоке, выполнившем сортировку, сразу после её завершения,
+ * поэтому реализация должна быть потокобезопасной и быстрой (например, добавлять значения в метрики).
+ * Исключение, выброшенное получателем, передаётся вызвавшему сортировку коду.
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see SortStats
+ */
+@FunctionalInterface
+public interface SortListener {
+
+    /**
+     * Вызывается после каждой сортировки, в том числе завершившейся исключением ({@link SortStats#isCompleted()} равен false).
+     *
+     * @param stats статистика сортировки
+     */
+    void onSortCompleted(SortStats stats);
+}
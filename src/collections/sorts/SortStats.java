@@ -0,0 +1,275 @@
+package collections.sorts;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Статистика одного вызова сортировки: алгоритм, число сравнений, перестановок и перемещений элементов,
+ * наибольшая глубина рекурсии, объём выделенного буфера и время выполнения.
+ *
+ * <p>Статистика собирается, только если зарегистрирован получатель {@link #setListener(SortListener)}.
+ * Без получателя сортировка один раз читает volatile-поле и дальше работает как обычно:
+ * компаратор не оборачивается, время не замеряется, счётчики не обновляются.
+ * Поэтому сбор статистики можно оставить в рабочем коде и включать по необходимости.</p>
+ *
+ * <p>Статистику собирают {@link IntroSort} (и {@link QuickSort}, {@link collections.interfaces.CustomList#sort()}),
+ * {@link MergeSorter} (и {@link MergeSort}), {@link TimSort} ({@link collections.interfaces.CustomList#mergeSort()}),
+ * {@link LinkedListMergeSort} (сортировки {@link collections.CustomLinkedList}), {@link ParallelMergeSort},
+ * {@link ParallelQuickSort}, {@link RadixSort} (в том числе примитивных списков), {@link KeySort},
+ * {@link IntroSelect} (выбор, частичная сортировка и отбор под именами {@code IntroSelect}, {@code PartialSort}
+ * и {@code TopK}) и {@link ExternalSort}. Параллельные сортировки считают сравнения потокобезопасным счётчиком
+ * и сообщают сравнения, выделенный буфер и время; перестановки, перемещения и глубину они не считают.
+ * {@link RadixSort} не вызывает компаратор, поэтому сообщает нулевое число сравнений.
+ * Для {@code TopK} и {@link ExternalSort} число элементов - количество прочитанных из источника элементов;
+ * {@link ExternalSort} сообщает работу до возврата итератора, без итогового ленивого слияния.</p>
+ *
+ * <p>Получатель вызывается и тогда, когда сортировка завершилась исключением (исключение компаратора, отмена):
+ * в этом случае {@link #isCompleted()} возвращает false, а счётчики отражают выполненную часть работы.
+ * Значения счётчиков:
+ * <ul>
+ *   <li>{@link #getComparisons()} - число вызовов компаратора</li>
+ *   <li>{@link #getSwaps()} - число обменов двух элементов местами</li>
+ *   <li>{@link #getMoves()} - число прочих записей элемента в сортируемый массив
+ *       (сдвиги при вставке, запись результата слияния, просеивание в куче;
+ *       для {@link LinkedListMergeSort} - присоединения узла к результату слияния,
+ *       для {@link RadixSort} - раскладка элемента по корзине)</li>
+ *   <li>{@link #getMaxDepth()} - наибольшая глубина вложенности разбиений или слияний
+ *       (для {@link TimSort} - наибольшая высота стека серий, для {@link LinkedListMergeSort} - число проходов слияния,
+ *       для {@link RadixSort} - число выполненных поразрядных проходов)</li>
+ *   <li>{@link #getScratchBytes()} - оценка памяти, выделенной под буферы во время этого вызова
+ *       (заголовок массива и 4 байта на ссылку, как при сжатых ссылках, или размер примитивного элемента;
+ *       для {@link ExternalSort} - ещё буферы ввода-вывода временных файлов); переиспользованный буфер не учитывается</li>
+ *   <li>{@link #getWallNanos()} - время выполнения вместе с вызовами компаратора</li>
+ * </ul>
+ *
+ * <p>Пример использования:
+ * <pre>{@code
+ * SortStats.setListener(stats -> metrics.record(stats.getAlgorithm(), stats.getComparisons(), stats.getWallNanos()));
+ * list.sort(Comparator.naturalOrder());
+ * SortStats.setListener(null);
+ * }</pre>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see SortListener
+ */
+public final class SortStats {
+
+    /**
+     * Оценка размера заголовка массива в байтах
+     */
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    /**
+     * Оценка размера ссылки в байтах (сжатые ссылки)
+     */
+    private static final int REFERENCE_BYTES = 4;
+
+    private static volatile SortListener listener;
+
+    private final SortListener target;
+    private final String algorithm;
+    private int elements;
+    private final long startNanos;
+
+    private long comparisons;
+    private long swaps;
+    private long moves;
+    private int maxDepth;
+    private long scratchBytes;
+    private long wallNanos;
+    private boolean completed;
+
+    /**
+     * Потокобезопасный счётчик сравнений параллельных сортировок; {@code null} для последовательных
+     */
+    private LongAdder concurrentComparisons;
+
+    private SortStats(SortListener target, String algorithm, int elements) {
+        this.target = target;
+        this.algorithm = algorithm;
+        this.elements = elements;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Регистрирует получателя статистики сортировок.
+     *
+     * @param sortListener получатель статистики; {@code null} выключает сбор статистики
+     */
+    public static void setListener(SortListener sortListener) {
+        listener = sortListener;
+    }
+
+    /**
+     * Возвращает зарегистрированного получателя статистики.
+     *
+     * @return получатель статистики или {@code null}, если сбор статистики выключен
+     */
+    public static SortListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Начинает сбор статистики сортировки, если зарегистрирован получатель.
+     *
+     * @return статистика сортировки или {@code null}, если сбор статистики выключен
+     */
+    static SortStats start(String algorithm, int elements) {
+        SortListener current = listener;
+        return current == null ? null : new SortStats(current, algorithm, elements);
+    }
+
+    /**
+     * Оборачивает компаратор счётчиком сравнений.
+     */
+    <T> Comparator<T> countComparisons(Comparator<T> comparator) {
+        return (left, right) -> {
+            comparisons++;
+            return comparator.compare(left, right);
+        };
+    }
+
+    /**
+     * Оборачивает компаратор потокобезопасным счётчиком сравнений для параллельных сортировок.
+     */
+    <T> Comparator<T> countComparisonsConcurrently(Comparator<T> comparator) {
+        LongAdder counter = new LongAdder();
+        concurrentComparisons = counter;
+        return (left, right) -> {
+            counter.increment();
+            return comparator.compare(left, right);
+        };
+    }
+
+    /**
+     * Учитывает прочитанные элементы, если их число неизвестно при старте (отбор из {@link Iterable}).
+     */
+    void addElements(int count) {
+        elements += count;
+    }
+
+    void addSwaps(long count) {
+        swaps += count;
+    }
+
+    void addMoves(long count) {
+        moves += count;
+    }
+
+    void recordDepth(int depth) {
+        if (depth > maxDepth) {
+            maxDepth = depth;
+        }
+    }
+
+    /**
+     * Учитывает выделение буфера из {@code length} ссылок.
+     */
+    void addScratch(int length) {
+        addScratch(length, REFERENCE_BYTES);
+    }
+
+    /**
+     * Учитывает выделение массива из {@code length} элементов по {@code elementBytes} байт (например, ключей или индексов).
+     */
+    void addScratch(int length, int elementBytes) {
+        scratchBytes += ARRAY_HEADER_BYTES + (long) length * elementBytes;
+    }
+
+    /**
+     * Отмечает, что сортировка завершилась без исключения.
+     */
+    void markCompleted() {
+        completed = true;
+    }
+
+    /**
+     * Завершает сбор статистики и передаёт её получателю.
+     * Вызывается в {@code finally}, поэтому получатель узнаёт и о сортировках, завершившихся исключением.
+     */
+    void finish() {
+        wallNanos = System.nanoTime() - startNanos;
+        if (concurrentComparisons != null) {
+            comparisons += concurrentComparisons.sum();
+            concurrentComparisons = null;
+        }
+        target.onSortCompleted(this);
+    }
+
+    /**
+     * @return имя алгоритма, выполнившего сортировку
+     */
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * @return true, если сортировка завершилась без исключения
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * @return количество сортируемых элементов
+     */
+    public int getElements() {
+        return elements;
+    }
+
+    /**
+     * @return число вызовов компаратора
+     */
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    /**
+     * @return число обменов двух элементов местами
+     */
+    public long getSwaps() {
+        return swaps;
+    }
+
+    /**
+     * @return число прочих записей элементов в сортируемый массив
+     */
+    public long getMoves() {
+        return moves;
+    }
+
+    /**
+     * @return наибольшая глубина вложенности разбиений или слияний
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @return оценка памяти в байтах, выделенной под буферы во время сортировки
+     */
+    public long getScratchBytes() {
+        return scratchBytes;
+    }
+
+    /**
+     * @return время выполнения сортировки в наносекундах
+     */
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    @Override
+    public String toString() {
+        return algorithm + "{elements=" + elements
+                + ", comparisons=" + comparisons
+                + ", swaps=" + swaps
+                + ", moves=" + moves
+                + ", maxDepth=" + maxDepth
+                + ", scratchBytes=" + scratchBytes
+                + ", wallNanos=" + wallNanos
+                + ", completed=" + completed + "}";
+    }
+}
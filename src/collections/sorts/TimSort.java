@@ -0,0 +1,723 @@
+package collections.sorts;
+
+import collections.interfaces.CustomList;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Адаптивная устойчивая сортировка слиянием естественных серий (TimSort).
+ *
+ * <p>В интерфейсе {@link CustomList} реализованы дефолтные методы: {@link CustomList#mergeSort()} и {@link CustomList#mergeSort(Comparator comparator)}, вызывающие метод сортировки данного класса</p>
+ * <p>{@link collections.CustomArrayList} сортирует этим классом непосредственно свой внутренний массив.</p>
+ *
+ * <p>Особенности реализации:
+ * <ul>
+ *   <li>Массив разбивается на естественные серии: неубывающие серии используются как есть,
+ *       строго убывающие разворачиваются на месте</li>
+ *   <li>Серии короче минимальной длины (от 16 до 32 элементов) дополняются бинарными вставками</li>
+ *   <li>Серии складываются в стек и сливаются так, чтобы их длины росли не медленнее чисел Фибоначчи</li>
+ *   <li>При слиянии во временный буфер копируется только меньшая из двух серий, поэтому буфер не превышает n/2 элементов</li>
+ *   <li>Если одна серия подряд "выигрывает" много сравнений, слияние переходит в режим галопа
+ *       (экспоненциальный поиск + перенос блока через {@link System#arraycopy})</li>
+ *   <li>Уже отсортированный массив обрабатывается за один проход: O(n) сравнений и ни одного копирования</li>
+ *   <li>Алгоритм устойчивый (сохраняет порядок равных элементов)</li>
+ *   <li>При включённом сборе статистики ({@link SortStats#setListener(SortListener)}) глубиной считается
+ *       наибольшая высота стека серий, а выделенной памятью - все созданные буферы</li>
+ * </ul>
+ *
+ * <p>Пример использования:
+ * <pre>{@code
+ * CustomList<String> list = new CustomArrayList<>();
+ * list.add("banana");
+ * list.add("apple");
+ * list.add("orange");
+ *
+ * CustomList<String> sorted = list.mergeSort(String::compareTo);
+ * }</pre>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @param <T> тип элементов в сортируемом массиве
+ * @see MergeSort
+ * @see CustomList
+ */
+public class TimSort<T> {
+
+    /**
+     * Массивы короче этого значения сортируются бинарными вставками без слияний
+     */
+    private static final int MIN_MERGE = 32;
+
+    /**
+     * Начальный порог перехода в режим галопа
+     */
+    private static final int MIN_GALLOP = 7;
+
+    /**
+     * Начальный размер временного буфера
+     */
+    private static final int INITIAL_TEMP_LENGTH = 256;
+
+    private final T[] array;
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Длина сортируемого диапазона
+     */
+    private final int length;
+
+    /**
+     * Текущий порог перехода в режим галопа. Уменьшается, когда галоп оправдывает себя, и растёт, когда нет.
+     */
+    private int minGallop = MIN_GALLOP;
+
+    /**
+     * Временный буфер для меньшей из сливаемых серий
+     */
+    private T[] temp;
+
+    /**
+     * Стек ещё не слитых серий: начало и длина каждой серии
+     */
+    private final int[] runBase;
+    private final int[] runLength;
+    private int stackSize = 0;
+
+    /**
+     * Статистика сортировки или {@code null}, если сбор статистики выключен
+     */
+    private final SortStats stats;
+
+    private TimSort(T[] array, int length, Comparator<? super T> comparator, SortStats stats) {
+        this.array = array;
+        this.comparator = comparator;
+        this.length = length;
+        this.stats = stats;
+
+        int tempLength = length < 2 * INITIAL_TEMP_LENGTH ? length >>> 1 : INITIAL_TEMP_LENGTH;
+        this.temp = (T[]) new Object[tempLength];
+        if (stats != null) {
+            stats.addScratch(tempLength);
+        }
+
+        // Длины серий в стеке растут не медленнее чисел Фибоначчи,
+        // поэтому для массива из int-индексов хватает 49 ячеек
+        int stackLength = length < 120 ? 5 : length < 1542 ? 10 : length < 119151 ? 24 : 49;
+        this.runBase = new int[stackLength];
+        this.runLength = new int[stackLength];
+    }
+
+    /**
+     * Сортирует список устойчивой адаптивной сортировкой.
+     * <p>
+     * Сортируется массив, полученный через {@link CustomList#applyToArray(collections.interfaces.ArrayOperation)}.
+     * </p>
+     *
+     * @param <T> тип элементов списка
+     * @param list сортируемый список
+     * @param comparator компаратор для сравнения элементов
+     * @return отсортированный список
+     * @throws NullPointerException если {@code list} или {@code comparator} равны {@code null}
+     */
+    public static <T> CustomList<T> sort(CustomList<T> list, Comparator<? super T> comparator) {
+        Objects.requireNonNull(list , "List cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+
+        if (list.size() <= 1) {
+            return list;
+        }
+
+        list.applyToArray((array, from, to) -> sort((T[]) array, from, to, comparator));
+        return list;
+    }
+
+    /**
+     * Сортирует диапазон массива {@code [from, to)} устойчивой адаптивной сортировкой.
+     *
+     * @param <T> тип элементов массива
+     * @param array сортируемый массив
+     * @param from индекс первого элемента диапазона (включительно)
+     * @param to индекс последнего элемента диапазона (не включительно)
+     * @param comparator компаратор для сравнения элементов
+     * @throws NullPointerException если {@code array} или {@code comparator} равны {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    public static <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator) {
+        Objects.requireNonNull(array , "Array cannot be null");
+        Objects.requireNonNull(comparator , "comparator cannot be null");
+        Objects.checkFromToIndex(from, to, array.length);
+
+        if (to - from < 2) {
+            return;
+        }
+
+        SortStats stats = SortStats.start("TimSort", to - from);
+        if (stats == null) {
+            sort(array, from, to, comparator, null);
+            return;
+        }
+        try {
+            sort(array, from, to, stats.countComparisons(comparator), stats);
+            stats.markCompleted();
+        }
+        finally {
+            stats.finish();
+        }
+    }
+
+    /**
+     * Сортирует диапазон из не менее чем двух элементов без проверки параметров, учитывая работу в {@code stats},
+     * если он не {@code null}. Используется {@link IntroSelect} для досортировки внутри своей статистики.
+     */
+    static <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator, SortStats stats) {
+        int remaining = to - from;
+        if (remaining < MIN_MERGE) {
+            int initialRun = countRunAndMakeAscending(array, from, to, comparator, stats);
+            int moves = binaryInsertionSort(array, from, to, from + initialRun, comparator);
+            if (stats != null) {
+                stats.addMoves(moves);
+            }
+            return;
+        }
+
+        TimSort<T> sorter = new TimSort<>(array, remaining, comparator, stats);
+        int minRun = minRunLength(remaining);
+        int low = from;
+        do {
+            int run = countRunAndMakeAscending(array, low, to, comparator, stats);
+
+            if (run < minRun) {
+                int forced = Math.min(remaining, minRun);
+                int moves = binaryInsertionSort(array, low, low + forced, low + run, comparator);
+                if (stats != null) {
+                    stats.addMoves(moves);
+                }
+                run = forced;
+            }
+
+            sorter.pushRun(low, run);
+            sorter.mergeCollapse();
+
+            low += run;
+            remaining -= run;
+        } while (remaining != 0);
+
+        sorter.mergeForceCollapse();
+    }
+
+    /**
+     * Сортирует вставками диапазон {@code [low, high)}, в котором {@code [low, start)} уже упорядочен.
+     * Позиция вставки ищется бинарным поиском, сдвиг выполняется одним {@link System#arraycopy}.
+     *
+     * @return число записей элементов в массив
+     */
+    private static <T> int binaryInsertionSort(T[] array, int low, int high, int start, Comparator<? super T> comparator) {
+        if (start == low) {
+            start++;
+        }
+        int moves = 0;
+        for (; start < high; start++) {
+            T pivot = array[start];
+
+            int left = low;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (comparator.compare(pivot, array[mid]) < 0) {
+                    right = mid;
+                }
+                else {
+                    left = mid + 1;
+                }
+            }
+
+            int shift = start - left;
+            if (shift > 0) {
+                System.arraycopy(array, left, array, left + 1, shift);
+            }
+            array[left] = pivot;
+            moves += shift + 1;
+        }
+        return moves;
+    }
+
+    /**
+     * Возвращает длину серии, начинающейся с {@code low}.
+     * Строго убывающая серия разворачивается, чтобы стать возрастающей
+     * (строгость нужна для сохранения устойчивости).
+     */
+    private static <T> int countRunAndMakeAscending(T[] array, int low, int high, Comparator<? super T> comparator,
+                                                    SortStats stats) {
+        int runHigh = low + 1;
+        if (runHigh == high) {
+            return 1;
+        }
+
+        if (comparator.compare(array[runHigh++], array[low]) < 0) {
+            while (runHigh < high && comparator.compare(array[runHigh], array[runHigh - 1]) < 0) {
+                runHigh++;
+            }
+            reverseRange(array, low, runHigh);
+            if (stats != null) {
+                stats.addSwaps((runHigh - low) >>> 1);
+            }
+        }
+        else {
+            while (runHigh < high && comparator.compare(array[runHigh], array[runHigh - 1]) >= 0) {
+                runHigh++;
+            }
+        }
+
+        return runHigh - low;
+    }
+
+    private static void reverseRange(Object[] array, int low, int high) {
+        high--;
+        while (low < high) {
+            Object temp = array[low];
+            array[low++] = array[high];
+            array[high--] = temp;
+        }
+    }
+
+    /**
+     * Минимальная длина серии: число из диапазона [16, 32], при котором
+     * n / minRun равно степени двойки или немного меньше её
+     */
+    private static int minRunLength(int n) {
+        int lowBits = 0;
+        while (n >= MIN_MERGE) {
+            lowBits |= (n & 1);
+            n >>= 1;
+        }
+        return n + lowBits;
+    }
+
+    private void pushRun(int base, int length) {
+        runBase[stackSize] = base;
+        runLength[stackSize] = length;
+        stackSize++;
+        if (stats != null) {
+            stats.recordDepth(stackSize);
+        }
+    }
+
+    /**
+     * Сливает серии на вершине стека, пока не выполняются инварианты
+     * {@code len[i - 2] > len[i - 1] + len[i]} и {@code len[i - 1] > len[i]}.
+     */
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if ((n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1])
+                    || (n > 1 && runLength[n - 2] <= runLength[n - 1] + runLength[n])) {
+                if (runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+            }
+            else if (runLength[n] > runLength[n + 1]) {
+                break;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Сливает все оставшиеся в стеке серии
+     */
+    private void mergeForceCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                n--;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Сливает серии с номерами {@code i} и {@code i + 1} в стеке.
+     */
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int length1 = runLength[i];
+        int base2 = runBase[i + 1];
+        int length2 = runLength[i + 1];
+
+        runLength[i] = length1 + length2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLength[i + 1] = runLength[i + 2];
+        }
+        stackSize--;
+
+        // Элементы первой серии, не превосходящие первый элемент второй, уже на своих местах
+        int skipped = gallopRight(array[base2], array, base1, length1, 0, comparator);
+        base1 += skipped;
+        length1 -= skipped;
+        if (length1 == 0) {
+            return;
+        }
+
+        // Элементы второй серии, не меньшие последнего элемента первой, тоже на своих местах
+        length2 = gallopLeft(array[base1 + length1 - 1], array, base2, length2, length2 - 1, comparator);
+        if (length2 == 0) {
+            return;
+        }
+
+        if (length1 <= length2) {
+            mergeLow(base1, length1, base2, length2);
+        }
+        else {
+            mergeHigh(base1, length1, base2, length2);
+        }
+        if (stats != null) {
+            stats.addMoves(length1 + length2);
+        }
+    }
+
+    /**
+     * Находит самую левую позицию для вставки {@code key} в упорядоченный диапазон {@code [base, base + length)}:
+     * возвращает k, такое что {@code a[base + k - 1] < key <= a[base + k]}.
+     * Поиск начинается от позиции {@code hint} с экспоненциально растущим шагом и завершается бинарным поиском.
+     */
+    private static <T> int gallopLeft(T key, T[] a, int base, int length, int hint, Comparator<? super T> comparator) {
+        int lastOffset = 0;
+        int offset = 1;
+
+        if (comparator.compare(key, a[base + hint]) > 0) {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && comparator.compare(key, a[base + hint + offset]) > 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            if (offset > maxOffset) {
+                offset = maxOffset;
+            }
+            lastOffset += hint;
+            offset += hint;
+        }
+        else {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && comparator.compare(key, a[base + hint - offset]) <= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            if (offset > maxOffset) {
+                offset = maxOffset;
+            }
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        }
+
+        // a[base + lastOffset] < key <= a[base + offset]
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (comparator.compare(key, a[base + mid]) > 0) {
+                lastOffset = mid + 1;
+            }
+            else {
+                offset = mid;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Находит самую правую позицию для вставки {@code key} в упорядоченный диапазон {@code [base, base + length)}:
+     * возвращает k, такое что {@code a[base + k - 1] <= key < a[base + k]}.
+     */
+    private static <T> int gallopRight(T key, T[] a, int base, int length, int hint, Comparator<? super T> comparator) {
+        int lastOffset = 0;
+        int offset = 1;
+
+        if (comparator.compare(key, a[base + hint]) < 0) {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && comparator.compare(key, a[base + hint - offset]) < 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            if (offset > maxOffset) {
+                offset = maxOffset;
+            }
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        }
+        else {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && comparator.compare(key, a[base + hint + offset]) >= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            if (offset > maxOffset) {
+                offset = maxOffset;
+            }
+            lastOffset += hint;
+            offset += hint;
+        }
+
+        // a[base + lastOffset] <= key < a[base + offset]
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (comparator.compare(key, a[base + mid]) < 0) {
+                offset = mid;
+            }
+            else {
+                lastOffset = mid + 1;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Сливает соседние серии, когда первая не длиннее второй.
+     * Первая серия копируется в буфер, слияние идёт слева направо.
+     * Гарантируется, что {@code a[base1] > a[base2]} и последний элемент первой серии больше всех элементов второй.
+     */
+    private void mergeLow(int base1, int length1, int base2, int length2) {
+        T[] a = array;
+        T[] buffer = ensureCapacity(length1);
+        System.arraycopy(a, base1, buffer, 0, length1);
+
+        int cursor1 = 0;
+        int cursor2 = base2;
+        int dest = base1;
+
+        a[dest++] = a[cursor2++];
+        if (--length2 == 0) {
+            System.arraycopy(buffer, cursor1, a, dest, length1);
+            return;
+        }
+        if (length1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, length2);
+            a[dest + length2] = buffer[cursor1];
+            return;
+        }
+
+        Comparator<? super T> c = comparator;
+        int gallop = minGallop;
+        outer:
+        while (true) {
+            int wins1 = 0;
+            int wins2 = 0;
+
+            // Обычное слияние, пока одна из серий не начнёт стабильно выигрывать
+            do {
+                if (c.compare(a[cursor2], buffer[cursor1]) < 0) {
+                    a[dest++] = a[cursor2++];
+                    wins2++;
+                    wins1 = 0;
+                    if (--length2 == 0) {
+                        break outer;
+                    }
+                }
+                else {
+                    a[dest++] = buffer[cursor1++];
+                    wins1++;
+                    wins2 = 0;
+                    if (--length1 == 1) {
+                        break outer;
+                    }
+                }
+            } while ((wins1 | wins2) < gallop);
+
+            // Режим галопа: переносим целые блоки, пока они достаточно длинные
+            do {
+                wins1 = gallopRight(a[cursor2], buffer, cursor1, length1, 0, c);
+                if (wins1 != 0) {
+                    System.arraycopy(buffer, cursor1, a, dest, wins1);
+                    dest += wins1;
+                    cursor1 += wins1;
+                    length1 -= wins1;
+                    if (length1 <= 1) {
+                        break outer;
+                    }
+                }
+                a[dest++] = a[cursor2++];
+                if (--length2 == 0) {
+                    break outer;
+                }
+
+                wins2 = gallopLeft(buffer[cursor1], a, cursor2, length2, 0, c);
+                if (wins2 != 0) {
+                    System.arraycopy(a, cursor2, a, dest, wins2);
+                    dest += wins2;
+                    cursor2 += wins2;
+                    length2 -= wins2;
+                    if (length2 == 0) {
+                        break outer;
+                    }
+                }
+                a[dest++] = buffer[cursor1++];
+                if (--length1 == 1) {
+                    break outer;
+                }
+                gallop--;
+            } while (wins1 >= MIN_GALLOP || wins2 >= MIN_GALLOP);
+
+            if (gallop < 0) {
+                gallop = 0;
+            }
+            gallop += 2;
+        }
+        minGallop = gallop < 1 ? 1 : gallop;
+
+        if (length1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, length2);
+            a[dest + length2] = buffer[cursor1];
+        }
+        else if (length1 == 0) {
+            throw new IllegalArgumentException("Comparison method violates its general contract!");
+        }
+        else {
+            System.arraycopy(buffer, cursor1, a, dest, length1);
+        }
+    }
+
+    /**
+     * Сливает соседние серии, когда первая длиннее второй.
+     * Вторая серия копируется в буфер, слияние идёт справа налево.
+     * Гарантируется, что {@code a[base1] > a[base2]} и последний элемент первой серии больше всех элементов второй.
+     */
+    private void mergeHigh(int base1, int length1, int base2, int length2) {
+        T[] a = array;
+        T[] buffer = ensureCapacity(length2);
+        System.arraycopy(a, base2, buffer, 0, length2);
+
+        int cursor1 = base1 + length1 - 1;
+        int cursor2 = length2 - 1;
+        int dest = base2 + length2 - 1;
+
+        a[dest--] = a[cursor1--];
+        if (--length1 == 0) {
+            System.arraycopy(buffer, 0, a, dest - (length2 - 1), length2);
+            return;
+        }
+        if (length2 == 1) {
+            dest -= length1;
+            cursor1 -= length1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+            a[dest] = buffer[cursor2];
+            return;
+        }
+
+        Comparator<? super T> c = comparator;
+        int gallop = minGallop;
+        outer:
+        while (true) {
+            int wins1 = 0;
+            int wins2 = 0;
+
+            do {
+                if (c.compare(buffer[cursor2], a[cursor1]) < 0) {
+                    a[dest--] = a[cursor1--];
+                    wins1++;
+                    wins2 = 0;
+                    if (--length1 == 0) {
+                        break outer;
+                    }
+                }
+                else {
+                    a[dest--] = buffer[cursor2--];
+                    wins2++;
+                    wins1 = 0;
+                    if (--length2 == 1) {
+                        break outer;
+                    }
+                }
+            } while ((wins1 | wins2) < gallop);
+
+            do {
+                wins1 = length1 - gallopRight(buffer[cursor2], a, base1, length1, length1 - 1, c);
+                if (wins1 != 0) {
+                    dest -= wins1;
+                    cursor1 -= wins1;
+                    length1 -= wins1;
+                    System.arraycopy(a, cursor1 + 1, a, dest + 1, wins1);
+                    if (length1 == 0) {
+                        break outer;
+                    }
+                }
+                a[dest--] = buffer[cursor2--];
+                if (--length2 == 1) {
+                    break outer;
+                }
+
+                wins2 = length2 - gallopLeft(a[cursor1], buffer, 0, length2, length2 - 1, c);
+                if (wins2 != 0) {
+                    dest -= wins2;
+                    cursor2 -= wins2;
+                    length2 -= wins2;
+                    System.arraycopy(buffer, cursor2 + 1, a, dest + 1, wins2);
+                    if (length2 <= 1) {
+                        break outer;
+                    }
+                }
+                a[dest--] = a[cursor1--];
+                if (--length1 == 0) {
+                    break outer;
+                }
+                gallop--;
+            } while (wins1 >= MIN_GALLOP || wins2 >= MIN_GALLOP);
+
+            if (gallop < 0) {
+                gallop = 0;
+            }
+            gallop += 2;
+        }
+        minGallop = gallop < 1 ? 1 : gallop;
+
+        if (length2 == 1) {
+            dest -= length1;
+            cursor1 -= length1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+            a[dest] = buffer[cursor2];
+        }
+        else if (length2 == 0) {
+            throw new IllegalArgumentException("Comparison method violates its general contract!");
+        }
+        else {
+            System.arraycopy(buffer, 0, a, dest - (length2 - 1), length2);
+        }
+    }
+
+    /**
+     * Возвращает буфер вместимостью не менее {@code minCapacity} элементов.
+     * Буфер растёт степенями двойки, но не превышает половины сортируемого диапазона.
+     */
+    private T[] ensureCapacity(int minCapacity) {
+        if (temp.length < minCapacity) {
+            int newLength = Integer.highestOneBit(minCapacity) << 1;
+            if (newLength < 0) {
+                newLength = minCapacity;
+            }
+            else {
+                newLength = Math.min(newLength, length >>> 1);
+                newLength = Math.max(newLength, minCapacity);
+            }
+            temp = (T[]) new Object[newLength];
+            if (stats != null) {
+                stats.addScratch(newLength);
+            }
+        }
+        return temp;
+    }
+}
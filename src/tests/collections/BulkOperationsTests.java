@@ -0,0 +1,252 @@
+package tests.collections;
+
+import collections.ChunkedCustomArrayList;
+import collections.CustomArrayDeque;
+import collections.CustomArrayList;
+import collections.CustomLinkedList;
+import collections.SortedCustomList;
+import collections.interfaces.CustomList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tests.collections.utils.TestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования массовых операций {@link CustomList#addAll(java.util.Collection)},
+ * {@link CustomList#addAll(int, CustomList)}, {@link CustomList#removeRange(int, int)}, {@link CustomList#setAll(int, CustomList)},
+ * {@link CustomList#removeIf(java.util.function.Predicate)}, {@link CustomList#removeAll(CustomList)} и {@link CustomList#retainAll(CustomList)}
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Случайные последовательности массовых операций в сравнении с {@link java.util.ArrayList}</li>
+ *   <li>Вставка списка в самого себя, операции в начале и в конце списка</li>
+ *   <li>Неизменность списка при {@code null} среди элементов и при недопустимых индексах</li>
+ *   <li>Удаление по условию и по вхождению в небольшой и большой список в сравнении с {@link java.util.ArrayList}</li>
+ *   <li>Состояние списка, если условие удаления выбрасывает исключение</li>
+ *   <li>Массовые операции {@link SortedCustomList}</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see CustomList
+ */
+public class BulkOperationsTests {
+
+    static List<Object[]> customEmptyCollectionsImplementations() {
+        return List.of(
+                new Object[] {new CustomLinkedList<Integer>()},
+                new Object[] {new CustomArrayList<Integer>()},
+                new Object[] {new CustomArrayDeque<Integer>()},
+                new Object[] {new ChunkedCustomArrayList<Integer>(4)}
+        );
+    }
+
+    static List<Object[]> customCollectionsOfIntegersImplementations() {
+        Integer[] values = TestUtils.randomIntegerArray(1_000, 100, 22);
+        SortedCustomList<Integer> sorted = new SortedCustomList<>(Comparator.naturalOrder());
+        sorted.addAll(Arrays.asList(values));
+        return List.of(
+                new Object[] {new CustomLinkedList<>(values)},
+                new Object[] {new CustomArrayList<>(values)},
+                new Object[] {new CustomArrayDeque<>(values)},
+                new Object[] {new ChunkedCustomArrayList<>(values)},
+                new Object[] {sorted}
+        );
+    }
+
+    static List<Object[]> customCollectionsOfStringsImplementations() {
+        return List.of(
+                new Object[] {TestUtils.fillTestLinkedListByStrings()},
+                new Object[] {TestUtils.fillTestArrayListByStrings()},
+                new Object[] {TestUtils.fillTestArrayDequeByStrings()},
+                new Object[] {TestUtils.fillTestChunkedListByStrings()}
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("customEmptyCollectionsImplementations")
+    @DisplayName("check random bulk operations against ArrayList")
+    void bulkOperationsShouldMatchArrayList(CustomList<Integer> list) {
+        Random random = new Random(21);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 2_000; step++) {
+            Integer[] batch = TestUtils.randomIntegerArray(random.nextInt(12), 1_000, step);
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    Assertions.assertEquals(batch.length > 0, list.addAll(Arrays.asList(batch)));
+                    expected.addAll(Arrays.asList(batch));
+                }
+                case 1 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    Assertions.assertEquals(batch.length > 0, list.addAll(index, new CustomArrayList<>(batch)));
+                    expected.addAll(index, Arrays.asList(batch));
+                }
+                case 2 -> {
+                    int from = random.nextInt(expected.size() + 1);
+                    int to = from + random.nextInt(Math.min(expected.size() - from, 15) + 1);
+                    list.removeRange(from, to);
+                    expected.subList(from, to).clear();
+                }
+                default -> {
+                    int length = Math.min(batch.length, expected.size());
+                    int index = random.nextInt(expected.size() - length + 1);
+                    list.setAll(index, new CustomLinkedList<>(Arrays.copyOf(batch, length)));
+                    for (int i = 0; i < length; i++) {
+                        expected.set(index + i, batch[i]);
+                    }
+                }
+            }
+            Assertions.assertEquals(expected.size(), list.size());
+        }
+        Assertions.assertArrayEquals(expected.toArray(), list.toArray());
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfStringsImplementations")
+    @DisplayName("check insertion of list into itself and operations at both ends")
+    void addAllShouldInsertListIntoItself(CustomList<String> testList) {
+        Object[] original = testList.toArray();
+
+        testList.addAll(TestUtils.SIZE_OF_LIST / 2, testList);
+        Assertions.assertEquals(TestUtils.SIZE_OF_LIST * 2, testList.size());
+        Assertions.assertEquals(TestUtils.FIRST_ELEMENT, testList.get(TestUtils.SIZE_OF_LIST / 2));
+        Assertions.assertEquals(TestUtils.TENTH_ELEMENT, testList.get(testList.size() - 1));
+
+        testList.removeRange(TestUtils.SIZE_OF_LIST / 2, TestUtils.SIZE_OF_LIST * 3 / 2);
+        Assertions.assertArrayEquals(original, testList.toArray());
+
+        testList.removeRange(0, testList.size());
+        Assertions.assertTrue(testList.isEmpty());
+        testList.addAll(0, new CustomArrayList<>(new String[] {TestUtils.NEW_ELEMENT}));
+        testList.add(TestUtils.FIRST_ELEMENT);
+        Assertions.assertEquals(TestUtils.NEW_ELEMENT, testList.get(0));
+        Assertions.assertEquals(TestUtils.FIRST_ELEMENT, testList.get(1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfStringsImplementations")
+    @DisplayName("check list is unchanged on invalid input")
+    void bulkOperationsShouldRejectInvalidInput(CustomList<String> testList) {
+        Object[] original = testList.toArray();
+        List<String> withNull = Arrays.asList(TestUtils.NEW_ELEMENT, null);
+
+        assertThrows(NullPointerException.class, () -> testList.addAll(withNull));
+        assertThrows(NullPointerException.class, () -> testList.addAll(1, new CustomArrayList<>(withNull)));
+        assertThrows(NullPointerException.class, () -> testList.setAll(1, new CustomArrayList<>(withNull)));
+        assertThrows(IndexOutOfBoundsException.class, () -> testList.addAll(TestUtils.SIZE_OF_LIST + 1, new CustomArrayList<String>()));
+        assertThrows(IndexOutOfBoundsException.class, () -> testList.removeRange(5, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> testList.removeRange(0, TestUtils.SIZE_OF_LIST + 1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> testList.setAll(TestUtils.SIZE_OF_LIST - 1, TestUtils.fillTestArrayListByStrings()));
+
+        Assertions.assertArrayEquals(original, testList.toArray());
+    }
+
+    @Test
+    @DisplayName("check bulk operations of SortedCustomList")
+    void sortedListShouldKeepOrder() {
+        SortedCustomList<Integer> sorted = new SortedCustomList<>(Comparator.naturalOrder());
+
+        sorted.addAll(Arrays.asList(TestUtils.unsortedIntegerArray));
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, sorted.toArray());
+
+        sorted.removeRange(2, 8);
+        Assertions.assertArrayEquals(new Integer[] {1, 2, 9, 10}, sorted.toArray());
+        assertThrows(UnsupportedOperationException.class, () -> sorted.addAll(0, new CustomArrayList<Integer>()));
+        assertThrows(UnsupportedOperationException.class, () -> sorted.setAll(0, new CustomArrayList<Integer>()));
+    }
+
+    @Test
+    @DisplayName("check CustomArrayList created from collection")
+    void collectionConstructorShouldCopyElements() {
+        CustomArrayList<Integer> list = new CustomArrayList<>(Arrays.asList(TestUtils.sortedIntegerArray));
+
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, list.toArray());
+        list.add(11);
+        Assertions.assertEquals(Integer.valueOf(11), list.get(TestUtils.SIZE_OF_LIST));
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfIntegersImplementations")
+    @DisplayName("check removeIf, removeAll and retainAll against ArrayList")
+    void removeIfShouldMatchArrayList(CustomList<Integer> list) {
+        List<Integer> expected = toArrayList(list);
+        CustomList<Integer> small = new CustomArrayList<>(new Integer[] {1, 2, 3});
+        CustomList<Integer> large = new CustomLinkedList<>(TestUtils.randomIntegerArray(40, 100, 23));
+
+        Assertions.assertTrue(list.removeIf(value -> value % 7 == 0));
+        expected.removeIf(value -> value % 7 == 0);
+        Assertions.assertArrayEquals(expected.toArray(), list.toArray());
+        Assertions.assertFalse(list.removeIf(value -> value % 7 == 0));
+
+        list.removeAll(small);
+        expected.removeAll(toArrayList(small));
+        Assertions.assertArrayEquals(expected.toArray(), list.toArray());
+
+        list.removeAll(large);
+        expected.removeAll(toArrayList(large));
+        Assertions.assertArrayEquals(expected.toArray(), list.toArray());
+
+        CustomList<Integer> retained = new CustomArrayList<>(TestUtils.randomIntegerArray(30, 100, 24));
+        list.retainAll(retained);
+        expected.retainAll(toArrayList(retained));
+        Assertions.assertArrayEquals(expected.toArray(), list.toArray());
+
+        Assertions.assertFalse(list.retainAll(list));
+        list.add(list.isEmpty() ? 1 : list.get(list.size() - 1));
+        Assertions.assertTrue(list.removeAll(list));
+        Assertions.assertTrue(list.isEmpty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfStringsImplementations")
+    @DisplayName("check list stays consistent when filter throws")
+    void removeIfShouldKeepUncheckedElementsOnException(CustomList<String> testList) {
+        int[] calls = {0};
+
+        assertThrows(IllegalStateException.class, () -> testList.removeIf(element -> {
+            if (++calls[0] > 3) {
+                throw new IllegalStateException();
+            }
+            return element.equals(TestUtils.SECOND_ELEMENT);
+        }));
+
+        Assertions.assertTrue(testList.size() >= TestUtils.SIZE_OF_LIST - 1);
+        Assertions.assertEquals(TestUtils.FIRST_ELEMENT, testList.get(0));
+        Assertions.assertEquals(TestUtils.TENTH_ELEMENT, testList.get(testList.size() - 1));
+        testList.add(TestUtils.NEW_ELEMENT);
+        Assertions.assertEquals(TestUtils.NEW_ELEMENT, testList.get(testList.size() - 1));
+        assertThrows(NullPointerException.class, () -> testList.removeIf(null));
+        assertThrows(NullPointerException.class, () -> testList.removeAll(null));
+    }
+
+    private static <T> List<T> toArrayList(CustomList<T> list) {
+        List<T> result = new ArrayList<>();
+        for (T element : list) {
+            result.add(element);
+        }
+        return result;
+    }
+}
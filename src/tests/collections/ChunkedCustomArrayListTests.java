@@ -0,0 +1,122 @@
+package tests.collections;
+
+import collections.ChunkedCustomArrayList;
+import collections.interfaces.CustomList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tests.collections.utils.TestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования списка на основе блоков {@link ChunkedCustomArrayList}
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Рост емкости на один блок при добавлении в конец</li>
+ *   <li>Вставка и удаление по индексу на границах блоков в сравнении с {@link java.util.ArrayList}</li>
+ *   <li>Сортировка списка из нескольких блоков</li>
+ *   <li>Поведение при недопустимых входных данных (размер блока не степень двойки)</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see ChunkedCustomArrayList
+ */
+public class ChunkedCustomArrayListTests {
+
+    @Test
+    @DisplayName("check capacity grows one chunk at a time")
+    void addShouldAllocateOneChunkAtATime() {
+        ChunkedCustomArrayList<Integer> list = new ChunkedCustomArrayList<>(8);
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+            Assertions.assertEquals((i / 8 + 1) * 8L, list.getCapacity());
+        }
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(Integer.valueOf(i), list.get(i));
+        }
+
+        list.clear();
+        Assertions.assertEquals(0L, list.getCapacity());
+        Assertions.assertTrue(list.isEmpty());
+    }
+
+    @Test
+    @DisplayName("check positional operations against ArrayList")
+    void chunkedListShouldMatchArrayList() {
+        Random random = new Random(17);
+        CustomList<Integer> chunked = new ChunkedCustomArrayList<>(4);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(1_000);
+            switch (random.nextInt(6)) {
+                case 0, 1 -> { chunked.add(value); expected.add(value); }
+                case 2 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    chunked.add(index, value);
+                    expected.add(index, value);
+                }
+                case 3 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assertions.assertEquals(expected.remove(index), chunked.remove(index));
+                    }
+                }
+                case 4 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assertions.assertEquals(expected.set(index, value), chunked.set(index, value));
+                    }
+                }
+                default -> Assertions.assertEquals(expected.indexOf(value), chunked.indexOf(value));
+            }
+        }
+        Assertions.assertArrayEquals(expected.toArray(), chunked.toArray());
+    }
+
+    @Test
+    @DisplayName("check sort of list spanning several chunks")
+    void sortShouldWriteBackAllChunks() {
+        Integer[] random = TestUtils.randomIntegerArray(1_000, 500, 17);
+        ChunkedCustomArrayList<Integer> list = new ChunkedCustomArrayList<>(64);
+        for (Integer value : random) {
+            list.add(value);
+        }
+        Integer[] expected = random.clone();
+        Arrays.sort(expected);
+
+        list.sort(Integer::compareTo);
+
+        Assertions.assertArrayEquals(expected, list.toArray());
+        Assertions.assertEquals(expected[expected.length - 1], list.removeLast());
+    }
+
+    @Test
+    @DisplayName("check chunk size must be a power of two")
+    void constructorShouldRejectInvalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedCustomArrayList<String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedCustomArrayList<String>(12));
+        assertThrows(NullPointerException.class, () -> new ChunkedCustomArrayList<>(new String[]{"a", null}));
+        Assertions.assertEquals(1, new ChunkedCustomArrayList<String>(1).getChunkSize());
+    }
+}
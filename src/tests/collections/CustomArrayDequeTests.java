@@ -0,0 +1,159 @@
+package tests.collections;
+
+import collections.CustomArrayDeque;
+import collections.interfaces.CustomList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tests.collections.utils.TestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования списка на основе кольцевого буфера {@link CustomArrayDeque}
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Использование в качестве очереди с переходом элементов через конец буфера и его расширением</li>
+ *   <li>Вставка и удаление по индексу в сравнении с {@link java.util.ArrayList}</li>
+ *   <li>Сортировка списка, элементы которого переходят через конец буфера</li>
+ *   <li>Поведение при недопустимых входных данных (null элементы, пустой список)</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see CustomArrayDeque
+ */
+public class CustomArrayDequeTests {
+
+    @Test
+    @DisplayName("check queue usage across buffer end and growth")
+    void dequeShouldWorkAsQueue() {
+        CustomArrayDeque<Integer> queue = new CustomArrayDeque<>(4);
+        int next = 0;
+        int expected = 0;
+
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < round % 7 + 1; i++) {
+                queue.addLast(next++);
+            }
+            for (int i = 0; i < round % 5 + 1 && !queue.isEmpty(); i++) {
+                Assertions.assertEquals(Integer.valueOf(expected++), queue.removeFirst());
+            }
+            Assertions.assertEquals(next - expected, queue.size());
+            if (!queue.isEmpty()) {
+                Assertions.assertEquals(Integer.valueOf(expected), queue.get(0));
+                Assertions.assertEquals(Integer.valueOf(next - 1), queue.get(queue.size() - 1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("check positional operations against ArrayList")
+    void dequeShouldMatchArrayList() {
+        Random random = new Random(16);
+        CustomList<Integer> deque = new CustomArrayDeque<>();
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(1_000);
+            switch (random.nextInt(8)) {
+                case 0 -> { deque.addFirst(value); expected.add(0, value); }
+                case 1 -> { deque.addLast(value); expected.add(value); }
+                case 2 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    deque.add(index, value);
+                    expected.add(index, value);
+                }
+                case 3 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assertions.assertEquals(expected.remove(index), deque.remove(index));
+                    }
+                }
+                case 4 -> {
+                    if (!expected.isEmpty()) {
+                        Assertions.assertEquals(expected.remove(0), deque.removeFirst());
+                    }
+                }
+                case 5 -> {
+                    if (!expected.isEmpty()) {
+                        Assertions.assertEquals(expected.remove(expected.size() - 1), deque.removeLast());
+                    }
+                }
+                case 6 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assertions.assertEquals(expected.set(index, value), deque.set(index, value));
+                    }
+                }
+                default -> Assertions.assertEquals(expected.remove((Integer) value), deque.remove((Integer) value));
+            }
+        }
+        Assertions.assertArrayEquals(expected.toArray(), deque.toArray());
+    }
+
+    @Test
+    @DisplayName("check sort of wrapped deque")
+    void sortShouldHandleWrappedElements() {
+        Integer[] random = TestUtils.randomIntegerArray(1_000, 500, 16);
+        CustomArrayDeque<Integer> deque = new CustomArrayDeque<>();
+        for (Integer value : random) {
+            deque.addFirst(value);
+        }
+        Integer[] expected = random.clone();
+        Arrays.sort(expected);
+
+        deque.sort(Integer::compareTo);
+        Assertions.assertArrayEquals(expected, deque.toArray());
+
+        deque.addFirst(-1);
+        deque.mergeSort(Integer::compareTo);
+        Assertions.assertEquals(Integer.valueOf(-1), deque.get(0));
+        Assertions.assertEquals(expected.length + 1, deque.size());
+    }
+
+    @Test
+    @DisplayName("check clear keeps deque usable")
+    void clearShouldResetDeque() {
+        CustomArrayDeque<String> deque = TestUtils.fillTestArrayDequeByStrings();
+
+        deque.clear();
+        deque.addFirst(TestUtils.NEW_ELEMENT);
+
+        Assertions.assertEquals(1, deque.size());
+        Assertions.assertEquals(TestUtils.NEW_ELEMENT, deque.removeLast());
+        Assertions.assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    @DisplayName("check invalid arguments and empty deque")
+    void dequeShouldRejectInvalidInput() {
+        CustomArrayDeque<String> deque = new CustomArrayDeque<>();
+
+        assertThrows(NoSuchElementException.class, deque::removeFirst);
+        assertThrows(NoSuchElementException.class, deque::removeLast);
+        assertThrows(NullPointerException.class, () -> deque.addFirst(null));
+        assertThrows(NullPointerException.class, () -> deque.addLast(null));
+        assertThrows(NullPointerException.class, () -> new CustomArrayDeque<>(new String[]{"a", null}));
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.add(1, TestUtils.NEW_ELEMENT));
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.get(0));
+    }
+}
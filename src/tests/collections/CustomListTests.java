@@ -12,6 +12,8 @@ import java.util.NoSuchElementException;
 import static org.junit.Assert.assertThrows;
 
 import tests.collections.utils.TestUtils;
+import collections.ChunkedCustomArrayList;
+import collections.CustomArrayDeque;
 import collections.CustomArrayList;
 import collections.CustomLinkedList;
 import collections.interfaces.CustomList;
@@ -21,7 +23,7 @@ import collections.interfaces.CustomList;
  * <p>
  * Этот класс содержит набор тестовых методов, которые проверяют корректность
  * работы различных методов интерфейса CustomList на примерах реализации
- * CustomLinkedList и CustomArrayList.
+ * CustomLinkedList, CustomArrayList, CustomArrayDeque и ChunkedCustomArrayList.
  * </p>
  *
  * <table border="1">
@@ -45,16 +47,22 @@ import collections.interfaces.CustomList;
  * @see CustomList
  * @see CustomLinkedList
  * @see CustomArrayList
+ * @see CustomArrayDeque
+ * @see ChunkedCustomArrayList
  */
 public class CustomListTests {
 
     private static CustomLinkedList<String> testLinkedList = new CustomLinkedList<>();
     private static CustomArrayList<String> testArrayList = new CustomArrayList<>();
+    private static CustomArrayDeque<String> testArrayDeque = new CustomArrayDeque<>();
+    private static ChunkedCustomArrayList<String> testChunkedList = new ChunkedCustomArrayList<>();
 
     static List<Object[]> customCollectionsImplementations() {
         return List.of(
                 new Object[] {testLinkedList},
-                new Object[] {testArrayList}
+                new Object[] {testArrayList},
+                new Object[] {testArrayDeque},
+                new Object[] {testChunkedList}
         );
     }
     static List<Object[]> customEmptyCollectionsImplementations() {
@@ -65,6 +73,8 @@ public class CustomListTests {
     public void setUp() {
         testLinkedList = TestUtils.fillTestLinkedListByStrings();
         testArrayList = TestUtils.fillTestArrayListByStrings();
+        testArrayDeque = TestUtils.fillTestArrayDequeByStrings();
+        testChunkedList = TestUtils.fillTestChunkedListByStrings();
     }
 
     @ParameterizedTest
@@ -340,4 +350,35 @@ public class CustomListTests {
         Assertions.assertEquals(0, testList.size());
         Assertions.assertTrue(testList.isEmpty());
     }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsImplementations")
+    @DisplayName("check applyToArray passes all elements and stores changes. Expected successful result")
+    public void applyToArrayTestStoresChanges(CustomList<String> testList) {
+        Object[] expected = testList.toArray();
+        for (int i = 0, j = expected.length - 1; i < j; i++, j--) {
+            Object temp = expected[i];
+            expected[i] = expected[j];
+            expected[j] = temp;
+        }
+
+        testList.applyToArray((array, from, to) -> {
+            Assertions.assertEquals(TestUtils.SIZE_OF_LIST, to - from);
+            for (int i = from, j = to - 1; i < j; i++, j--) {
+                Object temp = array[i];
+                array[i] = array[j];
+                array[j] = temp;
+            }
+        });
+
+        Assertions.assertArrayEquals(expected, testList.toArray());
+        Assertions.assertEquals(TestUtils.SIZE_OF_LIST, testList.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsImplementations")
+    @DisplayName("check applyToArray method. Expected NullPointerException")
+    public void applyToArrayTestReturnsNullPointerException(CustomList<String> testList) {
+        assertThrows(NullPointerException.class, () -> testList.applyToArray(null));
+    }
 }
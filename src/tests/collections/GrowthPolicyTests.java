@@ -0,0 +1,130 @@
+package tests.collections;
+
+import collections.CustomArrayList;
+import collections.interfaces.GrowthPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tests.collections.utils.TestUtils;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования политик роста {@link GrowthPolicy} и управления емкостью {@link CustomArrayList}
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Новая емкость для каждой готовой политики, в том числе у границы {@link GrowthPolicy#MAX_CAPACITY}</li>
+ *   <li>{@link CustomArrayList#ensureCapacity(int)}, {@link CustomArrayList#trimToSize()} и счётчики перевыделений</li>
+ *   <li>Очистка списка с сохранением и без сохранения массива</li>
+ *   <li>Поведение при недопустимых параметрах политик</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see GrowthPolicy
+ * @see CustomArrayList
+ */
+public class GrowthPolicyTests {
+
+    @Test
+    @DisplayName("check capacity computed by each policy")
+    void policiesShouldComputeCapacity() {
+        Assertions.assertEquals(8, GrowthPolicy.DEFAULT.newCapacity(5, 6));
+        Assertions.assertEquals(1, GrowthPolicy.DEFAULT.newCapacity(0, 1));
+        Assertions.assertEquals(100, GrowthPolicy.DEFAULT.newCapacity(5, 100));
+        Assertions.assertEquals(21, GrowthPolicy.geometric(2).newCapacity(10, 11));
+
+        Assertions.assertEquals(74, GrowthPolicy.fixedIncrement(64).newCapacity(10, 11));
+        Assertions.assertEquals(500, GrowthPolicy.fixedIncrement(64).newCapacity(10, 500));
+
+        GrowthPolicy capped = GrowthPolicy.capped(GrowthPolicy.geometric(2), 1_000);
+        Assertions.assertEquals(201, capped.newCapacity(100, 101));
+        Assertions.assertEquals(11_000, capped.newCapacity(10_000, 10_001));
+        Assertions.assertEquals(50_000, capped.newCapacity(10_000, 50_000));
+
+        Assertions.assertEquals(16, GrowthPolicy.powerOfTwo().newCapacity(8, 9));
+        Assertions.assertEquals(8, GrowthPolicy.powerOfTwo().newCapacity(5, 6));
+        Assertions.assertEquals(1, GrowthPolicy.powerOfTwo().newCapacity(0, 1));
+        Assertions.assertEquals(1 << 20, GrowthPolicy.powerOfTwo().newCapacity(16, 1_000_000));
+    }
+
+    @Test
+    @DisplayName("check policies near maximum capacity and invalid arguments")
+    void policiesShouldRespectMaximumCapacity() {
+        int large = GrowthPolicy.MAX_CAPACITY - 10;
+
+        Assertions.assertEquals(GrowthPolicy.MAX_CAPACITY, GrowthPolicy.DEFAULT.newCapacity(large, large + 1));
+        Assertions.assertEquals(GrowthPolicy.MAX_CAPACITY, GrowthPolicy.powerOfTwo().newCapacity(large, large + 1));
+        assertThrows(OutOfMemoryError.class, () -> GrowthPolicy.DEFAULT.newCapacity(large, Integer.MAX_VALUE));
+        assertThrows(OutOfMemoryError.class, () -> GrowthPolicy.fixedIncrement(1).newCapacity(large, -1));
+
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.geometric(1));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.fixedIncrement(0));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.capped(GrowthPolicy.DEFAULT, -1));
+        assertThrows(NullPointerException.class, () -> GrowthPolicy.capped(null, 1));
+    }
+
+    @Test
+    @DisplayName("check ensureCapacity, trimToSize and resize counters")
+    void capacityApiShouldControlArrayLength() {
+        CustomArrayList<Integer> list = new CustomArrayList<>(4, GrowthPolicy.fixedIncrement(4));
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        Assertions.assertEquals(12, list.getCapacity());
+        Assertions.assertEquals(2, list.getResizeCount());
+        Assertions.assertEquals(4 + 8, list.getCopiedElements());
+
+        list.ensureCapacity(1_000);
+        Assertions.assertEquals(1_000, list.getCapacity());
+        for (int i = 10; i < 1_000; i++) {
+            list.add(i);
+        }
+        Assertions.assertEquals(3, list.getResizeCount());
+
+        list.ensureCapacity(-1);
+        list.removeRange(10, 1_000);
+        list.trimToSize();
+        Assertions.assertEquals(10, list.getCapacity());
+        Assertions.assertEquals(4, list.getResizeCount());
+        Assertions.assertEquals(Integer.valueOf(9), list.get(9));
+
+        list.setGrowthPolicy(GrowthPolicy.powerOfTwo());
+        list.add(10);
+        Assertions.assertEquals(16, list.getCapacity());
+        assertThrows(NullPointerException.class, () -> list.setGrowthPolicy(null));
+    }
+
+    @Test
+    @DisplayName("check clear with and without retained capacity")
+    void clearShouldOptionallyRetainArray() {
+        CustomArrayList<String> list = TestUtils.fillTestArrayListByStrings();
+        list.ensureCapacity(100);
+        long resizes = list.getResizeCount();
+
+        list.clear(true);
+        Assertions.assertTrue(list.isEmpty());
+        Assertions.assertEquals(100, list.getCapacity());
+        for (int i = 0; i < 100; i++) {
+            list.add(TestUtils.NEW_ELEMENT);
+        }
+        Assertions.assertEquals(resizes, list.getResizeCount());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+
+        list.clear();
+        Assertions.assertTrue(list.isEmpty());
+        Assertions.assertTrue(list.getCapacity() < 100);
+    }
+}
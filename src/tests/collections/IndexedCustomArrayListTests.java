@@ -0,0 +1,173 @@
+package tests.collections;
+
+import collections.CustomArrayList;
+import collections.IndexedCustomArrayList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tests.collections.utils.TestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования списка с хеш-индексом значений {@link IndexedCustomArrayList}
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Результаты {@code indexOf}/{@code contains} после случайных операций в сравнении с {@link java.util.ArrayList}</li>
+ *   <li>Инкрементальное обновление индекса при добавлении в конец, {@code set} и удалении последнего элемента</li>
+ *   <li>Замена первого из нескольких вхождений без перестроения индекса</li>
+ *   <li>Перестроение индекса после сортировки и операций, сдвигающих позиции</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see IndexedCustomArrayList
+ */
+public class IndexedCustomArrayListTests {
+
+    @Test
+    @DisplayName("check indexOf after random operations against ArrayList")
+    void indexOfShouldMatchArrayList() {
+        Random random = new Random(24);
+        IndexedCustomArrayList<Integer> list = new IndexedCustomArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            Integer value = random.nextInt(200);
+            switch (random.nextInt(10)) {
+                case 0, 1, 2, 3 -> { list.add(value); expected.add(value); }
+                case 4 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 5 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assertions.assertEquals(expected.set(index, value), list.set(index, value));
+                    }
+                }
+                case 6 -> {
+                    if (!expected.isEmpty()) {
+                        Assertions.assertEquals(expected.remove(expected.size() - 1), list.removeLast());
+                    }
+                }
+                case 7 -> Assertions.assertEquals(expected.remove(value), list.remove(value));
+                case 8 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assertions.assertEquals(expected.remove(index), list.remove(index));
+                    }
+                }
+                default -> {
+                    Integer[] batch = TestUtils.randomIntegerArray(random.nextInt(5), 200, step);
+                    list.addAll(Arrays.asList(batch));
+                    expected.addAll(Arrays.asList(batch));
+                }
+            }
+            Integer probe = random.nextInt(220);
+            Assertions.assertEquals(expected.indexOf(probe), list.indexOf(probe));
+            Assertions.assertEquals(expected.contains(probe), list.contains(probe));
+        }
+        Assertions.assertArrayEquals(expected.toArray(), list.toArray());
+    }
+
+    @Test
+    @DisplayName("check tail operations do not rebuild index")
+    void tailOperationsShouldUpdateIndexIncrementally() {
+        IndexedCustomArrayList<Integer> list = new IndexedCustomArrayList<>();
+        Assertions.assertEquals(-1, list.indexOf(0));
+        Assertions.assertEquals(1, list.getRebuildCount());
+
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i % 1_000);
+            Assertions.assertEquals(i % 1_000, list.indexOf(i % 1_000));
+        }
+        list.set(5_000, -1);
+        list.set(1_500, 7);
+        Assertions.assertEquals(5_000, list.indexOf(-1));
+        Assertions.assertEquals(7, list.indexOf(7));
+        Assertions.assertEquals(Integer.valueOf(999), list.removeLast());
+        Assertions.assertEquals(999, list.indexOf(999));
+        list.clear(true);
+        Assertions.assertFalse(list.contains(1));
+        list.add(1);
+        Assertions.assertEquals(0, list.indexOf(1));
+
+        Assertions.assertEquals(1, list.getRebuildCount());
+    }
+
+    @Test
+    @DisplayName("check set of first occurrence finds next one without rebuild")
+    void setOfFirstOccurrenceShouldNotRebuildIndex() {
+        IndexedCustomArrayList<Integer> list = new IndexedCustomArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i % 1_000);
+        }
+        Assertions.assertEquals(0, list.indexOf(0));
+        Assertions.assertEquals(1, list.getRebuildCount());
+
+        Assertions.assertEquals(Integer.valueOf(5), list.set(5, 6));
+        Assertions.assertEquals(1_005, list.indexOf(5));
+        Assertions.assertEquals(5, list.indexOf(6));
+        Assertions.assertEquals(Integer.valueOf(6), list.set(5, 6));
+        Assertions.assertEquals(5, list.indexOf(6));
+        Assertions.assertEquals(Integer.valueOf(6), list.set(5, 5));
+        Assertions.assertEquals(5, list.indexOf(5));
+        Assertions.assertEquals(6, list.indexOf(6));
+        for (int i = 7; i < 10_000; i += 1_000) {
+            list.set(i, -7);
+        }
+        Assertions.assertFalse(list.contains(7));
+        Assertions.assertEquals(7, list.indexOf(-7));
+        Assertions.assertEquals(999, list.indexOf(999));
+
+        Assertions.assertEquals(1, list.getRebuildCount());
+    }
+
+    @Test
+    @DisplayName("check index is rebuilt after shifting operations and sorting")
+    void shiftingOperationsShouldRebuildIndexLazily() {
+        IndexedCustomArrayList<Integer> list = new IndexedCustomArrayList<>(TestUtils.unsortedIntegerArray);
+        Assertions.assertEquals(0, list.indexOf(5));
+
+        list.addFirst(100);
+        list.removeFirst();
+        list.addFirst(200);
+        Assertions.assertEquals(1, list.indexOf(5));
+        Assertions.assertEquals(0, list.indexOf(200));
+        Assertions.assertEquals(2, list.getRebuildCount());
+
+        list.mergeSort(Comparator.naturalOrder());
+        Assertions.assertEquals(0, list.indexOf(1));
+        Assertions.assertEquals(10, list.indexOf(200));
+
+        list.setAll(0, new CustomArrayList<>(new Integer[] {300, 300}));
+        Assertions.assertEquals(0, list.indexOf(300));
+        Assertions.assertFalse(list.contains(1));
+        Assertions.assertTrue(list.removeIf(value -> value == 300));
+        Assertions.assertEquals(0, list.indexOf(3));
+        Assertions.assertEquals(5, list.getRebuildCount());
+
+        assertThrows(NullPointerException.class, () -> list.indexOf(null));
+        assertThrows(NullPointerException.class, () -> list.contains(null));
+    }
+}
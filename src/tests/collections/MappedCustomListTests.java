@@ -0,0 +1,134 @@
+package tests.collections;
+
+import collections.MappedCustomList;
+import collections.io.ElementCodec;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования списка в отображённом в память файле {@link MappedCustomList}
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Операции со списком на границах областей в сравнении с {@link java.util.ArrayList}</li>
+ *   <li>Сохранение элементов после закрытия и повторного открытия файла</li>
+ *   <li>Обход записей без декодирования</li>
+ *   <li>Поведение при недопустимых входных данных (другая ширина записи, кодек переменной ширины)</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see MappedCustomList
+ */
+public class MappedCustomListTests {
+
+    /**
+     * Область на 5 записей типа {@link Long} с 4 неиспользуемыми байтами в конце
+     */
+    private static final int SMALL_EXTENT_BYTES = 44;
+
+    @Test
+    @DisplayName("check operations across extents and reopening")
+    void mappedListShouldPersistElements() throws IOException {
+        Path file = Files.createTempFile("mapped-list-tests", ".bin");
+        Random random = new Random(19);
+        List<Long> expected = new ArrayList<>();
+
+        try (MappedCustomList<Long> list = MappedCustomList.open(file, ElementCodec.ofLong(), SMALL_EXTENT_BYTES)) {
+            for (int step = 0; step < 5_000; step++) {
+                long value = random.nextLong();
+                switch (random.nextInt(5)) {
+                    case 0, 1 -> { list.add(value); expected.add(value); }
+                    case 2 -> {
+                        int index = random.nextInt(expected.size() + 1);
+                        list.add(index, value);
+                        expected.add(index, value);
+                    }
+                    case 3 -> {
+                        if (!expected.isEmpty()) {
+                            int index = random.nextInt(expected.size());
+                            Assertions.assertEquals(expected.remove(index), list.remove(index));
+                        }
+                    }
+                    default -> {
+                        if (!expected.isEmpty()) {
+                            int index = random.nextInt(expected.size());
+                            Assertions.assertEquals(expected.set(index, value), list.set(index, value));
+                        }
+                    }
+                }
+            }
+            list.force();
+            Assertions.assertArrayEquals(expected.toArray(), list.toArray());
+        }
+
+        try (MappedCustomList<Long> reopened = MappedCustomList.open(file, ElementCodec.ofLong())) {
+            Assertions.assertArrayEquals(expected.toArray(), reopened.toArray());
+            reopened.add(1L);
+            expected.add(1L);
+            Assertions.assertEquals(expected.size(), reopened.size());
+        }
+        Files.delete(file);
+    }
+
+    @Test
+    @DisplayName("check zero-copy iteration over records")
+    void forEachRecordShouldVisitEveryRecord() throws IOException {
+        Path file = Files.createTempFile("mapped-list-tests", ".bin");
+
+        try (MappedCustomList<Integer> list = MappedCustomList.open(file, ElementCodec.ofInteger(), 64)) {
+            for (int i = 0; i < 1_000; i++) {
+                list.add(i);
+            }
+            long[] sum = {0};
+            int[] visited = {0};
+            list.forEachRecord((record, index) -> {
+                Assertions.assertEquals(Integer.BYTES, record.remaining());
+                Assertions.assertTrue(record.isReadOnly());
+                Assertions.assertEquals(index, record.getInt(record.position()));
+                sum[0] += record.getInt();
+                visited[0]++;
+            });
+            Assertions.assertEquals(1_000, visited[0]);
+            Assertions.assertEquals(999L * 1_000 / 2, sum[0]);
+        }
+        Files.delete(file);
+    }
+
+    @Test
+    @DisplayName("check invalid codecs and closed list")
+    void mappedListShouldRejectInvalidUsage() throws IOException {
+        Path file = Files.createTempFile("mapped-list-tests", ".bin");
+
+        MappedCustomList<Long> list = MappedCustomList.open(file, ElementCodec.ofLong());
+        list.add(7L);
+        list.close();
+        list.close();
+
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+        assertThrows(IOException.class, () -> MappedCustomList.open(file, ElementCodec.ofInteger()));
+        assertThrows(IllegalArgumentException.class, () -> MappedCustomList.open(file, ElementCodec.ofString()));
+        Files.delete(file);
+    }
+}
@@ -0,0 +1,153 @@
+package tests.collections;
+
+import collections.OffHeapCustomList;
+import collections.io.ElementCodec;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tests.collections.utils.TestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования списка вне кучи {@link OffHeapCustomList} и кодеков {@link ElementCodec}
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Операции со списком с кодеками фиксированной и переменной ширины в сравнении с {@link java.util.ArrayList}</li>
+ *   <li>Кодирование записей (records) с вложенными записями и строками</li>
+ *   <li>Сортировка списка</li>
+ *   <li>Освобождение памяти и поведение после закрытия</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see OffHeapCustomList
+ * @see ElementCodec
+ */
+public class OffHeapCustomListTests {
+
+    record Point(int x, long y) {
+    }
+
+    record Order(String customer, Point location, double total, boolean paid) {
+    }
+
+    @Test
+    @DisplayName("check fixed-width list against ArrayList")
+    void fixedWidthListShouldMatchArrayList() {
+        try (OffHeapCustomList<Long> list = new OffHeapCustomList<>(ElementCodec.ofLong())) {
+            checkAgainstArrayList(list, random -> random.nextLong());
+        }
+    }
+
+    @Test
+    @DisplayName("check variable-width list against ArrayList")
+    void variableWidthListShouldMatchArrayList() {
+        try (OffHeapCustomList<String> list = new OffHeapCustomList<>(ElementCodec.ofString())) {
+            checkAgainstArrayList(list, random -> "Ж".repeat(random.nextInt(3)) + "x".repeat(random.nextInt(40)) + "😀");
+        }
+    }
+
+    private static <T> void checkAgainstArrayList(OffHeapCustomList<T> list, Function<Random, T> values) {
+        Random random = new Random(18);
+        List<T> expected = new ArrayList<>();
+
+        for (int step = 0; step < 10_000; step++) {
+            T value = values.apply(random);
+            switch (random.nextInt(6)) {
+                case 0, 1 -> { list.add(value); expected.add(value); }
+                case 2 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 3 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assertions.assertEquals(expected.remove(index), list.remove(index));
+                    }
+                }
+                default -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assertions.assertEquals(expected.set(index, value), list.set(index, value));
+                    }
+                }
+            }
+        }
+        Assertions.assertArrayEquals(expected.toArray(), list.toArray());
+    }
+
+    @Test
+    @DisplayName("check record codec with nested records and strings")
+    void recordCodecShouldRoundTrip() {
+        ElementCodec<Point> pointCodec = ElementCodec.ofRecord(Point.class);
+        ElementCodec<Order> orderCodec = ElementCodec.ofRecord(Order.class);
+        Assertions.assertEquals(Integer.BYTES + Long.BYTES, pointCodec.fixedSize());
+        Assertions.assertEquals(ElementCodec.VARIABLE_SIZE, orderCodec.fixedSize());
+
+        try (OffHeapCustomList<Order> orders = new OffHeapCustomList<>(orderCodec)) {
+            orders.add(new Order("Bob", new Point(1, -2L), 10.5, true));
+            orders.add(new Order("Алиса", new Point(3, 4L), 7.25, false));
+            orders.set(0, new Order("Robert", new Point(5, 6L), 11.0, true));
+
+            Assertions.assertEquals(new Order("Robert", new Point(5, 6L), 11.0, true), orders.get(0));
+            Assertions.assertEquals(1, orders.indexOf(new Order("Алиса", new Point(3, 4L), 7.25, false)));
+            assertThrows(NullPointerException.class, () -> orders.add(new Order(null, new Point(0, 0L), 0, false)));
+            Assertions.assertEquals(2, orders.size());
+        }
+        assertThrows(IllegalArgumentException.class, () -> ElementCodec.ofRecord(Record.class));
+    }
+
+    @Test
+    @DisplayName("check sort of off-heap list")
+    void sortShouldRewriteElements() {
+        Integer[] random = TestUtils.randomIntegerArray(1_000, 500, 18);
+        Integer[] expected = random.clone();
+        Arrays.sort(expected, Comparator.reverseOrder());
+
+        try (OffHeapCustomList<Integer> list = new OffHeapCustomList<>(ElementCodec.ofInteger())) {
+            for (Integer value : random) {
+                list.add(value);
+            }
+            list.mergeSort(Comparator.reverseOrder());
+            Assertions.assertArrayEquals(expected, list.toArray());
+        }
+    }
+
+    @Test
+    @DisplayName("check close releases memory and rejects further access")
+    void closeShouldReleaseMemory() {
+        OffHeapCustomList<String> list = new OffHeapCustomList<>(ElementCodec.ofString());
+        list.add(TestUtils.FIRST_ELEMENT);
+        Assertions.assertTrue(list.getNativeBytes() > 0);
+
+        list.close();
+        list.close();
+
+        Assertions.assertEquals(0, list.getNativeBytes());
+        Assertions.assertTrue(list.isEmpty());
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+        assertThrows(IllegalStateException.class, () -> list.add(TestUtils.NEW_ELEMENT));
+        assertThrows(IllegalStateException.class, list::clear);
+    }
+}
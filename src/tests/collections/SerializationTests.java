@@ -0,0 +1,240 @@
+package tests.collections;
+
+import collections.ChunkedCustomArrayList;
+import collections.CustomArrayDeque;
+import collections.CustomArrayList;
+import collections.CustomLinkedList;
+import collections.interfaces.CustomList;
+import collections.io.ElementSerializer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tests.collections.utils.TestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования сериализации списков и двоичного формата
+ * {@link CustomArrayList#writeTo} / {@link CustomArrayList#readFrom}
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Восстановление элементов после стандартной сериализации, в том числе пустых списков</li>
+ *   <li>Отсутствие свободной емкости в сериализованном виде</li>
+ *   <li>Двоичный формат со строками и числами, в том числе списки больше одного блока чтения</li>
+ *   <li>Совпадение блочной записи чисел с поэлементной</li>
+ *   <li>Поведение при повреждённых данных, в том числе при огромном размере в заголовке</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see CustomArrayList
+ * @see CustomLinkedList
+ * @see ElementSerializer
+ */
+public class SerializationTests {
+
+    static List<Object[]> customCollectionsImplementations() {
+        return List.of(
+                new Object[] {TestUtils.fillTestLinkedListByStrings()},
+                new Object[] {TestUtils.fillTestArrayListByStrings()},
+                new Object[] {TestUtils.fillTestArrayDequeByStrings()},
+                new Object[] {TestUtils.fillTestChunkedListByStrings()}
+        );
+    }
+
+    static List<Object[]> customEmptyCollectionsImplementations() {
+        return TestUtils.customEmptyCollectionsImplementations();
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsImplementations")
+    @DisplayName("check Java serialization round trip")
+    void serializationShouldRestoreElements(CustomList<String> testList) throws Exception {
+        CustomList<String> restored = deserialize(serialize(testList));
+
+        Assertions.assertEquals(testList.getClass(), restored.getClass());
+        Assertions.assertArrayEquals(testList.toArray(), restored.toArray());
+
+        restored.add(TestUtils.NEW_ELEMENT);
+        restored.addFirst(TestUtils.NEW_ELEMENT);
+        Assertions.assertEquals(TestUtils.SIZE_OF_LIST + 2, restored.size());
+        Assertions.assertEquals(TestUtils.FIRST_ELEMENT, restored.get(1));
+        Assertions.assertEquals(TestUtils.NEW_ELEMENT, restored.get(restored.size() - 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("customEmptyCollectionsImplementations")
+    @DisplayName("check Java serialization of empty list")
+    void serializationShouldRestoreEmptyList(CustomList<String> testList) throws Exception {
+        CustomList<String> restored = deserialize(serialize(testList));
+
+        Assertions.assertTrue(restored.isEmpty());
+        restored.add(TestUtils.NEW_ELEMENT);
+        Assertions.assertEquals(TestUtils.NEW_ELEMENT, restored.get(0));
+    }
+
+    @Test
+    @DisplayName("check serialized form does not contain spare capacity")
+    void serializationShouldSkipSpareCapacity() throws Exception {
+        CustomArrayList<String> small = TestUtils.fillTestArrayListByStrings();
+        CustomArrayList<String> large = new CustomArrayList<>(100_000);
+        for (int i = 0; i < small.size(); i++) {
+            large.add(small.get(i));
+        }
+
+        Assertions.assertEquals(serialize(small).length, serialize(large).length);
+    }
+
+    @Test
+    @DisplayName("check binary format of strings")
+    void writeToShouldRoundTripStrings() throws IOException {
+        CustomLinkedList<String> linkedList = TestUtils.fillTestLinkedListByStrings();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        linkedList.writeTo(new DataOutputStream(bytes), ElementSerializer.ofString());
+
+        CustomArrayList<String> arrayList = CustomArrayList.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), ElementSerializer.ofString());
+        Assertions.assertArrayEquals(linkedList.toArray(), arrayList.toArray());
+    }
+
+    static List<Integer> lengthsAroundReadBatch() {
+        return List.of(1_023, 1_024, 1_025, 3_000);
+    }
+
+    @ParameterizedTest
+    @MethodSource("lengthsAroundReadBatch")
+    @DisplayName("check binary round trip of lists larger than one read batch")
+    void readFromShouldReadAllBatches(int length) throws IOException {
+        Integer[] values = TestUtils.randomIntegerArray(length, Integer.MAX_VALUE, 21);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new CustomArrayList<>(values).writeTo(new DataOutputStream(bytes), ElementSerializer.ofInteger());
+
+        CustomArrayList<Integer> blocks = CustomArrayList.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), ElementSerializer.ofInteger());
+        Assertions.assertArrayEquals(values, blocks.toArray());
+        Assertions.assertEquals(length, blocks.getCapacity());
+
+        ElementSerializer<Integer> perElement = new ElementSerializer<>() {
+            @Override
+            public void write(Integer element, DataOutput out) throws IOException {
+                out.writeInt(element);
+            }
+
+            @Override
+            public Integer read(DataInput in) throws IOException {
+                return in.readInt();
+            }
+        };
+        CustomArrayList<Integer> elements = CustomArrayList.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), perElement);
+        Assertions.assertArrayEquals(values, elements.toArray());
+    }
+
+    @Test
+    @DisplayName("check block writes of numbers match per-element writes")
+    void writeToShouldMatchPerElementFormat() throws IOException {
+        Integer[] values = TestUtils.randomIntegerArray(5_000, Integer.MAX_VALUE, 20);
+        CustomArrayList<Integer> list = new CustomArrayList<>(values);
+
+        ByteArrayOutputStream blocks = new ByteArrayOutputStream();
+        list.writeTo(new DataOutputStream(blocks), ElementSerializer.ofInteger());
+
+        ByteArrayOutputStream perElement = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(perElement);
+        out.writeInt(values.length);
+        for (Integer value : values) {
+            out.writeInt(value);
+        }
+        Assertions.assertArrayEquals(perElement.toByteArray(), blocks.toByteArray());
+
+        CustomLinkedList<Integer> restored = CustomLinkedList.readFrom(
+                new DataInputStream(new ByteArrayInputStream(blocks.toByteArray())), ElementSerializer.ofInteger());
+        Assertions.assertArrayEquals(values, restored.toArray());
+        Assertions.assertEquals(Integer.valueOf(values[values.length - 1]), restored.get(restored.size() - 1));
+    }
+
+    @Test
+    @DisplayName("check corrupted binary data")
+    void readFromShouldRejectCorruptedData() {
+        byte[] negativeSize = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+        byte[] truncated = {0, 0, 0, 2, 0, 0, 0, 1};
+
+        assertThrows(IOException.class, () -> CustomArrayList.readFrom(
+                new DataInputStream(new ByteArrayInputStream(negativeSize)), ElementSerializer.ofInteger()));
+        assertThrows(IOException.class, () -> CustomLinkedList.readFrom(
+                new DataInputStream(new ByteArrayInputStream(truncated)), ElementSerializer.ofInteger()));
+        assertThrows(IOException.class, () -> CustomArrayList.readFrom(
+                new DataInputStream(new ByteArrayInputStream(truncated)), ElementSerializer.ofInteger()));
+    }
+
+    @Test
+    @DisplayName("check declared size is not allocated before elements are read")
+    void readShouldNotTrustDeclaredSize() throws IOException, ClassNotFoundException {
+        byte[] hugeSize = {0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0, 0, 0, 1};
+        assertThrows(IOException.class, () -> CustomArrayList.readFrom(
+                new DataInputStream(new ByteArrayInputStream(hugeSize)), ElementSerializer.ofInteger()));
+
+        Integer[] values = TestUtils.randomIntegerArray(5_000, 100, 20);
+        CustomArrayList<Integer> restored = deserialize(serialize(new CustomArrayList<>(values)));
+        Assertions.assertArrayEquals(values, restored.toArray());
+        Assertions.assertEquals(values.length, restored.getCapacity());
+
+        byte[] serialized = serialize(new CustomArrayList<>(new Integer[] {1, 2, 3}));
+        byte[] sizeBlock = {0x77, 0x04, 0, 0, 0, 3};
+        int position = indexOf(serialized, sizeBlock) + 2;
+        serialized[position] = 0x7F;
+        assertThrows(IOException.class, () -> deserialize(serialized));
+        serialized[position] = (byte) 0xFF;
+        serialized[position + 3] = (byte) 0xFF;
+        assertThrows(IOException.class, () -> deserialize(serialized));
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern) {
+        for (int i = 0; i + pattern.length <= data.length; i++) {
+            if (Arrays.equals(data, i, i + pattern.length, pattern, 0, pattern.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("pattern not found");
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static <T> T deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (T) in.readObject();
+        }
+    }
+}
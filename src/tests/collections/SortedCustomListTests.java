@@ -0,0 +1,206 @@
+package tests.collections;
+
+import collections.CustomArrayList;
+import collections.SortedCustomList;
+import collections.interfaces.CustomList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tests.collections.utils.TestUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования упорядоченного списка {@link SortedCustomList}
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Вставка на позицию, найденную бинарным поиском, и порядок равных элементов</li>
+ *   <li>Пакетная вставка со слиянием и неизменность списка при исключении в компараторе или при обходе пакета</li>
+ *   <li>Поиск элементов, границ и диапазонов</li>
+ *   <li>Сохранение порядка при замене элементов и сортировке другим компаратором</li>
+ *   <li>Поведение при недопустимых входных данных (null параметры, вставка на позицию)</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see SortedCustomList
+ * @see CustomList
+ */
+public class SortedCustomListTests {
+
+    private static final Integer[] RANDOM_INTEGERS = TestUtils.randomIntegerArray(5_000, 500, 13);
+
+    private static SortedCustomList<Integer> sortedListOfUnsortedIntegers() {
+        SortedCustomList<Integer> list = new SortedCustomList<>(Integer::compareTo);
+        for (Integer value : TestUtils.unsortedIntegerArray) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Test
+    @DisplayName("check add keeps list sorted")
+    void addShouldInsertAtSortedPosition() {
+        SortedCustomList<Integer> list = sortedListOfUnsortedIntegers();
+
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, list.toArray());
+    }
+
+    @Test
+    @DisplayName("check equal elements keep insertion order")
+    void addShouldKeepInsertionOrderOfEqualElements() {
+        SortedCustomList<String> list = new SortedCustomList<>(Comparator.comparingInt(String::length));
+
+        list.add("Three");
+        list.add("One");
+        list.add("Two");
+        list.addAll(Arrays.asList("Six", "Seven", "Ten"));
+
+        Assertions.assertArrayEquals(new String[]{"One", "Two", "Six", "Ten", "Three", "Seven"}, list.toArray());
+    }
+
+    @Test
+    @DisplayName("check bulk add merges batch into sorted list")
+    void addAllShouldMergeBatch() {
+        SortedCustomList<Integer> list = new SortedCustomList<>(Integer::compareTo);
+        Integer[] expected = RANDOM_INTEGERS.clone();
+        Arrays.sort(expected);
+
+        list.addAll(Arrays.asList(RANDOM_INTEGERS).subList(0, 2_000));
+        list.addAll(new CustomArrayList<>(Arrays.copyOfRange(RANDOM_INTEGERS, 2_000, RANDOM_INTEGERS.length)));
+
+        Assertions.assertArrayEquals(expected, list.toArray());
+        Assertions.assertFalse(list.addAll(new CustomArrayList<>()));
+    }
+
+    @Test
+    @DisplayName("check bulk add with null element leaves list unchanged")
+    void addAllShouldRollBackOnNullElement() {
+        SortedCustomList<Integer> list = sortedListOfUnsortedIntegers();
+
+        assertThrows(NullPointerException.class, () -> list.addAll(Arrays.asList(42, null)));
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, list.toArray());
+    }
+
+    @Test
+    @DisplayName("check bulk add leaves list unchanged when comparator or iteration throws")
+    void addAllShouldLeaveListUnchangedOnFailure() {
+        SortedCustomList<Integer> list = new SortedCustomList<>((left, right) -> {
+            if (left == 13 || right == 13) {
+                throw new ClassCastException("unlucky");
+            }
+            return left.compareTo(right);
+        });
+        list.addAll(Arrays.stream(TestUtils.randomIntegerArray(1_000, 500, 14)).map(value -> value + 500).toList());
+        Object[] original = list.toArray();
+
+        assertThrows(ClassCastException.class, () -> list.addAll(Arrays.asList(900, 13, 5)));
+        Assertions.assertArrayEquals(original, list.toArray());
+
+        Iterable<Integer> failing = () -> new java.util.Iterator<Integer>() {
+            private int remaining = 3;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                if (remaining-- == 0) {
+                    throw new IllegalStateException();
+                }
+                return remaining;
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> list.addAll(failing));
+        Assertions.assertArrayEquals(original, list.toArray());
+
+        Assertions.assertTrue(list.addAll(list));
+        Assertions.assertEquals(2 * original.length, list.size());
+        for (int i = 1; i < list.size(); i++) {
+            Assertions.assertTrue(list.get(i - 1) <= list.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("check search by binary search")
+    void searchShouldFindElements() {
+        SortedCustomList<Integer> list = new SortedCustomList<>(Integer::compareTo);
+        list.addAll(Arrays.asList(10, 20, 20, 20, 30, 40));
+
+        Assertions.assertEquals(1, list.indexOf(20));
+        Assertions.assertEquals(-1, list.indexOf(25));
+        Assertions.assertTrue(list.contains(40));
+        Assertions.assertFalse(list.contains(5));
+        Assertions.assertEquals(1, list.lowerBound(20));
+        Assertions.assertEquals(4, list.upperBound(20));
+        Assertions.assertEquals(Integer.valueOf(20), list.floor(25));
+        Assertions.assertEquals(Integer.valueOf(30), list.ceiling(25));
+        Assertions.assertEquals(Integer.valueOf(20), list.floor(20));
+        Assertions.assertNull(list.floor(5));
+        Assertions.assertNull(list.ceiling(45));
+    }
+
+    @Test
+    @DisplayName("check range queries")
+    void rangeShouldReturnElementsBetweenBounds() {
+        SortedCustomList<Integer> list = sortedListOfUnsortedIntegers();
+
+        Assertions.assertEquals(4, list.countInRange(3, 7));
+        Assertions.assertArrayEquals(new Integer[]{3, 4, 5, 6}, list.range(3, 7).toArray());
+        Assertions.assertEquals(0, list.range(20, 30).size());
+        assertThrows(IllegalArgumentException.class, () -> list.range(7, 3));
+    }
+
+    @Test
+    @DisplayName("check remove finds element by binary search")
+    void removeShouldDeleteElement() {
+        SortedCustomList<Integer> list = sortedListOfUnsortedIntegers();
+
+        Assertions.assertTrue(list.remove((Object) 5));
+        Assertions.assertFalse(list.remove((Object) 5));
+        Assertions.assertArrayEquals(new Integer[]{1, 2, 3, 4, 6, 7, 8, 9, 10}, list.toArray());
+    }
+
+    @Test
+    @DisplayName("check list stays sorted after set and sorting by another comparator")
+    void listShouldStaySorted() {
+        SortedCustomList<Integer> list = sortedListOfUnsortedIntegers();
+
+        list.set(4, 5);
+        list.sort(Comparator.reverseOrder());
+
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, list.toArray());
+        Assertions.assertEquals(Integer.valueOf(10), list.select(0, Comparator.reverseOrder()));
+        assertThrows(IllegalArgumentException.class, () -> list.set(0, 100));
+    }
+
+    @Test
+    @DisplayName("check positional insertion and null parameters")
+    void sortedListShouldRejectInvalidOperations() {
+        SortedCustomList<Integer> list = sortedListOfUnsortedIntegers();
+
+        assertThrows(UnsupportedOperationException.class, () -> list.add(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> list.addFirst(1));
+        assertThrows(UnsupportedOperationException.class, () -> list.addLast(1));
+        assertThrows(NullPointerException.class, () -> list.add(null));
+        assertThrows(NullPointerException.class, () -> list.indexOf(null));
+        assertThrows(NullPointerException.class, () -> new SortedCustomList<Integer>(null));
+    }
+}
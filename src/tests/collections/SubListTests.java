@@ -0,0 +1,269 @@
+package tests.collections;
+
+import collections.CustomArrayDeque;
+import collections.CustomArrayList;
+import collections.CustomLinkedList;
+import collections.IndexedCustomArrayList;
+import collections.interfaces.CustomList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tests.collections.utils.TestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования представлений диапазона {@link CustomList#subList(int, int)}
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Случайные операции через представление в сравнении с {@link java.util.ArrayList#subList(int, int)}</li>
+ *   <li>Сортировка, {@code indexOf} и очистка в пределах диапазона</li>
+ *   <li>Вложенные представления</li>
+ *   <li>Обнаружение структурного изменения родительского списка</li>
+ *   <li>Пустая пакетная вставка в родительский список не делает представление недействительным</li>
+ *   <li>Пустая пакетная вставка через представление и замена значений в родительском списке не являются структурными изменениями</li>
+ *   <li>Поведение при недопустимых границах диапазона</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see CustomList#subList(int, int)
+ */
+public class SubListTests {
+
+    static List<Object[]> customCollectionsOfIntegersImplementations() {
+        Integer[] values = TestUtils.randomIntegerArray(200, 50, 25);
+        return List.of(
+                new Object[] {new CustomLinkedList<>(values)},
+                new Object[] {new CustomArrayList<>(values)},
+                new Object[] {new IndexedCustomArrayList<>(values)},
+                new Object[] {new CustomArrayDeque<>(values)}
+        );
+    }
+
+    static List<Object[]> customCollectionsOfStringsImplementations() {
+        return List.of(
+                new Object[] {TestUtils.fillTestLinkedListByStrings()},
+                new Object[] {TestUtils.fillTestArrayListByStrings()},
+                new Object[] {TestUtils.fillTestArrayDequeByStrings()}
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfIntegersImplementations")
+    @DisplayName("check random operations through view against ArrayList.subList")
+    void subListShouldMatchArrayList(CustomList<Integer> list) {
+        Random random = new Random(25);
+        List<Integer> expectedParent = toArrayList(list);
+        CustomList<Integer> view = list.subList(50, 150);
+        List<Integer> expected = expectedParent.subList(50, 150);
+
+        for (int step = 0; step < 2_000; step++) {
+            Integer value = random.nextInt(60);
+            switch (random.nextInt(6)) {
+                case 0 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    view.add(index, value);
+                    expected.add(index, value);
+                }
+                case 1 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assertions.assertEquals(expected.set(index, value), view.set(index, value));
+                    }
+                }
+                case 2 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assertions.assertEquals(expected.remove(index), view.remove(index));
+                    }
+                }
+                case 3 -> Assertions.assertEquals(expected.remove(value), view.remove(value));
+                case 4 -> {
+                    view.add(value);
+                    expected.add(value);
+                }
+                default -> {
+                    Integer probe = random.nextInt(60);
+                    Assertions.assertEquals(expected.indexOf(probe), view.indexOf(probe));
+                    Assertions.assertEquals(expected.contains(probe), view.contains(probe));
+                }
+            }
+            Assertions.assertEquals(expected.size(), view.size());
+        }
+        Assertions.assertArrayEquals(expected.toArray(), view.toArray());
+        Assertions.assertEquals(expected, toArrayList(view));
+        Assertions.assertArrayEquals(expectedParent.toArray(), list.toArray());
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfIntegersImplementations")
+    @DisplayName("check sort, indexOf and clear are scoped to range")
+    void rangeOperationsShouldAffectOnlyRange(CustomList<Integer> list) {
+        List<Integer> expectedParent = toArrayList(list);
+        CustomList<Integer> view = list.subList(20, 120);
+
+        view.sort(Comparator.reverseOrder());
+        expectedParent.subList(20, 120).sort(Comparator.reverseOrder());
+        Assertions.assertArrayEquals(expectedParent.toArray(), list.toArray());
+
+        view.mergeSort();
+        expectedParent.subList(20, 120).sort(Comparator.naturalOrder());
+        Assertions.assertArrayEquals(expectedParent.toArray(), list.toArray());
+
+        Integer probe = expectedParent.get(60);
+        Assertions.assertEquals(expectedParent.subList(20, 120).indexOf(probe), view.indexOf(probe));
+
+        view.clear();
+        expectedParent.subList(20, 120).clear();
+        Assertions.assertTrue(view.isEmpty());
+        Assertions.assertArrayEquals(expectedParent.toArray(), list.toArray());
+
+        view.add(-1);
+        Assertions.assertEquals(Integer.valueOf(-1), list.get(20));
+        Assertions.assertEquals(expectedParent.size() + 1, list.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfStringsImplementations")
+    @DisplayName("check nested views and iteration")
+    void nestedSubListShouldWriteThrough(CustomList<String> testList) {
+        CustomList<String> view = testList.subList(2, 8);
+        CustomList<String> nested = view.subList(1, 4);
+
+        Assertions.assertEquals(TestUtils.FOURTH_ELEMENT, nested.get(0));
+        Iterator<String> iterator = nested.iterator();
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(testList.get(3 + i), iterator.next());
+        }
+        Assertions.assertFalse(iterator.hasNext());
+
+        nested.set(0, TestUtils.NEW_ELEMENT);
+        nested.removeLast();
+        Assertions.assertEquals(TestUtils.NEW_ELEMENT, testList.get(3));
+        Assertions.assertEquals(5, view.size());
+        Assertions.assertEquals(TestUtils.SIZE_OF_LIST - 1, testList.size());
+        Assertions.assertEquals(1, view.indexOf(TestUtils.NEW_ELEMENT));
+
+        nested.clear();
+        Assertions.assertEquals(3, view.size());
+        Assertions.assertEquals(TestUtils.SIZE_OF_LIST - 3, testList.size());
+        Assertions.assertEquals(TestUtils.THIRD_ELEMENT, view.get(0));
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfStringsImplementations")
+    @DisplayName("check structural modification of parent is detected")
+    void parentModificationShouldInvalidateView(CustomList<String> testList) {
+        CustomList<String> view = testList.subList(1, 5);
+        CustomList<String> nested = view.subList(0, 2);
+        Iterator<String> iterator = view.iterator();
+        iterator.next();
+
+        view.add(TestUtils.NEW_ELEMENT);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(ConcurrentModificationException.class, () -> nested.get(0));
+
+        testList.add(TestUtils.NEW_ELEMENT);
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+        assertThrows(ConcurrentModificationException.class, view::size);
+        assertThrows(ConcurrentModificationException.class, () -> view.indexOf(TestUtils.FIRST_ELEMENT));
+        assertThrows(ConcurrentModificationException.class, view::iterator);
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfIntegersImplementations")
+    @DisplayName("check empty bulk add to parent keeps view valid")
+    void emptyBulkAddShouldNotInvalidateView(CustomList<Integer> list) {
+        CustomList<Integer> view = list.subList(10, 20);
+        Integer first = list.get(10);
+
+        Assertions.assertFalse(list.addAll(new ArrayList<>()));
+        Assertions.assertFalse(list.addAll(5, new CustomArrayList<>()));
+
+        Assertions.assertEquals(first, view.get(0));
+        Assertions.assertEquals(10, view.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfIntegersImplementations")
+    @DisplayName("check empty bulk add through view and parent set keep view valid")
+    void nonStructuralChangesShouldNotInvalidateView(CustomList<Integer> list) {
+        CustomList<Integer> view = list.subList(10, 20);
+        CustomList<Integer> nested = view.subList(2, 5);
+
+        Assertions.assertFalse(view.addAll(3, new CustomArrayList<>()));
+        Assertions.assertFalse(view.addAll(new ArrayList<>()));
+        Assertions.assertEquals(list.get(12), nested.get(0));
+
+        list.set(12, -1);
+        list.set(0, -2);
+        Assertions.assertEquals(Integer.valueOf(-1), view.get(2));
+        Assertions.assertEquals(Integer.valueOf(-1), nested.get(0));
+        Assertions.assertEquals(-1, view.indexOf(-2));
+
+        view.sort(Comparator.naturalOrder());
+        list.set(10, -3);
+        Assertions.assertEquals(Integer.valueOf(-3), view.get(0));
+        Assertions.assertEquals(10, view.size());
+
+        list.add(0, -4);
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+    }
+
+    @Test
+    @DisplayName("check invalid ranges and null elements")
+    void subListShouldRejectInvalidInput() {
+        CustomList<String> list = TestUtils.fillTestArrayListByStrings();
+        CustomList<String> linked = TestUtils.fillTestLinkedListByStrings();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(-1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(5, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> linked.subList(0, TestUtils.SIZE_OF_LIST + 1));
+
+        CustomList<String> view = linked.subList(TestUtils.SIZE_OF_LIST, TestUtils.SIZE_OF_LIST);
+        Assertions.assertTrue(view.isEmpty());
+        Assertions.assertEquals(-1, view.indexOf(TestUtils.FIRST_ELEMENT));
+        Assertions.assertFalse(view.iterator().hasNext());
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(0));
+        assertThrows(NullPointerException.class, () -> view.add(null));
+        view.add(TestUtils.NEW_ELEMENT);
+        Assertions.assertEquals(TestUtils.NEW_ELEMENT, linked.get(TestUtils.SIZE_OF_LIST));
+
+        CustomList<String> arrayView = list.subList(0, 3);
+        assertThrows(IndexOutOfBoundsException.class, () -> arrayView.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> arrayView.setAll(2, new CustomArrayList<>(Arrays.asList("a", "b"))));
+        assertThrows(NullPointerException.class, () -> arrayView.set(0, null));
+        Assertions.assertArrayEquals(TestUtils.fillTestArrayListByStrings().toArray(), list.toArray());
+    }
+
+    private static <T> List<T> toArrayList(CustomList<T> list) {
+        List<T> result = new ArrayList<>();
+        for (T element : list) {
+            result.add(element);
+        }
+        return result;
+    }
+}
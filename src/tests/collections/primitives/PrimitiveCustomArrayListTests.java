@@ -0,0 +1,147 @@
+package tests.collections.primitives;
+
+import collections.primitives.DoubleCustomArrayList;
+import collections.primitives.IntCustomArrayList;
+import collections.primitives.LongCustomArrayList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Класс для тестирования примитивных специализаций списка
+ * {@link IntCustomArrayList}, {@link LongCustomArrayList} и {@link DoubleCustomArrayList}.
+ * <p>
+ * Все три класса сгенерированы из одного шаблона, поэтому основные операции
+ * проверяются на {@link IntCustomArrayList}, а для остальных - особенности типа.
+ * </p>
+ *
+ * <table border="1">
+ *   <tr><td>Основные функции</td>
+ *       <td>
+ * <ul>
+ *   <li>Добавление, вставка, получение и замена значений</li>
+ *   <li>Удаление по индексу и по значению</li>
+ *   <li>Сортировка и итерация без упаковки</li>
+ *   <li>Сравнение значений {@code double}</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see IntCustomArrayList
+ * @see LongCustomArrayList
+ * @see DoubleCustomArrayList
+ */
+public class PrimitiveCustomArrayListTests {
+
+    @Test
+    @DisplayName("check add, insert, get and set on IntCustomArrayList")
+    void intListShouldAddInsertGetAndSet() {
+        IntCustomArrayList list = new IntCustomArrayList();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.add(list.size(), 100);
+
+        Assertions.assertEquals(12, list.size());
+        Assertions.assertEquals(-1, list.get(0));
+        Assertions.assertEquals(100, list.get(11));
+        Assertions.assertEquals(5, list.set(6, 50));
+        Assertions.assertEquals(50, list.get(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(12));
+    }
+
+    @Test
+    @DisplayName("check remove by index and by value on IntCustomArrayList")
+    void intListShouldRemoveByIndexAndValue() {
+        IntCustomArrayList list = IntCustomArrayList.of(5, 10, 2, 7, 2);
+
+        Assertions.assertEquals(10, list.remove(1));
+        Assertions.assertTrue(list.removeValue(2));
+        Assertions.assertFalse(list.removeValue(42));
+        Assertions.assertArrayEquals(new int[]{5, 7, 2}, list.toArray());
+        Assertions.assertEquals(2, list.removeLast());
+        Assertions.assertEquals(5, list.removeFirst());
+        Assertions.assertEquals(0, list.indexOf(7));
+        Assertions.assertEquals(-1, list.indexOf(5));
+    }
+
+    @Test
+    @DisplayName("check sort and iterator on IntCustomArrayList")
+    void intListShouldSortAndIterate() {
+        IntCustomArrayList list = IntCustomArrayList.of(5, 10, 2, 7, 9, 8, 4, 3, 6, 1);
+        list.sort();
+
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        int expected = 1;
+        while (iterator.hasNext()) {
+            Assertions.assertEquals(expected++, iterator.nextInt());
+        }
+        Assertions.assertEquals(11, expected);
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+    }
+
+    @Test
+    @DisplayName("check clear and removeFirst on empty IntCustomArrayList")
+    void intListShouldClear() {
+        IntCustomArrayList list = IntCustomArrayList.of(1, 2, 3);
+        list.clear();
+
+        Assertions.assertTrue(list.isEmpty());
+        assertThrows(NoSuchElementException.class, list::removeFirst);
+    }
+
+    @Test
+    @DisplayName("check capacity constructor and of factory are not confused")
+    void capacityConstructorShouldCreateEmptyList() {
+        Assertions.assertTrue(new IntCustomArrayList(5).isEmpty());
+        Assertions.assertTrue(new LongCustomArrayList(10).isEmpty());
+        Assertions.assertEquals(1, IntCustomArrayList.of(5).size());
+        Assertions.assertEquals(10L, LongCustomArrayList.of(10).get(0));
+        Assertions.assertTrue(DoubleCustomArrayList.of().isEmpty());
+        assertThrows(NullPointerException.class, () -> IntCustomArrayList.of((int[]) null));
+    }
+
+    @Test
+    @DisplayName("check LongCustomArrayList keeps values beyond int range")
+    void longListShouldStoreLongValues() {
+        LongCustomArrayList list = new LongCustomArrayList();
+        list.add(Long.MAX_VALUE);
+        list.addFirst(Long.MIN_VALUE);
+        list.add(1, 0L);
+
+        Assertions.assertArrayEquals(new long[]{Long.MIN_VALUE, 0L, Long.MAX_VALUE}, list.toArray());
+        Assertions.assertTrue(list.contains(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("check DoubleCustomArrayList compares values like Double.equals")
+    void doubleListShouldCompareLikeDoubleEquals() {
+        DoubleCustomArrayList list = DoubleCustomArrayList.of(1.5, Double.NaN, -0.0);
+
+        Assertions.assertEquals(1, list.indexOf(Double.NaN));
+        Assertions.assertEquals(2, list.indexOf(-0.0));
+        Assertions.assertEquals(-1, list.indexOf(0.0));
+    }
+
+    @Test
+    @DisplayName("check DoubleCustomArrayList sort")
+    void doubleListShouldSort() {
+        DoubleCustomArrayList list = DoubleCustomArrayList.of(3.5, -1.0, 2.25, 0.0);
+        list.sort();
+
+        Assertions.assertArrayEquals(new double[]{-1.0, 0.0, 2.25, 3.5}, list.toArray());
+    }
+}
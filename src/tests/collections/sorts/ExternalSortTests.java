@@ -0,0 +1,135 @@
+package tests.collections.sorts;
+
+import collections.CustomArrayList;
+import collections.interfaces.CustomList;
+import collections.io.CloseableIterator;
+import collections.io.ElementSerializer;
+import collections.sorts.ExternalSort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tests.collections.utils.TestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования внешней сортировки слиянием {@link ExternalSort}
+ * <p>
+ *     Временные файлы создаются в отдельном временном каталоге, который проверяется на пустоту после сортировки
+ * </p>
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Корректность сортировки в памяти, с одним и с несколькими проходами слияния</li>
+ *   <li>Устойчивость сортировки</li>
+ *   <li>Удаление временных файлов после чтения и после досрочного закрытия итератора</li>
+ *   <li>Поведение при недопустимых входных данных (null параметры, неверный бюджет памяти)</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see ExternalSort
+ * @see ElementSerializer
+ * @see CloseableIterator
+ */
+public class ExternalSortTests {
+
+    @Test
+    @DisplayName("check external sort with several merge passes")
+    void externalSortShouldSortWithSeveralMergePasses() throws IOException {
+        Path directory = Files.createTempDirectory("external-sort-tests");
+        Integer[] array = TestUtils.randomIntegerArray(50_000, 1_000_000, 41);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        ExternalSort<Integer> sort = new ExternalSort<>(ElementSerializer.ofInteger(), Comparator.naturalOrder(), 500, 4, directory);
+        Assertions.assertArrayEquals(expected, readAll(sort.sort(new CustomArrayList<>(array))));
+
+        assertEmptyAndDelete(directory);
+    }
+
+    @Test
+    @DisplayName("check external sort keeps order of equal elements")
+    void externalSortShouldBeStable() throws IOException {
+        Path directory = Files.createTempDirectory("external-sort-tests");
+        Integer[] keys = TestUtils.randomIntegerArray(20_000, 50, 42);
+        CustomList<String> source = new CustomArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            source.add(keys[i] + ":" + i);
+        }
+        Comparator<String> byKey = Comparator.comparingInt(value -> Integer.parseInt(value.substring(0, value.indexOf(':'))));
+        Object[] expected = source.toArray();
+        Arrays.sort(expected, (left, right) -> byKey.compare((String) left, (String) right));
+
+        ExternalSort<String> sort = new ExternalSort<>(ElementSerializer.ofString(), byKey, 1_000, 8, directory);
+        Assertions.assertArrayEquals(expected, readAll(sort.sort(source)));
+
+        assertEmptyAndDelete(directory);
+    }
+
+    @Test
+    @DisplayName("check external sort of data fitting into memory")
+    void externalSortShouldSortInMemory() throws IOException {
+        ExternalSort<Integer> sort = new ExternalSort<>(ElementSerializer.ofInteger(), Comparator.naturalOrder(), 100);
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, readAll(sort.sort(Arrays.asList(TestUtils.unsortedIntegerArray))));
+    }
+
+    @Test
+    @DisplayName("check external sort removes temp files when iterator is closed early")
+    void externalSortShouldRemoveTempFilesOnClose() throws IOException {
+        Path directory = Files.createTempDirectory("external-sort-tests");
+        Integer[] array = TestUtils.randomIntegerArray(10_000, 1_000_000, 43);
+
+        ExternalSort<Integer> sort = new ExternalSort<>(ElementSerializer.ofInteger(), Comparator.naturalOrder(), 1_000, 4, directory);
+        try (CloseableIterator<Integer> iterator = sort.sort(Arrays.asList(array))) {
+            Assertions.assertTrue(iterator.hasNext());
+            iterator.next();
+        }
+
+        assertEmptyAndDelete(directory);
+    }
+
+    @Test
+    @DisplayName("check external sort with invalid arguments")
+    void externalSortShouldThrowForInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new ExternalSort<>(null, Comparator.<Integer>naturalOrder(), 10));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSort<>(ElementSerializer.ofInteger(), Comparator.naturalOrder(), 0));
+        assertThrows(NullPointerException.class,
+                () -> new ExternalSort<>(ElementSerializer.ofInteger(), Comparator.naturalOrder(), 10).sort(null));
+    }
+
+    private static Object[] readAll(CloseableIterator<?> iterator) {
+        CustomList<Object> result = new CustomArrayList<>();
+        try (iterator) {
+            while (iterator.hasNext()) {
+                result.add(iterator.next());
+            }
+        }
+        return result.toArray();
+    }
+
+    private static void assertEmptyAndDelete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+        Files.delete(directory);
+    }
+}
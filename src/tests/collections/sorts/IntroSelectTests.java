@@ -0,0 +1,142 @@
+package tests.collections.sorts;
+
+import collections.CustomArrayList;
+import collections.CustomLinkedList;
+import collections.interfaces.CustomList;
+import collections.sorts.IntroSelect;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tests.collections.utils.TestUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования выбора k-го элемента, частичной сортировки и отбора k наименьших элементов {@link IntroSelect}
+ * <p>
+ *     Методы вызываются через {@link CustomList#select(int, Comparator)}, {@link CustomList#partialSort(int, Comparator)},
+ *     {@link CustomList#topK(int, Comparator)} и напрямую через класс {@link IntroSelect}
+ * </p>
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Выбор медианы и граничных позиций, разбиение относительно выбранного элемента</li>
+ *   <li>Упорядоченность первых k элементов после частичной сортировки</li>
+ *   <li>Отбор k наименьших и наибольших элементов без изменения исходного списка</li>
+ *   <li>Поведение при недопустимых входных данных (null параметры, k вне диапазона)</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see IntroSelect
+ * @see CustomList
+ * @see CustomArrayList
+ * @see CustomLinkedList
+ */
+public class IntroSelectTests {
+
+    private static final Integer[] RANDOM_INTEGERS = TestUtils.randomIntegerArray(50_000, 1_000_000, 21);
+
+    static List<Object[]> customCollectionsOfUnsortedIntegers() {
+        return TestUtils.customCollectionsOfIntegersImplementations();
+    }
+
+    static List<Object[]> customCollectionsOfRandomIntegers() {
+        CustomLinkedList<Integer> linkedList = new CustomLinkedList<>();
+        for (Integer value : RANDOM_INTEGERS) {
+            linkedList.add(value);
+        }
+        return Arrays.asList(
+                new Object[]{new CustomArrayList<>(RANDOM_INTEGERS.clone())},
+                new Object[]{linkedList});
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfUnsortedIntegers")
+    @DisplayName("check select returns element of every position")
+    void selectShouldReturnElementOfSortedPosition(CustomList<Integer> list) {
+        for (int k = 0; k < list.size(); k++) {
+            Assertions.assertEquals(TestUtils.sortedIntegerArray[k], list.select(k, Comparator.naturalOrder()));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfRandomIntegers")
+    @DisplayName("check select of median partitions the list around it")
+    void selectShouldPartitionAroundMedian(CustomList<Integer> list) {
+        Integer[] expected = RANDOM_INTEGERS.clone();
+        Arrays.sort(expected);
+        int k = list.size() / 2;
+
+        Integer median = list.select(k, Comparator.naturalOrder());
+
+        Assertions.assertEquals(expected[k], median);
+        int index = 0;
+        for (Integer value : list) {
+            Assertions.assertTrue(index < k ? value <= median : value >= median);
+            index++;
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfRandomIntegers")
+    @DisplayName("check partial sort orders first k elements")
+    void partialSortShouldOrderFirstKElements(CustomList<Integer> list) {
+        Integer[] expected = RANDOM_INTEGERS.clone();
+        Arrays.sort(expected);
+
+        list.partialSort(100, Comparator.naturalOrder());
+
+        Object[] actual = list.toArray();
+        Assertions.assertArrayEquals(Arrays.copyOf(expected, 100), Arrays.copyOf(actual, 100));
+        Arrays.sort(actual);
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfRandomIntegers")
+    @DisplayName("check top k returns largest elements and keeps the source list")
+    void topKShouldReturnLargestElements(CustomList<Integer> list) {
+        Integer[] expected = RANDOM_INTEGERS.clone();
+        Arrays.sort(expected, Comparator.reverseOrder());
+
+        CustomList<Integer> result = list.topK(100, Comparator.reverseOrder());
+
+        Assertions.assertArrayEquals(Arrays.copyOf(expected, 100), result.toArray());
+        Assertions.assertArrayEquals(RANDOM_INTEGERS, list.toArray());
+    }
+
+    @Test
+    @DisplayName("check top k of short source returns all elements sorted")
+    void topKShouldReturnAllElementsOfShortSource() {
+        CustomList<Integer> result = IntroSelect.topK(Arrays.asList(TestUtils.unsortedIntegerArray), 100, Comparator.naturalOrder());
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, result.toArray());
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfUnsortedIntegers")
+    @DisplayName("check selection methods with invalid arguments")
+    void selectionShouldThrowForInvalidArguments(CustomList<Integer> list) {
+        assertThrows(NullPointerException.class, () -> list.select(0, null));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.select(list.size(), Comparator.naturalOrder()));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.partialSort(list.size() + 1, Comparator.naturalOrder()));
+        assertThrows(IllegalArgumentException.class, () -> list.topK(-1, Comparator.naturalOrder()));
+    }
+}
@@ -0,0 +1,135 @@
+package tests.collections.sorts;
+
+import collections.CustomArrayList;
+import collections.CustomLinkedList;
+import collections.interfaces.CustomList;
+import collections.sorts.IntroSort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tests.collections.utils.TestUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования алгоритма сортировки {@link IntroSort}
+ * <p>
+ *     Методы сортировки вызываются через интерфейс {@link CustomList}, а не обращаясь к классу {@link IntroSort}
+ * </p>
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Корректность сортировки случайных данных</li>
+ *   <li>Упорядоченные, обратно упорядоченные данные и данные из одинаковых элементов,
+ *       на которых прежняя быстрая сортировка деградировала до O(n<sup>2</sup>)</li>
+ *   <li>Поведение при недопустимых входных данных (null параметры)</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see IntroSort
+ * @see CustomList
+ * @see CustomLinkedList
+ * @see CustomArrayList
+ */
+public class IntroSortTests {
+
+    private static final int LARGE_SIZE = 200_000;
+
+    private static final Integer[] RANDOM_INTEGERS = TestUtils.randomIntegerArray(2_000, 100, 4);
+
+    static List<Object[]> customCollectionsOfRandomIntegers() {
+        Integer[] array = RANDOM_INTEGERS.clone();
+        return List.of(
+                new Object[] {new CustomLinkedList<>(array)},
+                new Object[] {new CustomArrayList<>(array)}
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfRandomIntegers")
+    @DisplayName("check intro sort for lists with random Integers and many duplicates")
+    void introSortShouldSortRandomIntegers(CustomList<Integer> list) {
+        Integer[] expected = RANDOM_INTEGERS.clone();
+        Arrays.sort(expected);
+
+        CustomList<Integer> result = list.sort();
+        Assertions.assertArrayEquals(expected, result.toArray());
+    }
+
+    @Test
+    @DisplayName("check intro sort for already sorted large list")
+    void introSortShouldHandleSortedList() {
+        Integer[] expected = new Integer[LARGE_SIZE];
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            expected[i] = i;
+        }
+
+        CustomList<Integer> result = new CustomArrayList<>(expected).sort();
+        Assertions.assertArrayEquals(expected, result.toArray());
+    }
+
+    @Test
+    @DisplayName("check intro sort for reverse sorted large list")
+    void introSortShouldHandleReverseSortedList() {
+        Integer[] expected = new Integer[LARGE_SIZE];
+        Integer[] reversed = new Integer[LARGE_SIZE];
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            expected[i] = i;
+            reversed[i] = LARGE_SIZE - 1 - i;
+        }
+
+        CustomList<Integer> result = new CustomArrayList<>(reversed).sort();
+        Assertions.assertArrayEquals(expected, result.toArray());
+    }
+
+    @Test
+    @DisplayName("check intro sort for large list of equal elements")
+    void introSortShouldHandleEqualElements() {
+        Integer[] array = new Integer[LARGE_SIZE];
+        Arrays.fill(array, 7);
+
+        CustomList<Integer> result = new CustomArrayList<>(array).sort();
+        Assertions.assertArrayEquals(array, result.toArray());
+    }
+
+    @Test
+    @DisplayName("check intro sort with reversed comparator")
+    void introSortShouldUseComparator() {
+        CustomList<Integer> result = TestUtils.fillTestArrayListByIntegers().sort(Comparator.reverseOrder());
+
+        Integer[] expected = TestUtils.sortedIntegerArray.clone();
+        Arrays.sort(expected, Comparator.reverseOrder());
+        Assertions.assertArrayEquals(expected, result.toArray());
+    }
+
+    @Test
+    @DisplayName("check intro sort when collection is null")
+    void introSortShouldThrowNPEForNullList() {
+        assertThrows(NullPointerException.class, () -> IntroSort.sort(null, Comparator.<Integer>naturalOrder()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfRandomIntegers")
+    @DisplayName("check intro sort when comparator is null")
+    void introSortShouldThrowNPEForNullComparator(CustomList<Integer> list) {
+        assertThrows(NullPointerException.class, () -> list.sort(null));
+    }
+}
@@ -0,0 +1,131 @@
+package tests.collections.sorts;
+
+import collections.CustomArrayList;
+import collections.CustomLinkedList;
+import collections.interfaces.CustomList;
+import collections.sorts.KWayMerge;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tests.collections.utils.TestUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования k-путевого слияния {@link KWayMerge}
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Слияние списков разных реализаций и итераторов, включая пустые источники</li>
+ *   <li>Устойчивость слияния (порядок равных элементов из разных источников)</li>
+ *   <li>Заполнение целевого списка</li>
+ *   <li>Поведение при недопустимых входных данных (null параметры, выход за конец)</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see KWayMerge
+ */
+public class KWayMergeTests {
+
+    private static final Integer[] RANDOM_INTEGERS = TestUtils.randomIntegerArray(10_000, 1_000, 15);
+
+    /**
+     * Делит {@link #RANDOM_INTEGERS} на {@code count} отсортированных списков чередующихся реализаций.
+     */
+    private static CustomList<CustomList<Integer>> sortedShards(int count) {
+        CustomList<CustomList<Integer>> shards = new CustomArrayList<>();
+        int step = RANDOM_INTEGERS.length / count;
+        for (int i = 0; i < count; i++) {
+            Integer[] part = Arrays.copyOfRange(RANDOM_INTEGERS, i * step, i == count - 1 ? RANDOM_INTEGERS.length : (i + 1) * step);
+            Arrays.sort(part);
+            shards.add(i % 2 == 0 ? new CustomArrayList<>(part) : new CustomLinkedList<>(part));
+        }
+        return shards;
+    }
+
+    @Test
+    @DisplayName("check merge of sorted lists")
+    void mergeShouldCombineSortedLists() {
+        Integer[] expected = RANDOM_INTEGERS.clone();
+        Arrays.sort(expected);
+
+        for (int count : new int[]{1, 2, 7, 64}) {
+            CustomList<Integer> merged = KWayMerge.merge(sortedShards(count), Integer::compareTo);
+            Assertions.assertArrayEquals(expected, merged.toArray());
+        }
+    }
+
+    @Test
+    @DisplayName("check lazy merge of iterators with empty sources")
+    void ofIteratorsShouldSkipEmptySources() {
+        CustomList<Iterator<Integer>> iterators = new CustomArrayList<>();
+        iterators.add(new CustomArrayList<Integer>().iterator());
+        iterators.add(new CustomArrayList<>(new Integer[]{2, 5, 8}).iterator());
+        iterators.add(new CustomLinkedList<Integer>().iterator());
+        iterators.add(new CustomLinkedList<>(new Integer[]{1, 9}).iterator());
+
+        Iterator<Integer> merged = KWayMerge.ofIterators(iterators, Integer::compareTo);
+
+        CustomList<Integer> result = new CustomArrayList<>();
+        while (merged.hasNext()) {
+            result.add(merged.next());
+        }
+        Assertions.assertArrayEquals(new Integer[]{1, 2, 5, 8, 9}, result.toArray());
+        assertThrows(NoSuchElementException.class, merged::next);
+        Assertions.assertFalse(KWayMerge.of(new CustomArrayList<CustomList<Integer>>(), Integer::compareTo).hasNext());
+    }
+
+    @Test
+    @DisplayName("check equal elements keep order of sources")
+    void mergeShouldBeStable() {
+        CustomList<CustomList<String>> sources = new CustomArrayList<>();
+        sources.add(new CustomArrayList<>(new String[]{"b1", "c1"}));
+        sources.add(new CustomArrayList<>(new String[]{"a2", "b2", "b2'"}));
+        sources.add(new CustomArrayList<>(new String[]{"b3", "c3"}));
+
+        CustomList<String> merged = KWayMerge.merge(sources, Comparator.comparing(value -> value.charAt(0)));
+
+        Assertions.assertArrayEquals(new String[]{"a2", "b1", "b2", "b2'", "b3", "c1", "c3"}, merged.toArray());
+    }
+
+    @Test
+    @DisplayName("check merge appends to target list")
+    void mergeIntoShouldAppendToTarget() {
+        CustomList<Integer> target = new CustomLinkedList<>(new Integer[]{0});
+        CustomList<CustomList<Integer>> sources = new CustomArrayList<>();
+        sources.add(new CustomArrayList<>(new Integer[]{1, 3}));
+        sources.add(new CustomArrayList<>(new Integer[]{2, 4}));
+
+        CustomList<Integer> result = KWayMerge.mergeInto(sources, Integer::compareTo, target);
+
+        Assertions.assertSame(target, result);
+        Assertions.assertArrayEquals(new Integer[]{0, 1, 2, 3, 4}, target.toArray());
+    }
+
+    @Test
+    @DisplayName("check merge with null parameters")
+    void mergeShouldThrowNPEForNullParameters() {
+        CustomList<CustomList<Integer>> sources = sortedShards(2);
+
+        assertThrows(NullPointerException.class, () -> KWayMerge.merge(null, Integer::compareTo));
+        assertThrows(NullPointerException.class, () -> KWayMerge.merge(sources, null));
+        assertThrows(NullPointerException.class, () -> KWayMerge.mergeInto(sources, Integer::compareTo, null));
+    }
+}
@@ -0,0 +1,145 @@
+package tests.collections.sorts;
+
+import collections.CustomArrayList;
+import collections.CustomLinkedList;
+import collections.interfaces.CustomList;
+import collections.sorts.KeySort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tests.collections.utils.TestUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования сортировки по ключу с предварительным вычислением ключей {@link KeySort}
+ * <p>
+ *     Методы сортировки вызываются через {@link CustomList#sortBy(java.util.function.Function)},
+ *     {@link CustomList#sortByInt(java.util.function.ToIntFunction)}, {@link CustomList#sortByLong(java.util.function.ToLongFunction)},
+ *     {@link CustomList#sortByDouble(java.util.function.ToDoubleFunction)} и напрямую через класс {@link KeySort}
+ * </p>
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Корректность сортировки по ключам разных типов</li>
+ *   <li>Однократное вычисление ключа для каждого элемента</li>
+ *   <li>Устойчивость сортировки</li>
+ *   <li>Поведение при недопустимых входных данных (null параметры)</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see KeySort
+ * @see CustomList
+ * @see CustomArrayList
+ * @see CustomLinkedList
+ */
+public class KeySortTests {
+
+    private static final Integer[] RANDOM_INTEGERS = TestUtils.randomIntegerArray(10_000, 1_000, 31);
+
+    static List<Object[]> customCollectionsOfUnsortedIntegers() {
+        return TestUtils.customCollectionsOfIntegersImplementations();
+    }
+
+    static List<Object[]> customCollectionsOfStringsImplementations() {
+        return TestUtils.customCollectionsOfStringsImplementations();
+    }
+
+    static List<Object[]> customCollectionsOfRandomNumberStrings() {
+        CustomArrayList<String> arrayList = new CustomArrayList<>();
+        CustomLinkedList<String> linkedList = new CustomLinkedList<>();
+        for (Integer value : RANDOM_INTEGERS) {
+            arrayList.add(String.valueOf(value));
+            linkedList.add(String.valueOf(value));
+        }
+        return Arrays.asList(new Object[]{arrayList}, new Object[]{linkedList});
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfRandomNumberStrings")
+    @DisplayName("check sort by key computes every key once")
+    void sortByShouldComputeEveryKeyOnce(CustomList<String> list) {
+        Integer[] expected = RANDOM_INTEGERS.clone();
+        Arrays.sort(expected);
+        int[] keyCalls = {0};
+
+        list.sortBy(value -> {
+            keyCalls[0]++;
+            return Integer.valueOf(value);
+        });
+
+        Assertions.assertEquals(RANDOM_INTEGERS.length, keyCalls[0]);
+        int index = 0;
+        for (String value : list) {
+            Assertions.assertEquals(String.valueOf(expected[index++]), value);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfRandomNumberStrings")
+    @DisplayName("check sort by key keeps order of equal keys")
+    void sortByShouldBeStable(CustomList<String> list) {
+        Object[] expected = list.toArray();
+        Arrays.sort(expected, Comparator.comparingInt(value -> ((String) value).length()));
+
+        list.sortBy(String::length);
+
+        Assertions.assertArrayEquals(expected, list.toArray());
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfStringsImplementations")
+    @DisplayName("check sort by key with key comparator")
+    void sortByShouldUseKeyComparator(CustomList<String> list) {
+        list.sortBy(String::toLowerCase, Comparator.reverseOrder());
+
+        String[] expected = TestUtils.sortedStringArray.clone();
+        Arrays.sort(expected, Comparator.comparing(String::toLowerCase, Comparator.reverseOrder()));
+        Assertions.assertArrayEquals(expected, list.toArray());
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfUnsortedIntegers")
+    @DisplayName("check sort by primitive keys")
+    void sortByPrimitiveKeysShouldSortIntegers(CustomList<Integer> list) {
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, list.sortByInt(value -> value).toArray());
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, list.sortByLong(value -> -value).sortByLong(value -> value).toArray());
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, list.sortByDouble(value -> -value / 2.0).sortByDouble(value -> value / 2.0).toArray());
+    }
+
+    @Test
+    @DisplayName("check sort by key of array range")
+    void sortByShouldSortArrayRange() {
+        String[] array = {"9", "30", "200", "1000", "7", "50"};
+
+        KeySort.sort(array, 1, 5, Integer::valueOf, Comparator.naturalOrder());
+
+        Assertions.assertArrayEquals(new String[]{"9", "7", "30", "200", "1000", "50"}, array);
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfStringsImplementations")
+    @DisplayName("check sort by key when key extractor is null")
+    void sortByShouldThrowNPEForNullKeyExtractor(CustomList<String> list) {
+        assertThrows(NullPointerException.class, () -> list.sortBy(null));
+        assertThrows(NullPointerException.class, () -> list.sortByInt(null));
+    }
+}
@@ -0,0 +1,194 @@
+package tests.collections.sorts;
+
+import collections.CustomLinkedList;
+import collections.LinkedListNode;
+import collections.interfaces.CustomList;
+import collections.sorts.LinkedListMergeSort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tests.collections.utils.TestUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования алгоритма сортировки {@link LinkedListMergeSort}
+ * <p>
+ *     Методы сортировки вызываются через {@link CustomLinkedList}, который переопределяет сортировки {@link CustomList}
+ * </p>
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Корректность сортировки через {@code sort} и {@code mergeSort}</li>
+ *   <li>Корректность головного и хвостового узлов после перецепления</li>
+ *   <li>Устойчивость сортировки</li>
+ *   <li>Корректность цепочки и всех элементов списка, если компаратор выбрасывает исключение</li>
+ *   <li>Поведение при недопустимых входных данных (null параметры)</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see LinkedListMergeSort
+ * @see CustomLinkedList
+ */
+public class LinkedListMergeSortTests {
+
+    @Test
+    @DisplayName("check linked list sort for random Integers")
+    void linkedListSortShouldSortRandomIntegers() {
+        Integer[] array = TestUtils.randomIntegerArray(10_000, 500, 5);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        CustomList<Integer> result = new CustomLinkedList<>(array).sort();
+        Assertions.assertArrayEquals(expected, result.toArray());
+    }
+
+    @Test
+    @DisplayName("check linked list merge sort for unsorted Strings")
+    void linkedListMergeSortShouldSortStrings() {
+        CustomList<String> result = TestUtils.fillTestLinkedListByStrings().mergeSort();
+        Assertions.assertArrayEquals(TestUtils.sortedStringArray, result.toArray());
+    }
+
+    @Test
+    @DisplayName("check head and tail of linked list after sort")
+    void linkedListSortShouldKeepHeadAndTail() {
+        CustomLinkedList<Integer> list = TestUtils.fillTestLinkedListByIntegers();
+        list.sort();
+
+        Assertions.assertEquals(1, (int) list.get(0));
+        Assertions.assertEquals(10, (int) list.removeLast());
+        list.add(TestUtils.SIZE_OF_LIST + 1);
+        list.addFirst(0);
+
+        Assertions.assertArrayEquals(new Integer[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 11}, list.toArray());
+    }
+
+    @Test
+    @DisplayName("check linked list merge sort keeps order of equal elements")
+    void linkedListMergeSortShouldBeStable() {
+        Integer[] keys = TestUtils.randomIntegerArray(5_000, 10, 6);
+        CustomLinkedList<int[]> list = new CustomLinkedList<>();
+        for (int i = 0; i < keys.length; i++) {
+            list.add(new int[]{keys[i], i});
+        }
+
+        list.mergeSort(Comparator.comparingInt(pair -> pair[0]));
+
+        int[] previous = null;
+        for (int[] pair : list) {
+            if (previous != null) {
+                Assertions.assertTrue(previous[0] < pair[0] || (previous[0] == pair[0] && previous[1] < pair[1]));
+            }
+            previous = pair;
+        }
+    }
+
+    @Test
+    @DisplayName("check linked list merge sort restores prev links")
+    void linkedListMergeSortShouldRestorePrevLinks() {
+        LinkedListNode<Integer> head = null;
+        for (int value : new int[]{3, 1, 2}) {
+            head = new LinkedListNode<>(value, head);
+        }
+
+        LinkedListNode<Integer> sorted = LinkedListMergeSort.sort(head, Comparator.naturalOrder());
+
+        Assertions.assertNull(sorted.getPrev());
+        Assertions.assertEquals(1, (int) sorted.getNode());
+        Assertions.assertSame(sorted, sorted.getNext().getPrev());
+        Assertions.assertNull(sorted.getNext().getNext().getNext());
+    }
+
+    @Test
+    @DisplayName("check linked list stays consistent when comparator throws")
+    void linkedListSortShouldKeepValidChainWhenComparatorThrows() {
+        Integer[] values = TestUtils.randomIntegerArray(200, 1_000, 3);
+        Integer[] expected = values.clone();
+        Arrays.sort(expected);
+
+        for (int limit : new int[] {0, 1, 12, 150, 700, 1_200}) {
+            CustomLinkedList<Integer> list = new CustomLinkedList<>(values);
+            int[] calls = {0};
+            assertThrows(IllegalStateException.class, () -> list.sort((left, right) -> {
+                if (++calls[0] > limit) {
+                    throw new IllegalStateException();
+                }
+                return left.compareTo(right);
+            }));
+
+            Object[] forward = list.toArray();
+            Assertions.assertEquals(values.length, forward.length);
+            Object[] contents = forward.clone();
+            Arrays.sort(contents);
+            Assertions.assertArrayEquals(expected, contents);
+
+            list.add(-1);
+            list.addFirst(-2);
+            Assertions.assertEquals(Integer.valueOf(-1), list.removeLast());
+            for (int i = forward.length - 1; i >= 0; i--) {
+                Assertions.assertEquals(forward[i], list.removeLast());
+            }
+            Assertions.assertEquals(Integer.valueOf(-2), list.removeLast());
+            Assertions.assertTrue(list.isEmpty());
+        }
+
+        for (int limit : new int[] {0, 5, 150, 700}) {
+            LinkedListNode<Integer> node = null;
+            for (Integer value : values) {
+                node = new LinkedListNode<>(value, node);
+            }
+            LinkedListNode<Integer> head = node;
+            int[] calls = {0};
+            assertThrows(IllegalStateException.class, () -> LinkedListMergeSort.sort(head, (left, right) -> {
+                if (++calls[0] > limit) {
+                    throw new IllegalStateException();
+                }
+                return left.compareTo(right);
+            }));
+
+            LinkedListNode<Integer> first = head;
+            while (first.getPrev() != null) {
+                first = first.getPrev();
+            }
+            int count = 0;
+            for (LinkedListNode<Integer> current = first; current != null; current = current.getNext()) {
+                if (current.getNext() != null) {
+                    Assertions.assertSame(current, current.getNext().getPrev());
+                }
+                count++;
+            }
+            Assertions.assertEquals(values.length, count);
+        }
+
+        CustomLinkedList<Integer> list = new CustomLinkedList<>(values);
+        assertThrows(IllegalStateException.class, () -> list.sort((left, right) -> {
+            throw new IllegalStateException();
+        }));
+        Assertions.assertArrayEquals(values, list.toArray());
+        list.sort();
+        Assertions.assertArrayEquals(expected, list.toArray());
+    }
+
+    @Test
+    @DisplayName("check linked list sort when comparator is null")
+    void linkedListSortShouldThrowNPEForNullComparator() {
+        CustomList<String> list = TestUtils.fillTestLinkedListByStrings();
+        assertThrows(NullPointerException.class, () -> list.mergeSort(null));
+    }
+}
@@ -113,4 +113,12 @@ public class MergeSortTests {
     void mergeSortShouldThrowNPEForNullComparator(CustomList<String> list) {
         assertThrows(NullPointerException.class, () -> list.sort(null));
     }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfUnsortedIntegers")
+    @DisplayName("check merge sort called through the class on array copy of the list")
+    public void mergeSortShouldSortThroughArrayAccess(CustomList<Integer> list) {
+        CustomList<Integer> result = MergeSort.sort(list, Integer::compareTo);
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, result.toArray());
+    }
 }
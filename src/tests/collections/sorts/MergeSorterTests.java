@@ -0,0 +1,143 @@
+package tests.collections.sorts;
+
+import collections.CustomArrayList;
+import collections.CustomLinkedList;
+import collections.interfaces.CustomList;
+import collections.sorts.MergeSorter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tests.collections.utils.TestUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования сортировки слиянием с повторно используемым буфером {@link MergeSorter}
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Корректность и устойчивость сортировки с неограниченным, ограниченным и нулевым буфером</li>
+ *   <li>Повторное использование буфера между вызовами</li>
+ *   <li>Поведение при недопустимых входных данных (null параметры, отрицательный размер буфера)</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see MergeSorter
+ * @see CustomList
+ * @see CustomArrayList
+ * @see CustomLinkedList
+ */
+public class MergeSorterTests {
+
+    private static final Integer[] RANDOM_INTEGERS = TestUtils.randomIntegerArray(10_000, 1_000, 12);
+
+    static List<Object[]> customCollectionsOfUnsortedIntegers() {
+        return TestUtils.customCollectionsOfIntegersImplementations();
+    }
+
+    static List<Object[]> mergeSorters() {
+        return Arrays.asList(
+                new Object[]{new MergeSorter()},
+                new Object[]{new MergeSorter(64)},
+                new Object[]{MergeSorter.inPlace()});
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfUnsortedIntegers")
+    @DisplayName("check merge sorter sorts custom lists")
+    void mergeSorterShouldSortList(CustomList<Integer> list) {
+        CustomList<Integer> sorted = new MergeSorter().sort(list, Integer::compareTo);
+
+        Assertions.assertSame(list, sorted);
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, list.toArray());
+    }
+
+    @ParameterizedTest
+    @MethodSource("mergeSorters")
+    @DisplayName("check merge sorter keeps order of equal elements with any scratch size")
+    void mergeSorterShouldBeStable(MergeSorter sorter) {
+        Integer[] positions = new Integer[RANDOM_INTEGERS.length];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        Comparator<Integer> byValue = Comparator.comparingInt(position -> RANDOM_INTEGERS[position] % 100);
+        Integer[] expected = positions.clone();
+        Arrays.sort(expected, byValue);
+
+        sorter.sort(positions, 0, positions.length, byValue);
+
+        Assertions.assertArrayEquals(expected, positions);
+    }
+
+    @ParameterizedTest
+    @MethodSource("mergeSorters")
+    @DisplayName("check merge sorter sorts only the given array range")
+    void mergeSorterShouldSortArrayRange(MergeSorter sorter) {
+        Integer[] array = RANDOM_INTEGERS.clone();
+        Integer[] expected = RANDOM_INTEGERS.clone();
+        Arrays.sort(expected, 100, 9_000);
+
+        sorter.sort(array, 100, 9_000, Integer::compareTo);
+
+        Assertions.assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("check merge sorter reuses scratch between calls")
+    void mergeSorterShouldReuseScratch() {
+        MergeSorter sorter = new MergeSorter();
+        Integer[] array = RANDOM_INTEGERS.clone();
+
+        sorter.sort(array, 0, array.length, Comparator.reverseOrder());
+        int capacity = sorter.scratchCapacity();
+        sorter.sort(array, 0, array.length, Integer::compareTo);
+        sorter.sort(array, 0, array.length / 2, Comparator.reverseOrder());
+
+        Assertions.assertEquals(array.length / 2, capacity);
+        Assertions.assertEquals(capacity, sorter.scratchCapacity());
+        Assertions.assertEquals(0, MergeSorter.inPlace().scratchCapacity());
+    }
+
+    @Test
+    @DisplayName("check merge sorter with bounded scratch does not exceed the bound")
+    void mergeSorterShouldRespectScratchBound() {
+        MergeSorter sorter = new MergeSorter(64);
+        MergeSorter inPlace = MergeSorter.inPlace();
+        Integer[] array = RANDOM_INTEGERS.clone();
+
+        sorter.sort(array, 0, array.length, Comparator.reverseOrder());
+        inPlace.sort(array, 0, array.length, Integer::compareTo);
+
+        Assertions.assertEquals(64, sorter.scratchCapacity());
+        Assertions.assertEquals(0, inPlace.scratchCapacity());
+    }
+
+    @Test
+    @DisplayName("check merge sorter with invalid parameters")
+    void mergeSorterShouldThrowForInvalidParameters() {
+        MergeSorter sorter = new MergeSorter();
+
+        assertThrows(IllegalArgumentException.class, () -> new MergeSorter(-1));
+        assertThrows(NullPointerException.class, () -> sorter.sort((CustomList<Integer>) null, Integer::compareTo));
+        assertThrows(NullPointerException.class, () -> sorter.sort(new CustomArrayList<Integer>(), null));
+        assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(new Integer[3], 2, 5, Integer::compareTo));
+    }
+}
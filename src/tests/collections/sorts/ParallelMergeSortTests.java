@@ -0,0 +1,152 @@
+package tests.collections.sorts;
+
+import collections.CustomArrayList;
+import collections.CustomLinkedList;
+import collections.interfaces.CustomList;
+import collections.sorts.ParallelMergeSort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tests.collections.utils.TestUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования алгоритма сортировки {@link ParallelMergeSort}
+ * <p>
+ *     Методы сортировки вызываются через интерфейс {@link CustomList},
+ *     а сценарии с маленьким порогом и отдельным пулом - через класс {@link ParallelMergeSort}
+ * </p>
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Корректность сортировки для различных типов данных (числа, строки)</li>
+ *   <li>Обработку граничных случаев (пустой список, один элемент)</li>
+ *   <li>Разбиение на параллельные задачи и устойчивость сортировки</li>
+ *   <li>Поведение при недопустимых входных данных (null параметры, неверный порог)</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see ParallelMergeSort
+ * @see CustomList
+ * @see CustomLinkedList
+ * @see CustomArrayList
+ */
+public class ParallelMergeSortTests {
+
+    static List<Object[]> customCollectionsOfSingleIntegerElement() {
+        return TestUtils.customCollectionOfSingleIntegerElement();
+    }
+
+    static List<Object[]> customCollectionsOfUnsortedIntegers() {
+        return TestUtils.customCollectionsOfIntegersImplementations();
+    }
+
+    static List<Object[]> customCollectionsOfStringsImplementations() {
+        return TestUtils.customCollectionsOfStringsImplementations();
+    }
+
+    static List<Object[]> customEmptyCollectionsImplementations() {
+        return TestUtils.customEmptyCollectionsImplementations();
+    }
+
+    @ParameterizedTest
+    @MethodSource("customEmptyCollectionsImplementations")
+    @DisplayName("check parallel merge sort for empty lists")
+    void parallelMergeSortShouldHandleEmptyList(CustomList<Integer> list) {
+        CustomList<Integer> result = list.parallelMergeSort();
+        Assertions.assertTrue(result.isEmpty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfSingleIntegerElement")
+    @DisplayName("check parallel merge sort for lists with single element")
+    void parallelMergeSortShouldHandleSingleElement(CustomList<Integer> list) {
+        CustomList<Integer> result = list.parallelMergeSort();
+        Assertions.assertArrayEquals(new Integer[]{1}, result.toArray());
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfUnsortedIntegers")
+    @DisplayName("check parallel merge sort for lists with unsorted Integers")
+    void parallelMergeSortShouldSortIntegers(CustomList<Integer> list) {
+        CustomList<Integer> result = list.parallelMergeSort();
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, result.toArray());
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfStringsImplementations")
+    @DisplayName("check parallel merge sort for lists with unsorted Strings")
+    void parallelMergeSortShouldSortStrings(CustomList<String> list) {
+        CustomList<String> result = list.parallelMergeSort();
+        Assertions.assertArrayEquals(TestUtils.sortedStringArray, result.toArray());
+    }
+
+    @Test
+    @DisplayName("check parallel merge sort of a large list split into many tasks")
+    void parallelMergeSortShouldSortLargeArrayWithSmallThreshold() {
+        Integer[] array = TestUtils.randomIntegerArray(50_000, 1_000, 1);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelMergeSort.sort(array, 0, array.length, Comparator.naturalOrder(), 64, pool);
+        }
+        finally {
+            pool.shutdown();
+        }
+        Assertions.assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("check parallel merge sort keeps order of equal elements")
+    void parallelMergeSortShouldBeStable() {
+        Integer[] keys = TestUtils.randomIntegerArray(10_000, 10, 2);
+        int[][] pairs = new int[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            pairs[i] = new int[]{keys[i], i};
+        }
+
+        ParallelMergeSort.sort(pairs, 0, pairs.length, Comparator.comparingInt(pair -> pair[0]), 16, ForkJoinPool.commonPool());
+
+        for (int i = 1; i < pairs.length; i++) {
+            Assertions.assertTrue(pairs[i - 1][0] < pairs[i][0]
+                    || (pairs[i - 1][0] == pairs[i][0] && pairs[i - 1][1] < pairs[i][1]));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfStringsImplementations")
+    @DisplayName("check parallel merge sort when comparator is null")
+    void parallelMergeSortShouldThrowNPEForNullComparator(CustomList<String> list) {
+        assertThrows(NullPointerException.class, () -> list.parallelMergeSort(null));
+    }
+
+    @Test
+    @DisplayName("check parallel merge sort when threshold is not positive")
+    void parallelMergeSortShouldThrowIAEForInvalidThreshold() {
+        Integer[] array = TestUtils.randomIntegerArray(10, 10, 3);
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelMergeSort.sort(array, 0, array.length, Comparator.naturalOrder(), 0, ForkJoinPool.commonPool()));
+    }
+}
@@ -0,0 +1,184 @@
+package tests.collections.sorts;
+
+import collections.CustomArrayList;
+import collections.CustomLinkedList;
+import collections.interfaces.CustomList;
+import collections.sorts.CancellationToken;
+import collections.sorts.ParallelQuickSort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tests.collections.utils.TestUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования параллельной быстрой сортировки {@link ParallelQuickSort}
+ * <p>
+ *     Методы сортировки вызываются через интерфейс {@link CustomList} и напрямую через класс {@link ParallelQuickSort}
+ * </p>
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Корректность сортировки для различных типов данных и реализаций списка</li>
+ *   <li>Корректность сортировки больших массивов в отдельном пуле с малым порогом</li>
+ *   <li>Отмена сортировки через {@link CancellationToken}, в том числе внутри длинного разбиения и последовательной досортировки</li>
+ *   <li>Поведение при недопустимых входных данных (null параметры, неверный порог)</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see ParallelQuickSort
+ * @see CancellationToken
+ * @see CustomList
+ * @see CustomArrayList
+ * @see CustomLinkedList
+ */
+public class ParallelQuickSortTests {
+
+    static List<Object[]> customCollectionsOfUnsortedIntegers() {
+        return TestUtils.customCollectionsOfIntegersImplementations();
+    }
+
+    static List<Object[]> customCollectionsOfStringsImplementations() {
+        return TestUtils.customCollectionsOfStringsImplementations();
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfUnsortedIntegers")
+    @DisplayName("check parallel sort for lists with unsorted Integers")
+    void parallelSortShouldSortIntegers(CustomList<Integer> list) {
+        CustomList<Integer> result = list.parallelSort();
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, result.toArray());
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfStringsImplementations")
+    @DisplayName("check parallel sort for lists with unsorted Strings")
+    void parallelSortShouldSortStrings(CustomList<String> list) {
+        CustomList<String> result = list.parallelSort(String::compareTo);
+        Assertions.assertArrayEquals(TestUtils.sortedStringArray, result.toArray());
+    }
+
+    @Test
+    @DisplayName("check parallel sort of random data with many duplicates in custom pool")
+    void parallelSortShouldSortRandomDataInCustomPool() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Integer[] array = TestUtils.randomIntegerArray(200_000, 1_000, 51);
+            Integer[] expected = array.clone();
+            Arrays.sort(expected);
+
+            ParallelQuickSort.sort(array, 0, array.length, Comparator.naturalOrder(), 64, pool, new CancellationToken());
+
+            Assertions.assertArrayEquals(expected, array);
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("check parallel sort of already sorted data")
+    void parallelSortShouldSortSortedData() {
+        Integer[] array = new Integer[100_000];
+        Integer[] expected = new Integer[array.length];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = array.length - 1 - i;
+            expected[i] = i;
+        }
+
+        ParallelQuickSort.sort(array, 0, array.length, Comparator.naturalOrder());
+        Assertions.assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("check parallel sort stops when token is cancelled and keeps all elements")
+    void parallelSortShouldStopWhenCancelled() {
+        Integer[] array = TestUtils.randomIntegerArray(100_000, 1_000_000, 52);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+
+        CustomList<Integer> list = new CustomArrayList<>(array);
+        assertThrows(CancellationException.class,
+                () -> ParallelQuickSort.sort(list, Comparator.naturalOrder(), ForkJoinPool.commonPool(), token));
+
+        Object[] remaining = list.toArray();
+        Arrays.sort(remaining);
+        Assertions.assertArrayEquals(expected, remaining);
+    }
+
+    @Test
+    @DisplayName("check cancellation is observed inside a large sequential range and a partition pass")
+    void parallelSortShouldStopInsideLargeRange() {
+        Integer[] array = TestUtils.randomIntegerArray(200_000, 1_000_000, 53);
+        CancellationToken leafToken = new CancellationToken();
+        int[] leafComparisons = {0};
+        Comparator<Integer> cancellingAfterFirst = (left, right) -> {
+            if (++leafComparisons[0] == 1) {
+                leafToken.cancel();
+            }
+            return left.compareTo(right);
+        };
+
+        assertThrows(CancellationException.class, () -> ParallelQuickSort.sort(array, 0, array.length,
+                cancellingAfterFirst, array.length, ForkJoinPool.commonPool(), leafToken));
+        Assertions.assertTrue(leafComparisons[0] <= ParallelQuickSort.CANCELLATION_CHECK_INTERVAL);
+
+        CancellationToken partitionToken = new CancellationToken();
+        int[] partitionComparisons = {0};
+        Comparator<Integer> cancellingInPartition = (left, right) -> {
+            if (++partitionComparisons[0] == 100) {
+                partitionToken.cancel();
+            }
+            return left.compareTo(right);
+        };
+
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            assertThrows(CancellationException.class, () -> ParallelQuickSort.sort(array, 0, array.length,
+                    cancellingInPartition, 64, pool, partitionToken));
+        }
+        finally {
+            pool.shutdown();
+        }
+        Assertions.assertTrue(partitionComparisons[0] < 100 + ParallelQuickSort.CANCELLATION_CHECK_INTERVAL);
+    }
+
+    @Test
+    @DisplayName("check parallel sort with invalid arguments")
+    void parallelSortShouldThrowForInvalidArguments() {
+        Integer[] array = TestUtils.unsortedIntegerArray.clone();
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelQuickSort.sort(array, 0, array.length, Comparator.naturalOrder(), 0, ForkJoinPool.commonPool(), CancellationToken.NONE));
+        assertThrows(UnsupportedOperationException.class, CancellationToken.NONE::cancel);
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfStringsImplementations")
+    @DisplayName("check parallel sort when comparator is null")
+    void parallelSortShouldThrowNPEForNullComparator(CustomList<String> list) {
+        assertThrows(NullPointerException.class, () -> list.parallelSort(null));
+    }
+}
@@ -0,0 +1,155 @@
+package tests.collections.sorts;
+
+import collections.CustomArrayList;
+import collections.CustomLinkedList;
+import collections.interfaces.CustomList;
+import collections.primitives.DoubleCustomArrayList;
+import collections.primitives.IntCustomArrayList;
+import collections.sorts.RadixSort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tests.collections.utils.TestUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования поразрядной сортировки {@link RadixSort}
+ * <p>
+ *     Методы сортировки вызываются напрямую через класс {@link RadixSort} и через {@link IntCustomArrayList#sort()}
+ * </p>
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Корректность сортировки по ключам {@code int} и {@code long}, включая отрицательные</li>
+ *   <li>Сортировка массивов примитивов и примитивных списков, порядок {@code -0.0} и {@code NaN}</li>
+ *   <li>Устойчивость сортировки</li>
+ *   <li>Поведение при недопустимых входных данных (null параметры)</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see RadixSort
+ * @see CustomList
+ * @see IntCustomArrayList
+ */
+public class RadixSortTests {
+
+    static List<Object[]> customCollectionsOfUnsortedIntegers() {
+        return TestUtils.customCollectionsOfIntegersImplementations();
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfUnsortedIntegers")
+    @DisplayName("check radix sort of short lists falls back to comparison sort")
+    void radixSortShouldSortShortLists(CustomList<Integer> list) {
+        CustomList<Integer> result = RadixSort.sortByIntKey(list, Integer::intValue);
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, result.toArray());
+    }
+
+    @Test
+    @DisplayName("check radix sort of random negative and positive int keys")
+    void radixSortShouldSortRandomIntKeys() {
+        Integer[] array = TestUtils.randomIntegerArray(100_000, 1_000_000, 11);
+        for (int i = 0; i < array.length; i += 2) {
+            array[i] = -array[i];
+        }
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        CustomList<Integer> result = RadixSort.sortByIntKey(new CustomArrayList<>(array), Integer::intValue);
+        Assertions.assertArrayEquals(expected, result.toArray());
+    }
+
+    @Test
+    @DisplayName("check radix sort of linked list by long key")
+    void radixSortShouldSortLinkedListByLongKey() {
+        Integer[] array = TestUtils.randomIntegerArray(5_000, 1_000_000, 12);
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        for (Integer value : array) {
+            list.add(value);
+        }
+        Integer[] expected = array.clone();
+        Arrays.sort(expected, Comparator.comparingLong(value -> -3_000_000_000L * value));
+
+        RadixSort.sortByLongKey(list, value -> -3_000_000_000L * value);
+        Assertions.assertArrayEquals(expected, list.toArray());
+    }
+
+    @Test
+    @DisplayName("check radix sort keeps order of equal keys")
+    void radixSortShouldBeStable() {
+        Integer[] keys = TestUtils.randomIntegerArray(20_000, 50, 13);
+        int[][] pairs = new int[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            pairs[i] = new int[]{keys[i] - 25, i};
+        }
+
+        RadixSort.sortByIntKey(pairs, 0, pairs.length, pair -> pair[0]);
+
+        for (int i = 1; i < pairs.length; i++) {
+            Assertions.assertTrue(pairs[i - 1][0] < pairs[i][0]
+                    || (pairs[i - 1][0] == pairs[i][0] && pairs[i - 1][1] < pairs[i][1]));
+        }
+    }
+
+    @Test
+    @DisplayName("check radix sort of primitive arrays and lists")
+    void radixSortShouldSortPrimitives() {
+        Random random = new Random(14);
+        int[] ints = random.ints(50_000).toArray();
+        long[] longs = random.longs(50_000).toArray();
+        int[] expectedInts = ints.clone();
+        long[] expectedLongs = longs.clone();
+        Arrays.sort(expectedInts);
+        Arrays.sort(expectedLongs);
+
+        RadixSort.sort(longs, 0, longs.length);
+        Assertions.assertArrayEquals(expectedLongs, longs);
+        Assertions.assertArrayEquals(expectedInts, IntCustomArrayList.of(ints).sort().toArray());
+    }
+
+    @Test
+    @DisplayName("check radix sort of doubles orders -0.0 before 0.0 and NaN last")
+    void radixSortShouldSortDoublesLikeDoubleCompare() {
+        Random random = new Random(15);
+        double[] doubles = new double[10_000];
+        for (int i = 0; i < doubles.length; i++) {
+            doubles[i] = random.nextGaussian() * 1e6;
+        }
+        doubles[0] = Double.NaN;
+        doubles[1] = 0.0;
+        doubles[2] = -0.0;
+        doubles[3] = Double.NEGATIVE_INFINITY;
+        doubles[4] = Double.POSITIVE_INFINITY;
+        double[] expected = doubles.clone();
+        Arrays.sort(expected);
+
+        Assertions.assertArrayEquals(expected, DoubleCustomArrayList.of(doubles).sort().toArray());
+    }
+
+    @Test
+    @DisplayName("check radix sort when key extractor is null")
+    void radixSortShouldThrowNPEForNullKeyExtractor() {
+        CustomList<Integer> list = new CustomArrayList<>(TestUtils.unsortedIntegerArray);
+        assertThrows(NullPointerException.class, () -> RadixSort.sortByIntKey(list, null));
+    }
+}
@@ -0,0 +1,252 @@
+package tests.collections.sorts;
+
+import collections.CustomArrayList;
+import collections.CustomLinkedList;
+import collections.interfaces.CustomList;
+import collections.io.CloseableIterator;
+import collections.io.ElementSerializer;
+import collections.sorts.CancellationToken;
+import collections.sorts.ExternalSort;
+import collections.sorts.IntroSelect;
+import collections.sorts.KeySort;
+import collections.sorts.MergeSorter;
+import collections.sorts.ParallelMergeSort;
+import collections.sorts.ParallelQuickSort;
+import collections.sorts.RadixSort;
+import collections.sorts.SortStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tests.collections.utils.TestUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования сбора статистики сортировок {@link SortStats}
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Получатель вызывается один раз на сортировку с именем алгоритма и числом элементов</li>
+ *   <li>Число сравнений совпадает с числом вызовов компаратора, в том числе у параллельных сортировок и сортировки связного списка</li>
+ *   <li>Поразрядная сортировка, сортировка по ключу, выбор, отбор и внешняя сортировка сообщают одну статистику на вызов</li>
+ *   <li>Получатель вызывается, если компаратор выбрасывает исключение</li>
+ *   <li>Переиспользованный буфер не учитывается как выделенная память</li>
+ *   <li>Без получателя статистика не собирается</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see SortStats
+ * @see collections.sorts.SortListener
+ */
+public class SortStatsTests {
+
+    private static final Integer[] RANDOM_INTEGERS = TestUtils.randomIntegerArray(10_000, 1_000, 14);
+
+    private final List<SortStats> reported = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        SortStats.setListener(null);
+    }
+
+    @Test
+    @DisplayName("check every sort reports its algorithm and comparisons")
+    void sortsShouldReportStatistics() {
+        SortStats.setListener(reported::add);
+        long[] comparisons = {0};
+        Comparator<Integer> counting = (left, right) -> {
+            comparisons[0]++;
+            return left.compareTo(right);
+        };
+
+        long expected = 0;
+        new CustomArrayList<>(RANDOM_INTEGERS).sort(counting);
+        expected += comparisons[0];
+        new CustomArrayList<>(RANDOM_INTEGERS).mergeSort(counting);
+
+        Assertions.assertEquals(2, reported.size());
+        Assertions.assertEquals("IntroSort", reported.get(0).getAlgorithm());
+        Assertions.assertEquals("TimSort", reported.get(1).getAlgorithm());
+        Assertions.assertEquals(expected, reported.get(0).getComparisons());
+        Assertions.assertEquals(comparisons[0] - expected, reported.get(1).getComparisons());
+        for (SortStats stats : reported) {
+            Assertions.assertEquals(RANDOM_INTEGERS.length, stats.getElements());
+            Assertions.assertTrue(stats.getMoves() + stats.getSwaps() > 0);
+            Assertions.assertTrue(stats.getMaxDepth() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("check merge sorter reports scratch only when it is allocated")
+    void mergeSorterShouldReportScratchAllocation() {
+        SortStats.setListener(reported::add);
+        MergeSorter sorter = new MergeSorter();
+        CustomList<Integer> list = new CustomArrayList<>(RANDOM_INTEGERS);
+
+        sorter.sort(list, Comparator.reverseOrder());
+        sorter.sort(list, Integer::compareTo);
+
+        Assertions.assertEquals(2, reported.size());
+        Assertions.assertEquals("MergeSorter", reported.get(0).getAlgorithm());
+        Assertions.assertTrue(reported.get(0).getScratchBytes() > 0);
+        Assertions.assertEquals(0, reported.get(1).getScratchBytes());
+        Integer[] expected = RANDOM_INTEGERS.clone();
+        Arrays.sort(expected);
+        Assertions.assertArrayEquals(expected, list.toArray());
+    }
+
+    @Test
+    @DisplayName("check linked list and parallel sorts report statistics")
+    void linkedAndParallelSortsShouldReportStatistics() {
+        SortStats.setListener(reported::add);
+        AtomicLong comparisons = new AtomicLong();
+        Comparator<Integer> counting = (left, right) -> {
+            comparisons.incrementAndGet();
+            return left.compareTo(right);
+        };
+        Integer[] expected = RANDOM_INTEGERS.clone();
+        Arrays.sort(expected);
+
+        CustomList<Integer> linked = new CustomLinkedList<>(RANDOM_INTEGERS).sort(counting);
+        Assertions.assertArrayEquals(expected, linked.toArray());
+        long linkedComparisons = comparisons.getAndSet(0);
+
+        Integer[] merged = RANDOM_INTEGERS.clone();
+        ParallelMergeSort.sort(merged, 0, merged.length, counting, 256, ForkJoinPool.commonPool());
+        long mergeComparisons = comparisons.getAndSet(0);
+
+        Integer[] partitioned = RANDOM_INTEGERS.clone();
+        ParallelQuickSort.sort(partitioned, 0, partitioned.length, counting, 256, ForkJoinPool.commonPool(), CancellationToken.NONE);
+        Assertions.assertArrayEquals(expected, merged);
+        Assertions.assertArrayEquals(expected, partitioned);
+
+        Assertions.assertEquals(3, reported.size());
+        Assertions.assertEquals("LinkedListMergeSort", reported.get(0).getAlgorithm());
+        Assertions.assertEquals(linkedComparisons, reported.get(0).getComparisons());
+        Assertions.assertEquals(14, reported.get(0).getMaxDepth());
+        Assertions.assertEquals(14L * RANDOM_INTEGERS.length, reported.get(0).getMoves());
+        Assertions.assertEquals("ParallelMergeSort", reported.get(1).getAlgorithm());
+        Assertions.assertEquals(mergeComparisons, reported.get(1).getComparisons());
+        Assertions.assertTrue(reported.get(1).getScratchBytes() > 0);
+        Assertions.assertEquals("ParallelQuickSort", reported.get(2).getAlgorithm());
+        Assertions.assertEquals(comparisons.get(), reported.get(2).getComparisons());
+        for (SortStats stats : reported) {
+            Assertions.assertEquals(RANDOM_INTEGERS.length, stats.getElements());
+            Assertions.assertTrue(stats.isCompleted());
+        }
+    }
+
+    @Test
+    @DisplayName("check radix, key, selection and external sorts report statistics")
+    void otherEnginesShouldReportStatistics() throws IOException {
+        SortStats.setListener(reported::add);
+        AtomicLong comparisons = new AtomicLong();
+        Comparator<Integer> counting = (left, right) -> {
+            comparisons.incrementAndGet();
+            return left.compareTo(right);
+        };
+        Integer[] expected = RANDOM_INTEGERS.clone();
+        Arrays.sort(expected);
+        long[] calls = new long[6];
+
+        CustomList<Integer> radix = new CustomArrayList<>(RANDOM_INTEGERS).sortByInt(Integer::intValue);
+        Assertions.assertArrayEquals(expected, radix.toArray());
+        int[] primitives = Arrays.stream(RANDOM_INTEGERS).mapToInt(Integer::intValue).toArray();
+        RadixSort.sort(primitives, 0, primitives.length);
+
+        KeySort.sort(new CustomArrayList<>(RANDOM_INTEGERS), value -> value, counting);
+        calls[2] = comparisons.getAndSet(0);
+        IntroSelect.select(RANDOM_INTEGERS.clone(), 0, RANDOM_INTEGERS.length, 5_000, counting);
+        calls[3] = comparisons.getAndSet(0);
+        IntroSelect.partialSort(RANDOM_INTEGERS.clone(), 0, RANDOM_INTEGERS.length, 100, counting);
+        calls[4] = comparisons.getAndSet(0);
+        Assertions.assertEquals(10, IntroSelect.topK(new CustomArrayList<>(RANDOM_INTEGERS), 10, counting).size());
+        calls[5] = comparisons.getAndSet(0);
+
+        ExternalSort<Integer> external = new ExternalSort<>(ElementSerializer.ofInteger(), counting, 500, 4, null);
+        try (CloseableIterator<Integer> sorted = external.sort(Arrays.asList(RANDOM_INTEGERS))) {
+            long externalComparisons = comparisons.get();
+            for (Integer value : expected) {
+                Assertions.assertEquals(value, sorted.next());
+            }
+            // 20 участков сливаются в 5, затем в 2; построение дерева итогового слияния двух участков -
+            // одно сравнение, итоговое слияние в статистику не входит
+            Assertions.assertEquals(externalComparisons - 1, reported.get(6).getComparisons());
+        }
+
+        Assertions.assertEquals(7, reported.size());
+        String[] algorithms = {"RadixSort", "RadixSort", "KeySort", "IntroSelect", "PartialSort", "TopK", "ExternalSort"};
+        for (int i = 0; i < algorithms.length; i++) {
+            SortStats stats = reported.get(i);
+            Assertions.assertEquals(algorithms[i], stats.getAlgorithm());
+            Assertions.assertEquals(RANDOM_INTEGERS.length, stats.getElements());
+            Assertions.assertTrue(stats.isCompleted());
+            Assertions.assertTrue(stats.getScratchBytes() > 0 || i == 3 || i == 4);
+            if (i >= 2 && i < calls.length) {
+                Assertions.assertEquals(calls[i], stats.getComparisons());
+            }
+        }
+        Assertions.assertEquals(0, reported.get(0).getComparisons());
+        Assertions.assertTrue(reported.get(0).getMaxDepth() > 0);
+        // Ключи, копия элементов, два буфера прохода по 4 байта на элемент и гистограмма 4 разрядов по 256 счётчиков
+        Assertions.assertEquals(4 * (16 + 4L * RANDOM_INTEGERS.length) + 16 + 4 * 4 * 256, reported.get(0).getScratchBytes());
+    }
+
+    @Test
+    @DisplayName("check listener receives statistics when comparator throws")
+    void sortsShouldReportWhenComparatorThrows() {
+        SortStats.setListener(reported::add);
+        long[] calls = {0};
+        Comparator<Integer> failing = (left, right) -> {
+            if (++calls[0] > 100) {
+                throw new IllegalStateException();
+            }
+            return left.compareTo(right);
+        };
+
+        assertThrows(IllegalStateException.class, () -> new CustomArrayList<>(RANDOM_INTEGERS).sort(failing));
+        calls[0] = 0;
+        assertThrows(IllegalStateException.class, () -> new CustomLinkedList<>(RANDOM_INTEGERS).sort(failing));
+        calls[0] = 0;
+        assertThrows(IllegalStateException.class, () -> new CustomArrayList<>(RANDOM_INTEGERS).mergeSort(failing));
+
+        Assertions.assertEquals(3, reported.size());
+        for (SortStats stats : reported) {
+            Assertions.assertFalse(stats.isCompleted());
+            Assertions.assertEquals(101, stats.getComparisons());
+        }
+    }
+
+    @Test
+    @DisplayName("check statistics are not collected without listener")
+    void sortsShouldNotReportWithoutListener() {
+        SortStats.setListener(reported::add);
+        SortStats.setListener(null);
+
+        new CustomArrayList<>(RANDOM_INTEGERS).sort(Integer::compareTo);
+
+        Assertions.assertNull(SortStats.getListener());
+        Assertions.assertTrue(reported.isEmpty());
+    }
+}
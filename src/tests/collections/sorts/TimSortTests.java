@@ -0,0 +1,159 @@
+package tests.collections.sorts;
+
+import collections.CustomArrayList;
+import collections.CustomLinkedList;
+import collections.interfaces.CustomList;
+import collections.sorts.TimSort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tests.collections.utils.TestUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Класс для тестирования адаптивной сортировки {@link TimSort}
+ * <p>
+ *     Методы сортировки вызываются через {@link CustomList#mergeSort()} и напрямую через класс {@link TimSort}
+ * </p>
+ *
+ * <p><b>Технические характеристики:</b>
+ * <table border="1">
+ *   <tr><td>Тестовые данные</td><td>Фиксированные и псевдослучайные</td></tr>
+ *   <tr><td>Проверяемые сценарии</td>
+ *       <td>
+ * <ul>
+ *   <li>Корректность сортировки случайных данных и данных с длинными сериями (режим галопа)</li>
+ *   <li>Линейное число сравнений на уже упорядоченных данных</li>
+ *   <li>Устойчивость сортировки</li>
+ *   <li>Поведение при недопустимых входных данных (null параметры)</li>
+ * </ul>
+ *       </td>
+ *   </tr>
+ *   <tr><td>Используемые assertion</td>
+ *       <td>{@link org.junit.jupiter.api.Assertions}</td>
+ *   </tr>
+ * </table>
+
+ * @version 1.0
+ * @author 4ndr33w
+ *
+ * @see TimSort
+ * @see CustomList
+ * @see CustomArrayList
+ */
+public class TimSortTests {
+
+    static List<Object[]> customCollectionsOfUnsortedIntegers() {
+        return TestUtils.customCollectionsOfIntegersImplementations();
+    }
+
+    static List<Object[]> customCollectionsOfStringsImplementations() {
+        return TestUtils.customCollectionsOfStringsImplementations();
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfUnsortedIntegers")
+    @DisplayName("check stable sort for lists with unsorted Integers")
+    void timSortShouldSortIntegers(CustomList<Integer> list) {
+        CustomList<Integer> result = list.mergeSort();
+        Assertions.assertArrayEquals(TestUtils.sortedIntegerArray, result.toArray());
+    }
+
+    @Test
+    @DisplayName("check tim sort of random data")
+    void timSortShouldSortRandomData() {
+        Integer[] array = TestUtils.randomIntegerArray(100_000, 1_000_000, 7);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        CustomList<Integer> result = new CustomArrayList<>(array).mergeSort();
+        Assertions.assertArrayEquals(expected, result.toArray());
+    }
+
+    @Test
+    @DisplayName("check tim sort of sorted data with appended tail")
+    void timSortShouldSortSortedDataWithAppendedTail() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            list.add(i * 2);
+        }
+        for (Integer value : TestUtils.randomIntegerArray(500, 100_000, 8)) {
+            list.add(value);
+        }
+        Object[] expected = list.toArray();
+        Arrays.sort(expected);
+
+        list.mergeSort();
+        Assertions.assertArrayEquals(expected, list.toArray());
+    }
+
+    @Test
+    @DisplayName("check tim sort makes n - 1 comparisons on sorted data")
+    void timSortShouldBeLinearOnSortedData() {
+        Integer[] array = new Integer[100_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i;
+        }
+        int[] comparisons = {0};
+
+        TimSort.sort(array, 0, array.length, (left, right) -> {
+            comparisons[0]++;
+            return left.compareTo(right);
+        });
+
+        Assertions.assertEquals(array.length - 1, comparisons[0]);
+    }
+
+    @Test
+    @DisplayName("check tim sort of strictly descending data")
+    void timSortShouldReverseDescendingData() {
+        Integer[] array = new Integer[10_000];
+        Integer[] expected = new Integer[array.length];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = array.length - 1 - i;
+            expected[i] = i;
+        }
+
+        TimSort.sort(array, 0, array.length, Comparator.naturalOrder());
+        Assertions.assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("check tim sort keeps order of equal elements")
+    void timSortShouldBeStable() {
+        Integer[] keys = TestUtils.randomIntegerArray(20_000, 50, 9);
+        int[][] pairs = new int[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            pairs[i] = new int[]{keys[i], i};
+        }
+
+        TimSort.sort(pairs, 0, pairs.length, Comparator.comparingInt(pair -> pair[0]));
+
+        for (int i = 1; i < pairs.length; i++) {
+            Assertions.assertTrue(pairs[i - 1][0] < pairs[i][0]
+                    || (pairs[i - 1][0] == pairs[i][0] && pairs[i - 1][1] < pairs[i][1]));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfStringsImplementations")
+    @DisplayName("check tim sort of list through copy and write back")
+    void timSortShouldSortListThroughCopy(CustomList<String> list) {
+        CustomList<String> result = TimSort.sort(list, Comparator.naturalOrder());
+        Assertions.assertArrayEquals(TestUtils.sortedStringArray, result.toArray());
+    }
+
+    @ParameterizedTest
+    @MethodSource("customCollectionsOfStringsImplementations")
+    @DisplayName("check stable sort when comparator is null")
+    void timSortShouldThrowNPEForNullComparator(CustomList<String> list) {
+        assertThrows(NullPointerException.class, () -> list.mergeSort(null));
+    }
+}
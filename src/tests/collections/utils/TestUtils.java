@@ -1,10 +1,13 @@
 package tests.collections.utils;
 
+import collections.ChunkedCustomArrayList;
+import collections.CustomArrayDeque;
 import collections.CustomArrayList;
 import collections.CustomLinkedList;
 import collections.interfaces.CustomList;
 
 import java.util.List;
+import java.util.Random;
 
 /**
  * Утилитный класс для создания тестовых данных и настройки тестовой среды.
@@ -89,12 +92,55 @@ public class TestUtils {
         return testArrayList;
     }
 
+    /**
+     * Заполняет {@link CustomArrayDeque} теми же строками, что и {@link #fillTestArrayListByStrings()},
+     * но добавляет их в начало, поэтому элементы переходят через конец кольцевого буфера.
+     */
+    public static CustomArrayDeque<String> fillTestArrayDequeByStrings() {
+        CustomArrayDeque<String> testArrayDeque = new CustomArrayDeque<>();
+        CustomArrayList<String> strings = fillTestArrayListByStrings();
+        for (int i = strings.size() - 1; i >= 0; i--) {
+            testArrayDeque.addFirst(strings.get(i));
+        }
+        return testArrayDeque;
+    }
+
+    /**
+     * Заполняет {@link ChunkedCustomArrayList} с блоками по 4 элемента теми же строками,
+     * что и {@link #fillTestArrayListByStrings()}, поэтому элементы занимают несколько блоков.
+     */
+    public static ChunkedCustomArrayList<String> fillTestChunkedListByStrings() {
+        ChunkedCustomArrayList<String> testChunkedList = new ChunkedCustomArrayList<>(4);
+        for (String element : fillTestArrayListByStrings()) {
+            testChunkedList.add(element);
+        }
+        return testChunkedList;
+    }
+
     public static Integer[] unsortedIntegerArray = new Integer[]{5,10,2,7,9,8,4,3,6,1};
 
     public static Integer[] sortedIntegerArray = new Integer[] {1,2,3,4,5,6,7,8,9,10};
 
     public static String[]  sortedStringArray = new String[] {"Eight", "Five", "Four", "Nine", "One", "Seven", "Six", "Ten", "Three", "Two"};
 
+    /**
+     * Создаёт массив случайных чисел из диапазона {@code [0, bound)}.
+     * Для одинакового {@code seed} возвращает одинаковые данные.
+     *
+     * @param size размер массива
+     * @param bound верхняя граница значений (не включительно)
+     * @param seed начальное значение генератора
+     * @return массив случайных чисел
+     */
+    public static Integer[] randomIntegerArray(int size, int bound, long seed) {
+        Random random = new Random(seed);
+        Integer[] array = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(bound);
+        }
+        return array;
+    }
+
     public static CustomLinkedList<Integer> fillTestLinkedListByIntegers(){
         return new CustomLinkedList<>(unsortedIntegerArray);
     }
@@ -130,7 +176,9 @@ public class TestUtils {
     public static List<Object[]> customEmptyCollectionsImplementations() {
         return List.of(
                 new Object[] {new CustomLinkedList<String>()},
-                new Object[] {new CustomArrayList<String>()}
+                new Object[] {new CustomArrayList<String>()},
+                new Object[] {new CustomArrayDeque<String>()},
+                new Object[] {new ChunkedCustomArrayList<String>()}
         );
     }
 
@@ -0,0 +1,97 @@
+package tools;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Генератор примитивных специализаций списка из общего шаблона.
+ * <p>
+ * Из шаблона {@code resources/templates/PrimitiveCustomArrayList.java.template} создаются
+ * {@code IntCustomArrayList}, {@code LongCustomArrayList} и {@code DoubleCustomArrayList}
+ * в пакете {@code collections.primitives}. Изменения вносятся в шаблон, после чего генератор
+ * запускается заново, чтобы все три класса оставались согласованными.
+ * </p>
+ * <p>
+ * Шаблон читается и результат записывается в UTF-8. Строки шаблона, начинающиеся с {@code ##},
+ * задают переменные для вида типа ({@code ##имя.вид=текст}) и в результат не попадают.
+ * Строковые литералы генератора содержат только ASCII, поэтому результат не зависит
+ * от кодировки по умолчанию.
+ * </p>
+ * <p>
+ * Запуск из каталога {@code src}:
+ * <pre>{@code
+ * java tools/PrimitiveListGenerator.java
+ * }</pre>
+ * Необязательный аргумент - корень исходников (по умолчанию текущий каталог).
+ * </p>
+ *
+ * @version 1.0
+ * @author 4ndr33w
+ */
+public class PrimitiveListGenerator {
+
+    private static final String TEMPLATE = "resources/templates/PrimitiveCustomArrayList.java.template";
+    private static final String TARGET_PACKAGE = "collections/primitives";
+    private static final String DIRECTIVE = "##";
+
+    public static void main(String[] args) throws IOException {
+        Path sourceRoot = Paths.get(args.length > 0 ? args[0] : ".");
+        StringBuilder body = new StringBuilder();
+        Map<String, String> definitions = new LinkedHashMap<>();
+
+        for (String line : Files.readAllLines(sourceRoot.resolve(TEMPLATE), StandardCharsets.UTF_8)) {
+            if (!line.startsWith(DIRECTIVE)) {
+                body.append(line).append('\n');
+                continue;
+            }
+            int separator = line.indexOf('=');
+            if (separator > 0 && !line.startsWith(DIRECTIVE + " ")) {
+                definitions.put(line.substring(DIRECTIVE.length(), separator), line.substring(separator + 1));
+            }
+        }
+
+        for (Map<String, String> specialization : specializations()) {
+            Map<String, String> variables = new LinkedHashMap<>();
+            String kindSuffix = "." + specialization.get("kind");
+            for (Map.Entry<String, String> definition : definitions.entrySet()) {
+                if (definition.getKey().endsWith(kindSuffix)) {
+                    String name = definition.getKey().substring(0, definition.getKey().length() - kindSuffix.length());
+                    variables.put(name, definition.getValue());
+                }
+            }
+            // Переменные специализации переопределяют одноимённые переменные шаблона
+            variables.putAll(specialization);
+
+            String source = body.toString();
+            for (Map.Entry<String, String> variable : variables.entrySet()) {
+                source = source.replace("${" + variable.getKey() + "}", variable.getValue());
+            }
+            if (source.contains("${")) {
+                throw new IllegalStateException("Unresolved placeholder in template for " + variables.get("Type"));
+            }
+
+            Path target = sourceRoot.resolve(TARGET_PACKAGE).resolve(variables.get("Type") + "CustomArrayList.java");
+            Files.createDirectories(target.getParent());
+            Files.write(target, source.getBytes(StandardCharsets.UTF_8));
+            System.out.println("Generated " + target);
+        }
+    }
+
+    /**
+     * Специализации: имя класса, примитивный тип, класс-обёртка и вид типа,
+     * по которому выбираются переменные {@code ##имя.вид} шаблона.
+     */
+    private static List<Map<String, String>> specializations() {
+        return List.of(
+                Map.of("Type", "Int", "type", "int", "Boxed", "Integer", "kind", "integral"),
+                Map.of("Type", "Long", "type", "long", "Boxed", "Long", "kind", "integral"),
+                Map.of("Type", "Double", "type", "double", "Boxed", "Double", "kind", "floating")
+        );
+    }
+}